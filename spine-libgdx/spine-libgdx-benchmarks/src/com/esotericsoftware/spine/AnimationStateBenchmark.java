@@ -0,0 +1,92 @@
+/******************************************************************************
+ * Spine Runtimes Software License v2.5
+ *
+ * Copyright (c) 2013-2016, Esoteric Software
+ * All rights reserved.
+ *
+ * You are granted a perpetual, non-exclusive, non-sublicensable, and
+ * non-transferable license to use, install, execute, and perform the Spine
+ * Runtimes software and derivative works solely for personal or internal
+ * use. Without the written permission of Esoteric Software (see Section 2 of
+ * the Spine Software License Agreement), you may not (a) modify, translate,
+ * adapt, or develop new applications using the Spine Runtimes or otherwise
+ * create derivative works or improvements of the Spine Runtimes or (b) remove,
+ * delete, alter, or obscure any trademarks or any copyright, trademark, patent,
+ * or other intellectual property or proprietary rights notices on or in the
+ * Software, including any copy thereof. Redistributions in binary or source
+ * form must include this license and terms.
+ *
+ * THIS SOFTWARE IS PROVIDED BY ESOTERIC SOFTWARE "AS IS" AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO
+ * EVENT SHALL ESOTERIC SOFTWARE BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES, BUSINESS INTERRUPTION, OR LOSS OF
+ * USE, DATA, OR PROFITS) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ *****************************************************************************/
+
+package com.esotericsoftware.spine;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/** Measures {@link AnimationState#update(float)} and {@link AnimationState#apply(Skeleton)}. Each track has
+ * <code>mixDepth</code> animations mixing out, using a mix duration long enough that the mixes never complete during a run. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AnimationStateBenchmark {
+	@Param({"16", "64", "160"}) public int boneCount;
+	@Param({"1", "2", "4"}) public int trackCount;
+	@Param({"0", "1", "3"}) public int mixDepth;
+
+	Skeleton skeleton;
+	AnimationState state;
+
+	@Setup
+	public void setup () {
+		SkeletonData data = BenchmarkSkeletons.generate(boneCount, trackCount + mixDepth);
+		skeleton = new Skeleton(data);
+
+		AnimationStateData stateData = new AnimationStateData(data);
+		stateData.setDefaultMix(1e9f);
+		state = new AnimationState(stateData);
+		for (int track = 0; track < trackCount; track++) {
+			for (int i = 0; i <= mixDepth; i++) {
+				state.setAnimation(track, data.getAnimations().get(track + i), true);
+				state.update(1 / 60f);
+			}
+		}
+		state.apply(skeleton);
+	}
+
+	@Benchmark
+	public AnimationState update () {
+		state.update(1 / 60f);
+		return state;
+	}
+
+	@Benchmark
+	public Skeleton apply () {
+		state.apply(skeleton);
+		return skeleton;
+	}
+
+	@Benchmark
+	public Skeleton updateAndApply () {
+		state.update(1 / 60f);
+		state.apply(skeleton);
+		return skeleton;
+	}
+}
@@ -0,0 +1,124 @@
+/******************************************************************************
+ * Spine Runtimes Software License v2.5
+ *
+ * Copyright (c) 2013-2016, Esoteric Software
+ * All rights reserved.
+ *
+ * You are granted a perpetual, non-exclusive, non-sublicensable, and
+ * non-transferable license to use, install, execute, and perform the Spine
+ * Runtimes software and derivative works solely for personal or internal
+ * use. Without the written permission of Esoteric Software (see Section 2 of
+ * the Spine Software License Agreement), you may not (a) modify, translate,
+ * adapt, or develop new applications using the Spine Runtimes or otherwise
+ * create derivative works or improvements of the Spine Runtimes or (b) remove,
+ * delete, alter, or obscure any trademarks or any copyright, trademark, patent,
+ * or other intellectual property or proprietary rights notices on or in the
+ * Software, including any copy thereof. Redistributions in binary or source
+ * form must include this license and terms.
+ *
+ * THIS SOFTWARE IS PROVIDED BY ESOTERIC SOFTWARE "AS IS" AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO
+ * EVENT SHALL ESOTERIC SOFTWARE BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES, BUSINESS INTERRUPTION, OR LOSS OF
+ * USE, DATA, OR PROFITS) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ *****************************************************************************/
+
+package com.esotericsoftware.spine;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+import com.esotericsoftware.spine.attachments.Attachment;
+import com.esotericsoftware.spine.attachments.MeshAttachment;
+import com.esotericsoftware.spine.attachments.RegionAttachment;
+
+/** Measures {@link RegionAttachment#updateWorldVertices(Slot, boolean, float[], int)} and
+ * {@link MeshAttachment#updateWorldVertices(Slot, boolean, float[], int)} for every visible attachment of a skeleton. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AttachmentBenchmark {
+	@Benchmark
+	public void region (Regions state, Blackhole blackhole) {
+		Array<Slot> slots = state.slots;
+		for (int i = 0, n = slots.size; i < n; i++) {
+			Slot slot = slots.get(i);
+			((RegionAttachment)slot.getAttachment()).updateWorldVertices(slot, state.premultipliedAlpha, state.vertices, 0);
+			blackhole.consume(state.vertices);
+		}
+	}
+
+	@Benchmark
+	public void mesh (Meshes state, Blackhole blackhole) {
+		Array<Slot> slots = state.slots;
+		for (int i = 0, n = slots.size; i < n; i++) {
+			Slot slot = slots.get(i);
+			MeshAttachment mesh = (MeshAttachment)slot.getAttachment();
+			float[] vertices = state.vertices.setSize(mesh.getRenderVerticesLength());
+			mesh.updateWorldVertices(slot, state.premultipliedAlpha, vertices, 0);
+			blackhole.consume(vertices);
+		}
+	}
+
+	/** Collects the slots which have an attachment of the specified type. */
+	static Array<Slot> slots (Skeleton skeleton, Class<? extends Attachment> type) {
+		Array<Slot> slots = new Array();
+		for (Slot slot : skeleton.getSlots())
+			if (type.isInstance(slot.getAttachment())) slots.add(slot);
+		return slots;
+	}
+
+	@State(Scope.Thread)
+	static public class Regions {
+		@Param({"16", "160"}) public int boneCount;
+		@Param({"false", "true"}) public boolean premultipliedAlpha;
+
+		Array<Slot> slots;
+		final float[] vertices = new float[20];
+
+		@Setup
+		public void setup () {
+			SkeletonData data = BenchmarkSkeletons.generate(boneCount, 1);
+			Skeleton skeleton = new Skeleton(data);
+			data.getAnimations().first().apply(skeleton, 0, 0.4f, true, null, 1, true, false);
+			skeleton.updateWorldTransform();
+			slots = slots(skeleton, RegionAttachment.class);
+		}
+	}
+
+	@State(Scope.Thread)
+	static public class Meshes {
+		@Param({"goblins/goblins-mesh.json", "raptor/raptor.json"}) public String path;
+		@Param({"false", "true"}) public boolean premultipliedAlpha;
+
+		Array<Slot> slots;
+		final FloatArray vertices = new FloatArray();
+
+		@Setup
+		public void setup () {
+			SkeletonData data = BenchmarkSkeletons.json(path);
+			Skeleton skeleton = new Skeleton(data);
+			skeleton.setSkin(data.getSkins().peek());
+			skeleton.setSlotsToSetupPose();
+			data.getAnimations().first().apply(skeleton, 0, 0.4f, true, null, 1, true, false);
+			skeleton.updateWorldTransform();
+			slots = slots(skeleton, MeshAttachment.class);
+			if (slots.size == 0) throw new IllegalStateException("Skeleton has no visible meshes: " + path);
+		}
+	}
+}
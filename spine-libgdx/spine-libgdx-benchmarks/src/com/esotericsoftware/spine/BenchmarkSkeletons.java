@@ -0,0 +1,150 @@
+/******************************************************************************
+ * Spine Runtimes Software License v2.5
+ *
+ * Copyright (c) 2013-2016, Esoteric Software
+ * All rights reserved.
+ *
+ * You are granted a perpetual, non-exclusive, non-sublicensable, and
+ * non-transferable license to use, install, execute, and perform the Spine
+ * Runtimes software and derivative works solely for personal or internal
+ * use. Without the written permission of Esoteric Software (see Section 2 of
+ * the Spine Software License Agreement), you may not (a) modify, translate,
+ * adapt, or develop new applications using the Spine Runtimes or otherwise
+ * create derivative works or improvements of the Spine Runtimes or (b) remove,
+ * delete, alter, or obscure any trademarks or any copyright, trademark, patent,
+ * or other intellectual property or proprietary rights notices on or in the
+ * Software, including any copy thereof. Redistributions in binary or source
+ * form must include this license and terms.
+ *
+ * THIS SOFTWARE IS PROVIDED BY ESOTERIC SOFTWARE "AS IS" AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO
+ * EVENT SHALL ESOTERIC SOFTWARE BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES, BUSINESS INTERRUPTION, OR LOSS OF
+ * USE, DATA, OR PROFITS) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ *****************************************************************************/
+
+package com.esotericsoftware.spine;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Array;
+import com.esotericsoftware.spine.Animation.RotateTimeline;
+import com.esotericsoftware.spine.Animation.Timeline;
+import com.esotericsoftware.spine.Animation.TranslateTimeline;
+import com.esotericsoftware.spine.attachments.AttachmentLoader;
+import com.esotericsoftware.spine.attachments.BoundingBoxAttachment;
+import com.esotericsoftware.spine.attachments.MeshAttachment;
+import com.esotericsoftware.spine.attachments.PathAttachment;
+import com.esotericsoftware.spine.attachments.RegionAttachment;
+
+/** Loads and generates skeleton data for the benchmarks without requiring textures or an OpenGL context. */
+public class BenchmarkSkeletons {
+	/** The directory containing the test assets, set using the <code>spine.assets</code> system property. */
+	static public final String assets = System.getProperty("spine.assets", "../spine-libgdx-tests/assets");
+
+	/** Creates attachments without texture regions, so skeleton data can be loaded headlessly. */
+	static public final AttachmentLoader attachmentLoader = new AttachmentLoader() {
+		public RegionAttachment newRegionAttachment (Skin skin, String name, String path) {
+			return new RegionAttachment(name);
+		}
+
+		public MeshAttachment newMeshAttachment (Skin skin, String name, String path) {
+			return new MeshAttachment(name);
+		}
+
+		public BoundingBoxAttachment newBoundingBoxAttachment (Skin skin, String name) {
+			return new BoundingBoxAttachment(name);
+		}
+
+		public PathAttachment newPathAttachment (Skin skin, String name) {
+			return new PathAttachment(name);
+		}
+	};
+
+	static public FileHandle file (String path) {
+		FileHandle file = new FileHandle(assets + "/" + path);
+		if (!file.exists()) throw new IllegalArgumentException("Benchmark asset not found: " + file.path());
+		return file;
+	}
+
+	/** @param path Relative to {@link #assets}. */
+	static public SkeletonData json (String path) {
+		return new SkeletonJson(attachmentLoader).readSkeletonData(file(path));
+	}
+
+	/** @param path Relative to {@link #assets}. */
+	static public SkeletonData binary (String path) {
+		return new SkeletonBinary(attachmentLoader).readSkeletonData(file(path));
+	}
+
+	/** Generates skeleton data with 4 key frames for each timeline.
+	 * @see #generate(int, int, int) */
+	static public SkeletonData generate (int boneCount, int animationCount) {
+		return generate(boneCount, animationCount, 4);
+	}
+
+	/** Generates skeleton data with the specified number of bones, arranged as a tree where each bone has up to 3 children. Each
+	 * bone has a slot with a region attachment. Each animation keys the rotation and translation of every bone using Bezier
+	 * curves.
+	 * @param animationCount The number of animations, named "animation0", "animation1", etc.
+	 * @param frameCount The number of key frames for each timeline, spread evenly over the 1 second duration. */
+	static public SkeletonData generate (int boneCount, int animationCount, int frameCount) {
+		if (boneCount < 1) throw new IllegalArgumentException("boneCount must be > 0: " + boneCount);
+		if (frameCount < 2) throw new IllegalArgumentException("frameCount must be > 1: " + frameCount);
+		SkeletonData data = new SkeletonData();
+		data.setName("generated" + boneCount);
+
+		Skin skin = new Skin("default");
+		for (int i = 0; i < boneCount; i++) {
+			BoneData parent = i == 0 ? null : data.bones.get((i - 1) / 3);
+			BoneData bone = new BoneData(i, "bone" + i, parent);
+			if (parent != null) {
+				bone.setPosition(20, 0);
+				bone.setRotation((i % 3 - 1) * 30);
+			}
+			bone.setLength(20);
+			data.bones.add(bone);
+
+			SlotData slot = new SlotData(i, "slot" + i, bone);
+			slot.setAttachmentName("region");
+			data.slots.add(slot);
+
+			RegionAttachment region = new RegionAttachment("region");
+			region.setWidth(16);
+			region.setHeight(16);
+			region.setRotation(i * 7);
+			region.updateOffset();
+			skin.addAttachment(i, "region", region);
+		}
+		data.skins.add(skin);
+		data.setDefaultSkin(skin);
+
+		for (int a = 0; a < animationCount; a++) {
+			Array<Timeline> timelines = new Array(boneCount * 2);
+			for (int i = 0; i < boneCount; i++) {
+				RotateTimeline rotate = new RotateTimeline(frameCount);
+				rotate.setBoneIndex(i);
+				TranslateTimeline translate = new TranslateTimeline(frameCount);
+				translate.setBoneIndex(i);
+				for (int frame = 0; frame < frameCount; frame++) {
+					float time = frame / (frameCount - 1f), offset = (frame + a + i) % 4 - 1.5f;
+					rotate.setFrame(frame, time, offset * 20);
+					translate.setFrame(frame, time, offset * 4, -offset * 2);
+					if (frame < frameCount - 1) {
+						rotate.setCurve(frame, 0.25f, 0, 0.75f, 1);
+						translate.setCurve(frame, 0.4f, 0.1f, 0.6f, 0.9f);
+					}
+				}
+				timelines.add(rotate);
+				timelines.add(translate);
+			}
+			data.animations.add(new Animation("animation" + a, timelines, 1));
+		}
+		data.indexAnimations();
+		return data;
+	}
+}
@@ -0,0 +1,94 @@
+/******************************************************************************
+ * Spine Runtimes Software License v2.5
+ *
+ * Copyright (c) 2013-2016, Esoteric Software
+ * All rights reserved.
+ *
+ * You are granted a perpetual, non-exclusive, non-sublicensable, and
+ * non-transferable license to use, install, execute, and perform the Spine
+ * Runtimes software and derivative works solely for personal or internal
+ * use. Without the written permission of Esoteric Software (see Section 2 of
+ * the Spine Software License Agreement), you may not (a) modify, translate,
+ * adapt, or develop new applications using the Spine Runtimes or otherwise
+ * create derivative works or improvements of the Spine Runtimes or (b) remove,
+ * delete, alter, or obscure any trademarks or any copyright, trademark, patent,
+ * or other intellectual property or proprietary rights notices on or in the
+ * Software, including any copy thereof. Redistributions in binary or source
+ * form must include this license and terms.
+ *
+ * THIS SOFTWARE IS PROVIDED BY ESOTERIC SOFTWARE "AS IS" AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO
+ * EVENT SHALL ESOTERIC SOFTWARE BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES, BUSINESS INTERRUPTION, OR LOSS OF
+ * USE, DATA, OR PROFITS) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ *****************************************************************************/
+
+
+package com.esotericsoftware.spine;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.badlogic.gdx.utils.Array;
+import com.esotericsoftware.spine.Animation.CursorTimeline;
+import com.esotericsoftware.spine.Animation.Timeline;
+
+/** Measures applying an animation's timelines while the time advances by 1/60th of a second, finding the key frames with a
+ * binary search or with a {@link CursorTimeline} cursor as {@link AnimationState} does. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class KeyFrameSearchBenchmark {
+	@Param({"4", "32", "256"}) public int frameCount;
+
+	Skeleton skeleton;
+	Array<Timeline> timelines;
+	int[] cursors;
+	float time;
+
+	@Setup
+	public void setup () {
+		SkeletonData data = BenchmarkSkeletons.generate(64, 1, frameCount);
+		skeleton = new Skeleton(data);
+		timelines = data.getAnimations().first().getTimelines();
+		cursors = new int[timelines.size];
+	}
+
+	private float nextTime () {
+		time += 1 / 60f;
+		if (time > 1) time -= 1;
+		return time;
+	}
+
+	@Benchmark
+	public Skeleton binarySearch () {
+		float time = nextTime();
+		Object[] timelines = this.timelines.items;
+		for (int i = 0, n = this.timelines.size; i < n; i++)
+			((CursorTimeline)timelines[i]).apply(skeleton, time, time, null, 1, true, false, null, 0);
+		return skeleton;
+	}
+
+	@Benchmark
+	public Skeleton cursor () {
+		float time = nextTime();
+		Object[] timelines = this.timelines.items;
+		int[] cursors = this.cursors;
+		for (int i = 0, n = this.timelines.size; i < n; i++)
+			((CursorTimeline)timelines[i]).apply(skeleton, time, time, null, 1, true, false, cursors, i);
+		return skeleton;
+	}
+}
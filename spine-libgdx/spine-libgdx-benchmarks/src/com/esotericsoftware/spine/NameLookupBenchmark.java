@@ -0,0 +1,106 @@
+/******************************************************************************
+ * Spine Runtimes Software License v2.5
+ *
+ * Copyright (c) 2013-2016, Esoteric Software
+ * All rights reserved.
+ *
+ * You are granted a perpetual, non-exclusive, non-sublicensable, and
+ * non-transferable license to use, install, execute, and perform the Spine
+ * Runtimes software and derivative works solely for personal or internal
+ * use. Without the written permission of Esoteric Software (see Section 2 of
+ * the Spine Software License Agreement), you may not (a) modify, translate,
+ * adapt, or develop new applications using the Spine Runtimes or otherwise
+ * create derivative works or improvements of the Spine Runtimes or (b) remove,
+ * delete, alter, or obscure any trademarks or any copyright, trademark, patent,
+ * or other intellectual property or proprietary rights notices on or in the
+ * Software, including any copy thereof. Redistributions in binary or source
+ * form must include this license and terms.
+ *
+ * THIS SOFTWARE IS PROVIDED BY ESOTERIC SOFTWARE "AS IS" AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO
+ * EVENT SHALL ESOTERIC SOFTWARE BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES, BUSINESS INTERRUPTION, OR LOSS OF
+ * USE, DATA, OR PROFITS) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ *****************************************************************************/
+
+package com.esotericsoftware.spine;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.badlogic.gdx.utils.Array;
+
+/** Measures finding bones in a generated skeleton by comparing each bone's name, with {@link Skeleton#findBone(String)} and
+ * with an index from {@link SkeletonData#findBoneIndex(String)}, parameterized by bone count. Each invocation finds every bone
+ * once. The names are new strings, as when they are built at runtime. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class NameLookupBenchmark {
+	@Param({"16", "64", "160", "400"}) public int boneCount;
+
+	Skeleton skeleton;
+	String[] names;
+	int[] indices;
+
+	@Setup
+	public void setup () {
+		skeleton = new Skeleton(BenchmarkSkeletons.generate(boneCount, 1));
+		names = new String[boneCount];
+		indices = new int[boneCount];
+		for (int i = 0; i < boneCount; i++) {
+			names[i] = new String("bone" + i);
+			indices[i] = skeleton.getData().findBoneIndex(names[i]);
+		}
+	}
+
+	@Benchmark
+	public int linear () {
+		Array<Bone> bones = skeleton.getBones();
+		String[] names = this.names;
+		int found = 0;
+		for (int i = 0, n = names.length; i < n; i++) {
+			String name = names[i];
+			for (int ii = 0, nn = bones.size; ii < nn; ii++) {
+				if (bones.get(ii).data.name.equals(name)) {
+					found++;
+					break;
+				}
+			}
+		}
+		return found;
+	}
+
+	@Benchmark
+	public int hashed () {
+		Skeleton skeleton = this.skeleton;
+		String[] names = this.names;
+		int found = 0;
+		for (int i = 0, n = names.length; i < n; i++)
+			if (skeleton.findBone(names[i]) != null) found++;
+		return found;
+	}
+
+	@Benchmark
+	public int index () {
+		Array<Bone> bones = skeleton.getBones();
+		int[] indices = this.indices;
+		int found = 0;
+		for (int i = 0, n = indices.length; i < n; i++)
+			if (bones.get(indices[i]) != null) found++;
+		return found;
+	}
+}
@@ -0,0 +1,95 @@
+/******************************************************************************
+ * Spine Runtimes Software License v2.5
+ *
+ * Copyright (c) 2013-2016, Esoteric Software
+ * All rights reserved.
+ *
+ * You are granted a perpetual, non-exclusive, non-sublicensable, and
+ * non-transferable license to use, install, execute, and perform the Spine
+ * Runtimes software and derivative works solely for personal or internal
+ * use. Without the written permission of Esoteric Software (see Section 2 of
+ * the Spine Software License Agreement), you may not (a) modify, translate,
+ * adapt, or develop new applications using the Spine Runtimes or otherwise
+ * create derivative works or improvements of the Spine Runtimes or (b) remove,
+ * delete, alter, or obscure any trademarks or any copyright, trademark, patent,
+ * or other intellectual property or proprietary rights notices on or in the
+ * Software, including any copy thereof. Redistributions in binary or source
+ * form must include this license and terms.
+ *
+ * THIS SOFTWARE IS PROVIDED BY ESOTERIC SOFTWARE "AS IS" AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO
+ * EVENT SHALL ESOTERIC SOFTWARE BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES, BUSINESS INTERRUPTION, OR LOSS OF
+ * USE, DATA, OR PROFITS) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ *****************************************************************************/
+
+package com.esotericsoftware.spine;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/** Measures {@link Skeleton#updateWorldTransform()} for generated skeletons and for the test assets, which also have
+ * constraints. Unless idle, the skeleton is moved before each update so every bone's world transform changes, otherwise
+ * unchanged bones are skipped. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SkeletonBenchmark {
+	@Benchmark
+	public Skeleton generated (Generated state) {
+		if (!state.idle) state.skeleton.x = 1 - state.skeleton.x;
+		state.skeleton.updateWorldTransform();
+		return state.skeleton;
+	}
+
+	@Benchmark
+	public Skeleton fixture (Fixture state) {
+		if (!state.idle) state.skeleton.x = 1 - state.skeleton.x;
+		state.skeleton.updateWorldTransform();
+		return state.skeleton;
+	}
+
+	@State(Scope.Thread)
+	static public class Generated {
+		@Param({"16", "64", "160", "400"}) public int boneCount;
+		@Param({"false", "true"}) public boolean idle;
+
+		Skeleton skeleton;
+
+		@Setup
+		public void setup () {
+			SkeletonData data = BenchmarkSkeletons.generate(boneCount, 1);
+			skeleton = new Skeleton(data);
+			data.getAnimations().first().apply(skeleton, 0, 0.4f, true, null, 1, true, false);
+		}
+	}
+
+	@State(Scope.Thread)
+	static public class Fixture {
+		@Param({"spineboy/spineboy.json", "raptor/raptor.json", "goblins/goblins-mesh.json"}) public String path;
+		@Param({"false", "true"}) public boolean idle;
+
+		Skeleton skeleton;
+
+		@Setup
+		public void setup () {
+			SkeletonData data = BenchmarkSkeletons.json(path);
+			skeleton = new Skeleton(data);
+			skeleton.setSkin(data.getSkins().peek());
+			skeleton.setSlotsToSetupPose();
+			data.getAnimations().first().apply(skeleton, 0, 0.4f, true, null, 1, true, false);
+		}
+	}
+}
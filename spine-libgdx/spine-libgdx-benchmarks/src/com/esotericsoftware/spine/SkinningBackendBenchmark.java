@@ -0,0 +1,104 @@
+/******************************************************************************
+ * Spine Runtimes Software License v2.5
+ *
+ * Copyright (c) 2013-2016, Esoteric Software
+ * All rights reserved.
+ *
+ * You are granted a perpetual, non-exclusive, non-sublicensable, and
+ * non-transferable license to use, install, execute, and perform the Spine
+ * Runtimes software and derivative works solely for personal or internal
+ * use. Without the written permission of Esoteric Software (see Section 2 of
+ * the Spine Software License Agreement), you may not (a) modify, translate,
+ * adapt, or develop new applications using the Spine Runtimes or otherwise
+ * create derivative works or improvements of the Spine Runtimes or (b) remove,
+ * delete, alter, or obscure any trademarks or any copyright, trademark, patent,
+ * or other intellectual property or proprietary rights notices on or in the
+ * Software, including any copy thereof. Redistributions in binary or source
+ * form must include this license and terms.
+ *
+ * THIS SOFTWARE IS PROVIDED BY ESOTERIC SOFTWARE "AS IS" AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO
+ * EVENT SHALL ESOTERIC SOFTWARE BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES, BUSINESS INTERRUPTION, OR LOSS OF
+ * USE, DATA, OR PROFITS) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ *****************************************************************************/
+package com.esotericsoftware.spine;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.badlogic.gdx.utils.FloatArray;
+import com.esotericsoftware.spine.attachments.BoneInfluences;
+import com.esotericsoftware.spine.attachments.SkinningBackend;
+import com.esotericsoftware.spine.attachments.VertexAttachment;
+
+/** Compares the scalar {@link BoneInfluences#computeWorldVertices(Object[], float[], int, int, float[], int, int)} with the
+ * {@link BoneInfluences#vectorBackend}, for a generated weighted mesh. The vector backend requires the spine-libgdx-vector
+ * classes on the classpath and the <code>jdk.incubator.vector</code> module, eg using
+ * <code>-jvmArgsAppend --add-modules=jdk.incubator.vector</code>. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SkinningBackendBenchmark {
+	@Param({"128", "1024"}) public int vertexCount;
+	@Param({"2", "4"}) public int influences;
+	@Param({"false", "true"}) public boolean deform;
+	@Param({"2", "5"}) public int stride;
+
+	Skeleton skeleton;
+	Slot slot;
+	VertexAttachment mesh;
+	float[] worldVertices;
+	SkinningBackend vector;
+
+	@Setup
+	public void setup () {
+		vector = BoneInfluences.loadBackend(BoneInfluences.vectorBackend);
+		if (vector == null) throw new IllegalStateException("Vector backend is not available: " + BoneInfluences.vectorBackend);
+		BoneInfluences.setBackend(null);
+
+		int boneCount = 16;
+		skeleton = new Skeleton(BenchmarkSkeletons.generate(boneCount, 1));
+		skeleton.getData().getAnimations().first().apply(skeleton, 0, 0.4f, true, null, 1, true, false);
+		skeleton.updateWorldTransform();
+		slot = skeleton.getSlots().first();
+		mesh = SkinningBenchmark.mesh(vertexCount, influences, boneCount);
+		mesh.updateBoneInfluences();
+		slot.setAttachment(mesh);
+		worldVertices = new float[vertexCount * stride];
+
+		if (deform) {
+			FloatArray deformArray = slot.getAttachmentVertices();
+			deformArray.setSize(vertexCount * influences * 2);
+			for (int i = 0; i < deformArray.size; i++)
+				deformArray.items[i] = i % 5 - 2;
+		}
+	}
+
+	@Benchmark
+	public float[] scalar () {
+		BoneInfluences.setBackend(null);
+		mesh.computeWorldVertices(slot, 0, vertexCount * 2, worldVertices, 0, stride);
+		return worldVertices;
+	}
+
+	@Benchmark
+	public float[] vector () {
+		BoneInfluences.setBackend(vector);
+		mesh.computeWorldVertices(slot, 0, vertexCount * 2, worldVertices, 0, stride);
+		return worldVertices;
+	}
+}
@@ -0,0 +1,152 @@
+/******************************************************************************
+ * Spine Runtimes Software License v2.5
+ *
+ * Copyright (c) 2013-2016, Esoteric Software
+ * All rights reserved.
+ *
+ * You are granted a perpetual, non-exclusive, non-sublicensable, and
+ * non-transferable license to use, install, execute, and perform the Spine
+ * Runtimes software and derivative works solely for personal or internal
+ * use. Without the written permission of Esoteric Software (see Section 2 of
+ * the Spine Software License Agreement), you may not (a) modify, translate,
+ * adapt, or develop new applications using the Spine Runtimes or otherwise
+ * create derivative works or improvements of the Spine Runtimes or (b) remove,
+ * delete, alter, or obscure any trademarks or any copyright, trademark, patent,
+ * or other intellectual property or proprietary rights notices on or in the
+ * Software, including any copy thereof. Redistributions in binary or source
+ * form must include this license and terms.
+ *
+ * THIS SOFTWARE IS PROVIDED BY ESOTERIC SOFTWARE "AS IS" AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO
+ * EVENT SHALL ESOTERIC SOFTWARE BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES, BUSINESS INTERRUPTION, OR LOSS OF
+ * USE, DATA, OR PROFITS) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ *****************************************************************************/
+package com.esotericsoftware.spine;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IntArray;
+import com.esotericsoftware.spine.attachments.MeshAttachment;
+import com.esotericsoftware.spine.attachments.VertexAttachment;
+
+/** Measures {@link VertexAttachment#computeWorldVertices(Slot, int, int, float[], int, int)} for a generated weighted mesh using
+ * the variable length bones layout and the fixed width layout computed by {@link VertexAttachment#updateBoneInfluences()}, and
+ * {@link SkeletonVertexCacheUpdater#update(SkeletonVertexCache)} for a skeleton with many weighted meshes. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SkinningBenchmark {
+	@Param({"128", "1024"}) public int vertexCount;
+	@Param({"2", "4"}) public int influences;
+	@Param({"false", "true"}) public boolean deform;
+
+	Skeleton skeleton;
+	Slot slot;
+	VertexAttachment variable, fixed;
+	float[] worldVertices;
+	SkeletonVertexCache cache;
+	SkeletonVertexCacheUpdater updater;
+
+	@Setup
+	public void setup () {
+		int boneCount = 16;
+		skeleton = new Skeleton(BenchmarkSkeletons.generate(boneCount, 1));
+		skeleton.getData().getAnimations().first().apply(skeleton, 0, 0.4f, true, null, 1, true, false);
+		skeleton.updateWorldTransform();
+		slot = skeleton.getSlots().first();
+
+		variable = mesh(vertexCount, influences, boneCount);
+		fixed = mesh(vertexCount, influences, boneCount);
+		fixed.updateBoneInfluences();
+		if (!fixed.hasBoneInfluences()) throw new IllegalStateException("Bone influences were not computed.");
+		worldVertices = new float[vertexCount * 2];
+
+		// Every slot has a mesh, so the cache computes boneCount meshes.
+		for (Slot slot : skeleton.getSlots()) {
+			MeshAttachment mesh = mesh(vertexCount, influences, boneCount);
+			mesh.updateBoneInfluences();
+			slot.setAttachment(mesh);
+			if (deform) {
+				FloatArray deformArray = slot.getAttachmentVertices();
+				deformArray.setSize(vertexCount * influences * 2);
+				for (int i = 0; i < deformArray.size; i++)
+					deformArray.items[i] = i % 5 - 2;
+			}
+		}
+		cache = new SkeletonVertexCache(skeleton);
+		updater = new SkeletonVertexCacheUpdater();
+	}
+
+	@TearDown
+	public void tearDown () {
+		updater.getPool().shutdown();
+	}
+
+	/** Creates a mesh with the specified number of bones affecting each vertex. */
+	static MeshAttachment mesh (int vertexCount, int influences, int boneCount) {
+		IntArray bones = new IntArray(vertexCount * (influences + 1));
+		FloatArray vertices = new FloatArray(vertexCount * influences * 3);
+		float[] uvs = new float[vertexCount * 2];
+		for (int i = 0; i < vertexCount; i++) {
+			bones.add(influences);
+			for (int ii = 0; ii < influences; ii++) {
+				bones.add((i + ii * 5) % boneCount);
+				vertices.add(i % 32 - 16);
+				vertices.add(i / 32 - 16);
+				vertices.add(1f / influences);
+			}
+			uvs[i * 2] = (i % 32) / 32f;
+			uvs[i * 2 + 1] = (i / 32) / 32f;
+		}
+		MeshAttachment mesh = new MeshAttachment("mesh");
+		mesh.setBones(bones.toArray());
+		mesh.setVertices(vertices.toArray());
+		mesh.setWorldVerticesLength(vertexCount * 2);
+		mesh.setRegionUVs(uvs);
+		mesh.updateUVs();
+		return mesh;
+	}
+
+	@Benchmark
+	public float[] variable () {
+		variable.computeWorldVertices(slot, 0, vertexCount * 2, worldVertices, 0, 2);
+		return worldVertices;
+	}
+
+	@Benchmark
+	public float[] fixed () {
+		fixed.computeWorldVertices(slot, 0, vertexCount * 2, worldVertices, 0, 2);
+		return worldVertices;
+	}
+
+	@Benchmark
+	public SkeletonVertexCache cache () {
+		cache.invalidate();
+		cache.update();
+		return cache;
+	}
+
+	@Benchmark
+	public SkeletonVertexCache cacheParallel () {
+		cache.invalidate();
+		updater.update(cache);
+		return cache;
+	}
+}
@@ -0,0 +1,125 @@
+/******************************************************************************
+ * Spine Runtimes Software License v2.5
+ *
+ * Copyright (c) 2013-2016, Esoteric Software
+ * All rights reserved.
+ *
+ * You are granted a perpetual, non-exclusive, non-sublicensable, and
+ * non-transferable license to use, install, execute, and perform the Spine
+ * Runtimes software and derivative works solely for personal or internal
+ * use. Without the written permission of Esoteric Software (see Section 2 of
+ * the Spine Software License Agreement), you may not (a) modify, translate,
+ * adapt, or develop new applications using the Spine Runtimes or otherwise
+ * create derivative works or improvements of the Spine Runtimes or (b) remove,
+ * delete, alter, or obscure any trademarks or any copyright, trademark, patent,
+ * or other intellectual property or proprietary rights notices on or in the
+ * Software, including any copy thereof. Redistributions in binary or source
+ * form must include this license and terms.
+ *
+ * THIS SOFTWARE IS PROVIDED BY ESOTERIC SOFTWARE "AS IS" AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO
+ * EVENT SHALL ESOTERIC SOFTWARE BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES, BUSINESS INTERRUPTION, OR LOSS OF
+ * USE, DATA, OR PROFITS) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ *****************************************************************************/
+
+package com.esotericsoftware.spine;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+
+import com.badlogic.gdx.Files.FileType;
+import com.badlogic.gdx.backends.lwjgl.LwjglFileHandle;
+import com.badlogic.gdx.utils.DataInput;
+import com.badlogic.gdx.utils.DataOutput;
+
+/** Unit tests for {@link AnimationBaker} and {@link BakedAnimation}. */
+public class AnimationBakerTests {
+	final SkeletonJson json = new SkeletonJson(new HeadlessAttachmentLoader());
+
+	public AnimationBakerTests () throws Exception {
+		SkeletonData skeletonData = json.readSkeletonData(new LwjglFileHandle("spineboy/spineboy.json", FileType.Internal));
+		Skeleton expected = new Skeleton(skeletonData), actual = new Skeleton(skeletonData);
+		AnimationBaker baker = new AnimationBaker();
+
+		for (Animation animation : skeletonData.getAnimations()) {
+			BakedAnimation baked = baker.bake(skeletonData, animation);
+			test(animation, baked, expected, actual, 0.0001f);
+
+			// Serialization.
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			DataOutput output = new DataOutput(bytes);
+			baked.write(output);
+			output.close();
+			baked = BakedAnimation.read(new DataInput(new ByteArrayInputStream(bytes.toByteArray())), skeletonData);
+			test(animation, baked, expected, actual, 0.0001f);
+		}
+
+		baker.setQuantize(true);
+		for (Animation animation : skeletonData.getAnimations())
+			test(animation, baker.bake(skeletonData, animation), expected, actual, 0.05f);
+
+		// Position and flip are applied to the baked transforms.
+		Animation animation = skeletonData.findAnimation("walk");
+		baker.setQuantize(false);
+		BakedAnimation baked = baker.bake(skeletonData, animation);
+		expected.setPosition(100, -50);
+		expected.setFlip(true, false);
+		actual.setPosition(100, -50);
+		actual.setFlip(true, false);
+		test(animation, baked, expected, actual, 0.001f);
+
+		System.out.println("AnimationBaker tests passed.");
+	}
+
+	/** Compares the baked pose to the animation applied at each sample time. */
+	private void test (Animation animation, BakedAnimation baked, Skeleton expected, Skeleton actual, float tolerance) {
+		for (int frame = 0, n = baked.getFrameCount(); frame < n; frame++) {
+			float time = frame == n - 1 ? animation.getDuration() : frame * baked.getFrameDuration();
+			expected.setToSetupPose();
+			animation.apply(expected, time, time, false, null, 1, true, false);
+			expected.updateWorldTransform();
+
+			baked.apply(actual, time, false);
+
+			for (int i = 0, nn = expected.getBones().size; i < nn; i++) {
+				Bone e = expected.getBones().get(i), a = actual.getBones().get(i);
+				check(animation, time, e, "a", e.getA(), a.getA(), tolerance);
+				check(animation, time, e, "b", e.getB(), a.getB(), tolerance);
+				check(animation, time, e, "c", e.getC(), a.getC(), tolerance);
+				check(animation, time, e, "d", e.getD(), a.getD(), tolerance);
+				check(animation, time, e, "worldX", e.getWorldX(), a.getWorldX(), tolerance * 100);
+				check(animation, time, e, "worldY", e.getWorldY(), a.getWorldY(), tolerance * 100);
+			}
+			for (int i = 0, nn = expected.getSlots().size; i < nn; i++) {
+				Slot e = expected.getSlots().get(i), a = actual.getSlots().get(i);
+				if (e.getAttachment() != a.getAttachment())
+					throw new FailException(animation + " " + time + " " + e + ": " + e.getAttachment() + " != " + a.getAttachment());
+				if (!e.getColor().equals(a.getColor()))
+					throw new FailException(animation + " " + time + " " + e + ": " + e.getColor() + " != " + a.getColor());
+				if (expected.getDrawOrder().get(i).getData() != actual.getDrawOrder().get(i).getData())
+					throw new FailException(animation + " " + time + " draw order " + i);
+			}
+		}
+	}
+
+	private void check (Animation animation, float time, Bone bone, String name, float expected, float actual, float tolerance) {
+		if (Math.abs(expected - actual) > tolerance)
+			throw new FailException(animation + " " + time + " " + bone + " " + name + ": " + expected + " != " + actual);
+	}
+
+	static class FailException extends RuntimeException {
+		public FailException (String message) {
+			super(message);
+		}
+	}
+
+	static public void main (String[] args) throws Exception {
+		new AnimationBakerTests();
+	}
+}
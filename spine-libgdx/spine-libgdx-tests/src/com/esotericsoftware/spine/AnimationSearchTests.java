@@ -0,0 +1,150 @@
+/******************************************************************************
+ * Spine Runtimes Software License v2.5
+ *
+ * Copyright (c) 2013-2016, Esoteric Software
+ * All rights reserved.
+ *
+ * You are granted a perpetual, non-exclusive, non-sublicensable, and
+ * non-transferable license to use, install, execute, and perform the Spine
+ * Runtimes software and derivative works solely for personal or internal
+ * use. Without the written permission of Esoteric Software (see Section 2 of
+ * the Spine Software License Agreement), you may not (a) modify, translate,
+ * adapt, or develop new applications using the Spine Runtimes or otherwise
+ * create derivative works or improvements of the Spine Runtimes or (b) remove,
+ * delete, alter, or obscure any trademarks or any copyright, trademark, patent,
+ * or other intellectual property or proprietary rights notices on or in the
+ * Software, including any copy thereof. Redistributions in binary or source
+ * form must include this license and terms.
+ *
+ * THIS SOFTWARE IS PROVIDED BY ESOTERIC SOFTWARE "AS IS" AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO
+ * EVENT SHALL ESOTERIC SOFTWARE BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES, BUSINESS INTERRUPTION, OR LOSS OF
+ * USE, DATA, OR PROFITS) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ *****************************************************************************/
+
+package com.esotericsoftware.spine;
+
+import java.util.Random;
+
+import com.badlogic.gdx.Files.FileType;
+import com.badlogic.gdx.backends.lwjgl.LwjglFileHandle;
+import com.badlogic.gdx.utils.Array;
+import com.esotericsoftware.spine.AnimationState.TrackEntry;
+
+/** Unit tests which check that searching for key frames using a cursor, as {@link AnimationState} does for each timeline of a
+ * {@link TrackEntry}, finds the same frame as a binary search. No OpenGL context is needed. */
+public class AnimationSearchTests {
+	final Random random = new Random(7);
+
+	public AnimationSearchTests () {
+		for (int step : new int[] {1, 2, 5}) {
+			float[] values = frames(40, step);
+			float first = values[0], last = values[values.length - step];
+			int[] cursors = new int[3];
+
+			// Seeking forward by small amounts, which the cursor finds by checking the next frames.
+			for (float time = first; time < last; time += 0.013f)
+				check(values, time, step, cursors, 1, "forward");
+
+			// Seeking backward.
+			for (float time = last - 0.001f; time >= first; time -= 0.017f)
+				check(values, time, step, cursors, 1, "backward");
+
+			// Looping, where the time wraps from the end back to the start.
+			for (int loop = 0; loop < 3; loop++)
+				for (float time = first; time < last; time += 0.05f)
+					check(values, time, step, cursors, 1, "looping");
+
+			// Skipping many frames, which falls back to a binary search after the linear scan of the next frames.
+			for (int i = 0; i < 200; i++)
+				check(values, first + random.nextFloat() * (last - first), step, cursors, 1, "skipping");
+
+			// Cursors which are not valid for the frames, eg for a reused track entry or unloaded timelines.
+			for (int cursor : new int[] {0, step, values.length, values.length + step * 4, -step}) {
+				cursors[2] = cursor;
+				check(values, first + (last - first) / 3, step, cursors, 2, "cursor " + cursor);
+			}
+
+			// Targets equal to frame times.
+			for (int i = 0; i < values.length - step; i += step)
+				check(values, values[i], step, cursors, 1, "frame time");
+
+			if (cursors[0] != 0) fail("Other cursors should not be changed.");
+		}
+
+		testTrackEntry();
+
+		System.out.println("Animation search tests passed.");
+	}
+
+	/** Checks that applying animations using the track entry's cursors poses the skeleton the same as applying them without. */
+	private void testTrackEntry () {
+		SkeletonData skeletonData = new SkeletonJson(new HeadlessAttachmentLoader())
+			.readSkeletonData(new LwjglFileHandle("spineboy/spineboy.json", FileType.Internal));
+		Skeleton expected = new Skeleton(skeletonData), actual = new Skeleton(skeletonData);
+		AnimationState state = new AnimationState(new AnimationStateData(skeletonData));
+		Animation animation = skeletonData.findAnimation("run");
+		TrackEntry entry = state.setAnimation(0, animation, true);
+		float duration = animation.getDuration();
+
+		float[] deltas = {1 / 60f, 1 / 60f, 0.3f, 1 / 30f, -0.5f, 1 / 60f, duration * 0.9f, 1 / 60f, -duration * 0.7f, 0.01f};
+		for (int i = 0; i < 300; i++) {
+			float delta = deltas[i % deltas.length];
+			if (delta < 0)
+				entry.setTrackTime(Math.max(0, entry.getTrackTime() + delta)); // Seek backward.
+			else
+				state.update(delta);
+			actual.setToSetupPose();
+			state.apply(actual);
+			actual.updateWorldTransform();
+
+			expected.setToSetupPose();
+			animation.apply(expected, entry.getTrackTime(), entry.getTrackTime() % duration, false, null, 1, true, false);
+			expected.updateWorldTransform();
+
+			Array<Bone> expectedBones = expected.getBones(), actualBones = actual.getBones();
+			for (int ii = 0, n = expectedBones.size; ii < n; ii++) {
+				Bone e = expectedBones.get(ii), a = actualBones.get(ii);
+				if (e.getWorldX() != a.getWorldX() || e.getWorldY() != a.getWorldY() || e.getA() != a.getA()
+					|| e.getB() != a.getB() || e.getC() != a.getC() || e.getD() != a.getD())
+					fail("Step " + i + ", bone " + e.getData().getName() + " differs at time: " + entry.getTrackTime());
+			}
+		}
+	}
+
+	/** Returns key frames with increasing, unevenly spaced times, each followed by <code>step - 1</code> values. */
+	private float[] frames (int count, int step) {
+		float[] values = new float[count * step];
+		float time = 0;
+		for (int i = 0; i < values.length; i += step) {
+			values[i] = time;
+			for (int ii = 1; ii < step; ii++)
+				values[i + ii] = random.nextFloat() * 1000;
+			time += 0.01f + random.nextFloat() * 0.2f;
+		}
+		return values;
+	}
+
+	private void check (float[] values, float time, int step, int[] cursors, int cursor, String name) {
+		int expected = Animation.binarySearch(values, time, step);
+		if (Animation.linearSearch(values, time, step) != expected) fail(name + ": binary and linear searches differ.");
+		int actual = Animation.search(values, time, step, cursors, cursor);
+		if (actual != expected) fail(name + ", step " + step + ", time " + time + ": expected frame " + expected + ": " + actual);
+		if (cursors[cursor] != expected) fail(name + ": cursor not stored: " + cursors[cursor]);
+		if (Animation.search(values, time, step, null, 0) != expected) fail(name + ": search without cursors differs.");
+	}
+
+	private void fail (String message) {
+		throw new RuntimeException(message);
+	}
+
+	static public void main (String[] args) throws Exception {
+		new AnimationSearchTests();
+	}
+}
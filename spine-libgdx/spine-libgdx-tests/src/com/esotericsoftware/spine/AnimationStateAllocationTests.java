@@ -0,0 +1,138 @@
+/******************************************************************************
+ * Spine Runtimes Software License v2.5
+ *
+ * Copyright (c) 2013-2016, Esoteric Software
+ * All rights reserved.
+ *
+ * You are granted a perpetual, non-exclusive, non-sublicensable, and
+ * non-transferable license to use, install, execute, and perform the Spine
+ * Runtimes software and derivative works solely for personal or internal
+ * use. Without the written permission of Esoteric Software (see Section 2 of
+ * the Spine Software License Agreement), you may not (a) modify, translate,
+ * adapt, or develop new applications using the Spine Runtimes or otherwise
+ * create derivative works or improvements of the Spine Runtimes or (b) remove,
+ * delete, alter, or obscure any trademarks or any copyright, trademark, patent,
+ * or other intellectual property or proprietary rights notices on or in the
+ * Software, including any copy thereof. Redistributions in binary or source
+ * form must include this license and terms.
+ *
+ * THIS SOFTWARE IS PROVIDED BY ESOTERIC SOFTWARE "AS IS" AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO
+ * EVENT SHALL ESOTERIC SOFTWARE BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES, BUSINESS INTERRUPTION, OR LOSS OF
+ * USE, DATA, OR PROFITS) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ *****************************************************************************/
+
+
+package com.esotericsoftware.spine;
+
+import java.lang.management.ManagementFactory;
+
+import com.badlogic.gdx.Files.FileType;
+import com.badlogic.gdx.backends.lwjgl.LwjglFileHandle;
+import com.esotericsoftware.spine.AnimationState.AnimationStateListener;
+import com.esotericsoftware.spine.AnimationState.TrackEntry;
+
+/** Checks that {@link AnimationState} does not allocate once warmed up, while setting, queuing and mixing animations, firing
+ * events and delivering listener notifications. Requires a JVM which supports
+ * {@link com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long)}. */
+public class AnimationStateAllocationTests {
+	final SkeletonJson json = new SkeletonJson(new HeadlessAttachmentLoader());
+
+	int notifications, events;
+
+	final AnimationStateListener listener = new AnimationStateListener() {
+		public void start (TrackEntry entry) {
+			notifications++;
+		}
+
+		public void interrupt (TrackEntry entry) {
+			notifications++;
+		}
+
+		public void end (TrackEntry entry) {
+			notifications++;
+		}
+
+		public void dispose (TrackEntry entry) {
+			notifications++;
+		}
+
+		public void complete (TrackEntry entry) {
+			notifications++;
+		}
+
+		public void event (TrackEntry entry, Event event) {
+			events++;
+		}
+	};
+
+	public AnimationStateAllocationTests () {
+		SkeletonData skeletonData = json.readSkeletonData(new LwjglFileHandle("spineboy/spineboy.json", FileType.Internal));
+		AnimationStateData stateData = new AnimationStateData(skeletonData);
+		stateData.setDefaultMix(0.2f);
+		Skeleton skeleton = new Skeleton(skeletonData);
+		AnimationState state = new AnimationState(stateData);
+		state.addListener(listener);
+
+		com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean)ManagementFactory.getThreadMXBean();
+		long thread = Thread.currentThread().getId();
+
+		// Warm up so pools and arrays reach their steady state size and the methods are compiled.
+		for (int i = 0; i < 20; i++)
+			run(state, skeleton);
+
+		long overhead = threads.getThreadAllocatedBytes(thread);
+		overhead = threads.getThreadAllocatedBytes(thread) - overhead;
+
+		notifications = 0;
+		events = 0;
+		long start = threads.getThreadAllocatedBytes(thread);
+		for (int i = 0; i < 10; i++)
+			run(state, skeleton);
+		long allocated = threads.getThreadAllocatedBytes(thread) - start - overhead;
+
+		if (notifications == 0 || events == 0) fail("No notifications: " + notifications + ", " + events);
+		if (allocated > 0) fail("Allocated " + allocated + " bytes.");
+
+		System.out.println("AnimationState allocation tests passed.");
+	}
+
+	/** Plays, queues and mixes animations on two tracks for 10 seconds. */
+	private void run (AnimationState state, Skeleton skeleton) {
+		for (int frame = 0; frame < 600; frame++) {
+			switch (frame % 150) {
+			case 0:
+				state.setAnimation(0, "run", true);
+				state.addAnimation(0, "jump", false, 1);
+				state.addAnimation(0, "test", true, 0);
+				break;
+			case 75:
+				state.setAnimation(0, "walk", true).setMixDuration(0.3f);
+				state.addAnimation(1, "shoot", false, 0.1f);
+				state.addEmptyAnimation(1, 0.2f, 0);
+				break;
+			case 120:
+				state.setAnimation(0, "test", false);
+				state.addAnimation(0, "run", true, 0.5f);
+				break;
+			}
+			state.update(1 / 60f);
+			state.apply(skeleton);
+		}
+		state.clearTracks();
+	}
+
+	private void fail (String message) {
+		throw new RuntimeException(message);
+	}
+
+	static public void main (String[] args) throws Exception {
+		new AnimationStateAllocationTests();
+	}
+}
@@ -0,0 +1,123 @@
+/******************************************************************************
+ * Spine Runtimes Software License v2.5
+ *
+ * Copyright (c) 2013-2016, Esoteric Software
+ * All rights reserved.
+ *
+ * You are granted a perpetual, non-exclusive, non-sublicensable, and
+ * non-transferable license to use, install, execute, and perform the Spine
+ * Runtimes software and derivative works solely for personal or internal
+ * use. Without the written permission of Esoteric Software (see Section 2 of
+ * the Spine Software License Agreement), you may not (a) modify, translate,
+ * adapt, or develop new applications using the Spine Runtimes or otherwise
+ * create derivative works or improvements of the Spine Runtimes or (b) remove,
+ * delete, alter, or obscure any trademarks or any copyright, trademark, patent,
+ * or other intellectual property or proprietary rights notices on or in the
+ * Software, including any copy thereof. Redistributions in binary or source
+ * form must include this license and terms.
+ *
+ * THIS SOFTWARE IS PROVIDED BY ESOTERIC SOFTWARE "AS IS" AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO
+ * EVENT SHALL ESOTERIC SOFTWARE BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES, BUSINESS INTERRUPTION, OR LOSS OF
+ * USE, DATA, OR PROFITS) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ *****************************************************************************/
+
+package com.esotericsoftware.spine;
+
+import com.badlogic.gdx.utils.Array;
+
+/** Unit tests for {@link AnimationStateData}, which check that mix durations stored using the animation indices are found for
+ * the right animations, including animations which are not indexed and indices which do not fit in the key. No OpenGL context
+ * is needed. */
+public class AnimationStateDataTests {
+	public AnimationStateDataTests () {
+		SkeletonData skeletonData = skeletonData(4);
+		Array<Animation> animations = skeletonData.getAnimations();
+		Animation a0 = animations.get(0), a1 = animations.get(1), a2 = animations.get(2), a3 = animations.get(3);
+		AnimationStateData stateData = new AnimationStateData(skeletonData);
+		stateData.setDefaultMix(0.5f);
+
+		// Mixes are directional and found by name or animation.
+		stateData.setMix(a0, a1, 1);
+		stateData.setMix("animation1", "animation0", 2);
+		check(stateData, a0, a1, 1);
+		check(stateData, a1, a0, 2);
+		check(stateData, a0, a0, 0.5f);
+		check(stateData, a2, a3, 0.5f);
+		if (stateData.indexToMixTime.size != 2) fail("Mixes should be stored by index: " + stateData.indexToMixTime.size);
+
+		// All mixes at once, where NaN is not set.
+		float[] durations = new float[16];
+		for (int i = 0; i < 16; i++)
+			durations[i] = i == 1 ? Float.NaN : 10 + i;
+		stateData.setMixes(durations);
+		for (int from = 0; from < 4; from++) {
+			for (int to = 0; to < 4; to++) {
+				int i = from * 4 + to;
+				check(stateData, animations.get(from), animations.get(to), i == 1 ? 1 : 10 + i);
+			}
+		}
+		try {
+			stateData.setMixes(new float[15]);
+			fail("Wrong length should throw.");
+		} catch (IllegalArgumentException expected) {
+		}
+
+		// Animations not in the skeleton data, or no longer at their index, use the animation objects.
+		Animation other = new Animation("other", new Array(), 1);
+		stateData.setMix(other, a0, 3);
+		check(stateData, other, a0, 3);
+		animations.swap(2, 3);
+		stateData.setMix(a2, a3, 4);
+		check(stateData, a2, a3, 4);
+		check(stateData, a3, a2, 0.5f); // Mixes set by index before the indices changed are not found.
+		int size = stateData.animationToMixTime.size;
+		if (size != 2) fail("Mixes should be stored by animation: " + size);
+
+		// Indices which don't fit in 16 bits must not collide with other keys, eg 65536 << 16 | 0 is the same as 0 << 16 | 0.
+		skeletonData = skeletonData(65536 + 2);
+		animations = skeletonData.getAnimations();
+		stateData = new AnimationStateData(skeletonData);
+		Animation first = animations.first(), last = animations.get(65536), max = animations.get(65535);
+		stateData.setMix(first, first, 1);
+		stateData.setMix(last, first, 2);
+		stateData.setMix(first, last, 3);
+		stateData.setMix(max, first, 4);
+		check(stateData, first, first, 1);
+		check(stateData, last, first, 2);
+		check(stateData, first, last, 3);
+		check(stateData, max, first, 4);
+		check(stateData, animations.get(1), first, 0);
+		if (stateData.indexToMixTime.size != 2) fail("Index 65535 should be stored by index: " + stateData.indexToMixTime.size);
+
+		System.out.println("AnimationStateData tests passed.");
+	}
+
+	/** Returns skeleton data with the specified number of empty, indexed animations. */
+	private SkeletonData skeletonData (int animationCount) {
+		SkeletonData skeletonData = new SkeletonData();
+		for (int i = 0; i < animationCount; i++)
+			skeletonData.getAnimations().add(new Animation("animation" + i, new Array(), 1));
+		skeletonData.indexAnimations();
+		return skeletonData;
+	}
+
+	private void check (AnimationStateData stateData, Animation from, Animation to, float expected) {
+		float mix = stateData.getMix(from, to);
+		if (mix != expected) fail("Mix " + from + " -> " + to + ", expected " + expected + ": " + mix);
+	}
+
+	private void fail (String message) {
+		throw new RuntimeException(message);
+	}
+
+	static public void main (String[] args) throws Exception {
+		new AnimationStateDataTests();
+	}
+}
@@ -0,0 +1,206 @@
+/******************************************************************************
+ * Spine Runtimes Software License v2.5
+ *
+ * Copyright (c) 2013-2016, Esoteric Software
+ * All rights reserved.
+ *
+ * You are granted a perpetual, non-exclusive, non-sublicensable, and
+ * non-transferable license to use, install, execute, and perform the Spine
+ * Runtimes software and derivative works solely for personal or internal
+ * use. Without the written permission of Esoteric Software (see Section 2 of
+ * the Spine Software License Agreement), you may not (a) modify, translate,
+ * adapt, or develop new applications using the Spine Runtimes or otherwise
+ * create derivative works or improvements of the Spine Runtimes or (b) remove,
+ * delete, alter, or obscure any trademarks or any copyright, trademark, patent,
+ * or other intellectual property or proprietary rights notices on or in the
+ * Software, including any copy thereof. Redistributions in binary or source
+ * form must include this license and terms.
+ *
+ * THIS SOFTWARE IS PROVIDED BY ESOTERIC SOFTWARE "AS IS" AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO
+ * EVENT SHALL ESOTERIC SOFTWARE BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES, BUSINESS INTERRUPTION, OR LOSS OF
+ * USE, DATA, OR PROFITS) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ *****************************************************************************/
+
+package com.esotericsoftware.spine;
+
+import com.badlogic.gdx.Files.FileType;
+import com.badlogic.gdx.backends.lwjgl.LwjglFileHandle;
+import com.badlogic.gdx.utils.Array;
+import com.esotericsoftware.spine.AnimationState.AnimationStateListener;
+import com.esotericsoftware.spine.AnimationState.NotificationBuffer;
+import com.esotericsoftware.spine.AnimationState.TrackEntry;
+
+/** Unit tests for {@link AnimationState} listener interest masks, event name filtering and draining notifications into a
+ * {@link NotificationBuffer}. No OpenGL context is needed. */
+public class AnimationStateListenerTests {
+	final SkeletonData skeletonData;
+
+	public AnimationStateListenerTests () {
+		skeletonData = new SkeletonJson(new HeadlessAttachmentLoader())
+			.readSkeletonData(new LwjglFileHandle("spineboy/spineboy.json", FileType.Internal));
+
+		testInterestMasks();
+		testNotificationBuffer();
+
+		System.out.println("AnimationState listener tests passed.");
+	}
+
+	private void testInterestMasks () {
+		AnimationState state = new AnimationState(new AnimationStateData(skeletonData));
+		Recorder all = new Recorder(), startEnd = new Recorder(), headBehind = new Recorder(), removed = new Recorder();
+		state.addListener(all);
+		state.addListener(startEnd, AnimationState.START | AnimationState.END);
+		state.addListener(headBehind, AnimationState.EVENT, "headBehind");
+		state.addListener(removed, AnimationState.ALL);
+		state.removeListener(removed);
+		try {
+			state.addListener(new Recorder(), AnimationState.EVENT, "missing");
+			fail("Adding a listener for a missing event should throw.");
+		} catch (IllegalArgumentException expected) {
+		}
+
+		run(state);
+
+		expect(all, "start test", "event headPop", "event headBehind", "event headAttach", "complete test", "interrupt test",
+			"start walk", "end test", "dispose test");
+		expect(startEnd, "start test", "start walk", "end test");
+		expect(headBehind, "event headBehind");
+		expect(removed);
+	}
+
+	private void testNotificationBuffer () {
+		AnimationState state = new AnimationState(new AnimationStateData(skeletonData));
+		Recorder listener = new Recorder();
+		state.addListener(listener);
+		state.setDeferListenerNotifications(true);
+		run(state);
+		if (listener.notifications.size != 0) fail("Deferred notifications should not be delivered.");
+
+		NotificationBuffer buffer = new NotificationBuffer();
+		int free = state.trackEntryPool.getFree();
+		state.drainListenerNotifications(buffer);
+		if (listener.notifications.size != 0) fail("Notifications drained into a buffer should not be delivered.");
+		Array<String> notifications = new Array();
+		TrackEntry disposed = null;
+		for (int i = 0, n = buffer.getSize(); i < n; i++) {
+			if (buffer.getState(i) != state) fail("Wrong state for notification " + i + ".");
+			TrackEntry entry = buffer.getEntry(i);
+			int type = buffer.getType(i);
+			if (type == AnimationState.EVENT)
+				notifications.add("event " + buffer.getEvent(i).getData().getName());
+			else
+				notifications.add(name(type) + " " + entry.getAnimation().getName());
+			if (type == AnimationState.DISPOSE) disposed = entry;
+		}
+		expect(notifications, "start test", "event headPop", "event headBehind", "event headAttach", "complete test",
+			"interrupt test", "start walk", "end test", "dispose test");
+		if (state.trackEntryPool.getFree() != free) fail("Disposed entry should not be freed until the buffer is cleared.");
+		if (disposed.getAnimation() == null) fail("Disposed entry should remain valid until the buffer is cleared.");
+		buffer.clear();
+		if (buffer.getSize() != 0) fail("Buffer should be empty after clear.");
+		if (state.trackEntryPool.getFree() != free + 1) fail("Disposed entry should be freed when the buffer is cleared.");
+		if (disposed.getAnimation() != null) fail("Freed entry should be reset.");
+
+		// Types outside the buffer's mask are discarded, but disposed entries are still freed on clear.
+		state.clearTracks();
+		state.drainListenerNotifications(buffer);
+		buffer.clear();
+		buffer.setTypes(AnimationState.EVENT);
+		run(state);
+		free = state.trackEntryPool.getFree();
+		state.drainListenerNotifications(buffer);
+		notifications.clear();
+		for (int i = 0, n = buffer.getSize(); i < n; i++) {
+			if (buffer.getType(i) != AnimationState.EVENT) fail("Buffer should only store events.");
+			notifications.add("event " + buffer.getEvent(i).getData().getName());
+		}
+		expect(notifications, "event headPop", "event headBehind", "event headAttach");
+		if (state.trackEntryPool.getFree() != free) fail("Disposed entry should not be freed until the buffer is cleared.");
+		buffer.clear();
+		if (state.trackEntryPool.getFree() != free + 1) fail("Disposed entry should be freed when the buffer is cleared.");
+	}
+
+	/** Plays the test animation through its events, then replaces it with the walk animation until the test animation ends. */
+	private void run (AnimationState state) {
+		Skeleton skeleton = new Skeleton(skeletonData);
+		Animation test = skeletonData.findAnimation("test");
+		state.setAnimation(0, test, false);
+		for (float time = 0; time < test.getDuration() + 0.1f; time += 1 / 60f) {
+			state.update(1 / 60f);
+			state.apply(skeleton);
+		}
+		state.setAnimation(0, "walk", true);
+		for (int i = 0; i < 2; i++) {
+			state.update(1 / 60f);
+			state.apply(skeleton);
+		}
+	}
+
+	private String name (int type) {
+		switch (type) {
+		case AnimationState.START:
+			return "start";
+		case AnimationState.INTERRUPT:
+			return "interrupt";
+		case AnimationState.END:
+			return "end";
+		case AnimationState.DISPOSE:
+			return "dispose";
+		case AnimationState.COMPLETE:
+			return "complete";
+		}
+		return "event";
+	}
+
+	private void expect (Recorder recorder, String... expected) {
+		expect(recorder.notifications, expected);
+	}
+
+	private void expect (Array<String> actual, String... expected) {
+		if (!actual.equals(new Array(expected))) fail("Expected: " + new Array(expected) + "\nActual: " + actual);
+	}
+
+	private void fail (String message) {
+		throw new RuntimeException(message);
+	}
+
+	static public void main (String[] args) throws Exception {
+		new AnimationStateListenerTests();
+	}
+
+	/** Records the notifications it receives. */
+	static class Recorder implements AnimationStateListener {
+		final Array<String> notifications = new Array();
+
+		public void start (TrackEntry entry) {
+			notifications.add("start " + entry.getAnimation().getName());
+		}
+
+		public void interrupt (TrackEntry entry) {
+			notifications.add("interrupt " + entry.getAnimation().getName());
+		}
+
+		public void end (TrackEntry entry) {
+			notifications.add("end " + entry.getAnimation().getName());
+		}
+
+		public void dispose (TrackEntry entry) {
+			notifications.add("dispose " + entry.getAnimation().getName());
+		}
+
+		public void complete (TrackEntry entry) {
+			notifications.add("complete " + entry.getAnimation().getName());
+		}
+
+		public void event (TrackEntry entry, Event event) {
+			notifications.add("event " + event.getData().getName());
+		}
+	}
+}
@@ -0,0 +1,145 @@
+/******************************************************************************
+ * Spine Runtimes Software License v2.5
+ *
+ * Copyright (c) 2013-2016, Esoteric Software
+ * All rights reserved.
+ *
+ * You are granted a perpetual, non-exclusive, non-sublicensable, and
+ * non-transferable license to use, install, execute, and perform the Spine
+ * Runtimes software and derivative works solely for personal or internal
+ * use. Without the written permission of Esoteric Software (see Section 2 of
+ * the Spine Software License Agreement), you may not (a) modify, translate,
+ * adapt, or develop new applications using the Spine Runtimes or otherwise
+ * create derivative works or improvements of the Spine Runtimes or (b) remove,
+ * delete, alter, or obscure any trademarks or any copyright, trademark, patent,
+ * or other intellectual property or proprietary rights notices on or in the
+ * Software, including any copy thereof. Redistributions in binary or source
+ * form must include this license and terms.
+ *
+ * THIS SOFTWARE IS PROVIDED BY ESOTERIC SOFTWARE "AS IS" AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO
+ * EVENT SHALL ESOTERIC SOFTWARE BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES, BUSINESS INTERRUPTION, OR LOSS OF
+ * USE, DATA, OR PROFITS) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ *****************************************************************************/
+
+package com.esotericsoftware.spine;
+
+import java.util.Arrays;
+
+import com.badlogic.gdx.Files.FileType;
+import com.badlogic.gdx.backends.lwjgl.LwjglFileHandle;
+import com.badlogic.gdx.utils.Array;
+
+/** Unit tests for {@link Bone#update()}, which skips computing the world transform of bones which have not changed. Checks that
+ * bones are not skipped when the skeleton's position or flip, a parent bone, or the world transform changes. No OpenGL context
+ * is needed. */
+public class BoneUpdateTests {
+	final SkeletonJson json = new SkeletonJson(new HeadlessAttachmentLoader());
+
+	public BoneUpdateTests () {
+		SkeletonData skeletonData = json.readSkeletonData(new LwjglFileHandle("spineboy/spineboy.json", FileType.Internal));
+		Skeleton skeleton = new Skeleton(skeletonData);
+		skeletonData.findAnimation("walk").apply(skeleton, 0, 0.4f, true, null, 1, true, false);
+		check(skeleton, "first update");
+
+		// Unchanged bones are skipped.
+		int[] versions = versions(skeleton);
+		skeleton.updateWorldTransform();
+		if (!Arrays.equals(versions, versions(skeleton))) fail("Unchanged bones should be skipped.");
+
+		// Skeleton position and flip.
+		skeleton.setX(5);
+		check(skeleton, "x");
+		skeleton.setY(-3);
+		check(skeleton, "y");
+		skeleton.setFlipX(true);
+		check(skeleton, "flipX");
+		skeleton.setFlipY(true);
+		check(skeleton, "flipY");
+		skeleton.setFlip(false, false);
+		check(skeleton, "flip");
+
+		// A parent change updates the children but not other bones.
+		Bone torso = skeleton.findBone("torso"), neck = skeleton.findBone("neck"), thigh = skeleton.findBone("front_thigh");
+		int neckVersion = neck.getWorldVersion(), thighVersion = thigh.getWorldVersion();
+		torso.setRotation(torso.getRotation() + 10);
+		skeleton.updateWorldTransform();
+		if (neck.getWorldVersion() == neckVersion) fail("Child of a changed bone should not be skipped.");
+		if (thigh.getWorldVersion() != thighVersion) fail("Bone which did not change should be skipped.");
+		torso.setRotation(torso.getRotation() + 10);
+		check(skeleton, "parent");
+
+		// Changing the world transform directly.
+		skeleton.updateWorldTransform();
+		torso.rotateWorld(30);
+		check(skeleton, "rotateWorld");
+
+		skeleton.updateWorldTransform();
+		torso.rotateWorld(30);
+		neck.update();
+		float[] world = world(neck);
+		neck.updateWorldTransform();
+		if (!Arrays.equals(world, world(neck))) fail("Child should not be skipped after rotateWorld on its parent.");
+
+		testRootPosition(skeletonData);
+
+		System.out.println("Bone update tests passed.");
+	}
+
+	/** Checks that the root bone is not skipped after the skeleton moved while a higher detail level was used. */
+	private void testRootPosition (SkeletonData skeletonData) {
+		skeletonData.getBones().peek().setDetail(1);
+		Skeleton skeleton = new Skeleton(skeletonData);
+		Bone root = skeleton.getRootBone();
+		skeleton.setDetail(0);
+		skeleton.updateWorldTransform();
+		skeleton.setDetail(1);
+		skeleton.setX(10);
+		skeleton.updateWorldTransform();
+		skeleton.setDetail(0);
+		skeleton.setX(0);
+		skeleton.updateWorldTransform();
+		if (root.getWorldX() != root.getX()) fail("Root bone should move after lowering the detail: " + root.getWorldX());
+		skeletonData.getBones().peek().setDetail(0);
+	}
+
+	/** Updates the skeleton, then checks that the world transforms are the same as when every bone is computed. */
+	private void check (Skeleton skeleton, String name) {
+		skeleton.updateWorldTransform();
+		Array<Bone> bones = skeleton.getBones();
+		float[][] world = new float[bones.size][];
+		for (int i = 0, n = bones.size; i < n; i++)
+			world[i] = world(bones.get(i));
+		for (int i = 0, n = bones.size; i < n; i++) {
+			Bone bone = bones.get(i);
+			bone.updateWorldTransform();
+			if (!Arrays.equals(world[i], world(bone))) fail(name + ": bone should not be skipped: " + bone.getData().getName());
+		}
+	}
+
+	private float[] world (Bone bone) {
+		return new float[] {bone.getA(), bone.getB(), bone.getC(), bone.getD(), bone.getWorldX(), bone.getWorldY()};
+	}
+
+	private int[] versions (Skeleton skeleton) {
+		Array<Bone> bones = skeleton.getBones();
+		int[] versions = new int[bones.size];
+		for (int i = 0, n = bones.size; i < n; i++)
+			versions[i] = bones.get(i).getWorldVersion();
+		return versions;
+	}
+
+	private void fail (String message) {
+		throw new RuntimeException(message);
+	}
+
+	static public void main (String[] args) throws Exception {
+		new BoneUpdateTests();
+	}
+}
@@ -0,0 +1,180 @@
+/******************************************************************************
+ * Spine Runtimes Software License v2.5
+ *
+ * Copyright (c) 2013-2016, Esoteric Software
+ * All rights reserved.
+ *
+ * You are granted a perpetual, non-exclusive, non-sublicensable, and
+ * non-transferable license to use, install, execute, and perform the Spine
+ * Runtimes software and derivative works solely for personal or internal
+ * use. Without the written permission of Esoteric Software (see Section 2 of
+ * the Spine Software License Agreement), you may not (a) modify, translate,
+ * adapt, or develop new applications using the Spine Runtimes or otherwise
+ * create derivative works or improvements of the Spine Runtimes or (b) remove,
+ * delete, alter, or obscure any trademarks or any copyright, trademark, patent,
+ * or other intellectual property or proprietary rights notices on or in the
+ * Software, including any copy thereof. Redistributions in binary or source
+ * form must include this license and terms.
+ *
+ * THIS SOFTWARE IS PROVIDED BY ESOTERIC SOFTWARE "AS IS" AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO
+ * EVENT SHALL ESOTERIC SOFTWARE BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES, BUSINESS INTERRUPTION, OR LOSS OF
+ * USE, DATA, OR PROFITS) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ *****************************************************************************/
+
+
+package com.esotericsoftware.spine;
+
+import java.util.Random;
+
+import com.esotericsoftware.spine.Animation.CurveTimeline;
+import com.esotericsoftware.spine.Animation.RotateTimeline;
+
+/** Unit tests for the Bezier curve lookup tables of {@link CurveTimeline}, which check that no curve is less accurate than
+ * the default line segments. */
+public class CurveTimelineTests {
+	static private final int keys = 200;
+
+	private final Random random = new Random(1);
+
+	public CurveTimelineTests () {
+		float[] controls = new float[keys * 4], steep = new float[keys * 4];
+		for (int i = 0; i < controls.length; i++) {
+			// Control points with x near 0 or 1 have nearly vertical sections.
+			steep[i] = random.nextFloat();
+			controls[i] = i % 2 == 0 ? 0.1f + steep[i] * 0.8f : steep[i];
+		}
+
+		CurveTimeline timeline = timeline(controls, 0);
+		float[] defaultError = error(timeline, controls), defaultSteepError = error(timeline(steep, 0), steep);
+		System.out.println("Default error, max: " + defaultError[0] + ", average: " + defaultError[1] + ", steep max: "
+			+ defaultSteepError[0] + ", steep average: " + defaultSteepError[1]);
+
+		// Lookup tables computed from the stored curves.
+		for (int resolution : new int[] {10, 20, 32, 64, 256}) {
+			timeline = timeline(controls, 0);
+			timeline.setCurveResolution(resolution);
+			float[] error = error(timeline, controls), steepError = error(timeline(steep, resolution), steep);
+			System.out.println("Resolution " + resolution + " error, max: " + error[0] + ", average: " + error[1]
+				+ ", steep max: " + steepError[0] + ", steep average: " + steepError[1]);
+			if (resolution >= 32) {
+				if (error[1] > defaultError[1] / 4) fail("Resolution " + resolution + " average error: " + error[1]);
+				if (steepError[1] > defaultSteepError[1] / 4)
+					fail("Resolution " + resolution + " steep average error: " + steepError[1]);
+			}
+
+			// No key's curve is less accurate than the default.
+			for (int key = 0; key < keys; key++) {
+				checkKey(timeline, timeline(controls, 0), controls, key, resolution);
+				checkKey(timeline(steep, resolution), timeline(steep, 0), steep, key, resolution);
+			}
+
+			// Lookup tables computed by setCurve.
+			CurveTimeline expected = timeline(controls, resolution);
+			for (int key = 0; key < keys; key++) {
+				for (float percent = 0; percent <= 1; percent += 0.01f) {
+					float a = expected.getCurvePercent(key, percent), b = timeline.getCurvePercent(key, percent);
+					if (Math.abs(a - b) > 0.00001f) fail("Key " + key + " " + percent + ": " + a + " != " + b);
+				}
+			}
+		}
+
+		// Linear and stepped keys.
+		timeline = timeline(controls, 16);
+		timeline.setLinear(0);
+		timeline.setStepped(1);
+		if (timeline.getCurvePercent(0, 0.3f) != 0.3f) fail("Linear: " + timeline.getCurvePercent(0, 0.3f));
+		if (timeline.getCurvePercent(1, 0.3f) != 0) fail("Stepped: " + timeline.getCurvePercent(1, 0.3f));
+		if (timeline.getCurvePercent(2, 1) != 1) fail("End: " + timeline.getCurvePercent(2, 1));
+
+		try {
+			timeline.setCurveResolution(5);
+			fail("A resolution less accurate than the default should not be allowed.");
+		} catch (IllegalArgumentException expected) {
+		}
+
+		// Removing the lookup tables.
+		timeline.setCurveResolution(0);
+		if (timeline.getCurvePercent(2, 0.5f) != timeline(controls, 0).getCurvePercent(2, 0.5f)) fail("Lookup tables not removed.");
+
+		System.out.println("CurveTimeline tests passed.");
+	}
+
+	private CurveTimeline timeline (float[] controls, int resolution) {
+		RotateTimeline timeline = new RotateTimeline(keys + 1);
+		timeline.setCurveResolution(resolution);
+		for (int key = 0; key < keys; key++) {
+			int i = key * 4;
+			timeline.setCurve(key, controls[i], controls[i + 1], controls[i + 2], controls[i + 3]);
+		}
+		return timeline;
+	}
+
+	private void checkKey (CurveTimeline timeline, CurveTimeline defaultTimeline, float[] controls, int key, int resolution) {
+		float error = error(timeline, controls, key, null), defaultError = error(defaultTimeline, controls, key, null);
+		if (error > defaultError + 0.00001f)
+			fail("Resolution " + resolution + " key " + key + " max error: " + error + ", default: " + defaultError);
+	}
+
+	/** Returns the largest and the average difference between the timeline's curves and the exact curves. */
+	private float[] error (CurveTimeline timeline, float[] controls) {
+		float max = 0, total = 0;
+		for (int key = 0; key < keys; key++) {
+			float[] totalError = {0};
+			max = Math.max(max, error(timeline, controls, key, totalError));
+			total += totalError[0];
+		}
+		return new float[] {max, total / (keys * 1001)};
+	}
+
+	/** Returns the largest difference between the key's curve and the exact curve.
+	 * @param total May be null, else the sum of the differences is stored in the first element. */
+	private float error (CurveTimeline timeline, float[] controls, int key, float[] total) {
+		int i = key * 4;
+		float max = 0, sum = 0;
+		for (int ii = 0; ii <= 1000; ii++) {
+			float percent = ii / 1000f;
+			float exact = bezier(percent, controls[i], controls[i + 1], controls[i + 2], controls[i + 3]);
+			float error = Math.abs(timeline.getCurvePercent(key, percent) - exact);
+			max = Math.max(max, error);
+			sum += error;
+		}
+		if (total != null) total[0] = sum;
+		return max;
+	}
+
+	/** Returns the y value of the Bezier curve for the x value, found by bisection. */
+	static private float bezier (double x, double cx1, double cy1, double cx2, double cy2) {
+		double low = 0, high = 1, t = 0.5;
+		for (int i = 0; i < 60; i++) {
+			t = (low + high) / 2;
+			double u = 1 - t;
+			if (3 * u * u * t * cx1 + 3 * u * t * t * cx2 + t * t * t < x)
+				low = t;
+			else
+				high = t;
+		}
+		double u = 1 - t;
+		return (float)(3 * u * u * t * cy1 + 3 * u * t * t * cy2 + t * t * t);
+	}
+
+	private void fail (String message) {
+		throw new FailException(message);
+	}
+
+	static class FailException extends RuntimeException {
+		public FailException (String message) {
+			super(message);
+		}
+	}
+
+	static public void main (String[] args) throws Exception {
+		new CurveTimelineTests();
+	}
+}
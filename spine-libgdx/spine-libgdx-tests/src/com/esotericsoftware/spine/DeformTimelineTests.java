@@ -0,0 +1,97 @@
+/******************************************************************************
+ * Spine Runtimes Software License v2.5
+ *
+ * Copyright (c) 2013-2016, Esoteric Software
+ * All rights reserved.
+ *
+ * You are granted a perpetual, non-exclusive, non-sublicensable, and
+ * non-transferable license to use, install, execute, and perform the Spine
+ * Runtimes software and derivative works solely for personal or internal
+ * use. Without the written permission of Esoteric Software (see Section 2 of
+ * the Spine Software License Agreement), you may not (a) modify, translate,
+ * adapt, or develop new applications using the Spine Runtimes or otherwise
+ * create derivative works or improvements of the Spine Runtimes or (b) remove,
+ * delete, alter, or obscure any trademarks or any copyright, trademark, patent,
+ * or other intellectual property or proprietary rights notices on or in the
+ * Software, including any copy thereof. Redistributions in binary or source
+ * form must include this license and terms.
+ *
+ * THIS SOFTWARE IS PROVIDED BY ESOTERIC SOFTWARE "AS IS" AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO
+ * EVENT SHALL ESOTERIC SOFTWARE BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES, BUSINESS INTERRUPTION, OR LOSS OF
+ * USE, DATA, OR PROFITS) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ *****************************************************************************/
+
+package com.esotericsoftware.spine;
+
+import com.badlogic.gdx.Files.FileType;
+import com.badlogic.gdx.backends.lwjgl.LwjglFileHandle;
+import com.esotericsoftware.spine.Animation.DeformTimeline;
+import com.esotericsoftware.spine.attachments.VertexAttachment;
+
+/** Unit tests for {@link DeformTimeline}, which check that the slot's deform version only changes when the attachment vertices
+ * change, so {@link SkeletonVertexCache} can reuse the vertices. No OpenGL context is needed. */
+public class DeformTimelineTests {
+	public DeformTimelineTests () {
+		SkeletonData skeletonData = new SkeletonJson(new HeadlessAttachmentLoader())
+			.readSkeletonData(new LwjglFileHandle("spineboy/spineboy-mesh.json", FileType.Internal));
+		skeletonData.getIkConstraints().clear(); // IK constraints compute the world transforms of their bones every update.
+		Skeleton skeleton = new Skeleton(skeletonData);
+		Animation run = skeletonData.findAnimation("run");
+		Slot slot = skeleton.findSlot("head");
+
+		run.apply(skeleton, 0, 0.2f, true, null, 1, true, false);
+		int version = slot.getDeformVersion();
+		run.apply(skeleton, 0.2f, 0.2f, true, null, 1, true, false);
+		if (slot.getDeformVersion() != version) fail("Deform version should not change when the vertices are the same.");
+		run.apply(skeleton, 0.2f, 0.3f, true, null, 1, true, false);
+		if (slot.getDeformVersion() == version) fail("Deform version should change when the vertices change.");
+		version = slot.getDeformVersion();
+		run.apply(skeleton, 0.3f, run.getDuration() + 1, false, null, 1, true, false);
+		if (slot.getDeformVersion() == version) fail("Deform version should change after the last frame.");
+		version = slot.getDeformVersion();
+		run.apply(skeleton, run.getDuration() + 1, run.getDuration() + 2, false, null, 1, true, false);
+		if (slot.getDeformVersion() != version) fail("Deform version should not change after the last frame.");
+
+		// Before the first frame, the vertices are only cleared if they are not empty.
+		DeformTimeline timeline = new DeformTimeline(2);
+		timeline.setSlotIndex(slot.getData().getIndex());
+		timeline.setAttachment((VertexAttachment)slot.getAttachment());
+		float[] vertices = ((VertexAttachment)slot.getAttachment()).getVertices();
+		timeline.setFrame(0, 1, vertices.clone());
+		timeline.setFrame(1, 2, vertices.clone());
+		timeline.apply(skeleton, 0, 0.5f, null, 1, true, false);
+		if (slot.getAttachmentVertices().size != 0) fail("Vertices should be cleared before the first frame.");
+		version = slot.getDeformVersion();
+		timeline.apply(skeleton, 0, 0.5f, null, 1, true, false);
+		if (slot.getDeformVersion() != version) fail("Deform version should not change when the vertices stay empty.");
+		timeline.apply(skeleton, 0, 1.5f, null, 1, true, false);
+		if (slot.getDeformVersion() == version) fail("Deform version should change when the vertices are set.");
+
+		// Vertices are reused when the same pose is applied again.
+		SkeletonVertexCache cache = new SkeletonVertexCache(skeleton);
+		run.apply(skeleton, 0, 0.2f, true, null, 1, true, false);
+		skeleton.updateWorldTransform();
+		cache.update();
+		run.apply(skeleton, 0.2f, 0.2f, true, null, 1, true, false);
+		skeleton.updateWorldTransform();
+		int updated = cache.update();
+		if (updated != 0) fail("Vertices should be reused for the same pose: " + updated);
+
+		System.out.println("DeformTimeline tests passed.");
+	}
+
+	private void fail (String message) {
+		throw new RuntimeException(message);
+	}
+
+	static public void main (String[] args) throws Exception {
+		new DeformTimelineTests();
+	}
+}
@@ -0,0 +1,87 @@
+/******************************************************************************
+ * Spine Runtimes Software License v2.5
+ *
+ * Copyright (c) 2013-2016, Esoteric Software
+ * All rights reserved.
+ *
+ * You are granted a perpetual, non-exclusive, non-sublicensable, and
+ * non-transferable license to use, install, execute, and perform the Spine
+ * Runtimes software and derivative works solely for personal or internal
+ * use. Without the written permission of Esoteric Software (see Section 2 of
+ * the Spine Software License Agreement), you may not (a) modify, translate,
+ * adapt, or develop new applications using the Spine Runtimes or otherwise
+ * create derivative works or improvements of the Spine Runtimes or (b) remove,
+ * delete, alter, or obscure any trademarks or any copyright, trademark, patent,
+ * or other intellectual property or proprietary rights notices on or in the
+ * Software, including any copy thereof. Redistributions in binary or source
+ * form must include this license and terms.
+ *
+ * THIS SOFTWARE IS PROVIDED BY ESOTERIC SOFTWARE "AS IS" AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO
+ * EVENT SHALL ESOTERIC SOFTWARE BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES, BUSINESS INTERRUPTION, OR LOSS OF
+ * USE, DATA, OR PROFITS) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ *****************************************************************************/
+
+package com.esotericsoftware.spine;
+
+import com.badlogic.gdx.Files.FileType;
+import com.badlogic.gdx.backends.lwjgl.LwjglFileHandle;
+import com.badlogic.gdx.utils.Array;
+
+/** Unit tests for finding skeleton data items by name after the items were added, or were replaced or reordered and
+ * {@link SkeletonData#namesChanged()} was called. No OpenGL context is needed. */
+public class NameIndexTests {
+	public NameIndexTests () {
+		SkeletonData skeletonData = new SkeletonJson(new HeadlessAttachmentLoader())
+			.readSkeletonData(new LwjglFileHandle("spineboy/spineboy.json", FileType.Internal));
+		Array<BoneData> bones = skeletonData.getBones();
+		for (int i = 0, n = bones.size; i < n; i++)
+			if (skeletonData.findBoneIndex(bones.get(i).getName()) != i) fail("Bone not found: " + bones.get(i).getName());
+		if (skeletonData.findBone("missing") != null) fail("Missing bone should not be found.");
+
+		// Replaced item, with a name not in the map.
+		BoneData replaced = bones.get(3);
+		BoneData replacement = new BoneData(replaced.getIndex(), "replacement", replaced.getParent());
+		bones.set(3, replacement);
+		if (skeletonData.findBone("replacement") != null) fail("The map should not be rebuilt until names are changed.");
+		skeletonData.namesChanged();
+		if (skeletonData.findBone("replacement") != replacement) fail("Replacement bone should be found.");
+		if (skeletonData.findBone(replaced.getName()) != null) fail("Replaced bone should not be found.");
+
+		// Swapped items.
+		BoneData first = bones.get(1), second = bones.get(2);
+		bones.set(1, second);
+		bones.set(2, first);
+		skeletonData.namesChanged();
+		if (skeletonData.findBoneIndex(first.getName()) != 2) fail("Swapped bone should be found at its new index.");
+		if (skeletonData.findBoneIndex(second.getName()) != 1) fail("Swapped bone should be found at its new index.");
+
+		// Items with the same name.
+		Array<Animation> animations = skeletonData.getAnimations();
+		Animation duplicate = new Animation(animations.peek().getName(), new Array(), 0);
+		animations.set(0, duplicate);
+		skeletonData.namesChanged();
+		if (skeletonData.findAnimation(duplicate.getName()) != duplicate) fail("The first animation should be found.");
+
+		// Added items are found without namesChanged.
+		BoneData added = new BoneData(bones.size, "added", bones.first());
+		bones.add(added);
+		if (skeletonData.findBone("added") != added) fail("Added bone should be found.");
+
+		System.out.println("NameIndex tests passed.");
+	}
+
+	private void fail (String message) {
+		throw new RuntimeException(message);
+	}
+
+	static public void main (String[] args) throws Exception {
+		new NameIndexTests();
+	}
+}
@@ -0,0 +1,121 @@
+/******************************************************************************
+ * Spine Runtimes Software License v2.5
+ *
+ * Copyright (c) 2013-2016, Esoteric Software
+ * All rights reserved.
+ *
+ * You are granted a perpetual, non-exclusive, non-sublicensable, and
+ * non-transferable license to use, install, execute, and perform the Spine
+ * Runtimes software and derivative works solely for personal or internal
+ * use. Without the written permission of Esoteric Software (see Section 2 of
+ * the Spine Software License Agreement), you may not (a) modify, translate,
+ * adapt, or develop new applications using the Spine Runtimes or otherwise
+ * create derivative works or improvements of the Spine Runtimes or (b) remove,
+ * delete, alter, or obscure any trademarks or any copyright, trademark, patent,
+ * or other intellectual property or proprietary rights notices on or in the
+ * Software, including any copy thereof. Redistributions in binary or source
+ * form must include this license and terms.
+ *
+ * THIS SOFTWARE IS PROVIDED BY ESOTERIC SOFTWARE "AS IS" AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO
+ * EVENT SHALL ESOTERIC SOFTWARE BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES, BUSINESS INTERRUPTION, OR LOSS OF
+ * USE, DATA, OR PROFITS) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ *****************************************************************************/
+
+package com.esotericsoftware.spine;
+
+import static com.badlogic.gdx.graphics.g2d.Batch.*;
+
+import com.badlogic.gdx.Files.FileType;
+import com.badlogic.gdx.backends.lwjgl.LwjglFileHandle;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.esotericsoftware.spine.attachments.RegionSequenceAttachment;
+import com.esotericsoftware.spine.attachments.RegionSequenceAttachment.Mode;
+
+/** Unit tests for {@link RegionSequenceAttachment}, which check that the frame for the slot's attachment time is written to the
+ * world vertices without changing the attachment, also when using a {@link SkeletonVertexCache}. No OpenGL context is needed. */
+public class RegionSequenceAttachmentTests {
+	final SkeletonJson json = new SkeletonJson(new HeadlessAttachmentLoader());
+
+	public RegionSequenceAttachmentTests () {
+		SkeletonData skeletonData = json.readSkeletonData(new LwjglFileHandle("spineboy/spineboy.json", FileType.Internal));
+		Skeleton skeleton = new Skeleton(skeletonData);
+		skeleton.updateWorldTransform();
+
+		TextureRegion[] regions = {new Frame(0), new Frame(0.5f)};
+		RegionSequenceAttachment attachment = new RegionSequenceAttachment("sequence");
+		attachment.setRegion(regions[0]);
+		attachment.setRegions(regions);
+		attachment.setFrameTime(1);
+		attachment.setMode(Mode.forward);
+		attachment.setWidth(10);
+		attachment.setHeight(10);
+		attachment.updateOffset();
+
+		Slot slot = skeleton.getSlots().first();
+		slot.setAttachment(attachment);
+		SkeletonVertexCache cache = new SkeletonVertexCache(skeleton);
+		float[] vertices = new float[20];
+
+		slot.setAttachmentTime(0.5f);
+		attachment.updateWorldVertices(slot, false, vertices, 0);
+		checkFrame(vertices, 0, "First frame");
+		cache.update();
+		checkFrame(cache.getVertices(slot.getData().getIndex()), 0, "First cached frame");
+
+		slot.setAttachmentTime(1.5f);
+		attachment.updateWorldVertices(slot, false, vertices, 0);
+		checkFrame(vertices, 0.5f, "Second frame");
+		if (attachment.getRegion() != regions[0]) fail("The attachment's region should not change.");
+		if (cache.update() != 1) fail("The sequence should be recomputed when only the attachment time changes.");
+		checkFrame(cache.getVertices(slot.getData().getIndex()), 0.5f, "Second cached frame");
+
+		checkFrame(attachment.updateWorldVertices(slot, false), 0.5f, "Second frame using the attachment's buffer");
+
+		System.out.println("RegionSequenceAttachment tests passed.");
+	}
+
+	private void checkFrame (float[] vertices, float u, String name) {
+		if (vertices[U1] != u + 0.5f || vertices[U2] != u || vertices[U3] != u || vertices[U4] != u + 0.5f)
+			fail(name + " has the wrong texture coordinates: " + vertices[U1] + ", " + vertices[U2]);
+	}
+
+	private void fail (String message) {
+		throw new RuntimeException(message);
+	}
+
+	static public void main (String[] args) throws Exception {
+		new RegionSequenceAttachmentTests();
+	}
+
+	/** A region with the specified texture coordinates and no texture. */
+	static class Frame extends TextureRegion {
+		final float u;
+
+		Frame (float u) {
+			this.u = u;
+		}
+
+		public float getU () {
+			return u;
+		}
+
+		public float getU2 () {
+			return u + 0.5f;
+		}
+
+		public float getV () {
+			return 0;
+		}
+
+		public float getV2 () {
+			return 1;
+		}
+	}
+}
@@ -0,0 +1,254 @@
+/******************************************************************************
+ * Spine Runtimes Software License v2.5
+ *
+ * Copyright (c) 2013-2016, Esoteric Software
+ * All rights reserved.
+ *
+ * You are granted a perpetual, non-exclusive, non-sublicensable, and
+ * non-transferable license to use, install, execute, and perform the Spine
+ * Runtimes software and derivative works solely for personal or internal
+ * use. Without the written permission of Esoteric Software (see Section 2 of
+ * the Spine Software License Agreement), you may not (a) modify, translate,
+ * adapt, or develop new applications using the Spine Runtimes or otherwise
+ * create derivative works or improvements of the Spine Runtimes or (b) remove,
+ * delete, alter, or obscure any trademarks or any copyright, trademark, patent,
+ * or other intellectual property or proprietary rights notices on or in the
+ * Software, including any copy thereof. Redistributions in binary or source
+ * form must include this license and terms.
+ *
+ * THIS SOFTWARE IS PROVIDED BY ESOTERIC SOFTWARE "AS IS" AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO
+ * EVENT SHALL ESOTERIC SOFTWARE BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES, BUSINESS INTERRUPTION, OR LOSS OF
+ * USE, DATA, OR PROFITS) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ *****************************************************************************/
+
+package com.esotericsoftware.spine;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.Files.FileType;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Graphics;
+import com.badlogic.gdx.backends.lwjgl.LwjglFileHandle;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Pixmap.Format;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.PolygonSpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxNativesLoader;
+import com.esotericsoftware.spine.attachments.Attachment;
+import com.esotericsoftware.spine.attachments.MeshAttachment;
+import com.esotericsoftware.spine.attachments.RegionAttachment;
+
+/** Unit tests for {@link SkeletonBatchRenderer}, which check the number of batches and flushes and the order the attachments are
+ * drawn for skeletons which do and don't overlap. OpenGL is replaced by a stub which does nothing, so no OpenGL context is
+ * needed. */
+public class SkeletonBatchRendererTests {
+	static private final int skeletonCount = 3;
+
+	final Texture[] textures = new Texture[2];
+	final SkeletonData skeletonData;
+	int setBlendFunctionCount;
+	final Array<float[]> drawn = new Array();
+
+	public SkeletonBatchRendererTests () {
+		stubGraphics();
+		textures[0] = new Texture(new Pixmap(1, 1, Format.RGBA8888));
+		textures[1] = new Texture(new Pixmap(1, 1, Format.RGBA8888));
+
+		// Alternate the textures so a skeleton needs many batches.
+		SkeletonJson json = new SkeletonJson(new HeadlessAttachmentLoader() {
+			int count;
+
+			public RegionAttachment newRegionAttachment (Skin skin, String name, String path) {
+				RegionAttachment attachment = super.newRegionAttachment(skin, name, path);
+				attachment.setRegion(new TextureRegion(textures[count++ & 1]));
+				return attachment;
+			}
+
+			public MeshAttachment newMeshAttachment (Skin skin, String name, String path) {
+				MeshAttachment attachment = super.newMeshAttachment(skin, name, path);
+				attachment.setRegion(new TextureRegion(textures[count++ & 1]));
+				return attachment;
+			}
+		});
+		skeletonData = json.readSkeletonData(new LwjglFileHandle("spineboy/spineboy.json", FileType.Internal));
+
+		SkeletonBatchRenderer renderer = new SkeletonBatchRenderer();
+		PolygonSpriteBatch batch = newBatch(2000);
+
+		// One skeleton.
+		Array<Skeleton> skeletons = skeletons(0);
+		skeletons.truncate(1);
+		int singleBatchCount = draw(renderer, batch, skeletons);
+		if (singleBatchCount < 4) fail("Expected many batches: " + singleBatchCount);
+		if (setBlendFunctionCount != 1) fail("Blend function should be set once: " + setBlendFunctionCount);
+
+		// Skeletons which don't overlap share the batches.
+		skeletons = skeletons(2000);
+		int batchCount = draw(renderer, batch, skeletons);
+		if (batchCount != singleBatchCount) fail("Skeletons which don't overlap should share batches: " + batchCount);
+		checkOrder(skeletons, false);
+
+		// Skeletons which overlap are drawn one after another.
+		skeletons = skeletons(10);
+		batchCount = draw(renderer, batch, skeletons);
+		if (batchCount < singleBatchCount * skeletonCount - (skeletonCount - 1))
+			fail("Skeletons which overlap should not share batches: " + batchCount);
+		checkOrder(skeletons, true);
+
+		// A small batch is flushed when its buffers are full.
+		skeletons = skeletons(2000);
+		for (Skeleton skeleton : skeletons)
+			renderer.add(skeleton);
+		batchCount = renderer.getBatchCount();
+		PolygonSpriteBatch small = newBatch(16);
+		small.begin();
+		renderer.draw(small);
+		small.end();
+		if (renderer.getFlushCount() <= batchCount) fail("Expected more flushes than batches: " + renderer.getFlushCount());
+
+		System.out.println("SkeletonBatchRenderer tests passed.");
+	}
+
+	/** Returns skeletons posed at different times, each the specified distance from the previous. */
+	private Array<Skeleton> skeletons (float distance) {
+		Array<Skeleton> skeletons = new Array();
+		for (int i = 0; i < skeletonCount; i++) {
+			Skeleton skeleton = new Skeleton(skeletonData);
+			skeleton.setPosition(i * distance, 0);
+			skeletonData.findAnimation("walk").apply(skeleton, 0, i * 0.1f, true, null, 1, true, false);
+			skeleton.updateWorldTransform();
+			skeletons.add(skeleton);
+		}
+		return skeletons;
+	}
+
+	/** Draws the skeletons, checks that every attachment is drawn and each batch is flushed once, and returns the batch count. */
+	private int draw (SkeletonBatchRenderer renderer, PolygonSpriteBatch batch, Array<Skeleton> skeletons) {
+		for (Skeleton skeleton : skeletons)
+			renderer.add(skeleton);
+		int batchCount = renderer.getBatchCount();
+		drawn.clear();
+		setBlendFunctionCount = 0;
+		batch.begin();
+		renderer.draw(batch);
+		batch.end();
+		if (renderer.getFlushCount() != batchCount) fail("Expected a flush for each batch: " + renderer.getFlushCount());
+		if (renderer.getBatchCount() != 0) fail("Batches should be cleared: " + renderer.getBatchCount());
+		if (renderer.getDrawnAttachmentCount() != drawn.size) fail("Wrong attachment count: " + renderer.getDrawnAttachmentCount());
+		return batchCount;
+	}
+
+	/** Checks that the attachments of each skeleton were drawn in draw order and, if the skeletons overlap, that each skeleton
+	 * was drawn after the previous skeleton. */
+	private void checkOrder (Array<Skeleton> skeletons, boolean overlap) {
+		Array<float[]> drawn = new Array(this.drawn);
+		int attachmentCount = 0, last = -1;
+		for (int i = 0; i < skeletons.size; i++) {
+			int previous = -1;
+			for (float[] vertices : vertices(skeletons.get(i))) {
+				int index = -1;
+				for (int ii = 0; ii < drawn.size; ii++) {
+					if (equal(vertices, drawn.get(ii))) {
+						index = ii;
+						drawn.set(ii, null);
+						break;
+					}
+				}
+				if (index == -1) fail("Attachment " + attachmentCount + " of skeleton " + i + " not drawn.");
+				if (index < previous) fail("Skeleton " + i + " not drawn in draw order.");
+				if (overlap && index < last) fail("Skeleton " + i + " drawn before an overlapping skeleton.");
+				previous = index;
+				attachmentCount++;
+			}
+			last = previous;
+		}
+		if (attachmentCount != this.drawn.size) fail("Expected " + attachmentCount + " attachments: " + this.drawn.size);
+	}
+
+	/** Returns the vertices of the skeleton's attachments in draw order. */
+	private Array<float[]> vertices (Skeleton skeleton) {
+		Array<float[]> vertices = new Array();
+		for (Slot slot : skeleton.getDrawOrder()) {
+			Attachment attachment = slot.getAttachment();
+			if (attachment instanceof RegionAttachment) {
+				float[] region = new float[20];
+				((RegionAttachment)attachment).updateWorldVertices(slot, false, region, 0);
+				vertices.add(region);
+			} else if (attachment instanceof MeshAttachment) {
+				MeshAttachment mesh = (MeshAttachment)attachment;
+				float[] meshVertices = new float[mesh.getRenderVerticesLength()];
+				mesh.updateWorldVertices(slot, false, meshVertices, 0);
+				vertices.add(meshVertices);
+			}
+		}
+		return vertices;
+	}
+
+	private boolean equal (float[] a, float[] b) {
+		if (b == null || a.length != b.length) return false;
+		for (int i = 0; i < a.length; i++)
+			if (Float.floatToRawIntBits(a[i]) != Float.floatToRawIntBits(b[i])) return false;
+		return true;
+	}
+
+	/** Returns a batch which records the vertices of each draw and counts setting the blend function. */
+	private PolygonSpriteBatch newBatch (int size) {
+		return new PolygonSpriteBatch(size, new ShaderProgram("", "")) {
+			public void draw (Texture texture, float[] vertices, int offset, int count, short[] triangles, int trianglesOffset,
+				int trianglesCount) {
+				float[] copy = new float[count];
+				System.arraycopy(vertices, offset, copy, 0, count);
+				drawn.add(copy);
+				super.draw(texture, vertices, offset, count, triangles, trianglesOffset, trianglesCount);
+			}
+
+			public void setBlendFunction (int srcFunc, int dstFunc) {
+				setBlendFunctionCount++;
+				super.setBlendFunction(srcFunc, dstFunc);
+			}
+		};
+	}
+
+	/** Replaces OpenGL and the application with stubs that do nothing, so batches and textures can be used without an OpenGL
+	 * context. */
+	static private void stubGraphics () {
+		GdxNativesLoader.load();
+		InvocationHandler handler = new InvocationHandler() {
+			public Object invoke (Object proxy, Method method, Object[] args) {
+				Class type = method.getReturnType();
+				if (type == int.class) return 1;
+				if (type == long.class) return 0L;
+				if (type == float.class) return 0f;
+				if (type == boolean.class) return false;
+				if (type == String.class) return "";
+				return null;
+			}
+		};
+		ClassLoader classLoader = SkeletonBatchRendererTests.class.getClassLoader();
+		Gdx.gl = Gdx.gl20 = (GL20)Proxy.newProxyInstance(classLoader, new Class[] {GL20.class}, handler);
+		Gdx.graphics = (Graphics)Proxy.newProxyInstance(classLoader, new Class[] {Graphics.class}, handler);
+		Gdx.app = (Application)Proxy.newProxyInstance(classLoader, new Class[] {Application.class}, handler);
+	}
+
+	private void fail (String message) {
+		throw new RuntimeException(message);
+	}
+
+	static public void main (String[] args) throws Exception {
+		new SkeletonBatchRendererTests();
+	}
+}
@@ -0,0 +1,161 @@
+/******************************************************************************
+ * Spine Runtimes Software License v2.5
+ *
+ * Copyright (c) 2013-2016, Esoteric Software
+ * All rights reserved.
+ *
+ * You are granted a perpetual, non-exclusive, non-sublicensable, and
+ * non-transferable license to use, install, execute, and perform the Spine
+ * Runtimes software and derivative works solely for personal or internal
+ * use. Without the written permission of Esoteric Software (see Section 2 of
+ * the Spine Software License Agreement), you may not (a) modify, translate,
+ * adapt, or develop new applications using the Spine Runtimes or otherwise
+ * create derivative works or improvements of the Spine Runtimes or (b) remove,
+ * delete, alter, or obscure any trademarks or any copyright, trademark, patent,
+ * or other intellectual property or proprietary rights notices on or in the
+ * Software, including any copy thereof. Redistributions in binary or source
+ * form must include this license and terms.
+ *
+ * THIS SOFTWARE IS PROVIDED BY ESOTERIC SOFTWARE "AS IS" AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO
+ * EVENT SHALL ESOTERIC SOFTWARE BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES, BUSINESS INTERRUPTION, OR LOSS OF
+ * USE, DATA, OR PROFITS) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ *****************************************************************************/
+
+package com.esotericsoftware.spine;
+
+import java.util.concurrent.ForkJoinPool;
+
+import com.badlogic.gdx.Files.FileType;
+import com.badlogic.gdx.backends.lwjgl.LwjglFileHandle;
+import com.badlogic.gdx.utils.Array;
+import com.esotericsoftware.spine.AnimationState.AnimationStateAdapter;
+import com.esotericsoftware.spine.AnimationState.TrackEntry;
+import com.esotericsoftware.spine.utils.SkeletonBatchUpdater;
+
+/** Unit tests for {@link SkeletonBatchUpdater}, which check that updating many skeletons in parallel results in the same world
+ * transforms and listener notifications as updating them sequentially. No OpenGL context is needed. */
+public class SkeletonBatchUpdaterTests {
+	static private final String[] animations = {"walk", "run", "jump", "shoot", "test"};
+	static private final int skeletonCount = 50;
+
+	final SkeletonData skeletonData;
+	final AnimationStateData stateData;
+
+	public SkeletonBatchUpdaterTests () {
+		skeletonData = new SkeletonJson(new HeadlessAttachmentLoader())
+			.readSkeletonData(new LwjglFileHandle("spineboy/spineboy.json", FileType.Internal));
+		stateData = new AnimationStateData(skeletonData);
+		stateData.setDefaultMix(0.2f);
+
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			Array<String> expectedEvents = new Array(), actualEvents = new Array();
+			Array<AnimationState> expectedStates = new Array(), actualStates = new Array();
+			Array<Skeleton> expected = new Array(), actual = new Array();
+			SkeletonBatchUpdater updater = new SkeletonBatchUpdater(pool);
+			updater.setBatchSize(3);
+			for (int i = 0; i < skeletonCount; i++) {
+				expectedStates.add(newState(i, expectedEvents));
+				expected.add(new Skeleton(skeletonData));
+				actualStates.add(newState(i, actualEvents));
+				actual.add(new Skeleton(skeletonData));
+				updater.add(actualStates.peek(), actual.peek());
+			}
+
+			for (int frame = 0; frame < 120; frame++) {
+				float delta = frame % 7 == 0 ? 0.1f : 1 / 60f;
+				// Change the animations partway, so the updates include mixing. The notifications for the parallel updates are
+				// delivered after each pair is updated, so for the sequential updates the animation is set just before each pair.
+				boolean change = frame == 60;
+				if (change)
+					for (int i = 0; i < skeletonCount; i++)
+						actualStates.get(i).setAnimation(0, animations[(i + 1) % animations.length], true);
+
+				for (int i = 0; i < skeletonCount; i++) {
+					Skeleton skeleton = expected.get(i);
+					AnimationState state = expectedStates.get(i);
+					if (change) state.setAnimation(0, animations[(i + 1) % animations.length], true);
+					skeleton.update(delta);
+					state.update(delta);
+					state.apply(skeleton);
+					skeleton.updateWorldTransform();
+				}
+				updater.update(delta);
+
+				for (int i = 0; i < skeletonCount; i++)
+					check(expected.get(i), actual.get(i), "frame " + frame + ", skeleton " + i);
+				if (!expectedEvents.equals(actualEvents))
+					fail("Frame " + frame + " notifications differ, expected " + expectedEvents + ": " + actualEvents);
+			}
+			if (expectedEvents.size == 0) fail("No notifications.");
+
+			// Removing a pair stops deferring its notifications.
+			AnimationState removed = actualStates.first();
+			if (!updater.remove(actual.first())) fail("Skeleton should be removed.");
+			if (updater.getSkeletons().size != skeletonCount - 1) fail("Wrong pair count: " + updater.getSkeletons().size);
+			actualEvents.clear();
+			removed.setAnimation(0, "idle", false);
+			if (actualEvents.size == 0) fail("Notifications should not be deferred after the pair is removed.");
+		} finally {
+			pool.shutdown();
+		}
+
+		System.out.println("SkeletonBatchUpdater tests passed.");
+	}
+
+	private AnimationState newState (final int index, final Array<String> events) {
+		AnimationState state = new AnimationState(stateData);
+		state.addListener(new AnimationStateAdapter() {
+			public void start (TrackEntry entry) {
+				events.add(index + " start " + entry);
+			}
+
+			public void end (TrackEntry entry) {
+				events.add(index + " end " + entry);
+			}
+
+			public void complete (TrackEntry entry) {
+				events.add(index + " complete " + entry);
+			}
+
+			public void event (TrackEntry entry, Event event) {
+				events.add(index + " event " + event);
+			}
+		});
+		TrackEntry entry = state.setAnimation(0, animations[index % animations.length], true);
+		entry.setTrackTime(index * 0.05f);
+		return state;
+	}
+
+	private void check (Skeleton expected, Skeleton actual, String name) {
+		Array<Bone> expectedBones = expected.getBones(), actualBones = actual.getBones();
+		for (int i = 0, n = expectedBones.size; i < n; i++) {
+			Bone e = expectedBones.get(i), a = actualBones.get(i);
+			if (e.getA() != a.getA() || e.getB() != a.getB() || e.getC() != a.getC() || e.getD() != a.getD()
+				|| e.getWorldX() != a.getWorldX() || e.getWorldY() != a.getWorldY())
+				fail(name + " bone " + e.getData().getName() + " differs.");
+		}
+		Array<Slot> expectedSlots = expected.getDrawOrder(), actualSlots = actual.getDrawOrder();
+		for (int i = 0, n = expectedSlots.size; i < n; i++) {
+			Slot e = expectedSlots.get(i), a = actualSlots.get(i);
+			if (e.getData() != a.getData()) fail(name + " draw order differs at " + i + ".");
+			if (e.getAttachment() != a.getAttachment()) fail(name + " slot " + e.getData().getName() + " attachment differs.");
+			if (!e.getColor().equals(a.getColor())) fail(name + " slot " + e.getData().getName() + " color differs.");
+		}
+	}
+
+	private void fail (String message) {
+		throw new RuntimeException(message);
+	}
+
+	static public void main (String[] args) throws Exception {
+		new SkeletonBatchUpdaterTests();
+	}
+}
@@ -0,0 +1,116 @@
+/******************************************************************************
+ * Spine Runtimes Software License v2.5
+ *
+ * Copyright (c) 2013-2016, Esoteric Software
+ * All rights reserved.
+ *
+ * You are granted a perpetual, non-exclusive, non-sublicensable, and
+ * non-transferable license to use, install, execute, and perform the Spine
+ * Runtimes software and derivative works solely for personal or internal
+ * use. Without the written permission of Esoteric Software (see Section 2 of
+ * the Spine Software License Agreement), you may not (a) modify, translate,
+ * adapt, or develop new applications using the Spine Runtimes or otherwise
+ * create derivative works or improvements of the Spine Runtimes or (b) remove,
+ * delete, alter, or obscure any trademarks or any copyright, trademark, patent,
+ * or other intellectual property or proprietary rights notices on or in the
+ * Software, including any copy thereof. Redistributions in binary or source
+ * form must include this license and terms.
+ *
+ * THIS SOFTWARE IS PROVIDED BY ESOTERIC SOFTWARE "AS IS" AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO
+ * EVENT SHALL ESOTERIC SOFTWARE BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES, BUSINESS INTERRUPTION, OR LOSS OF
+ * USE, DATA, OR PROFITS) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ *****************************************************************************/
+
+package com.esotericsoftware.spine;
+
+import com.badlogic.gdx.Files.FileType;
+import com.badlogic.gdx.backends.lwjgl.LwjglFileHandle;
+import com.badlogic.gdx.utils.Array;
+
+/** Unit tests for {@link Skeleton#setDetail(int)}, which check which bones and constraints are updated at each detail level and
+ * that bones which are not updated snap to their parent. No OpenGL context is needed. */
+public class SkeletonDetailTests {
+	static private final String[] level1Bones = {"hair1", "hair2", "hair3", "hair4", "gunTip", "front_fist"};
+	static private final String[] level2Bones = {"front_foot_tip", "back_foot_tip", "front_ankle_ik"};
+	static private final String[] level2Constraints = {"front_foot_ik", "rear_foot_ik"};
+
+	// The target of the front_ankle_ik constraint, which has level 0, so the bone is updated at every level.
+	static private final String neededBone = "front_ankle_ik";
+
+	final SkeletonData skeletonData;
+	final Animation animation;
+
+	public SkeletonDetailTests () {
+		skeletonData = new SkeletonJson(new HeadlessAttachmentLoader())
+			.readSkeletonData(new LwjglFileHandle("spineboy/spineboy-mesh.json", FileType.Internal));
+		for (String name : level1Bones)
+			skeletonData.findBone(name).setDetail(1);
+		for (String name : level2Bones)
+			skeletonData.findBone(name).setDetail(2);
+		for (String name : level2Constraints)
+			skeletonData.findIkConstraint(name).setDetail(2);
+		animation = skeletonData.findAnimation("run");
+
+		Skeleton skeleton = new Skeleton(skeletonData);
+		Skeleton reference = new Skeleton(skeletonData);
+		if (skeleton.getDetail() != Integer.MAX_VALUE) fail("All bones should be updated by default.");
+
+		// Change the level in both directions, so bones which were snapped are updated again.
+		for (int detail : new int[] {2, 0, 1, Integer.MAX_VALUE, 0, -1, 1, 2}) {
+			skeleton.setDetail(detail);
+			pose(skeleton, Integer.MAX_VALUE);
+			int level = Math.max(0, detail); // A detail less than the lowest level uses the lowest level.
+			pose(reference, level);
+
+			Array<Bone> bones = skeleton.getBones(), referenceBones = reference.getBones();
+			for (int i = 0, n = bones.size; i < n; i++) {
+				Bone bone = bones.get(i), expected = referenceBones.get(i);
+				String name = bone.getData().getName();
+				if (bone.getData().getDetail() <= level || name.equals(neededBone)) {
+					if (!equal(bone, expected)) fail("Detail " + detail + ": bone should be updated: " + name);
+				} else {
+					if (equal(expected, expected.getParent())) fail("Bone " + name + " has the same transform as its parent.");
+					if (!equal(bone, bone.getParent())) fail("Detail " + detail + ": bone should snap to its parent: " + name);
+				}
+			}
+		}
+
+		// Constraints above the level are not applied, so the bones they constrain are posed differently.
+		pose(skeleton, 0);
+		pose(reference, 2);
+		if (equal(skeleton.findBone("front_foot"), reference.findBone("front_foot")))
+			fail("front_foot_ik should change the bone.");
+
+		System.out.println("Skeleton detail tests passed.");
+	}
+
+	/** Poses the skeleton and updates its world transform. Constraints with a detail level greater than <code>level</code> are
+	 * given a mix of 0, so they do not change the pose. */
+	private void pose (Skeleton skeleton, int level) {
+		skeleton.setToSetupPose();
+		animation.apply(skeleton, 0, 0.3f, true, null, 1, true, false);
+		for (IkConstraint constraint : skeleton.getIkConstraints())
+			if (constraint.getData().getDetail() > level) constraint.setMix(0);
+		skeleton.updateWorldTransform();
+	}
+
+	private boolean equal (Bone a, Bone b) {
+		return a.getA() == b.getA() && a.getB() == b.getB() && a.getC() == b.getC() && a.getD() == b.getD()
+			&& a.getWorldX() == b.getWorldX() && a.getWorldY() == b.getWorldY();
+	}
+
+	private void fail (String message) {
+		throw new RuntimeException(message);
+	}
+
+	static public void main (String[] args) throws Exception {
+		new SkeletonDetailTests();
+	}
+}
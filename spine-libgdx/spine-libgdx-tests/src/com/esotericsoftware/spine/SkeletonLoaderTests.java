@@ -0,0 +1,236 @@
+/******************************************************************************
+ * Spine Runtimes Software License v2.5
+ *
+ * Copyright (c) 2013-2016, Esoteric Software
+ * All rights reserved.
+ *
+ * You are granted a perpetual, non-exclusive, non-sublicensable, and
+ * non-transferable license to use, install, execute, and perform the Spine
+ * Runtimes software and derivative works solely for personal or internal
+ * use. Without the written permission of Esoteric Software (see Section 2 of
+ * the Spine Software License Agreement), you may not (a) modify, translate,
+ * adapt, or develop new applications using the Spine Runtimes or otherwise
+ * create derivative works or improvements of the Spine Runtimes or (b) remove,
+ * delete, alter, or obscure any trademarks or any copyright, trademark, patent,
+ * or other intellectual property or proprietary rights notices on or in the
+ * Software, including any copy thereof. Redistributions in binary or source
+ * form must include this license and terms.
+ *
+ * THIS SOFTWARE IS PROVIDED BY ESOTERIC SOFTWARE "AS IS" AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO
+ * EVENT SHALL ESOTERIC SOFTWARE BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES, BUSINESS INTERRUPTION, OR LOSS OF
+ * USE, DATA, OR PROFITS) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ *****************************************************************************/
+
+package com.esotericsoftware.spine;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ForkJoinPool;
+
+import com.badlogic.gdx.Files.FileType;
+import com.badlogic.gdx.backends.lwjgl.LwjglFileHandle;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+import com.esotericsoftware.spine.Animation.CurveTimeline;
+import com.esotericsoftware.spine.Animation.Timeline;
+import com.esotericsoftware.spine.attachments.Attachment;
+import com.esotericsoftware.spine.utils.MappedSkeletonBinary;
+
+/** Unit tests which check that skeleton data loaded from a stream, from a buffer, with lazy animations, and using
+ * {@link SkeletonDataLoader} poses skeletons identically to skeleton data loaded from a stream. No OpenGL context is needed. */
+public class SkeletonLoaderTests {
+	static private final String[] files = {"spineboy/spineboy", "spineboy/spineboy-mesh", "spineboy/spineboy-hover",
+		"raptor/raptor", "goblins/goblins-mesh"};
+
+	final HeadlessAttachmentLoader attachmentLoader = new HeadlessAttachmentLoader();
+
+	public SkeletonLoaderTests () {
+		ForkJoinPool pool = new ForkJoinPool();
+		SkeletonDataLoader loader = new SkeletonDataLoader(attachmentLoader, pool);
+		try {
+			for (String extension : new String[] {".skel", ".json"}) {
+				Array<FileHandle> fileHandles = new Array();
+				Array<SkeletonData> expected = new Array();
+				for (String file : files) {
+					FileHandle fileHandle = new LwjglFileHandle(file + extension, FileType.Internal);
+					fileHandles.add(fileHandle);
+					expected.add(read(fileHandle, false));
+				}
+
+				for (int i = 0, n = fileHandles.size; i < n; i++) {
+					FileHandle file = fileHandles.get(i);
+					test(expected.get(i), read(file, true), file + " lazy");
+					if (extension.equals(".skel")) {
+						SkeletonBinary binary = new SkeletonBinary(attachmentLoader);
+						byte[] bytes = file.readBytes();
+						test(expected.get(i), binary.readSkeletonData(ByteBuffer.wrap(bytes)), file + " heap buffer");
+						ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+						direct.put(bytes).flip();
+						test(expected.get(i), binary.readSkeletonData(direct), file + " direct buffer");
+						test(expected.get(i), MappedSkeletonBinary.readSkeletonData(binary, file), file + " mapped");
+					}
+				}
+
+				Array<SkeletonData> loaded = loader.loadAll(fileHandles);
+				for (int i = 0, n = fileHandles.size; i < n; i++)
+					test(expected.get(i), loaded.get(i), fileHandles.get(i) + " loader");
+				loader.setLazyAnimations(true);
+				loaded = loader.loadAll(fileHandles);
+				for (int i = 0, n = fileHandles.size; i < n; i++)
+					test(expected.get(i), loaded.get(i), fileHandles.get(i) + " loader lazy");
+				loader.setLazyAnimations(false);
+
+				loader.setCurveResolution(32);
+				loaded = loader.loadAll(fileHandles);
+				for (int i = 0, n = fileHandles.size; i < n; i++)
+					checkCurveResolution(loaded.get(i).getAnimations().first(), 32);
+				loader.setCurveResolution(0);
+			}
+		} finally {
+			pool.shutdown();
+		}
+		testLazySettings();
+
+		System.out.println("Skeleton loader tests passed.");
+	}
+
+	/** Checks that setting mixes by name does not read lazy animations and that lazy animations use the settings from when the
+	 * skeleton data was read. */
+	private void testLazySettings () {
+		SkeletonJson json = new SkeletonJson(attachmentLoader);
+		json.setLazyAnimations(true);
+		json.setCurveResolution(32);
+		FileHandle file = new LwjglFileHandle("spineboy/spineboy.json", FileType.Internal);
+		SkeletonData skeletonData = json.readSkeletonData(file);
+		json.setCurveResolution(0);
+
+		AnimationStateData stateData = new AnimationStateData(skeletonData);
+		stateData.setMix("walk", "run", 0.2f);
+		for (Animation animation : skeletonData.getAnimations())
+			if (animation.isLoaded()) fail("Animation read by setMix: " + animation.getName());
+		Animation walk = skeletonData.getAnimations().get(skeletonData.findAnimationIndex("walk"));
+		Animation run = skeletonData.getAnimations().get(skeletonData.findAnimationIndex("run"));
+		if (stateData.getMix(walk, run) != 0.2f) fail("Wrong mix: " + stateData.getMix(walk, run));
+
+		checkCurveResolution(walk, 32);
+	}
+
+	private void checkCurveResolution (Animation animation, int expected) {
+		int curveTimelines = 0;
+		for (Timeline timeline : animation.getTimelines()) {
+			if (!(timeline instanceof CurveTimeline)) continue;
+			curveTimelines++;
+			int resolution = ((CurveTimeline)timeline).getCurveResolution();
+			if (resolution != expected) fail(animation.getName() + " has wrong curve resolution: " + resolution);
+		}
+		if (curveTimelines == 0) fail(animation.getName() + " has no curve timelines.");
+	}
+
+	/** Reads the skeleton data from a stream. */
+	private SkeletonData read (FileHandle file, boolean lazyAnimations) {
+		if (file.extension().equals("skel")) {
+			SkeletonBinary binary = new SkeletonBinary(attachmentLoader);
+			binary.setLazyAnimations(lazyAnimations);
+			return binary.readSkeletonData(file);
+		}
+		SkeletonJson json = new SkeletonJson(attachmentLoader);
+		json.setLazyAnimations(lazyAnimations);
+		return json.readSkeletonData(file);
+	}
+
+	private void test (SkeletonData expectedData, SkeletonData actualData, String name) {
+		checkNames(expectedData.getBones(), actualData.getBones(), name + " bones");
+		checkNames(expectedData.getSlots(), actualData.getSlots(), name + " slots");
+		checkNames(expectedData.getSkins(), actualData.getSkins(), name + " skins");
+		checkNames(expectedData.getEvents(), actualData.getEvents(), name + " events");
+		checkNames(expectedData.getAnimations(), actualData.getAnimations(), name + " animations");
+		checkNames(expectedData.getIkConstraints(), actualData.getIkConstraints(), name + " IK constraints");
+		checkNames(expectedData.getTransformConstraints(), actualData.getTransformConstraints(), name + " transform constraints");
+		checkNames(expectedData.getPathConstraints(), actualData.getPathConstraints(), name + " path constraints");
+
+		Skeleton expected = new Skeleton(expectedData), actual = new Skeleton(actualData);
+		Array<Event> expectedEvents = new Array(), actualEvents = new Array();
+		for (int skin = -1, skinCount = expectedData.getSkins().size; skin < skinCount; skin++) {
+			if (skin != -1) {
+				expected.setSkin(expectedData.getSkins().get(skin));
+				actual.setSkin(actualData.getSkins().get(skin));
+			}
+			for (int i = 0, n = expectedData.getAnimations().size; i < n; i++) {
+				Animation expectedAnimation = expectedData.getAnimations().get(i);
+				Animation actualAnimation = actualData.getAnimations().get(i);
+				if (actualAnimation.getDuration() != expectedAnimation.getDuration())
+					fail(name + " " + actualAnimation + " duration differs: " + actualAnimation.getDuration());
+				expected.setToSetupPose();
+				actual.setToSetupPose();
+				float lastTime = 0;
+				for (float time = 0; time <= expectedAnimation.getDuration(); time += 1 / 30f) {
+					expectedEvents.clear();
+					actualEvents.clear();
+					expectedAnimation.apply(expected, lastTime, time, false, expectedEvents, 1, false, false);
+					actualAnimation.apply(actual, lastTime, time, false, actualEvents, 1, false, false);
+					expected.updateWorldTransform();
+					actual.updateWorldTransform();
+					String at = name + " " + actualAnimation + " at " + time;
+					check(expected, actual, at);
+					checkEvents(expectedEvents, actualEvents, at);
+					lastTime = time;
+				}
+			}
+		}
+	}
+
+	private void checkNames (Array expected, Array actual, String name) {
+		if (actual.size != expected.size) fail(name + " count differs, expected " + expected.size + ": " + actual.size);
+		for (int i = 0, n = expected.size; i < n; i++)
+			if (!actual.get(i).toString().equals(expected.get(i).toString()))
+				fail(name + " differ at " + i + ", expected " + expected.get(i) + ": " + actual.get(i));
+	}
+
+	private void check (Skeleton expected, Skeleton actual, String name) {
+		for (int i = 0, n = expected.getBones().size; i < n; i++) {
+			Bone e = expected.getBones().get(i), a = actual.getBones().get(i);
+			if (a.getA() != e.getA() || a.getB() != e.getB() || a.getC() != e.getC() || a.getD() != e.getD()
+				|| a.getWorldX() != e.getWorldX() || a.getWorldY() != e.getWorldY()) fail(a + " world transform differs for " + name);
+		}
+		for (int i = 0, n = expected.getSlots().size; i < n; i++) {
+			Slot e = expected.getSlots().get(i), a = actual.getSlots().get(i);
+			if (!a.getColor().equals(e.getColor())) fail(a + " color differs for " + name);
+			Attachment expectedAttachment = e.getAttachment(), actualAttachment = a.getAttachment();
+			if (expectedAttachment == null ? actualAttachment != null
+				: actualAttachment == null || !actualAttachment.getName().equals(expectedAttachment.getName()))
+				fail(a + " attachment differs for " + name + ", expected " + expectedAttachment + ": " + actualAttachment);
+			FloatArray expectedVertices = e.getAttachmentVertices(), actualVertices = a.getAttachmentVertices();
+			if (actualVertices.size != expectedVertices.size) fail(a + " deform differs for " + name);
+			for (int ii = 0, nn = expectedVertices.size; ii < nn; ii++)
+				if (actualVertices.get(ii) != expectedVertices.get(ii)) fail(a + " deform differs for " + name);
+			if (actual.getDrawOrder().get(i).getData().getIndex() != expected.getDrawOrder().get(i).getData().getIndex())
+				fail("Draw order differs at " + i + " for " + name);
+		}
+	}
+
+	private void checkEvents (Array<Event> expected, Array<Event> actual, String name) {
+		if (actual.size != expected.size)
+			fail("Event count differs for " + name + ", expected " + expected.size + ": " + actual.size);
+		for (int i = 0, n = expected.size; i < n; i++) {
+			Event e = expected.get(i), a = actual.get(i);
+			if (!a.getData().getName().equals(e.getData().getName()) || a.getTime() != e.getTime() || a.getInt() != e.getInt()
+				|| a.getFloat() != e.getFloat() || !String.valueOf(a.getString()).equals(String.valueOf(e.getString())))
+				fail(a + " event differs for " + name + ", expected " + e);
+		}
+	}
+
+	private void fail (String message) {
+		throw new RuntimeException(message);
+	}
+
+	static public void main (String[] args) throws Exception {
+		new SkeletonLoaderTests();
+	}
+}
@@ -0,0 +1,134 @@
+/******************************************************************************
+ * Spine Runtimes Software License v2.5
+ *
+ * Copyright (c) 2013-2016, Esoteric Software
+ * All rights reserved.
+ *
+ * You are granted a perpetual, non-exclusive, non-sublicensable, and
+ * non-transferable license to use, install, execute, and perform the Spine
+ * Runtimes software and derivative works solely for personal or internal
+ * use. Without the written permission of Esoteric Software (see Section 2 of
+ * the Spine Software License Agreement), you may not (a) modify, translate,
+ * adapt, or develop new applications using the Spine Runtimes or otherwise
+ * create derivative works or improvements of the Spine Runtimes or (b) remove,
+ * delete, alter, or obscure any trademarks or any copyright, trademark, patent,
+ * or other intellectual property or proprietary rights notices on or in the
+ * Software, including any copy thereof. Redistributions in binary or source
+ * form must include this license and terms.
+ *
+ * THIS SOFTWARE IS PROVIDED BY ESOTERIC SOFTWARE "AS IS" AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO
+ * EVENT SHALL ESOTERIC SOFTWARE BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES, BUSINESS INTERRUPTION, OR LOSS OF
+ * USE, DATA, OR PROFITS) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ *****************************************************************************/
+
+
+package com.esotericsoftware.spine;
+
+import com.badlogic.gdx.Files.FileType;
+import com.badlogic.gdx.backends.lwjgl.LwjglFileHandle;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxNativesLoader;
+import com.esotericsoftware.spine.AnimationState.AnimationStateListener;
+import com.esotericsoftware.spine.AnimationState.TrackEntry;
+import com.esotericsoftware.spine.utils.SkeletonLodController;
+import com.esotericsoftware.spine.utils.SkeletonLodController.UpdateMode;
+
+/** Unit tests for {@link SkeletonLodController}. */
+public class SkeletonLodControllerTests {
+	final SkeletonJson json = new SkeletonJson(new HeadlessAttachmentLoader());
+
+	public SkeletonLodControllerTests () {
+		SkeletonData skeletonData = json.readSkeletonData(new LwjglFileHandle("spineboy/spineboy.json", FileType.Internal));
+		AnimationStateData stateData = new AnimationStateData(skeletonData);
+		stateData.setDefaultMix(0.2f);
+
+		Array<String> expected = new Array(), actual = new Array();
+		Skeleton expectedSkeleton = new Skeleton(skeletonData), actualSkeleton = new Skeleton(skeletonData);
+		AnimationState expectedState = state(stateData, expected), actualState = state(stateData, actual);
+
+		SkeletonLodController controller = new SkeletonLodController();
+		controller.add(actualState, actualSkeleton);
+		OrthographicCamera camera = new OrthographicCamera(2000, 2000);
+
+		// Each mode for 4 seconds: not visible, then small, then fully visible.
+		UpdateMode[] modes = {UpdateMode.eventsOnly, UpdateMode.reduced, UpdateMode.full};
+		for (int frame = 0; frame < 720; frame++) {
+			UpdateMode mode = modes[frame / 240];
+			camera.position.set(mode == UpdateMode.eventsOnly ? 10000 : 0, 0, 0);
+			camera.zoom = mode == UpdateMode.reduced ? 50 : 1;
+			camera.update();
+
+			expectedSkeleton.update(1 / 60f);
+			expectedState.update(1 / 60f);
+			expectedState.apply(expectedSkeleton);
+			expectedSkeleton.updateWorldTransform();
+			controller.update(1 / 60f, camera);
+
+			// The first frame is always a full update, to compute the bounds.
+			if (frame > 0 && controller.getModes().first() != mode)
+				fail("Frame " + frame + ", expected mode " + mode + ": " + controller.getModes().first());
+		}
+
+		if (!expected.equals(actual)) {
+			System.out.println("Expected:\n" + expected.toString("\n"));
+			System.out.println("Actual:\n" + actual.toString("\n"));
+			fail("Listener notifications differ.");
+		}
+		if (!expected.contains("event run footstep", false) || !expected.contains("complete jump", false))
+			fail("Missing notifications: " + expected);
+
+		System.out.println("SkeletonLodController tests passed.");
+	}
+
+	private AnimationState state (AnimationStateData stateData, final Array<String> log) {
+		AnimationState state = new AnimationState(stateData);
+		state.addListener(new AnimationStateListener() {
+			public void start (TrackEntry entry) {
+				log.add("start " + entry.getAnimation().getName());
+			}
+
+			public void interrupt (TrackEntry entry) {
+				log.add("interrupt " + entry.getAnimation().getName());
+			}
+
+			public void end (TrackEntry entry) {
+				log.add("end " + entry.getAnimation().getName());
+			}
+
+			public void dispose (TrackEntry entry) {
+				log.add("dispose " + entry.getAnimation().getName());
+			}
+
+			public void complete (TrackEntry entry) {
+				log.add("complete " + entry.getAnimation().getName());
+			}
+
+			public void event (TrackEntry entry, Event event) {
+				log.add("event " + entry.getAnimation().getName() + " " + event.getData().getName());
+			}
+		});
+		state.setAnimation(0, "run", true);
+		state.addAnimation(0, "jump", false, 3);
+		state.addAnimation(0, "test", true, 0);
+		state.addAnimation(0, "run", true, 4.5f);
+		state.addAnimation(0, "jump", false, 2);
+		return state;
+	}
+
+	private void fail (String message) {
+		throw new RuntimeException(message);
+	}
+
+	static public void main (String[] args) throws Exception {
+		GdxNativesLoader.load(); // The camera uses native matrix math.
+		new SkeletonLodControllerTests();
+	}
+}
@@ -0,0 +1,146 @@
+/******************************************************************************
+ * Spine Runtimes Software License v2.5
+ *
+ * Copyright (c) 2013-2016, Esoteric Software
+ * All rights reserved.
+ *
+ * You are granted a perpetual, non-exclusive, non-sublicensable, and
+ * non-transferable license to use, install, execute, and perform the Spine
+ * Runtimes software and derivative works solely for personal or internal
+ * use. Without the written permission of Esoteric Software (see Section 2 of
+ * the Spine Software License Agreement), you may not (a) modify, translate,
+ * adapt, or develop new applications using the Spine Runtimes or otherwise
+ * create derivative works or improvements of the Spine Runtimes or (b) remove,
+ * delete, alter, or obscure any trademarks or any copyright, trademark, patent,
+ * or other intellectual property or proprietary rights notices on or in the
+ * Software, including any copy thereof. Redistributions in binary or source
+ * form must include this license and terms.
+ *
+ * THIS SOFTWARE IS PROVIDED BY ESOTERIC SOFTWARE "AS IS" AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO
+ * EVENT SHALL ESOTERIC SOFTWARE BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES, BUSINESS INTERRUPTION, OR LOSS OF
+ * USE, DATA, OR PROFITS) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ *****************************************************************************/
+
+package com.esotericsoftware.spine;
+
+import java.nio.FloatBuffer;
+import java.nio.ShortBuffer;
+
+import com.badlogic.gdx.Files.FileType;
+import com.badlogic.gdx.backends.lwjgl.LwjglFileHandle;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.BufferUtils;
+import com.badlogic.gdx.utils.FloatArray;
+import com.esotericsoftware.spine.SkeletonMeshWriter.FlushListener;
+import com.esotericsoftware.spine.attachments.Attachment;
+import com.esotericsoftware.spine.attachments.MeshAttachment;
+import com.esotericsoftware.spine.attachments.RegionAttachment;
+
+/** Unit tests for {@link SkeletonMeshWriter}, which compare the triangles written to the buffers with the triangles computed
+ * using {@link RegionAttachment#updateWorldVertices(Slot, boolean, float[], int)} and
+ * {@link MeshAttachment#updateWorldVertices(Slot, boolean, float[], int)}. No OpenGL context is needed. */
+public class SkeletonMeshWriterTests {
+	final SkeletonJson json = new SkeletonJson(new HeadlessAttachmentLoader());
+
+	public SkeletonMeshWriterTests () {
+		SkeletonData skeletonData = json.readSkeletonData(new LwjglFileHandle("goblins/goblins-mesh.json", FileType.Internal));
+		Array<Skeleton> skeletons = new Array();
+		for (int i = 0; i < 3; i++) {
+			Skeleton skeleton = new Skeleton(skeletonData);
+			skeleton.setSkin(i == 1 ? "goblingirl" : "goblin");
+			skeleton.setSlotsToSetupPose();
+			skeleton.setPosition(i * 100, i * 10);
+			skeletonData.findAnimation("walk").apply(skeleton, 0, i * 0.2f, true, null, 1, true, false);
+			skeleton.updateWorldTransform();
+			skeletons.add(skeleton);
+		}
+		FloatArray expected = expected(skeletons);
+
+		// Buffers large enough for all the skeletons are flushed once.
+		FloatArray actual = new FloatArray();
+		int flushes = write(skeletons, 5 * 4096, 8192, actual);
+		if (flushes != 1) fail("Expected 1 flush: " + flushes);
+		check(expected, actual);
+
+		// Small buffers are flushed when they are full.
+		actual.clear();
+		flushes = write(skeletons, 5 * 64, 192, actual);
+		if (flushes < 10) fail("Expected many flushes: " + flushes);
+		check(expected, actual);
+
+		System.out.println("SkeletonMeshWriter tests passed.");
+	}
+
+	/** Writes the skeletons and returns the number of flushes. The vertices for each index are added to the output. */
+	private int write (Array<Skeleton> skeletons, int vertexCapacity, int indexCapacity, final FloatArray output) {
+		final FloatBuffer vertices = BufferUtils.newFloatBuffer(vertexCapacity);
+		final ShortBuffer indices = BufferUtils.newShortBuffer(indexCapacity);
+		final int[] flushes = new int[1];
+		SkeletonMeshWriter writer = new SkeletonMeshWriter(vertices, indices, new FlushListener() {
+			public void flush (Texture texture, BlendMode blendMode, int vertexCount, int indexCount) {
+				if (vertices.limit() != vertexCount * 5) fail("Vertex limit: " + vertices.limit() + " != " + vertexCount * 5);
+				if (indices.limit() != indexCount) fail("Index limit: " + indices.limit() + " != " + indexCount);
+				for (int i = 0; i < indexCount; i++) {
+					int index = indices.get(i) & 0xffff;
+					if (index >= vertexCount) fail("Index out of range: " + index + " >= " + vertexCount);
+					for (int ii = 0; ii < 5; ii++)
+						output.add(vertices.get(index * 5 + ii));
+				}
+				flushes[0]++;
+			}
+		});
+		for (int i = 0; i < skeletons.size; i++)
+			writer.write(skeletons.get(i));
+		writer.flush();
+		return flushes[0];
+	}
+
+	/** Returns the vertices for each triangle index of the skeletons' attachments. */
+	private FloatArray expected (Array<Skeleton> skeletons) {
+		FloatArray expected = new FloatArray();
+		float[] vertices = new float[1024];
+		for (int i = 0; i < skeletons.size; i++) {
+			Array<Slot> drawOrder = skeletons.get(i).getDrawOrder();
+			for (int ii = 0; ii < drawOrder.size; ii++) {
+				Slot slot = drawOrder.get(ii);
+				Attachment attachment = slot.getAttachment();
+				short[] triangles;
+				if (attachment instanceof RegionAttachment) {
+					((RegionAttachment)attachment).updateWorldVertices(slot, false, vertices, 0);
+					triangles = new short[] {0, 1, 2, 2, 3, 0};
+				} else if (attachment instanceof MeshAttachment) {
+					((MeshAttachment)attachment).updateWorldVertices(slot, false, vertices, 0);
+					triangles = ((MeshAttachment)attachment).getTriangles();
+				} else
+					continue;
+				for (int t = 0; t < triangles.length; t++)
+					expected.addAll(vertices, triangles[t] * 5, 5);
+			}
+		}
+		return expected;
+	}
+
+	private void check (FloatArray expected, FloatArray actual) {
+		if (expected.size == 0) fail("No vertices.");
+		if (expected.size != actual.size) fail("Expected " + expected.size + " values: " + actual.size);
+		for (int i = 0; i < expected.size; i++)
+			if (Float.floatToRawIntBits(expected.get(i)) != Float.floatToRawIntBits(actual.get(i)))
+				fail("Value " + i + " differs, expected " + expected.get(i) + ": " + actual.get(i));
+	}
+
+	private void fail (String message) {
+		throw new RuntimeException(message);
+	}
+
+	static public void main (String[] args) throws Exception {
+		new SkeletonMeshWriterTests();
+	}
+}
@@ -0,0 +1,100 @@
+/******************************************************************************
+ * Spine Runtimes Software License v2.5
+ *
+ * Copyright (c) 2013-2016, Esoteric Software
+ * All rights reserved.
+ *
+ * You are granted a perpetual, non-exclusive, non-sublicensable, and
+ * non-transferable license to use, install, execute, and perform the Spine
+ * Runtimes software and derivative works solely for personal or internal
+ * use. Without the written permission of Esoteric Software (see Section 2 of
+ * the Spine Software License Agreement), you may not (a) modify, translate,
+ * adapt, or develop new applications using the Spine Runtimes or otherwise
+ * create derivative works or improvements of the Spine Runtimes or (b) remove,
+ * delete, alter, or obscure any trademarks or any copyright, trademark, patent,
+ * or other intellectual property or proprietary rights notices on or in the
+ * Software, including any copy thereof. Redistributions in binary or source
+ * form must include this license and terms.
+ *
+ * THIS SOFTWARE IS PROVIDED BY ESOTERIC SOFTWARE "AS IS" AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO
+ * EVENT SHALL ESOTERIC SOFTWARE BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES, BUSINESS INTERRUPTION, OR LOSS OF
+ * USE, DATA, OR PROFITS) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ *****************************************************************************/
+
+package com.esotericsoftware.spine;
+
+import com.badlogic.gdx.Files.FileType;
+import com.badlogic.gdx.backends.lwjgl.LwjglFileHandle;
+import com.esotericsoftware.spine.attachments.Attachment;
+import com.esotericsoftware.spine.attachments.RegionAttachment;
+
+/** Unit tests for finding skin attachments using name ids, which are scoped to skeleton data. No OpenGL context is needed. */
+public class SkinTests {
+	public SkinTests () {
+		SkeletonJson json = new SkeletonJson(new HeadlessAttachmentLoader());
+		LwjglFileHandle file = new LwjglFileHandle("goblins/goblins-mesh.json", FileType.Internal);
+		SkeletonData skeletonData = json.readSkeletonData(file), otherData = json.readSkeletonData(file);
+		int slotIndex = skeletonData.findSlotIndex("head");
+		Skin goblin = skeletonData.findSkin("goblin"), goblingirl = skeletonData.findSkin("goblingirl");
+
+		// Name ids are shared by the skeleton data's skins and are not changed by finding names.
+		int headId = skeletonData.findAttachmentNameId("head");
+		if (headId == -1) fail("Name id not found.");
+		if (goblin.findNameId("head") != headId || goblingirl.findNameId("head") != headId) fail("Skins should share name ids.");
+		if (goblin.getAttachment(slotIndex, headId) != goblin.getAttachment(slotIndex, "head")) fail("Wrong attachment for id.");
+		if (skeletonData.findAttachmentNameId("missing") != -1) fail("Missing name should have no id.");
+		if (skeletonData.findAttachmentNameId("missing") != -1) fail("Finding a name should not add an id.");
+		if (otherData.findAttachmentNameId("missing") != -1) fail("Name ids should not be shared by skeleton data.");
+
+		// Skins sharing name ids with the skeleton data.
+		Skeleton skeleton = new Skeleton(skeletonData);
+		skeleton.setSkin(goblin);
+		skeleton.setSlotsToSetupPose();
+		if (skeleton.getAttachment(slotIndex, headId) != goblin.getAttachment(slotIndex, "head")) fail("Wrong skeleton attachment.");
+		skeleton.setSkin(goblingirl);
+		if (skeleton.slots.get(slotIndex).attachment != goblingirl.getAttachment(slotIndex, "head")) fail("Skin not attached.");
+
+		// A skin with its own name ids.
+		Skin custom = new Skin("custom");
+		custom.addAttachment(0, "first", new RegionAttachment("first"));
+		RegionAttachment head = new RegionAttachment("head");
+		custom.addAttachment(slotIndex, "head", head);
+		if (custom.findNameId("head") == headId) fail("Skin should have its own name ids.");
+		if (skeletonData.findAttachmentNameId("first") != -1) fail("Skin should not add name ids to the skeleton data.");
+		skeleton.setSkin(custom);
+		if (skeleton.slots.get(slotIndex).attachment != head) fail("Skin with its own name ids not attached.");
+		if (skeleton.getAttachment(slotIndex, headId) != head) fail("Wrong attachment for skin with its own name ids.");
+		skeleton.setSkin(goblin);
+		if (skeleton.slots.get(slotIndex).attachment != goblin.getAttachment(slotIndex, "head"))
+			fail("Skin not attached after skin with its own name ids.");
+
+		// A skin created for the skeleton data.
+		Skin shared = new Skin("shared", skeletonData);
+		shared.addAttachment(slotIndex, "head", head);
+		if (shared.findNameId("head") != headId) fail("Skin created for the skeleton data should share its name ids.");
+		skeleton.setSkin(shared);
+		if (skeleton.getAttachment(slotIndex, headId) != head) fail("Wrong attachment for skin created for skeleton data.");
+
+		// Overridden attachments.
+		skeleton.setSkin(goblin);
+		Attachment copy = skeleton.overrideAttachment(slotIndex, "head");
+		if (skeleton.getAttachment(slotIndex, headId) != copy) fail("Overridden attachment not found by id.");
+
+		System.out.println("Skin tests passed.");
+	}
+
+	private void fail (String message) {
+		throw new RuntimeException(message);
+	}
+
+	static public void main (String[] args) throws Exception {
+		new SkinTests();
+	}
+}
@@ -0,0 +1,178 @@
+/******************************************************************************
+ * Spine Runtimes Software License v2.5
+ *
+ * Copyright (c) 2013-2016, Esoteric Software
+ * All rights reserved.
+ *
+ * You are granted a perpetual, non-exclusive, non-sublicensable, and
+ * non-transferable license to use, install, execute, and perform the Spine
+ * Runtimes software and derivative works solely for personal or internal
+ * use. Without the written permission of Esoteric Software (see Section 2 of
+ * the Spine Software License Agreement), you may not (a) modify, translate,
+ * adapt, or develop new applications using the Spine Runtimes or otherwise
+ * create derivative works or improvements of the Spine Runtimes or (b) remove,
+ * delete, alter, or obscure any trademarks or any copyright, trademark, patent,
+ * or other intellectual property or proprietary rights notices on or in the
+ * Software, including any copy thereof. Redistributions in binary or source
+ * form must include this license and terms.
+ *
+ * THIS SOFTWARE IS PROVIDED BY ESOTERIC SOFTWARE "AS IS" AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO
+ * EVENT SHALL ESOTERIC SOFTWARE BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES, BUSINESS INTERRUPTION, OR LOSS OF
+ * USE, DATA, OR PROFITS) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ *****************************************************************************/
+
+
+package com.esotericsoftware.spine;
+
+import com.badlogic.gdx.Files.FileType;
+import com.badlogic.gdx.backends.lwjgl.LwjglFileHandle;
+import com.badlogic.gdx.files.FileHandle;
+import com.esotericsoftware.spine.Animation.CurveTimeline;
+import com.esotericsoftware.spine.Animation.RotateTimeline;
+import com.esotericsoftware.spine.Animation.Timeline;
+
+/** Unit tests for {@link TimelineCompactor}. */
+public class TimelineCompactorTests {
+	final SkeletonJson json = new SkeletonJson(new HeadlessAttachmentLoader());
+
+	public TimelineCompactorTests () {
+		FileHandle file = new LwjglFileHandle("spineboy/spineboy.json", FileType.Internal);
+		SkeletonData expectedData = json.readSkeletonData(file);
+
+		// Compacted curves are exact.
+		TimelineCompactor compactor = new TimelineCompactor();
+		if (compactor.getQuantize()) fail("Quantizing should be disabled by default.");
+		json.setTimelineCompactor(compactor);
+		SkeletonData actualData = json.readSkeletonData(file);
+		int curves = 0;
+		for (Animation animation : actualData.getAnimations()) {
+			for (Timeline timeline : animation.getTimelines()) {
+				if (!(timeline instanceof CurveTimeline)) continue;
+				CurveTimeline curveTimeline = (CurveTimeline)timeline;
+				if (!curveTimeline.isCompact()) fail(animation + " " + timeline + " is not compact.");
+				for (int i = 0, n = curveTimeline.getFrameCount(); i < n; i++)
+					if (curveTimeline.getCurveType(i) == CurveTimeline.BEZIER) curves++;
+			}
+		}
+		if (compactor.getCurveCount() == 0 || compactor.getCurveCount() > curves)
+			fail("Curve count: " + compactor.getCurveCount() + ", Bezier keys: " + curves);
+		test(expectedData, actualData, 0);
+
+		// Quantized values are within the error bound.
+		compactor = new TimelineCompactor();
+		compactor.setQuantize(true);
+		json.setTimelineCompactor(compactor);
+		actualData = json.readSkeletonData(file);
+		RotateTimeline quantized = null;
+		for (int i = 0, n = expectedData.getAnimations().size; i < n; i++) {
+			Animation expectedAnimation = expectedData.getAnimations().get(i);
+			Animation actualAnimation = actualData.getAnimations().get(i);
+			for (int ii = 0, nn = expectedAnimation.getTimelines().size; ii < nn; ii++) {
+				Timeline timeline = actualAnimation.getTimelines().get(ii);
+				if (timeline.getClass() != expectedAnimation.getTimelines().get(ii).getClass())
+					fail(actualAnimation + " " + timeline + " should keep its class when quantized.");
+				if (timeline instanceof RotateTimeline && ((RotateTimeline)timeline).isQuantized())
+					quantized = (RotateTimeline)timeline;
+			}
+		}
+		if (quantized == null) fail("Rotate timelines were not quantized.");
+		test(expectedData, actualData, 0.01f);
+
+		// Setting a frame of a quantized timeline restores its full precision frames.
+		float[] frames = quantized.getFrames();
+		quantized.setFrame(0, frames[0], 123.456f);
+		if (quantized.isQuantized()) fail("Setting a frame should dequantize the timeline.");
+		if (quantized.getFrames()[1] != 123.456f) fail("Frame was not set: " + quantized.getFrames()[1]);
+
+		// Compacting loaded skeleton data.
+		json.setTimelineCompactor(null);
+		actualData = json.readSkeletonData(file);
+		compactor = new TimelineCompactor();
+		compactor.setQuantize(true);
+		compactor.compact(actualData);
+		test(expectedData, actualData, 0.01f);
+
+		System.out.println("TimelineCompactor tests passed.");
+	}
+
+	/** Compares the local pose of both skeletons with each animation applied, then mixed with the next animation. */
+	private void test (SkeletonData expectedData, SkeletonData actualData, float tolerance) {
+		Skeleton expected = new Skeleton(expectedData), actual = new Skeleton(actualData);
+		AnimationState expectedState = new AnimationState(new AnimationStateData(expectedData));
+		AnimationState actualState = new AnimationState(new AnimationStateData(actualData));
+		for (int i = 0, n = expectedData.getAnimations().size; i < n; i++) {
+			Animation expectedAnimation = expectedData.getAnimations().get(i);
+			Animation actualAnimation = actualData.getAnimations().get(i);
+			for (float time = 0, duration = expectedAnimation.getDuration(); time <= duration + 0.1f; time += 1 / 60f) {
+				expected.setToSetupPose();
+				actual.setToSetupPose();
+				expectedAnimation.apply(expected, time, time, true, null, 1, true, false);
+				actualAnimation.apply(actual, time, time, true, null, 1, true, false);
+				check(expectedAnimation + " " + time, expected, actual, tolerance);
+				expectedAnimation.apply(expected, time, time, true, null, 0.5f, false, false);
+				actualAnimation.apply(actual, time, time, true, null, 0.5f, false, false);
+				check(expectedAnimation + " " + time + " alpha", expected, actual, tolerance);
+			}
+
+			// Mixing uses the rotation of the quantized rotate timelines.
+			Animation next = expectedData.getAnimations().get((i + 1) % n);
+			expectedState.setAnimation(0, expectedAnimation, true);
+			actualState.setAnimation(0, actualAnimation, true);
+			expectedState.update(0.25f);
+			actualState.update(0.25f);
+			expectedState.setAnimation(0, next, true).setMixDuration(0.5f);
+			actualState.setAnimation(0, actualData.findAnimation(next.getName()), true).setMixDuration(0.5f);
+			for (int frame = 0; frame < 40; frame++) {
+				expectedState.update(1 / 60f);
+				actualState.update(1 / 60f);
+				expectedState.apply(expected);
+				actualState.apply(actual);
+				check(expectedAnimation + " -> " + next + " " + frame, expected, actual, tolerance);
+			}
+		}
+	}
+
+	private void check (String message, Skeleton expected, Skeleton actual, float tolerance) {
+		for (int i = 0, n = expected.getBones().size; i < n; i++) {
+			Bone e = expected.getBones().get(i), a = actual.getBones().get(i);
+			check(message, e, "rotation", e.getRotation(), a.getRotation(), tolerance);
+			check(message, e, "x", e.getX(), a.getX(), tolerance);
+			check(message, e, "y", e.getY(), a.getY(), tolerance);
+			check(message, e, "scaleX", e.getScaleX(), a.getScaleX(), tolerance);
+			check(message, e, "scaleY", e.getScaleY(), a.getScaleY(), tolerance);
+			check(message, e, "shearX", e.getShearX(), a.getShearX(), tolerance);
+			check(message, e, "shearY", e.getShearY(), a.getShearY(), tolerance);
+		}
+		for (int i = 0, n = expected.getSlots().size; i < n; i++) {
+			Slot e = expected.getSlots().get(i), a = actual.getSlots().get(i);
+			check(message, e, "r", e.getColor().r, a.getColor().r, tolerance);
+			check(message, e, "a", e.getColor().a, a.getColor().a, tolerance);
+		}
+	}
+
+	private void check (String message, Object object, String name, float expected, float actual, float tolerance) {
+		if (Math.abs(expected - actual) > tolerance)
+			throw new FailException(message + " " + object + " " + name + ": " + expected + " != " + actual);
+	}
+
+	private void fail (String message) {
+		throw new FailException(message);
+	}
+
+	static class FailException extends RuntimeException {
+		public FailException (String message) {
+			super(message);
+		}
+	}
+
+	static public void main (String[] args) throws Exception {
+		new TimelineCompactorTests();
+	}
+}
@@ -0,0 +1,156 @@
+/******************************************************************************
+ * Spine Runtimes Software License v2.5
+ *
+ * Copyright (c) 2013-2016, Esoteric Software
+ * All rights reserved.
+ *
+ * You are granted a perpetual, non-exclusive, non-sublicensable, and
+ * non-transferable license to use, install, execute, and perform the Spine
+ * Runtimes software and derivative works solely for personal or internal
+ * use. Without the written permission of Esoteric Software (see Section 2 of
+ * the Spine Software License Agreement), you may not (a) modify, translate,
+ * adapt, or develop new applications using the Spine Runtimes or otherwise
+ * create derivative works or improvements of the Spine Runtimes or (b) remove,
+ * delete, alter, or obscure any trademarks or any copyright, trademark, patent,
+ * or other intellectual property or proprietary rights notices on or in the
+ * Software, including any copy thereof. Redistributions in binary or source
+ * form must include this license and terms.
+ *
+ * THIS SOFTWARE IS PROVIDED BY ESOTERIC SOFTWARE "AS IS" AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO
+ * EVENT SHALL ESOTERIC SOFTWARE BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES, BUSINESS INTERRUPTION, OR LOSS OF
+ * USE, DATA, OR PROFITS) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ *****************************************************************************/
+
+package com.esotericsoftware.spine;
+
+import java.util.concurrent.ForkJoinPool;
+
+import com.badlogic.gdx.Files.FileType;
+import com.badlogic.gdx.backends.lwjgl.LwjglFileHandle;
+import com.badlogic.gdx.utils.FloatArray;
+import com.esotericsoftware.spine.attachments.Attachment;
+import com.esotericsoftware.spine.attachments.BoneInfluences;
+import com.esotericsoftware.spine.attachments.SkinningBackend;
+import com.esotericsoftware.spine.attachments.VertexAttachment;
+
+/** Unit tests for {@link VertexAttachment#updateBoneInfluences()}, which check that weighted vertices computed using the fixed
+ * width layout are identical to those computed using the variable length {@link VertexAttachment#getBones()}. No OpenGL context
+ * is needed. */
+public class VertexAttachmentTests {
+	final SkeletonJson json = new SkeletonJson(new HeadlessAttachmentLoader());
+
+	public VertexAttachmentTests () {
+		if (BoneInfluences.getBackend() != null) fail("The scalar computation should be used by default.");
+		testSkeletons();
+
+		// Compare with the vector backend too, if spine-libgdx-vector is on the classpath.
+		SkinningBackend backend = BoneInfluences.loadBackend(BoneInfluences.vectorBackend);
+		if (backend != null) {
+			BoneInfluences.setBackend(backend);
+			try {
+				testSkeletons();
+			} finally {
+				BoneInfluences.setBackend(null);
+			}
+		}
+
+		VertexAttachment attachment = new VertexAttachment("attachment");
+		attachment.setBones(new int[] {1, 0});
+		attachment.setVertices(new float[] {1, 2, 1});
+		attachment.updateBoneInfluences();
+		if (!attachment.hasBoneInfluences()) fail("Bone influences should be computed.");
+		attachment.setVertices(new float[] {3, 4, 1});
+		if (attachment.hasBoneInfluences()) fail("Setting vertices should clear bone influences.");
+		attachment.setBones(new int[] {5, 0, 0, 0, 0, 0});
+		attachment.setVertices(new float[15]);
+		attachment.updateBoneInfluences();
+		if (attachment.hasBoneInfluences()) fail("More than 4 bones for a vertex should not use bone influences.");
+
+		System.out.println("VertexAttachment tests passed using scalar"
+			+ (backend == null ? "" : " and " + backend.getClass().getSimpleName()) + " skinning.");
+	}
+
+	private void testSkeletons () {
+		int count = test("goblins/goblins-mesh.json", "goblin", "walk");
+		count += test("raptor/raptor.json", null, "walk");
+		if (count == 0) fail("No weighted attachments with bone influences.");
+	}
+
+	/** Compares the world vertices of each weighted attachment of the skeleton with and without bone influences.
+	 * @return The number of attachments compared. */
+	private int test (String path, String skin, String animation) {
+		SkeletonData skeletonData = json.readSkeletonData(new LwjglFileHandle(path, FileType.Internal));
+		Skeleton skeleton = new Skeleton(skeletonData);
+		if (skin != null) skeleton.setSkin(skin);
+		skeleton.setSlotsToSetupPose();
+		skeletonData.findAnimation(animation).apply(skeleton, 0, 0.3f, true, null, 1, true, false);
+		skeleton.updateWorldTransform();
+
+		int count = 0;
+		for (Slot slot : skeleton.getSlots()) {
+			Attachment attachment = slot.getAttachment();
+			if (!(attachment instanceof VertexAttachment)) continue;
+			VertexAttachment fixed = (VertexAttachment)attachment;
+			if (!fixed.hasBoneInfluences()) continue;
+
+			// An attachment without bone influences uses the variable length layout.
+			VertexAttachment variable = new VertexAttachment("variable");
+			variable.setBones(fixed.getBones());
+			variable.setVertices(fixed.getVertices());
+			variable.setWorldVerticesLength(fixed.getWorldVerticesLength());
+
+			int length = fixed.getWorldVerticesLength();
+			check(slot, variable, fixed, 0, length, 2);
+			check(slot, variable, fixed, 0, length, 5);
+			check(slot, variable, fixed, 4, length - 6, 3);
+
+			FloatArray deform = slot.getAttachmentVertices();
+			deform.setSize(fixed.getVertices().length / 3 * 2);
+			for (int i = 0; i < deform.size; i++)
+				deform.items[i] = (i % 7 - 3) * 1.5f;
+			check(slot, variable, fixed, 0, length, 2);
+			check(slot, variable, fixed, 2, length - 4, 5);
+			deform.clear();
+			count++;
+		}
+
+		// Computing the vertices in parallel gives the same result.
+		SkeletonVertexCache cache = new SkeletonVertexCache(skeleton), parallelCache = new SkeletonVertexCache(skeleton);
+		SkeletonVertexCacheUpdater updater = new SkeletonVertexCacheUpdater(new ForkJoinPool(4));
+		updater.setParallelThreshold(1);
+		cache.update();
+		updater.update(parallelCache);
+		for (int i = 0, n = skeleton.getSlots().size; i < n; i++) {
+			float[] expected = cache.getVertices(i), actual = parallelCache.getVertices(i);
+			for (int ii = 0, nn = cache.getVerticesLength(i); ii < nn; ii++)
+				if (Float.floatToRawIntBits(expected[ii]) != Float.floatToRawIntBits(actual[ii]))
+					fail("Parallel value " + ii + " for slot " + i + " differs, expected " + expected[ii] + ": " + actual[ii]);
+		}
+		return count;
+	}
+
+	private void check (Slot slot, VertexAttachment expected, VertexAttachment actual, int start, int count, int stride) {
+		int length = 1 + count / 2 * stride;
+		float[] expectedVertices = new float[length], actualVertices = new float[length];
+		expected.computeWorldVertices(slot, start, count, expectedVertices, 1, stride);
+		actual.computeWorldVertices(slot, start, count, actualVertices, 1, stride);
+		for (int i = 0; i < length; i++)
+			if (Float.floatToRawIntBits(expectedVertices[i]) != Float.floatToRawIntBits(actualVertices[i]))
+				fail(actual + " value " + i + " differs, expected " + expectedVertices[i] + ": " + actualVertices[i]);
+	}
+
+	private void fail (String message) {
+		throw new RuntimeException(message);
+	}
+
+	static public void main (String[] args) throws Exception {
+		new VertexAttachmentTests();
+	}
+}
@@ -0,0 +1,141 @@
+/******************************************************************************
+ * Spine Runtimes Software License v2.5
+ *
+ * Copyright (c) 2013-2016, Esoteric Software
+ * All rights reserved.
+ *
+ * You are granted a perpetual, non-exclusive, non-sublicensable, and
+ * non-transferable license to use, install, execute, and perform the Spine
+ * Runtimes software and derivative works solely for personal or internal
+ * use. Without the written permission of Esoteric Software (see Section 2 of
+ * the Spine Software License Agreement), you may not (a) modify, translate,
+ * adapt, or develop new applications using the Spine Runtimes or otherwise
+ * create derivative works or improvements of the Spine Runtimes or (b) remove,
+ * delete, alter, or obscure any trademarks or any copyright, trademark, patent,
+ * or other intellectual property or proprietary rights notices on or in the
+ * Software, including any copy thereof. Redistributions in binary or source
+ * form must include this license and terms.
+ *
+ * THIS SOFTWARE IS PROVIDED BY ESOTERIC SOFTWARE "AS IS" AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO
+ * EVENT SHALL ESOTERIC SOFTWARE BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES, BUSINESS INTERRUPTION, OR LOSS OF
+ * USE, DATA, OR PROFITS) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ *****************************************************************************/
+
+package com.esotericsoftware.spine.vector;
+
+import com.esotericsoftware.spine.Bone;
+import com.esotericsoftware.spine.Slot;
+import com.esotericsoftware.spine.attachments.BoneInfluences;
+import com.esotericsoftware.spine.attachments.SkinningBackend;
+
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorSpecies;
+
+/** Computes world vertices using the incubating Java Vector API, transforming as many vertices at once as there are lanes in
+ * the preferred vector species (eg 8 with AVX2). The bone transforms of the skeleton are gathered for each lane using the
+ * influence's bone index. Vertices which don't fill the lanes are computed using the scalar
+ * {@link BoneInfluences#computeWorldVertices(Object[], float[], int, int, float[], int, int)}.
+ * <p>
+ * The same operations are applied in the same order as the scalar computation, without fused multiply-add, so the results are
+ * identical.
+ * <p>
+ * Requires Java 16 or later with the <code>jdk.incubator.vector</code> module, eg using
+ * <code>--add-modules jdk.incubator.vector</code>. It is not used unless set with
+ * {@link BoneInfluences#setBackend(SkinningBackend)}, eg using
+ * <code>BoneInfluences.setBackend(BoneInfluences.loadBackend(BoneInfluences.vectorBackend))</code>. */
+public class VectorSkinningBackend implements SkinningBackend {
+	static private final VectorSpecies<Float> species = FloatVector.SPECIES_PREFERRED;
+
+	private final ThreadLocal<Transforms> transforms = new ThreadLocal<Transforms>() {
+		protected Transforms initialValue () {
+			return new Transforms();
+		}
+	};
+
+	/** @throws UnsupportedOperationException If the preferred species has fewer than 4 lanes, in which case the scalar
+	 *            computation is faster. */
+	public VectorSkinningBackend () {
+		if (species.length() < 4)
+			throw new UnsupportedOperationException("Vector species has too few lanes: " + species.length());
+	}
+
+	public void computeWorldVertices (Slot slot, BoneInfluences influences, float[] deform, int start, int end,
+		float[] worldVertices, int offset, int stride) {
+		Object[] skeletonBones = slot.getSkeleton().getBones().items;
+		int lanes = species.length(), vectorEnd = start + species.loopBound(end - start);
+		if (vectorEnd == start) {
+			influences.computeWorldVertices(skeletonBones, deform, start, end, worldVertices, offset, stride);
+			return;
+		}
+
+		Transforms transforms = this.transforms.get();
+		transforms.update(skeletonBones, slot.getSkeleton().getBones().size);
+		float[] a = transforms.a, b = transforms.b, c = transforms.c, d = transforms.d, worldX = transforms.worldX,
+			worldY = transforms.worldY, laneX = transforms.laneX, laneY = transforms.laneY;
+
+		int vertexCount = influences.getVertexCount(), length = influences.getWidth() * vertexCount;
+		int[] bones = influences.getBones(), deformIndices = influences.getDeform();
+		float[] x = influences.getX(), y = influences.getY(), weights = influences.getWeights();
+		int w = offset;
+		for (int v = start; v < vectorEnd; v += lanes, w += lanes * stride) {
+			FloatVector wx = FloatVector.zero(species), wy = wx;
+			for (int i = v, n = v + length; i < n; i += vertexCount) {
+				FloatVector vx = FloatVector.fromArray(species, x, i), vy = FloatVector.fromArray(species, y, i);
+				if (deform != null) {
+					vx = vx.add(FloatVector.fromArray(species, deform, 0, deformIndices, i));
+					vy = vy.add(FloatVector.fromArray(species, deform, 1, deformIndices, i));
+				}
+				FloatVector weight = FloatVector.fromArray(species, weights, i);
+				wx = wx.add(vx.mul(FloatVector.fromArray(species, a, 0, bones, i)) //
+					.add(vy.mul(FloatVector.fromArray(species, b, 0, bones, i))) //
+					.add(FloatVector.fromArray(species, worldX, 0, bones, i)) //
+					.mul(weight));
+				wy = wy.add(vx.mul(FloatVector.fromArray(species, c, 0, bones, i)) //
+					.add(vy.mul(FloatVector.fromArray(species, d, 0, bones, i))) //
+					.add(FloatVector.fromArray(species, worldY, 0, bones, i)) //
+					.mul(weight));
+			}
+			// Scatter is not intrinsic without AVX-512, so the lanes are stored contiguously and then interleaved.
+			wx.intoArray(laneX, 0);
+			wy.intoArray(laneY, 0);
+			for (int lane = 0, ww = w; lane < lanes; lane++, ww += stride) {
+				worldVertices[ww] = laneX[lane];
+				worldVertices[ww + 1] = laneY[lane];
+			}
+		}
+		if (vectorEnd < end) influences.computeWorldVertices(skeletonBones, deform, vectorEnd, end, worldVertices, w, stride);
+	}
+
+	/** The world transform of each bone, stored in arrays so they can be gathered, and the output for each lane. */
+	static class Transforms {
+		float[] a = new float[0], b = a, c = a, d = a, worldX = a, worldY = a;
+		final float[] laneX = new float[species.length()], laneY = new float[species.length()];
+
+		void update (Object[] skeletonBones, int boneCount) {
+			if (a.length < boneCount) {
+				a = new float[boneCount];
+				b = new float[boneCount];
+				c = new float[boneCount];
+				d = new float[boneCount];
+				worldX = new float[boneCount];
+				worldY = new float[boneCount];
+			}
+			for (int i = 0; i < boneCount; i++) {
+				Bone bone = (Bone)skeletonBones[i];
+				a[i] = bone.getA();
+				b[i] = bone.getB();
+				c[i] = bone.getC();
+				d[i] = bone.getD();
+				worldX[i] = bone.getWorldX();
+				worldY[i] = bone.getWorldY();
+			}
+		}
+	}
+}
@@ -37,11 +37,16 @@ import com.badlogic.gdx.utils.FloatArray;
 import com.esotericsoftware.spine.attachments.Attachment;
 import com.esotericsoftware.spine.attachments.VertexAttachment;
 
-/** A simple container for a list of timelines and a name. */
+/** A simple container for a list of timelines and a name.
+ * <p>
+ * When skeleton data is loaded with lazy animations (see {@link SkeletonJson#setLazyAnimations(boolean)}), the timelines are
+ * read the first time they are needed and can be {@link #unload() unloaded} when the animation is no longer used. */
 public class Animation {
 	final String name;
-	final Array<Timeline> timelines;
+	volatile Array<Timeline> timelines;
 	float duration;
+	int index = -1;
+	private final TimelineReader reader;
 
 	public Animation (String name, Array<Timeline> timelines, float duration) {
 		if (name == null) throw new IllegalArgumentException("name cannot be null.");
@@ -49,12 +54,47 @@ public class Animation {
 		this.name = name;
 		this.timelines = timelines;
 		this.duration = duration;
+		reader = null;
 	}
 
+	/** Creates an animation whose timelines are read when they are first needed. */
+	Animation (String name, float duration, TimelineReader reader) {
+		this.name = name;
+		this.duration = duration;
+		this.reader = reader;
+	}
+
+	/** If the animation is lazy and its timelines are not loaded, they are read. This method is thread safe. */
 	public Array<Timeline> getTimelines () {
+		Array<Timeline> timelines = this.timelines;
+		if (timelines == null) timelines = load();
 		return timelines;
 	}
 
+	synchronized private Array<Timeline> load () {
+		Array<Timeline> timelines = this.timelines;
+		if (timelines == null) {
+			timelines = reader.read(this);
+			this.timelines = timelines;
+		}
+		return timelines;
+	}
+
+	/** Returns false if the animation is lazy and its timelines have not been read or have been unloaded. */
+	public boolean isLoaded () {
+		return timelines != null;
+	}
+
+	/** Releases the timelines of a lazy animation so they can be garbage collected. They are read again the next time they are
+	 * needed. The animation can be unloaded while it is being applied, but timelines that were unloaded are not the same
+	 * instances as those read again, so references to them should not be kept.
+	 * @return False if the animation is not lazy. */
+	public boolean unload () {
+		if (reader == null) return false;
+		timelines = null;
+		return true;
+	}
+
 	/** The duration of the animation in seconds, which is the highest time of all keys in the timeline. */
 	public float getDuration () {
 		return duration;
@@ -76,7 +116,7 @@ public class Animation {
 			if (lastTime > 0) lastTime %= duration;
 		}
 
-		Array<Timeline> timelines = this.timelines;
+		Array<Timeline> timelines = getTimelines();
 		for (int i = 0, n = timelines.size; i < n; i++)
 			timelines.get(i).apply(skeleton, lastTime, time, events, alpha, setupPose, mixingOut);
 	}
@@ -86,6 +126,12 @@ public class Animation {
 		return name;
 	}
 
+	/** The index of the animation in {@link SkeletonData#getAnimations()}, or -1 if it has not been indexed. See
+	 * {@link SkeletonData#indexAnimations()}. */
+	public int getIndex () {
+		return index;
+	}
+
 	public String toString () {
 		return name;
 	}
@@ -124,12 +170,90 @@ public class Animation {
 		}
 	}
 
+	/** Returns the same index as {@link #binarySearch(float[], float, int)}. The index is stored in <code>cursors[cursor]</code>
+	 * and the next search first checks the frames from there, so the index is found in constant time when the target advances
+	 * by small amounts. A binary search is used when the target moves backward or skips many frames.
+	 * @param cursors May be null to always use a binary search. */
+	static int search (float[] values, float target, int step, int[] cursors, int cursor) {
+		if (cursors == null) return binarySearch(values, target, step);
+		int frame = cursors[cursor];
+		if (frame >= step && frame < values.length && values[frame - step] <= target) {
+			for (int i = 0, n = values.length; i < 8 && frame < n; i++, frame += step) {
+				if (values[frame] > target) {
+					cursors[cursor] = frame;
+					return frame;
+				}
+			}
+		}
+		frame = binarySearch(values, target, step);
+		cursors[cursor] = frame;
+		return frame;
+	}
+
 	static int linearSearch (float[] values, float target, int step) {
 		for (int i = 0, last = values.length - step; i <= last; i += step)
 			if (values[i] > target) return i;
 		return -1;
 	}
 
+	/** Key frame values quantized to 16 bits relative to the range of each value, stored by rotate, translate, scale, shear, and
+	 * color timelines instead of their frames when quantized by {@link TimelineCompactor}. */
+	static final class QuantizedFrames {
+		final float[] times;
+		final short[] values; // For each frame, a value for each channel.
+		final float[] ranges; // min, step for each channel.
+		final int channels;
+
+		/** @param entries The number of entries for each frame, including the time. */
+		QuantizedFrames (float[] frames, int entries) {
+			int frameCount = frames.length / entries, channels = entries - 1;
+			float[] times = new float[frameCount];
+			for (int frame = 0; frame < frameCount; frame++)
+				times[frame] = frames[frame * entries];
+			float[] ranges = new float[channels << 1];
+			short[] values = new short[frameCount * channels];
+			for (int c = 0; c < channels; c++) {
+				float min = Float.MAX_VALUE, max = -Float.MAX_VALUE;
+				for (int i = c + 1, n = frames.length; i < n; i += entries) {
+					min = Math.min(min, frames[i]);
+					max = Math.max(max, frames[i]);
+				}
+				float step = (max - min) / 65535;
+				ranges[c << 1] = min;
+				ranges[(c << 1) + 1] = step;
+				if (step == 0) continue;
+				for (int frame = 0, i = c + 1; frame < frameCount; frame++, i += entries)
+					values[frame * channels + c] = (short)Math.round((frames[i] - min) / step);
+			}
+			this.times = times;
+			this.values = values;
+			this.ranges = ranges;
+			this.channels = channels;
+		}
+
+		float value (int frame, int channel) {
+			int r = channel << 1;
+			return ranges[r] + (values[frame * channels + channel] & 0xffff) * ranges[r + 1];
+		}
+
+		/** Returns new frames with the time and the dequantized values for each key frame. */
+		float[] dequantize () {
+			int frameCount = times.length, channels = this.channels;
+			float[] frames = new float[frameCount * (channels + 1)];
+			for (int frame = 0, i = 0; frame < frameCount; frame++) {
+				frames[i++] = times[frame];
+				for (int c = 0; c < channels; c++)
+					frames[i++] = value(frame, c);
+			}
+			return frames;
+		}
+	}
+
+	/** Reads the timelines of a lazy animation. */
+	static interface TimelineReader {
+		public Array<Timeline> read (Animation animation);
+	}
+
 	/** The interface for all timelines. */
 	static public interface Timeline {
 		/** Applies this timeline to the skeleton.
@@ -159,6 +283,19 @@ public class Animation {
 		public int getPropertyId ();
 	}
 
+	/** A timeline which can resume searching for key frames from the key frame found when it was last applied.
+	 * {@link AnimationState} stores the key frame for each timeline of each {@link AnimationState.TrackEntry}, so timelines find their key
+	 * frames in constant time while the animation time advances. */
+	static public interface CursorTimeline extends Timeline {
+		/** Applies this timeline to the skeleton, the same as
+		 * {@link Timeline#apply(Skeleton, float, float, Array, float, boolean, boolean)}.
+		 * @param cursors Stores the key frame found for this timeline at index <code>cursor</code>, which is used to find the key
+		 *           frame the next time the timeline is applied. Must be 0 the first time. May be null to use a binary
+		 *           search. */
+		public void apply (Skeleton skeleton, float lastTime, float time, Array<Event> events, float alpha, boolean setupPose,
+			boolean mixingOut, int[] cursors, int cursor);
+	}
+
 	static private enum TimelineType {
 		rotate, translate, scale, shear, //
 		attachment, color, deform, //
@@ -168,35 +305,94 @@ public class Animation {
 	}
 
 	/** The base class for timelines that use interpolation between key frame values. */
-	abstract static public class CurveTimeline implements Timeline {
+	abstract static public class CurveTimeline implements CursorTimeline {
 		static public final float LINEAR = 0, STEPPED = 1, BEZIER = 2;
 		static private final int BEZIER_SIZE = 10 * 2 - 1;
+		static final int CURVE_SIZE = BEZIER_SIZE - 1;
 
-		private final float[] curves; // type, x, y, ...
+		private final int frameCount;
+		private float[] curves; // type, x, y, ... Null when compact.
+		private char[] curveIndices; // 0 for linear, 1 for stepped, else 2 + curve index in curveTable. Null if all are linear.
+		private float[] curveTable; // x, y, ... for each curve.
+		private float[] lookup; // x, y, ... at uniformly spaced t, resolution - 1 points for each Bezier key frame. Null if not used.
+		private int[] lookupOffsets; // For each key frame, the offset in lookup or -1 if it is not Bezier.
+		private int resolution;
 
 		public CurveTimeline (int frameCount) {
 			if (frameCount <= 0) throw new IllegalArgumentException("frameCount must be > 0: " + frameCount);
+			this.frameCount = frameCount;
 			curves = new float[(frameCount - 1) * BEZIER_SIZE];
 		}
 
 		/** The number of key frames for this timeline. */
 		public int getFrameCount () {
-			return curves.length / BEZIER_SIZE + 1;
+			return frameCount;
+		}
+
+		/** Applies this timeline without using the cursor. Subclasses which search for key frames can override this method. */
+		public void apply (Skeleton skeleton, float lastTime, float time, Array<Event> events, float alpha, boolean setupPose,
+			boolean mixingOut, int[] cursors, int cursor) {
+			apply(skeleton, lastTime, time, events, alpha, setupPose, mixingOut);
 		}
 
 		/** Sets the specified key frame to linear interpolation. */
 		public void setLinear (int frameIndex) {
-			curves[frameIndex * BEZIER_SIZE] = LINEAR;
+			curves()[frameIndex * BEZIER_SIZE] = LINEAR;
 		}
 
 		/** Sets the specified key frame to stepped interpolation. */
 		public void setStepped (int frameIndex) {
-			curves[frameIndex * BEZIER_SIZE] = STEPPED;
+			curves()[frameIndex * BEZIER_SIZE] = STEPPED;
+		}
+
+		private float[] curves () {
+			if (curves == null) throw new IllegalStateException("The curves of a compact timeline cannot be changed.");
+			return curves;
+		}
+
+		/** Returns true if the curves have been stored in a {@link TimelineCompactor}'s shared curve table. */
+		public boolean isCompact () {
+			return curves == null;
+		}
+
+		/** Stores the Bezier curves in the compactor's shared curve table. Linear and stepped key frames use no curve storage.
+		 * Timelines with a curve lookup table are not compacted. */
+		void compactCurves (TimelineCompactor compactor) {
+			float[] curves = this.curves;
+			if (curves == null || lookup != null) return;
+			char[] curveIndices = null;
+			float[] curveTable;
+			synchronized (compactor) {
+				for (int frame = 0, n = frameCount - 1; frame < n; frame++) {
+					int i = frame * BEZIER_SIZE;
+					float type = curves[i];
+					if (type == LINEAR) continue;
+					if (curveIndices == null) curveIndices = new char[n];
+					if (type == STEPPED)
+						curveIndices[frame] = 1;
+					else {
+						int index = compactor.addCurve(curves, i + 1);
+						if (index == -1) return; // The curve table is full.
+						curveIndices[frame] = (char)(index + 2);
+					}
+				}
+				curveTable = compactor.curves;
+			}
+			this.curveIndices = curveIndices;
+			this.curveTable = curveTable;
+			this.curves = null;
 		}
 
 		/** Returns the interpolation type for the specified key frame.
 		 * @return Linear is 0, stepped is 1, Bezier is 2. */
 		public float getCurveType (int frameIndex) {
+			if (curves == null) {
+				if (curveIndices == null || frameIndex == frameCount - 1) return LINEAR;
+				int index = curveIndices[frameIndex];
+				if (index == 0) return LINEAR;
+				if (index == 1) return STEPPED;
+				return BEZIER;
+			}
 			int index = frameIndex * BEZIER_SIZE;
 			if (index == curves.length) return LINEAR;
 			float type = curves[index];
@@ -215,8 +411,19 @@ public class Animation {
 			float dfx = cx1 * 0.3f + tmpx + dddfx * 0.16666667f, dfy = cy1 * 0.3f + tmpy + dddfy * 0.16666667f;
 
 			int i = frameIndex * BEZIER_SIZE;
-			float[] curves = this.curves;
+			float[] curves = curves();
 			curves[i++] = BEZIER;
+			if (lookup != null) {
+				int offset = lookupOffsets[frameIndex];
+				if (offset == -1) {
+					offset = lookup.length;
+					lookupOffsets[frameIndex] = offset;
+					float[] newLookup = new float[offset + (resolution - 1 << 1)];
+					System.arraycopy(lookup, 0, newLookup, 0, offset);
+					lookup = newLookup;
+				}
+				setLookup(offset, cx1, cy1, cx2, cy2);
+			}
 
 			float x = dfx, y = dfy;
 			for (int n = i + BEZIER_SIZE - 1; i < n; i += 2) {
@@ -235,11 +442,45 @@ public class Animation {
 		public float getCurvePercent (int frameIndex, float percent) {
 			percent = MathUtils.clamp(percent, 0, 1);
 			float[] curves = this.curves;
-			int i = frameIndex * BEZIER_SIZE;
-			float type = curves[i];
-			if (type == LINEAR) return percent;
-			if (type == STEPPED) return 0;
-			i++;
+			int i;
+			if (curves != null) {
+				i = frameIndex * BEZIER_SIZE;
+				float type = curves[i];
+				if (type == LINEAR) return percent;
+				if (type == STEPPED) return 0;
+				float[] lookup = this.lookup;
+				if (lookup != null) {
+					// Binary search for the first point with x >= percent.
+					int start = lookupOffsets[frameIndex], low = 0, high = resolution - 1;
+					while (low < high) {
+						int middle = (low + high) >>> 1;
+						if (lookup[start + (middle << 1)] >= percent)
+							high = middle;
+						else
+							low = middle + 1;
+					}
+					float prevX = 0, prevY = 0, x = 1, y = 1; // The first point is 0,0 and the last is 1,1.
+					i = start + (low << 1);
+					if (low > 0) {
+						prevX = lookup[i - 2];
+						prevY = lookup[i - 1];
+					}
+					if (low < resolution - 1) {
+						x = lookup[i];
+						y = lookup[i + 1];
+					}
+					return prevY + (y - prevY) * (percent - prevX) / (x - prevX);
+				}
+				i++;
+			} else {
+				char[] curveIndices = this.curveIndices;
+				if (curveIndices == null) return percent;
+				int index = curveIndices[frameIndex];
+				if (index == 0) return percent;
+				if (index == 1) return 0;
+				curves = curveTable;
+				i = (index - 2) * CURVE_SIZE;
+			}
 			float x = 0;
 			for (int start = i, n = i + BEZIER_SIZE - 1; i < n; i += 2) {
 				x = curves[i];
@@ -258,6 +499,64 @@ public class Animation {
 			float y = curves[i - 1];
 			return y + (1 - y) * (percent - x) / (1 - x); // Last point is 1,1.
 		}
+
+		/** The number of intervals in the lookup table for each Bezier key frame, or 0 if lookup tables are not used. */
+		public int getCurveResolution () {
+			return resolution;
+		}
+
+		/** When > 0, a lookup table is computed for each Bezier key frame with the exact curve at <code>resolution - 1</code>
+		 * uniformly spaced values of the curve's parameter, so {@link #getCurvePercent(int, float)} uses
+		 * <code>resolution</code> line segments found by a binary search. By default the curve is approximated by 10 line segments
+		 * at uniformly spaced values of the parameter, which are searched linearly. Sampling the parameter places more points
+		 * where the curve is steep, so the lookup table is at least as accurate as the default. Higher resolutions are more
+		 * accurate but use more memory: <code>(resolution - 1) * 2</code> floats for each Bezier key frame. Linear and stepped
+		 * key frames use no lookup table. 0 removes the lookup tables.
+		 * <p>
+		 * The tables are computed from the current curves and are updated by {@link #setCurve(int, float, float, float, float)}.
+		 * The curves of a timeline with lookup tables are not compacted by {@link TimelineCompactor}. */
+		public void setCurveResolution (int resolution) {
+			if (resolution < 0 || (resolution > 0 && resolution < 10))
+				throw new IllegalArgumentException("resolution must be 0 or >= 10: " + resolution);
+			float[] curves = curves();
+			this.resolution = resolution;
+			if (resolution == 0) {
+				lookup = null;
+				lookupOffsets = null;
+				return;
+			}
+			int frameCount = this.frameCount - 1, bezierCount = 0;
+			for (int frame = 0; frame < frameCount; frame++)
+				if (curves[frame * BEZIER_SIZE] == BEZIER) bezierCount++;
+			int size = resolution - 1 << 1;
+			lookup = new float[bezierCount * size];
+			lookupOffsets = new int[frameCount];
+			for (int frame = 0, offset = 0; frame < frameCount; frame++) {
+				int i = frame * BEZIER_SIZE;
+				if (curves[i] != BEZIER) {
+					lookupOffsets[frame] = -1;
+					continue;
+				}
+				lookupOffsets[frame] = offset;
+				// Solve for the control points using the curve at t=0.1 and t=0.9, which are the first and last points stored.
+				double x1 = curves[i + 1] - 0.001, y1 = curves[i + 2] - 0.001;
+				double x9 = curves[i + BEZIER_SIZE - 2] - 0.729, y9 = curves[i + BEZIER_SIZE - 1] - 0.729;
+				setLookup(offset, //
+					(float)((0.243 * x1 - 0.027 * x9) / 0.05832), (float)((0.243 * y1 - 0.027 * y9) / 0.05832), //
+					(float)((0.243 * x9 - 0.027 * x1) / 0.05832), (float)((0.243 * y9 - 0.027 * y1) / 0.05832));
+				offset += size;
+			}
+		}
+
+		/** Stores the points of the Bezier curve from 0,0 to 1,1 at uniformly spaced t, excluding the first and last points. */
+		private void setLookup (int offset, double cx1, double cy1, double cx2, double cy2) {
+			float[] lookup = this.lookup;
+			for (int i = 1, n = resolution; i < n; i++) {
+				double t = (double)i / n, u = 1 - t, a = 3 * u * u * t, b = 3 * u * t * t, c = t * t * t;
+				lookup[offset++] = (float)(a * cx1 + b * cx2 + c);
+				lookup[offset++] = (float)(a * cy1 + b * cy2 + c);
+			}
+		}
 	}
 
 	/** Changes a bone's local {@link Bone#getRotation()}. */
@@ -267,7 +566,8 @@ public class Animation {
 		static final int ROTATION = 1;
 
 		int boneIndex;
-		final float[] frames; // time, degrees, ...
+		float[] frames; // time, degrees, ... Null when quantized.
+		QuantizedFrames quantized;
 
 		public RotateTimeline (int frameCount) {
 			super(frameCount);
@@ -288,33 +588,71 @@ public class Animation {
 			return boneIndex;
 		}
 
-		/** The time in seconds and rotation in degrees for each key frame. */
+		/** The time in seconds and rotation in degrees for each key frame. When {@link #isQuantized() quantized}, a new array with
+		 * the dequantized values is returned. */
 		public float[] getFrames () {
-			return frames;
+			return quantized != null ? quantized.dequantize() : frames;
 		}
 
-		/** Sets the time in seconds and the rotation in degrees for the specified key frame. */
+		/** Sets the time in seconds and the rotation in degrees for the specified key frame. When {@link #isQuantized()
+		 * quantized}, the key frames are first dequantized. */
 		public void setFrame (int frameIndex, float time, float degrees) {
+			if (quantized != null) dequantize();
 			frameIndex <<= 1;
 			frames[frameIndex] = time;
 			frames[frameIndex + ROTATION] = degrees;
 		}
 
+		/** Returns true if the key frame values are stored in 16 bits. See {@link TimelineCompactor#setQuantize(boolean)}. */
+		public boolean isQuantized () {
+			return quantized != null;
+		}
+
+		void quantize () {
+			if (quantized != null) return;
+			quantized = new QuantizedFrames(frames, ENTRIES);
+			frames = null;
+		}
+
+		private void dequantize () {
+			frames = quantized.dequantize();
+			quantized = null;
+		}
+
+		float time (int frame) {
+			return quantized != null ? quantized.times[frame] : frames[frame << 1];
+		}
+
+		float rotation (int frame) {
+			return quantized != null ? quantized.value(frame, 0) : frames[(frame << 1) + ROTATION];
+		}
+
+		/** Returns the index of the first key frame after the time, which must be after the first and before the last key frame. */
+		int findFrame (float time, int[] cursors, int cursor) {
+			if (quantized != null) return search(quantized.times, time, 1, cursors, cursor);
+			return search(frames, time, ENTRIES, cursors, cursor) >> 1;
+		}
+
 		public void apply (Skeleton skeleton, float lastTime, float time, Array<Event> events, float alpha, boolean setupPose,
 			boolean mixingOut) {
+			apply(skeleton, lastTime, time, events, alpha, setupPose, mixingOut, null, 0);
+		}
+
+		public void apply (Skeleton skeleton, float lastTime, float time, Array<Event> events, float alpha, boolean setupPose,
+			boolean mixingOut, int[] cursors, int cursor) {
 
 			Bone bone = skeleton.bones.get(boneIndex);
-			float[] frames = this.frames;
-			if (time < frames[0]) { // Time is before first frame.
+			if (time < time(0)) { // Time is before first frame.
 				if (setupPose) bone.rotation = bone.data.rotation;
 				return;
 			}
 
-			if (time >= frames[frames.length - ENTRIES]) { // Time is after last frame.
+			int last = getFrameCount() - 1;
+			if (time >= time(last)) { // Time is after last frame.
 				if (setupPose)
-					bone.rotation = bone.data.rotation + frames[frames.length + PREV_ROTATION] * alpha;
+					bone.rotation = bone.data.rotation + rotation(last) * alpha;
 				else {
-					float r = bone.data.rotation + frames[frames.length + PREV_ROTATION] - bone.rotation;
+					float r = bone.data.rotation + rotation(last) - bone.rotation;
 					r -= (16384 - (int)(16384.499999999996 - r / 360)) * 360; // Wrap within -180 and 180.
 					bone.rotation += r * alpha;
 				}
@@ -322,12 +660,12 @@ public class Animation {
 			}
 
 			// Interpolate between the previous frame and the current frame.
-			int frame = binarySearch(frames, time, ENTRIES);
-			float prevRotation = frames[frame + PREV_ROTATION];
-			float frameTime = frames[frame];
-			float percent = getCurvePercent((frame >> 1) - 1, 1 - (time - frameTime) / (frames[frame + PREV_TIME] - frameTime));
+			int frame = findFrame(time, cursors, cursor), prev = frame - 1;
+			float prevRotation = rotation(prev);
+			float frameTime = time(frame);
+			float percent = getCurvePercent(prev, 1 - (time - frameTime) / (time(prev) - frameTime));
 
-			float r = frames[frame + ROTATION] - prevRotation;
+			float r = rotation(frame) - prevRotation;
 			r -= (16384 - (int)(16384.499999999996 - r / 360)) * 360;
 			r = prevRotation + r * percent;
 			if (setupPose) {
@@ -339,6 +677,30 @@ public class Animation {
 				bone.rotation += r * alpha;
 			}
 		}
+
+		/** The time of the first key frame. */
+		float getStartTime () {
+			return time(0);
+		}
+
+		/** Returns the bone rotation from this timeline for the specified time, which must not be before the first key frame.
+		 * Interpolated rotations are wrapped within -180 and 180. Used by {@link AnimationState} to mix rotations. */
+		float getRotation (float time, float setupRotation, int[] cursors, int cursor) {
+			int last = getFrameCount() - 1;
+			if (time >= time(last)) return setupRotation + rotation(last); // Time is after last frame.
+
+			// Interpolate between the previous frame and the current frame.
+			int frame = findFrame(time, cursors, cursor), prev = frame - 1;
+			float prevRotation = rotation(prev);
+			float frameTime = time(frame);
+			float percent = getCurvePercent(prev, 1 - (time - frameTime) / (time(prev) - frameTime));
+
+			float r = rotation(frame) - prevRotation;
+			r -= (16384 - (int)(16384.499999999996 - r / 360)) * 360;
+			r = prevRotation + r * percent + setupRotation;
+			r -= (16384 - (int)(16384.499999999996 - r / 360)) * 360;
+			return r;
+		}
 	}
 
 	/** Changes a bone's local {@link Bone#getX()} and {@link Bone#getY()}. */
@@ -348,7 +710,8 @@ public class Animation {
 		static final int X = 1, Y = 2;
 
 		int boneIndex;
-		final float[] frames; // time, x, y, ...
+		float[] frames; // time, x, y, ... Null when quantized.
+		QuantizedFrames quantized;
 
 		public TranslateTimeline (int frameCount) {
 			super(frameCount);
@@ -369,25 +732,66 @@ public class Animation {
 			return boneIndex;
 		}
 
-		/** The time in seconds, x, and y values for each key frame. */
+		/** The time in seconds, x, and y values for each key frame. When {@link #isQuantized() quantized}, a new array with the
+		 * dequantized values is returned. */
 		public float[] getFrames () {
-			return frames;
+			return quantized != null ? quantized.dequantize() : frames;
 		}
 
-		/** Sets the time in seconds, x, and y values for the specified key frame. */
+		/** Sets the time in seconds, x, and y values for the specified key frame. When {@link #isQuantized() quantized}, the key
+		 * frames are first dequantized. */
 		public void setFrame (int frameIndex, float time, float x, float y) {
+			if (quantized != null) dequantize();
 			frameIndex *= ENTRIES;
 			frames[frameIndex] = time;
 			frames[frameIndex + X] = x;
 			frames[frameIndex + Y] = y;
 		}
 
+		/** Returns true if the key frame values are stored in 16 bits. See {@link TimelineCompactor#setQuantize(boolean)}. */
+		public boolean isQuantized () {
+			return quantized != null;
+		}
+
+		void quantize () {
+			if (quantized != null) return;
+			quantized = new QuantizedFrames(frames, ENTRIES);
+			frames = null;
+		}
+
+		private void dequantize () {
+			frames = quantized.dequantize();
+			quantized = null;
+		}
+
+		float time (int frame) {
+			return quantized != null ? quantized.times[frame] : frames[frame * ENTRIES];
+		}
+
+		float x (int frame) {
+			return quantized != null ? quantized.value(frame, 0) : frames[frame * ENTRIES + X];
+		}
+
+		float y (int frame) {
+			return quantized != null ? quantized.value(frame, 1) : frames[frame * ENTRIES + Y];
+		}
+
+		/** Returns the index of the first key frame after the time, which must be after the first and before the last key frame. */
+		int findFrame (float time, int[] cursors, int cursor) {
+			if (quantized != null) return search(quantized.times, time, 1, cursors, cursor);
+			return search(frames, time, ENTRIES, cursors, cursor) / ENTRIES;
+		}
+
 		public void apply (Skeleton skeleton, float lastTime, float time, Array<Event> events, float alpha, boolean setupPose,
 			boolean mixingOut) {
+			apply(skeleton, lastTime, time, events, alpha, setupPose, mixingOut, null, 0);
+		}
+
+		public void apply (Skeleton skeleton, float lastTime, float time, Array<Event> events, float alpha, boolean setupPose,
+			boolean mixingOut, int[] cursors, int cursor) {
 
 			Bone bone = skeleton.bones.get(boneIndex);
-			float[] frames = this.frames;
-			if (time < frames[0]) { // Time is before first frame.
+			if (time < time(0)) { // Time is before first frame.
 				if (setupPose) {
 					bone.x = bone.data.x;
 					bone.y = bone.data.y;
@@ -396,20 +800,20 @@ public class Animation {
 			}
 
 			float x, y;
-			if (time >= frames[frames.length - ENTRIES]) { // Time is after last frame.
-				x = frames[frames.length + PREV_X];
-				y = frames[frames.length + PREV_Y];
+			int last = getFrameCount() - 1;
+			if (time >= time(last)) { // Time is after last frame.
+				x = x(last);
+				y = y(last);
 			} else {
 				// Interpolate between the previous frame and the current frame.
-				int frame = binarySearch(frames, time, ENTRIES);
-				x = frames[frame + PREV_X];
-				y = frames[frame + PREV_Y];
-				float frameTime = frames[frame];
-				float percent = getCurvePercent(frame / ENTRIES - 1,
-					1 - (time - frameTime) / (frames[frame + PREV_TIME] - frameTime));
-
-				x += (frames[frame + X] - x) * percent;
-				y += (frames[frame + Y] - y) * percent;
+				int frame = findFrame(time, cursors, cursor), prev = frame - 1;
+				x = x(prev);
+				y = y(prev);
+				float frameTime = time(frame);
+				float percent = getCurvePercent(prev, 1 - (time - frameTime) / (time(prev) - frameTime));
+
+				x += (x(frame) - x) * percent;
+				y += (y(frame) - y) * percent;
 			}
 			if (setupPose) {
 				bone.x = bone.data.x + x * alpha;
@@ -432,11 +836,10 @@ public class Animation {
 		}
 
 		public void apply (Skeleton skeleton, float lastTime, float time, Array<Event> events, float alpha, boolean setupPose,
-			boolean mixingOut) {
+			boolean mixingOut, int[] cursors, int cursor) {
 
 			Bone bone = skeleton.bones.get(boneIndex);
-			float[] frames = this.frames;
-			if (time < frames[0]) { // Time is before first frame.
+			if (time < time(0)) { // Time is before first frame.
 				if (setupPose) {
 					bone.scaleX = bone.data.scaleX;
 					bone.scaleY = bone.data.scaleY;
@@ -445,20 +848,20 @@ public class Animation {
 			}
 
 			float x, y;
-			if (time >= frames[frames.length - ENTRIES]) { // Time is after last frame.
-				x = frames[frames.length + PREV_X] * bone.data.scaleX;
-				y = frames[frames.length + PREV_Y] * bone.data.scaleY;
+			int last = getFrameCount() - 1;
+			if (time >= time(last)) { // Time is after last frame.
+				x = x(last) * bone.data.scaleX;
+				y = y(last) * bone.data.scaleY;
 			} else {
 				// Interpolate between the previous frame and the current frame.
-				int frame = binarySearch(frames, time, ENTRIES);
-				x = frames[frame + PREV_X];
-				y = frames[frame + PREV_Y];
-				float frameTime = frames[frame];
-				float percent = getCurvePercent(frame / ENTRIES - 1,
-					1 - (time - frameTime) / (frames[frame + PREV_TIME] - frameTime));
-
-				x = (x + (frames[frame + X] - x) * percent) * bone.data.scaleX;
-				y = (y + (frames[frame + Y] - y) * percent) * bone.data.scaleY;
+				int frame = findFrame(time, cursors, cursor), prev = frame - 1;
+				x = x(prev);
+				y = y(prev);
+				float frameTime = time(frame);
+				float percent = getCurvePercent(prev, 1 - (time - frameTime) / (time(prev) - frameTime));
+
+				x = (x + (x(frame) - x) * percent) * bone.data.scaleX;
+				y = (y + (y(frame) - y) * percent) * bone.data.scaleY;
 			}
 			if (alpha == 1) {
 				bone.scaleX = x;
@@ -497,11 +900,10 @@ public class Animation {
 		}
 
 		public void apply (Skeleton skeleton, float lastTime, float time, Array<Event> events, float alpha, boolean setupPose,
-			boolean mixingOut) {
+			boolean mixingOut, int[] cursors, int cursor) {
 
 			Bone bone = skeleton.bones.get(boneIndex);
-			float[] frames = this.frames;
-			if (time < frames[0]) { // Time is before first frame.
+			if (time < time(0)) { // Time is before first frame.
 				if (setupPose) {
 					bone.shearX = bone.data.shearX;
 					bone.shearY = bone.data.shearY;
@@ -510,20 +912,20 @@ public class Animation {
 			}
 
 			float x, y;
-			if (time >= frames[frames.length - ENTRIES]) { // Time is after last frame.
-				x = frames[frames.length + PREV_X];
-				y = frames[frames.length + PREV_Y];
+			int last = getFrameCount() - 1;
+			if (time >= time(last)) { // Time is after last frame.
+				x = x(last);
+				y = y(last);
 			} else {
 				// Interpolate between the previous frame and the current frame.
-				int frame = binarySearch(frames, time, ENTRIES);
-				x = frames[frame + PREV_X];
-				y = frames[frame + PREV_Y];
-				float frameTime = frames[frame];
-				float percent = getCurvePercent(frame / ENTRIES - 1,
-					1 - (time - frameTime) / (frames[frame + PREV_TIME] - frameTime));
-
-				x = x + (frames[frame + X] - x) * percent;
-				y = y + (frames[frame + Y] - y) * percent;
+				int frame = findFrame(time, cursors, cursor), prev = frame - 1;
+				x = x(prev);
+				y = y(prev);
+				float frameTime = time(frame);
+				float percent = getCurvePercent(prev, 1 - (time - frameTime) / (time(prev) - frameTime));
+
+				x = x + (x(frame) - x) * percent;
+				y = y + (y(frame) - y) * percent;
 			}
 			if (setupPose) {
 				bone.shearX = bone.data.shearX + x * alpha;
@@ -538,11 +940,11 @@ public class Animation {
 	/** Changes a slot's {@link Slot#getColor()}. */
 	static public class ColorTimeline extends CurveTimeline {
 		static public final int ENTRIES = 5;
-		static private final int PREV_TIME = -5, PREV_R = -4, PREV_G = -3, PREV_B = -2, PREV_A = -1;
 		static private final int R = 1, G = 2, B = 3, A = 4;
 
 		int slotIndex;
-		private final float[] frames; // time, r, g, b, a, ...
+		private float[] frames; // time, r, g, b, a, ... Null when quantized.
+		private QuantizedFrames quantized;
 
 		public ColorTimeline (int frameCount) {
 			super(frameCount);
@@ -563,13 +965,16 @@ public class Animation {
 			return slotIndex;
 		}
 
-		/** The time in seconds, red, green, blue, and alpha values for each key frame. */
+		/** The time in seconds, red, green, blue, and alpha values for each key frame. When {@link #isQuantized() quantized}, a
+		 * new array with the dequantized values is returned. */
 		public float[] getFrames () {
-			return frames;
+			return quantized != null ? quantized.dequantize() : frames;
 		}
 
-		/** Sets the time in seconds, red, green, blue, and alpha for the specified key frame. */
+		/** Sets the time in seconds, red, green, blue, and alpha for the specified key frame. When {@link #isQuantized()
+		 * quantized}, the key frames are first dequantized. */
 		public void setFrame (int frameIndex, float time, float r, float g, float b, float a) {
+			if (quantized != null) dequantize();
 			frameIndex *= ENTRIES;
 			frames[frameIndex] = time;
 			frames[frameIndex + R] = r;
@@ -578,38 +983,72 @@ public class Animation {
 			frames[frameIndex + A] = a;
 		}
 
+		/** Returns true if the key frame values are stored in 16 bits. See {@link TimelineCompactor#setQuantize(boolean)}. */
+		public boolean isQuantized () {
+			return quantized != null;
+		}
+
+		void quantize () {
+			if (quantized != null) return;
+			quantized = new QuantizedFrames(frames, ENTRIES);
+			frames = null;
+		}
+
+		private void dequantize () {
+			frames = quantized.dequantize();
+			quantized = null;
+		}
+
+		private float time (int frame) {
+			return quantized != null ? quantized.times[frame] : frames[frame * ENTRIES];
+		}
+
+		/** @param channel 0 for red, 1 for green, 2 for blue, 3 for alpha. */
+		private float value (int frame, int channel) {
+			return quantized != null ? quantized.value(frame, channel) : frames[frame * ENTRIES + 1 + channel];
+		}
+
+		/** Returns the index of the first key frame after the time, which must be after the first and before the last key frame. */
+		private int findFrame (float time, int[] cursors, int cursor) {
+			if (quantized != null) return search(quantized.times, time, 1, cursors, cursor);
+			return search(frames, time, ENTRIES, cursors, cursor) / ENTRIES;
+		}
+
 		public void apply (Skeleton skeleton, float lastTime, float time, Array<Event> events, float alpha, boolean setupPose,
 			boolean mixingOut) {
+			apply(skeleton, lastTime, time, events, alpha, setupPose, mixingOut, null, 0);
+		}
+
+		public void apply (Skeleton skeleton, float lastTime, float time, Array<Event> events, float alpha, boolean setupPose,
+			boolean mixingOut, int[] cursors, int cursor) {
 
 			Slot slot = skeleton.slots.get(slotIndex);
-			float[] frames = this.frames;
-			if (time < frames[0]) { // Time is before first frame.
+			if (time < time(0)) { // Time is before first frame.
 				if (setupPose) slot.color.set(slot.data.color);
 				return;
 			}
 
 			float r, g, b, a;
-			if (time >= frames[frames.length - ENTRIES]) { // Time is after last frame.
-				int i = frames.length;
-				r = frames[i + PREV_R];
-				g = frames[i + PREV_G];
-				b = frames[i + PREV_B];
-				a = frames[i + PREV_A];
+			int last = getFrameCount() - 1;
+			if (time >= time(last)) { // Time is after last frame.
+				r = value(last, 0);
+				g = value(last, 1);
+				b = value(last, 2);
+				a = value(last, 3);
 			} else {
 				// Interpolate between the previous frame and the current frame.
-				int frame = binarySearch(frames, time, ENTRIES);
-				r = frames[frame + PREV_R];
-				g = frames[frame + PREV_G];
-				b = frames[frame + PREV_B];
-				a = frames[frame + PREV_A];
-				float frameTime = frames[frame];
-				float percent = getCurvePercent(frame / ENTRIES - 1,
-					1 - (time - frameTime) / (frames[frame + PREV_TIME] - frameTime));
-
-				r += (frames[frame + R] - r) * percent;
-				g += (frames[frame + G] - g) * percent;
-				b += (frames[frame + B] - b) * percent;
-				a += (frames[frame + A] - a) * percent;
+				int frame = findFrame(time, cursors, cursor), prev = frame - 1;
+				r = value(prev, 0);
+				g = value(prev, 1);
+				b = value(prev, 2);
+				a = value(prev, 3);
+				float frameTime = time(frame);
+				float percent = getCurvePercent(prev, 1 - (time - frameTime) / (time(prev) - frameTime));
+
+				r += (value(frame, 0) - r) * percent;
+				g += (value(frame, 1) - g) * percent;
+				b += (value(frame, 2) - b) * percent;
+				a += (value(frame, 3) - a) * percent;
 			}
 			if (alpha == 1)
 				slot.color.set(r, g, b, a);
@@ -622,7 +1061,7 @@ public class Animation {
 	}
 
 	/** Changes a slot's {@link Slot#getAttachment()}. */
-	static public class AttachmentTimeline implements Timeline {
+	static public class AttachmentTimeline implements CursorTimeline {
 		int slotIndex;
 		final float[] frames; // time, ...
 		final String[] attachmentNames;
@@ -669,6 +1108,11 @@ public class Animation {
 
 		public void apply (Skeleton skeleton, float lastTime, float time, Array<Event> events, float alpha, boolean setupPose,
 			boolean mixingOut) {
+			apply(skeleton, lastTime, time, events, alpha, setupPose, mixingOut, null, 0);
+		}
+
+		public void apply (Skeleton skeleton, float lastTime, float time, Array<Event> events, float alpha, boolean setupPose,
+			boolean mixingOut, int[] cursors, int cursor) {
 
 			Slot slot = skeleton.slots.get(slotIndex);
 			if (mixingOut && setupPose) {
@@ -690,7 +1134,7 @@ public class Animation {
 			if (time >= frames[frames.length - 1]) // Time is after last frame.
 				frameIndex = frames.length - 1;
 			else
-				frameIndex = binarySearch(frames, time) - 1;
+				frameIndex = search(frames, time, 1, cursors, cursor) - 1;
 
 			String attachmentName = attachmentNames[frameIndex];
 			slot.setAttachment(attachmentName == null ? null : skeleton.getAttachment(slotIndex, attachmentName));
@@ -752,28 +1196,44 @@ public class Animation {
 
 		public void apply (Skeleton skeleton, float lastTime, float time, Array<Event> firedEvents, float alpha, boolean setupPose,
 			boolean mixingOut) {
+			apply(skeleton, lastTime, time, firedEvents, alpha, setupPose, mixingOut, null, 0);
+		}
+
+		public void apply (Skeleton skeleton, float lastTime, float time, Array<Event> firedEvents, float alpha, boolean setupPose,
+			boolean mixingOut, int[] cursors, int cursor) {
 
 			Slot slot = skeleton.slots.get(slotIndex);
 			Attachment slotAttachment = slot.attachment;
 			if (!(slotAttachment instanceof VertexAttachment) || !((VertexAttachment)slotAttachment).applyDeform(attachment)) return;
 
+			// The deform version is changed only if the vertices change, so vertices computed from them can be reused.
 			FloatArray verticesArray = slot.getAttachmentVertices();
 			float[] frames = this.frames;
 			if (time < frames[0]) { // Time is before first frame.
-				if (setupPose) verticesArray.size = 0;
+				if (setupPose && verticesArray.size != 0) {
+					verticesArray.size = 0;
+					slot.deformVersion++;
+				}
 				return;
 			}
 
 			float[][] frameVertices = this.frameVertices;
 			int vertexCount = frameVertices[0].length;
-			if (verticesArray.size != vertexCount) alpha = 1; // Don't mix from uninitialized slot vertices.
+			boolean changed = verticesArray.size != vertexCount;
+			if (changed) alpha = 1; // Don't mix from uninitialized slot vertices.
 			float[] vertices = verticesArray.setSize(vertexCount);
 
 			if (time >= frames[frames.length - 1]) { // Time is after last frame.
 				float[] lastVertices = frameVertices[frames.length - 1];
 				if (alpha == 1) {
 					// Vertex positions or deform offsets, no alpha.
-					System.arraycopy(lastVertices, 0, vertices, 0, vertexCount);
+					for (int i = 0; i < vertexCount; i++) {
+						float value = lastVertices[i];
+						if (vertices[i] != value) {
+							vertices[i] = value;
+							changed = true;
+						}
+					}
 				} else if (setupPose) {
 					VertexAttachment vertexAttachment = (VertexAttachment)slotAttachment;
 					if (vertexAttachment.getBones() == null) {
@@ -781,23 +1241,38 @@ public class Animation {
 						float[] setupVertices = vertexAttachment.getVertices();
 						for (int i = 0; i < vertexCount; i++) {
 							float setup = setupVertices[i];
-							vertices[i] = setup + (lastVertices[i] - setup) * alpha;
+							float value = setup + (lastVertices[i] - setup) * alpha;
+							if (vertices[i] != value) {
+								vertices[i] = value;
+								changed = true;
+							}
 						}
 					} else {
 						// Weighted deform offsets, with alpha.
-						for (int i = 0; i < vertexCount; i++)
-							vertices[i] = lastVertices[i] * alpha;
+						for (int i = 0; i < vertexCount; i++) {
+							float value = lastVertices[i] * alpha;
+							if (vertices[i] != value) {
+								vertices[i] = value;
+								changed = true;
+							}
+						}
 					}
 				} else {
 					// Vertex positions or deform offsets, with alpha.
-					for (int i = 0; i < vertexCount; i++)
-						vertices[i] += (lastVertices[i] - vertices[i]) * alpha;
+					for (int i = 0; i < vertexCount; i++) {
+						float value = vertices[i] + (lastVertices[i] - vertices[i]) * alpha;
+						if (vertices[i] != value) {
+							vertices[i] = value;
+							changed = true;
+						}
+					}
 				}
+				if (changed) slot.deformVersion++;
 				return;
 			}
 
 			// Interpolate between the previous frame and the current frame.
-			int frame = binarySearch(frames, time);
+			int frame = search(frames, time, 1, cursors, cursor);
 			float[] prevVertices = frameVertices[frame - 1];
 			float[] nextVertices = frameVertices[frame];
 			float frameTime = frames[frame];
@@ -807,7 +1282,11 @@ public class Animation {
 				// Vertex positions or deform offsets, no alpha.
 				for (int i = 0; i < vertexCount; i++) {
 					float prev = prevVertices[i];
-					vertices[i] = prev + (nextVertices[i] - prev) * percent;
+					float value = prev + (nextVertices[i] - prev) * percent;
+					if (vertices[i] != value) {
+						vertices[i] = value;
+						changed = true;
+					}
 				}
 			} else if (setupPose) {
 				VertexAttachment vertexAttachment = (VertexAttachment)slotAttachment;
@@ -816,22 +1295,35 @@ public class Animation {
 					float[] setupVertices = vertexAttachment.getVertices();
 					for (int i = 0; i < vertexCount; i++) {
 						float prev = prevVertices[i], setup = setupVertices[i];
-						vertices[i] = setup + (prev + (nextVertices[i] - prev) * percent - setup) * alpha;
+						float value = setup + (prev + (nextVertices[i] - prev) * percent - setup) * alpha;
+						if (vertices[i] != value) {
+							vertices[i] = value;
+							changed = true;
+						}
 					}
 				} else {
 					// Weighted deform offsets, with alpha.
 					for (int i = 0; i < vertexCount; i++) {
 						float prev = prevVertices[i];
-						vertices[i] = (prev + (nextVertices[i] - prev) * percent) * alpha;
+						float value = (prev + (nextVertices[i] - prev) * percent) * alpha;
+						if (vertices[i] != value) {
+							vertices[i] = value;
+							changed = true;
+						}
 					}
 				}
 			} else {
 				// Vertex positions or deform offsets, with alpha.
 				for (int i = 0; i < vertexCount; i++) {
 					float prev = prevVertices[i];
-					vertices[i] += (prev + (nextVertices[i] - prev) * percent - vertices[i]) * alpha;
+					float value = vertices[i] + (prev + (nextVertices[i] - prev) * percent - vertices[i]) * alpha;
+					if (vertices[i] != value) {
+						vertices[i] = value;
+						changed = true;
+					}
 				}
 			}
+			if (changed) slot.deformVersion++;
 		}
 	}
 
@@ -902,7 +1394,7 @@ public class Animation {
 	}
 
 	/** Changes a skeleton's {@link Skeleton#getDrawOrder()}. */
-	static public class DrawOrderTimeline implements Timeline {
+	static public class DrawOrderTimeline implements CursorTimeline {
 		private final float[] frames; // time, ...
 		private final int[][] drawOrders;
 
@@ -940,6 +1432,11 @@ public class Animation {
 
 		public void apply (Skeleton skeleton, float lastTime, float time, Array<Event> firedEvents, float alpha, boolean setupPose,
 			boolean mixingOut) {
+			apply(skeleton, lastTime, time, firedEvents, alpha, setupPose, mixingOut, null, 0);
+		}
+
+		public void apply (Skeleton skeleton, float lastTime, float time, Array<Event> firedEvents, float alpha, boolean setupPose,
+			boolean mixingOut, int[] cursors, int cursor) {
 
 			Array<Slot> drawOrder = skeleton.drawOrder;
 			Array<Slot> slots = skeleton.slots;
@@ -958,7 +1455,7 @@ public class Animation {
 			if (time >= frames[frames.length - 1]) // Time is after last frame.
 				frame = frames.length - 1;
 			else
-				frame = binarySearch(frames, time) - 1;
+				frame = search(frames, time, 1, cursors, cursor) - 1;
 
 			int[] drawOrderToSetupIndex = drawOrders[frame];
 			if (drawOrderToSetupIndex == null)
@@ -1013,6 +1510,11 @@ public class Animation {
 
 		public void apply (Skeleton skeleton, float lastTime, float time, Array<Event> events, float alpha, boolean setupPose,
 			boolean mixingOut) {
+			apply(skeleton, lastTime, time, events, alpha, setupPose, mixingOut, null, 0);
+		}
+
+		public void apply (Skeleton skeleton, float lastTime, float time, Array<Event> events, float alpha, boolean setupPose,
+			boolean mixingOut, int[] cursors, int cursor) {
 
 			IkConstraint constraint = skeleton.ikConstraints.get(ikConstraintIndex);
 			float[] frames = this.frames;
@@ -1037,7 +1539,7 @@ public class Animation {
 			}
 
 			// Interpolate between the previous frame and the current frame.
-			int frame = binarySearch(frames, time, ENTRIES);
+			int frame = search(frames, time, ENTRIES, cursors, cursor);
 			float mix = frames[frame + PREV_MIX];
 			float frameTime = frames[frame];
 			float percent = getCurvePercent(frame / ENTRIES - 1, 1 - (time - frameTime) / (frames[frame + PREV_TIME] - frameTime));
@@ -1097,6 +1599,11 @@ public class Animation {
 
 		public void apply (Skeleton skeleton, float lastTime, float time, Array<Event> events, float alpha, boolean setupPose,
 			boolean mixingOut) {
+			apply(skeleton, lastTime, time, events, alpha, setupPose, mixingOut, null, 0);
+		}
+
+		public void apply (Skeleton skeleton, float lastTime, float time, Array<Event> events, float alpha, boolean setupPose,
+			boolean mixingOut, int[] cursors, int cursor) {
 
 			TransformConstraint constraint = skeleton.transformConstraints.get(transformConstraintIndex);
 			float[] frames = this.frames;
@@ -1120,7 +1627,7 @@ public class Animation {
 				shear = frames[i + PREV_SHEAR];
 			} else {
 				// Interpolate between the previous frame and the current frame.
-				int frame = binarySearch(frames, time, ENTRIES);
+				int frame = search(frames, time, ENTRIES, cursors, cursor);
 				rotate = frames[frame + PREV_ROTATE];
 				translate = frames[frame + PREV_TRANSLATE];
 				scale = frames[frame + PREV_SCALE];
@@ -1192,6 +1699,11 @@ public class Animation {
 
 		public void apply (Skeleton skeleton, float lastTime, float time, Array<Event> events, float alpha, boolean setupPose,
 			boolean mixingOut) {
+			apply(skeleton, lastTime, time, events, alpha, setupPose, mixingOut, null, 0);
+		}
+
+		public void apply (Skeleton skeleton, float lastTime, float time, Array<Event> events, float alpha, boolean setupPose,
+			boolean mixingOut, int[] cursors, int cursor) {
 
 			PathConstraint constraint = skeleton.pathConstraints.get(pathConstraintIndex);
 			float[] frames = this.frames;
@@ -1205,7 +1717,7 @@ public class Animation {
 				position = frames[frames.length + PREV_VALUE];
 			else {
 				// Interpolate between the previous frame and the current frame.
-				int frame = binarySearch(frames, time, ENTRIES);
+				int frame = search(frames, time, ENTRIES, cursors, cursor);
 				position = frames[frame + PREV_VALUE];
 				float frameTime = frames[frame];
 				float percent = getCurvePercent(frame / ENTRIES - 1,
@@ -1231,7 +1743,7 @@ public class Animation {
 		}
 
 		public void apply (Skeleton skeleton, float lastTime, float time, Array<Event> events, float alpha, boolean setupPose,
-			boolean mixingOut) {
+			boolean mixingOut, int[] cursors, int cursor) {
 
 			PathConstraint constraint = skeleton.pathConstraints.get(pathConstraintIndex);
 			float[] frames = this.frames;
@@ -1245,7 +1757,7 @@ public class Animation {
 				spacing = frames[frames.length + PREV_VALUE];
 			else {
 				// Interpolate between the previous frame and the current frame.
-				int frame = binarySearch(frames, time, ENTRIES);
+				int frame = search(frames, time, ENTRIES, cursors, cursor);
 				spacing = frames[frame + PREV_VALUE];
 				float frameTime = frames[frame];
 				float percent = getCurvePercent(frame / ENTRIES - 1,
@@ -1305,6 +1817,11 @@ public class Animation {
 
 		public void apply (Skeleton skeleton, float lastTime, float time, Array<Event> events, float alpha, boolean setupPose,
 			boolean mixingOut) {
+			apply(skeleton, lastTime, time, events, alpha, setupPose, mixingOut, null, 0);
+		}
+
+		public void apply (Skeleton skeleton, float lastTime, float time, Array<Event> events, float alpha, boolean setupPose,
+			boolean mixingOut, int[] cursors, int cursor) {
 
 			PathConstraint constraint = skeleton.pathConstraints.get(pathConstraintIndex);
 			float[] frames = this.frames;
@@ -1322,7 +1839,7 @@ public class Animation {
 				translate = frames[frames.length + PREV_TRANSLATE];
 			} else {
 				// Interpolate between the previous frame and the current frame.
-				int frame = binarySearch(frames, time, ENTRIES);
+				int frame = search(frames, time, ENTRIES, cursors, cursor);
 				rotate = frames[frame + PREV_ROTATE];
 				translate = frames[frame + PREV_TRANSLATE];
 				float frameTime = frames[frame];
@@ -0,0 +1,207 @@
+/******************************************************************************
+ * Spine Runtimes Software License v2.5
+ *
+ * Copyright (c) 2013-2016, Esoteric Software
+ * All rights reserved.
+ *
+ * You are granted a perpetual, non-exclusive, non-sublicensable, and
+ * non-transferable license to use, install, execute, and perform the Spine
+ * Runtimes software and derivative works solely for personal or internal
+ * use. Without the written permission of Esoteric Software (see Section 2 of
+ * the Spine Software License Agreement), you may not (a) modify, translate,
+ * adapt, or develop new applications using the Spine Runtimes or otherwise
+ * create derivative works or improvements of the Spine Runtimes or (b) remove,
+ * delete, alter, or obscure any trademarks or any copyright, trademark, patent,
+ * or other intellectual property or proprietary rights notices on or in the
+ * Software, including any copy thereof. Redistributions in binary or source
+ * form must include this license and terms.
+ *
+ * THIS SOFTWARE IS PROVIDED BY ESOTERIC SOFTWARE "AS IS" AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO
+ * EVENT SHALL ESOTERIC SOFTWARE BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES, BUSINESS INTERRUPTION, OR LOSS OF
+ * USE, DATA, OR PROFITS) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ *****************************************************************************/
+
+package com.esotericsoftware.spine;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.esotericsoftware.spine.attachments.Attachment;
+
+/** Samples an animation at a fixed rate to create a {@link BakedAnimation}, which stores the bone world transforms, slot
+ * attachments, slot colors and draw order for each sample.
+ * <p>
+ * Baking trades memory for CPU: a baked animation is played back without evaluating timelines or computing world transforms.
+ * The memory used is configured by the {@link #setFps(float) sampling rate} and by {@link #setQuantize(boolean) quantizing}
+ * the world transforms to 16 bits.
+ * <p>
+ * Deform timelines and events are not baked. */
+public class AnimationBaker {
+	float fps = 30;
+	boolean quantize;
+
+	/** Bakes the animation using a new skeleton with the skeleton data's default skin.
+	 * <p>
+	 * See {@link #bake(Skeleton, Animation)}. */
+	public BakedAnimation bake (SkeletonData data, Animation animation) {
+		if (data == null) throw new IllegalArgumentException("data cannot be null.");
+		return bake(new Skeleton(data), animation);
+	}
+
+	/** Bakes the animation using the specified skeleton's skin. The skeleton is used to apply the animation, so its pose is
+	 * changed. Its position, flip and color are not used and are restored afterward. */
+	public BakedAnimation bake (Skeleton skeleton, Animation animation) {
+		if (skeleton == null) throw new IllegalArgumentException("skeleton cannot be null.");
+		if (animation == null) throw new IllegalArgumentException("animation cannot be null.");
+
+		float oldX = skeleton.x, oldY = skeleton.y;
+		boolean oldFlipX = skeleton.flipX, oldFlipY = skeleton.flipY;
+		skeleton.x = 0;
+		skeleton.y = 0;
+		skeleton.flipX = false;
+		skeleton.flipY = false;
+
+		Array<Bone> bones = skeleton.bones;
+		Array<Slot> slots = skeleton.slots;
+		int boneCount = bones.size, slotCount = slots.size;
+		float duration = animation.duration;
+		int frameCount = duration > 0 ? (int)Math.ceil(duration * fps) + 1 : 1;
+		float frameDuration = frameCount > 1 ? duration / (frameCount - 1) : 0;
+
+		BakedAnimation baked = new BakedAnimation(animation.name, skeleton.skin == null ? null : skeleton.skin.name, frameCount,
+			frameDuration, boneCount, slotCount);
+		float[] transforms = new float[frameCount * boneCount * 6];
+		short[] attachments = new short[frameCount * slotCount];
+		int[] colors = new int[frameCount * slotCount];
+		short[] drawOrders = new short[frameCount * slotCount];
+		Array<Attachment> attachmentTable = new Array();
+		IntArray attachmentSlots = new IntArray();
+		try {
+			for (int frame = 0; frame < frameCount; frame++) {
+				float time = frame == frameCount - 1 ? duration : frame * frameDuration;
+				skeleton.setToSetupPose();
+				animation.apply(skeleton, time, time, false, null, 1, true, false);
+				skeleton.updateWorldTransform();
+
+				for (int i = 0, t = frame * boneCount * 6; i < boneCount; i++, t += 6) {
+					Bone bone = bones.get(i);
+					transforms[t] = bone.a;
+					transforms[t + 1] = bone.b;
+					transforms[t + 2] = bone.worldX;
+					transforms[t + 3] = bone.c;
+					transforms[t + 4] = bone.d;
+					transforms[t + 5] = bone.worldY;
+				}
+				for (int i = 0, s = frame * slotCount; i < slotCount; i++, s++) {
+					Slot slot = slots.get(i);
+					int index = -1;
+					Attachment attachment = slot.attachment;
+					if (attachment != null) {
+						index = attachmentTable.indexOf(attachment, true);
+						if (index == -1) {
+							index = attachmentTable.size;
+							attachmentTable.add(attachment);
+							attachmentSlots.add(i);
+						}
+					}
+					attachments[s] = (short)index;
+					colors[s] = Color.rgba8888(slot.color);
+					drawOrders[s] = (short)skeleton.drawOrder.get(i).data.index;
+				}
+			}
+		} finally {
+			skeleton.x = oldX;
+			skeleton.y = oldY;
+			skeleton.flipX = oldFlipX;
+			skeleton.flipY = oldFlipY;
+		}
+
+		baked.setTransforms(transforms, quantize);
+		baked.setAttachments(attachmentTable, attachmentSlots, names(skeleton, attachmentTable, attachmentSlots),
+			stepped(attachments, frameCount, slotCount));
+		baked.colors = stepped(colors, frameCount, slotCount);
+		short[] setupOrder = new short[slotCount];
+		for (int i = 0; i < slotCount; i++)
+			setupOrder[i] = (short)i;
+		drawOrders = stepped(drawOrders, frameCount, slotCount);
+		if (drawOrders.length == slotCount && equal(drawOrders, setupOrder)) drawOrders = null;
+		baked.drawOrders = drawOrders;
+		return baked;
+	}
+
+	/** Returns the name used to look up each attachment in the skeleton's skin or the default skin. */
+	private String[] names (Skeleton skeleton, Array<Attachment> attachments, IntArray slots) {
+		String[] names = new String[attachments.size];
+		Array<String> slotNames = new Array();
+		outer:
+		for (int i = 0; i < attachments.size; i++) {
+			Attachment attachment = attachments.get(i);
+			int slotIndex = slots.get(i);
+			for (int ii = 0; ii < 2; ii++) {
+				Skin skin = ii == 0 ? skeleton.skin : skeleton.data.defaultSkin;
+				if (skin == null) continue;
+				slotNames.clear();
+				skin.findNamesForSlot(slotIndex, slotNames);
+				for (String name : slotNames) {
+					if (skin.getAttachment(slotIndex, name) == attachment) {
+						names[i] = name;
+						continue outer;
+					}
+				}
+			}
+			names[i] = attachment.getName();
+		}
+		return names;
+	}
+
+	/** Returns only the first frame if all frames are the same. */
+	static private short[] stepped (short[] values, int frameCount, int size) {
+		for (int i = size, n = frameCount * size; i < n; i++)
+			if (values[i] != values[i % size]) return values;
+		short[] first = new short[size];
+		System.arraycopy(values, 0, first, 0, size);
+		return first;
+	}
+
+	/** Returns only the first frame if all frames are the same. */
+	static private int[] stepped (int[] values, int frameCount, int size) {
+		for (int i = size, n = frameCount * size; i < n; i++)
+			if (values[i] != values[i % size]) return values;
+		int[] first = new int[size];
+		System.arraycopy(values, 0, first, 0, size);
+		return first;
+	}
+
+	static private boolean equal (short[] a, short[] b) {
+		for (int i = 0, n = a.length; i < n; i++)
+			if (a[i] != b[i]) return false;
+		return true;
+	}
+
+	/** The number of samples per second. Higher values are more accurate but use more memory. Defaults to 30. */
+	public float getFps () {
+		return fps;
+	}
+
+	public void setFps (float fps) {
+		if (fps <= 0) throw new IllegalArgumentException("fps must be > 0: " + fps);
+		this.fps = fps;
+	}
+
+	/** When true, the world transforms are stored using 16 bits per value, relative to the range of each value over the
+	 * animation, which halves the memory used. Defaults to false. */
+	public boolean getQuantize () {
+		return quantize;
+	}
+
+	public void setQuantize (boolean quantize) {
+		this.quantize = quantize;
+	}
+}
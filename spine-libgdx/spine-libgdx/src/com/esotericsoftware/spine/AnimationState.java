@@ -30,16 +30,19 @@
 
 package com.esotericsoftware.spine;
 
-import static com.esotericsoftware.spine.Animation.RotateTimeline.*;
+import java.util.Arrays;
 
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.BooleanArray;
 import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IntArray;
 import com.badlogic.gdx.utils.IntSet;
 import com.badlogic.gdx.utils.Pool;
 import com.badlogic.gdx.utils.Pool.Poolable;
 import com.esotericsoftware.spine.Animation.AttachmentTimeline;
+import com.esotericsoftware.spine.Animation.CursorTimeline;
 import com.esotericsoftware.spine.Animation.DrawOrderTimeline;
+import com.esotericsoftware.spine.Animation.EventTimeline;
 import com.esotericsoftware.spine.Animation.RotateTimeline;
 import com.esotericsoftware.spine.Animation.Timeline;
 
@@ -50,10 +53,17 @@ import com.esotericsoftware.spine.Animation.Timeline;
 public class AnimationState {
 	static private final Animation emptyAnimation = new Animation("<empty>", new Array(0), 0);
 
+	/** Listener notification types. They are bits so they can be combined into a mask, see
+	 * {@link #addListener(AnimationStateListener, int, String...)}. */
+	static public final int START = 1, INTERRUPT = 1 << 1, END = 1 << 2, DISPOSE = 1 << 3, COMPLETE = 1 << 4, EVENT = 1 << 5;
+	static public final int ALL = START | INTERRUPT | END | DISPOSE | COMPLETE | EVENT;
+
 	private AnimationStateData data;
 	final Array<TrackEntry> tracks = new Array();
 	private final Array<Event> events = new Array();
 	final Array<AnimationStateListener> listeners = new Array();
+	final IntArray listenerTypes = new IntArray();
+	final Array<EventData[]> listenerEvents = new Array();
 	private final EventQueue queue = new EventQueue();
 	private final IntSet propertyIDs = new IntSet();
 	boolean animationsChanged;
@@ -164,11 +174,20 @@ public class AnimationState {
 
 			// Apply current entry.
 			float animationLast = current.animationLast, animationTime = current.getAnimationTime();
-			int timelineCount = current.animation.timelines.size;
-			Object[] timelines = current.animation.timelines.items;
+			Array<Timeline> animationTimelines = current.animation.getTimelines();
+			int timelineCount = animationTimelines.size;
+			Object[] timelines = animationTimelines.items;
+			int[] timelinesFrame = timelinesFrame(current, timelineCount);
+			// Timelines are only cast to CursorTimeline. Also casting them to Timeline would thrash the JVM's type check cache.
 			if (mix == 1) {
-				for (int ii = 0; ii < timelineCount; ii++)
-					((Timeline)timelines[ii]).apply(skeleton, animationLast, animationTime, events, 1, true, false);
+				for (int ii = 0; ii < timelineCount; ii++) {
+					Object timeline = timelines[ii];
+					if (timeline instanceof CursorTimeline)
+						((CursorTimeline)timeline).apply(skeleton, animationLast, animationTime, events, 1, true, false, timelinesFrame,
+							ii);
+					else
+						((Timeline)timeline).apply(skeleton, animationLast, animationTime, events, 1, true, false);
+				}
 			} else {
 				boolean firstFrame = current.timelinesRotation.size == 0;
 				if (firstFrame) current.timelinesRotation.setSize(timelineCount << 1);
@@ -176,12 +195,15 @@ public class AnimationState {
 
 				boolean[] timelinesFirst = current.timelinesFirst.items;
 				for (int ii = 0; ii < timelineCount; ii++) {
-					Timeline timeline = (Timeline)timelines[ii];
+					Object timeline = timelines[ii];
 					if (timeline instanceof RotateTimeline) {
-						applyRotateTimeline(timeline, skeleton, animationTime, mix, timelinesFirst[ii], timelinesRotation, ii << 1,
-							firstFrame);
+						applyRotateTimeline((RotateTimeline)timeline, skeleton, animationTime, mix, timelinesFirst[ii], timelinesRotation,
+							timelinesFrame, ii, firstFrame);
+					} else if (timeline instanceof CursorTimeline) {
+						((CursorTimeline)timeline).apply(skeleton, animationLast, animationTime, events, mix, timelinesFirst[ii], false,
+							timelinesFrame, ii);
 					} else
-						timeline.apply(skeleton, animationLast, animationTime, events, mix, timelinesFirst[ii], false);
+						((Timeline)timeline).apply(skeleton, animationLast, animationTime, events, mix, timelinesFirst[ii], false);
 				}
 			}
 			queueEvents(current, animationTime);
@@ -193,6 +215,59 @@ public class AnimationState {
 		queue.drain();
 	}
 
+	/** Fires events and notifies listeners the same as {@link #apply(Skeleton)}, but without posing a skeleton. This is useful
+	 * for skeletons which are not visible, so their listeners are still notified while the cost of posing is avoided. When the
+	 * skeleton is visible again, {@link #apply(Skeleton)} can be used as usual. */
+	public void applyEvents () {
+		Array<Event> events = this.events;
+
+		for (int i = 0, n = tracks.size; i < n; i++) {
+			TrackEntry current = tracks.get(i);
+			if (current == null || current.delay > 0) continue;
+
+			if (current.mixingFrom != null) applyMixingFromEvents(current);
+
+			float animationTime = current.getAnimationTime();
+			applyEventTimelines(current.animation, current.animationLast, animationTime, events);
+			queueEvents(current, animationTime);
+			events.clear();
+			current.nextAnimationLast = animationTime;
+			current.nextTrackLast = current.trackTime;
+		}
+
+		queue.drain();
+	}
+
+	private void applyMixingFromEvents (TrackEntry entry) {
+		TrackEntry from = entry.mixingFrom;
+		if (from.mixingFrom != null) applyMixingFromEvents(from);
+
+		float mix;
+		if (entry.mixDuration == 0)
+			mix = 1;
+		else {
+			mix = entry.mixTime / entry.mixDuration;
+			if (mix > 1) mix = 1;
+		}
+
+		float animationTime = from.getAnimationTime();
+		if (mix < from.eventThreshold) applyEventTimelines(from.animation, from.animationLast, animationTime, events);
+
+		if (entry.mixDuration > 0) queueEvents(from, animationTime);
+		events.clear();
+		from.nextAnimationLast = animationTime;
+		from.nextTrackLast = from.trackTime;
+	}
+
+	private void applyEventTimelines (Animation animation, float lastTime, float time, Array<Event> events) {
+		Array<Timeline> animationTimelines = animation.getTimelines();
+		Object[] timelines = animationTimelines.items;
+		for (int i = 0, n = animationTimelines.size; i < n; i++) {
+			Object timeline = timelines[i];
+			if (timeline instanceof EventTimeline) ((EventTimeline)timeline).apply(null, lastTime, time, events, 1, false, false);
+		}
+	}
+
 	private float applyMixingFrom (TrackEntry entry, Skeleton skeleton) {
 		TrackEntry from = entry.mixingFrom;
 		if (from.mixingFrom != null) applyMixingFrom(from, skeleton);
@@ -208,26 +283,33 @@ public class AnimationState {
 		Array<Event> events = mix < from.eventThreshold ? this.events : null;
 		boolean attachments = mix < from.attachmentThreshold, drawOrder = mix < from.drawOrderThreshold;
 		float animationLast = from.animationLast, animationTime = from.getAnimationTime();
-		int timelineCount = from.animation.timelines.size;
-		Object[] timelines = from.animation.timelines.items;
+		Array<Timeline> animationTimelines = from.animation.getTimelines();
+		int timelineCount = animationTimelines.size;
+		Object[] timelines = animationTimelines.items;
 		boolean[] timelinesFirst = from.timelinesFirst.items;
 		float alpha = from.alpha * entry.mixAlpha * (1 - mix);
+		int[] timelinesFrame = timelinesFrame(from, timelineCount);
 
 		boolean firstFrame = from.timelinesRotation.size == 0;
 		if (firstFrame) from.timelinesRotation.setSize(timelineCount << 1);
 		float[] timelinesRotation = from.timelinesRotation.items;
 
 		for (int i = 0; i < timelineCount; i++) {
-			Timeline timeline = (Timeline)timelines[i];
+			Object timeline = timelines[i];
 			boolean setupPose = timelinesFirst[i];
-			if (timeline instanceof RotateTimeline)
-				applyRotateTimeline(timeline, skeleton, animationTime, alpha, setupPose, timelinesRotation, i << 1, firstFrame);
-			else {
+			if (timeline instanceof RotateTimeline) {
+				applyRotateTimeline((RotateTimeline)timeline, skeleton, animationTime, alpha, setupPose, timelinesRotation,
+					timelinesFrame, i, firstFrame);
+			} else {
 				if (!setupPose) {
 					if (!attachments && timeline instanceof AttachmentTimeline) continue;
 					if (!drawOrder && timeline instanceof DrawOrderTimeline) continue;
 				}
-				timeline.apply(skeleton, animationLast, animationTime, events, alpha, setupPose, true);
+				if (timeline instanceof CursorTimeline)
+					((CursorTimeline)timeline).apply(skeleton, animationLast, animationTime, events, alpha, setupPose, true,
+						timelinesFrame, i);
+				else
+					((Timeline)timeline).apply(skeleton, animationLast, animationTime, events, alpha, setupPose, true);
 			}
 		}
 
@@ -239,40 +321,35 @@ public class AnimationState {
 		return mix;
 	}
 
-	private void applyRotateTimeline (Timeline timeline, Skeleton skeleton, float time, float alpha, boolean setupPose,
-		float[] timelinesRotation, int i, boolean firstFrame) {
+	/** Returns the key frame cursors for the entry's timelines, which are 0 until the timelines are applied. */
+	private int[] timelinesFrame (TrackEntry entry, int timelineCount) {
+		IntArray timelinesFrame = entry.timelinesFrame;
+		if (timelinesFrame.size != timelineCount) {
+			timelinesFrame.clear();
+			for (int i = 0; i < timelineCount; i++)
+				timelinesFrame.add(0);
+		}
+		return timelinesFrame.items;
+	}
 
+	private void applyRotateTimeline (RotateTimeline rotateTimeline, Skeleton skeleton, float time, float alpha,
+		boolean setupPose, float[] timelinesRotation, int[] timelinesFrame, int timelineIndex, boolean firstFrame) {
+
+		int i = timelineIndex << 1;
 		if (firstFrame) timelinesRotation[i] = 0;
 
 		if (alpha == 1) {
-			timeline.apply(skeleton, 0, time, null, 1, setupPose, false);
+			rotateTimeline.apply(skeleton, 0, time, null, 1, setupPose, false, timelinesFrame, timelineIndex);
 			return;
 		}
 
-		RotateTimeline rotateTimeline = (RotateTimeline)timeline;
 		Bone bone = skeleton.bones.get(rotateTimeline.boneIndex);
-		float[] frames = rotateTimeline.frames;
-		if (time < frames[0]) { // Time is before first frame.
+		if (time < rotateTimeline.getStartTime()) { // Time is before first frame.
 			if (setupPose) bone.rotation = bone.data.rotation;
 			return;
 		}
 
-		float r2;
-		if (time >= frames[frames.length - ENTRIES]) // Time is after last frame.
-			r2 = bone.data.rotation + frames[frames.length + PREV_ROTATION];
-		else {
-			// Interpolate between the previous frame and the current frame.
-			int frame = Animation.binarySearch(frames, time, ENTRIES);
-			float prevRotation = frames[frame + PREV_ROTATION];
-			float frameTime = frames[frame];
-			float percent = rotateTimeline.getCurvePercent((frame >> 1) - 1,
-				1 - (time - frameTime) / (frames[frame + PREV_TIME] - frameTime));
-
-			r2 = frames[frame + ROTATION] - prevRotation;
-			r2 -= (16384 - (int)(16384.499999999996 - r2 / 360)) * 360;
-			r2 = prevRotation + r2 * percent + bone.data.rotation;
-			r2 -= (16384 - (int)(16384.499999999996 - r2 / 360)) * 360;
-		}
+		float r2 = rotateTimeline.getRotation(time, bone.data.rotation, timelinesFrame, timelineIndex);
 
 		// Mix between rotations using the direction of the shortest route on the first frame while detecting crosses.
 		float r1 = setupPose ? bone.data.rotation : bone.rotation;
@@ -590,8 +667,9 @@ public class AnimationState {
 			return;
 		}
 		IntSet propertyIDs = this.propertyIDs;
-		int n = entry.animation.timelines.size;
-		Object[] timelines = entry.animation.timelines.items;
+		Array<Timeline> animationTimelines = entry.animation.getTimelines();
+		int n = animationTimelines.size;
+		Object[] timelines = animationTimelines.items;
 		boolean[] usage = entry.timelinesFirst.setSize(n);
 		for (int i = 0; i < n; i++) {
 			propertyIDs.add(((Timeline)timelines[i]).getPropertyId());
@@ -607,8 +685,9 @@ public class AnimationState {
 
 	private void checkTimelinesUsage (TrackEntry entry) {
 		IntSet propertyIDs = this.propertyIDs;
-		int n = entry.animation.timelines.size;
-		Object[] timelines = entry.animation.timelines.items;
+		Array<Timeline> animationTimelines = entry.animation.getTimelines();
+		int n = animationTimelines.size;
+		Object[] timelines = animationTimelines.items;
 		boolean[] usage = entry.timelinesFirst.setSize(n);
 		for (int i = 0; i < n; i++)
 			usage[i] = propertyIDs.add(((Timeline)timelines[i]).getPropertyId());
@@ -622,18 +701,47 @@ public class AnimationState {
 
 	/** Adds a listener to receive events for all track entries. */
 	public void addListener (AnimationStateListener listener) {
+		addListener(listener, ALL);
+	}
+
+	/** Adds a listener to receive only the specified types of notifications for all track entries. The other listener methods
+	 * are not called, which avoids the calls when there are many animation states and listeners are interested in few
+	 * notifications.
+	 * @param types A mask of {@link #START}, {@link #INTERRUPT}, {@link #END}, {@link #DISPOSE}, {@link #COMPLETE} and
+	 *           {@link #EVENT}, or {@link #ALL}.
+	 * @param eventNames If not empty, {@link AnimationStateListener#event(TrackEntry, Event)} is only called for events with
+	 *           these names, which must be found in the skeleton data. */
+	public void addListener (AnimationStateListener listener, int types, String... eventNames) {
 		if (listener == null) throw new IllegalArgumentException("listener cannot be null.");
+		EventData[] events = null;
+		if (eventNames.length > 0) {
+			events = new EventData[eventNames.length];
+			SkeletonData skeletonData = data.getSkeletonData();
+			for (int i = 0; i < eventNames.length; i++) {
+				EventData event = skeletonData.findEvent(eventNames[i]);
+				if (event == null) throw new IllegalArgumentException("Event not found: " + eventNames[i]);
+				events[i] = event;
+			}
+		}
 		listeners.add(listener);
+		listenerTypes.add(types);
+		listenerEvents.add(events);
 	}
 
 	/** Removes the listener added with {@link #addListener(AnimationStateListener)}. */
 	public void removeListener (AnimationStateListener listener) {
-		listeners.removeValue(listener, true);
+		int index = listeners.indexOf(listener, true);
+		if (index == -1) return;
+		listeners.removeIndex(index);
+		listenerTypes.removeIndex(index);
+		listenerEvents.removeIndex(index);
 	}
 
 	/** Removes all listeners added with {@link #addListener(AnimationStateListener)}. */
 	public void clearListeners () {
 		listeners.clear();
+		listenerTypes.clear();
+		listenerEvents.clear();
 	}
 
 	/** Discards all listener notifications that have not yet been delivered. This can be useful to call from an
@@ -643,6 +751,46 @@ public class AnimationState {
 		queue.clear();
 	}
 
+	/** When true, listener notifications are queued rather than delivered by {@link #update(float)}, {@link #apply(Skeleton)} and
+	 * the other methods which would normally deliver them, until {@link #drainListenerNotifications()} is called. This allows the
+	 * animation state to be updated and applied on a different thread than the one the listeners are notified on. Defaults to
+	 * false.
+	 * <p>
+	 * Entries which are disposed are not returned to the pool until their notifications have been delivered. */
+	public boolean getDeferListenerNotifications () {
+		return queue.deferred;
+	}
+
+	/** When set to false, queued notifications are not delivered until {@link #drainListenerNotifications()} is called or another
+	 * notification is queued. */
+	public void setDeferListenerNotifications (boolean deferListenerNotifications) {
+		queue.deferred = deferListenerNotifications;
+	}
+
+	/** Delivers all queued listener notifications in the order they were queued, even if notifications are being deferred. Does
+	 * nothing if called from a listener while notifications are being delivered.
+	 * <p>
+	 * See {@link #setDeferListenerNotifications(boolean)}. */
+	public void drainListenerNotifications () {
+		boolean deferred = queue.deferred;
+		queue.deferred = false;
+		queue.drain();
+		queue.deferred = deferred;
+	}
+
+	/** Moves all queued listener notifications to the buffer, in the order they were queued, instead of delivering them to
+	 * listeners. This allows notifications for many animation states to be processed in a single pass. It is usually used with
+	 * {@link #setDeferListenerNotifications(boolean)}, so notifications are only queued. Does nothing if called from a listener
+	 * while notifications are being delivered.
+	 * <p>
+	 * An {@link AnimationStateListener#end(TrackEntry) end} notification is followed by a
+	 * {@link AnimationStateListener#dispose(TrackEntry) dispose} notification, as when delivered to listeners. Entries which are
+	 * disposed are not returned to the pool until the buffer is cleared. */
+	public void drainListenerNotifications (NotificationBuffer buffer) {
+		if (buffer == null) throw new IllegalArgumentException("buffer cannot be null.");
+		queue.drain(buffer);
+	}
+
 	/** Multiplier for the delta time when the animation state is updated, causing time for all animations to play slower or
 	 * faster. Defaults to 1.
 	 * <p>
@@ -697,6 +845,7 @@ public class AnimationState {
 		float alpha, mixTime, mixDuration, mixAlpha;
 		final BooleanArray timelinesFirst = new BooleanArray();
 		final FloatArray timelinesRotation = new FloatArray();
+		final IntArray timelinesFrame = new IntArray();
 
 		public void reset () {
 			next = null;
@@ -705,6 +854,7 @@ public class AnimationState {
 			listener = null;
 			timelinesFirst.clear();
 			timelinesRotation.clear();
+			timelinesFrame.clear();
 		}
 
 		/** The index of the track where this track entry is either current or queued.
@@ -946,99 +1096,249 @@ public class AnimationState {
 		}
 	}
 
+	/** Queues listener notifications in a ring buffer of parallel arrays, which only grows when more notifications are queued
+	 * than ever before, so notifications do not allocate. */
 	class EventQueue {
-		private final Array objects = new Array();
-		boolean drainDisabled;
+		private int[] types = new int[32];
+		private TrackEntry[] entries = new TrackEntry[32];
+		private Event[] events = new Event[32];
+		private int head, size;
+		boolean drainDisabled, deferred;
 
 		public void start (TrackEntry entry) {
-			objects.add(EventType.start);
-			objects.add(entry);
+			add(START, entry, null);
 			animationsChanged = true;
 		}
 
 		public void interrupt (TrackEntry entry) {
-			objects.add(EventType.interrupt);
-			objects.add(entry);
+			add(INTERRUPT, entry, null);
 		}
 
 		public void end (TrackEntry entry) {
-			objects.add(EventType.end);
-			objects.add(entry);
+			add(END, entry, null);
 			animationsChanged = true;
 		}
 
 		public void dispose (TrackEntry entry) {
-			objects.add(EventType.dispose);
-			objects.add(entry);
+			add(DISPOSE, entry, null);
 		}
 
 		public void complete (TrackEntry entry) {
-			objects.add(EventType.complete);
-			objects.add(entry);
+			add(COMPLETE, entry, null);
 		}
 
 		public void event (TrackEntry entry, Event event) {
-			objects.add(EventType.event);
-			objects.add(entry);
-			objects.add(event);
+			add(EVENT, entry, event);
+		}
+
+		private void add (int type, TrackEntry entry, Event event) {
+			int capacity = types.length;
+			if (size == capacity) resize(capacity << 1);
+			int index = (head + size) & (types.length - 1);
+			types[index] = type;
+			entries[index] = entry;
+			events[index] = event;
+			size++;
+		}
+
+		/** Copies the queued notifications to new arrays, starting at index 0. */
+		private void resize (int capacity) {
+			int[] newTypes = new int[capacity];
+			TrackEntry[] newEntries = new TrackEntry[capacity];
+			Event[] newEvents = new Event[capacity];
+			int oldCapacity = types.length, first = Math.min(size, oldCapacity - head);
+			System.arraycopy(types, head, newTypes, 0, first);
+			System.arraycopy(entries, head, newEntries, 0, first);
+			System.arraycopy(events, head, newEvents, 0, first);
+			System.arraycopy(types, 0, newTypes, first, size - first);
+			System.arraycopy(entries, 0, newEntries, first, size - first);
+			System.arraycopy(events, 0, newEvents, first, size - first);
+			types = newTypes;
+			entries = newEntries;
+			events = newEvents;
+			head = 0;
 		}
 
 		public void drain () {
-			if (drainDisabled) return; // Not reentrant.
+			if (drainDisabled || deferred) return; // Not reentrant.
 			drainDisabled = true;
 
-			Array objects = this.objects;
 			Array<AnimationStateListener> listeners = AnimationState.this.listeners;
-			for (int i = 0; i < objects.size; i += 2) {
-				EventType type = (EventType)objects.get(i);
-				TrackEntry entry = (TrackEntry)objects.get(i + 1);
+			IntArray listenerTypes = AnimationState.this.listenerTypes;
+			Array<EventData[]> listenerEvents = AnimationState.this.listenerEvents;
+			// Listeners may queue more notifications or clear the queue, so the arrays and head are read for each notification.
+			while (size > 0) {
+				int index = head;
+				int type = types[index];
+				TrackEntry entry = entries[index];
+				Event event = events[index];
+				entries[index] = null;
+				events[index] = null;
+				head = (index + 1) & (types.length - 1);
+				size--;
 				switch (type) {
-				case start:
+				case START:
 					if (entry.listener != null) entry.listener.start(entry);
 					for (int ii = 0; ii < listeners.size; ii++)
-						listeners.get(ii).start(entry);
+						if ((listenerTypes.items[ii] & START) != 0) listeners.get(ii).start(entry);
 					break;
-				case interrupt:
+				case INTERRUPT:
 					if (entry.listener != null) entry.listener.interrupt(entry);
 					for (int ii = 0; ii < listeners.size; ii++)
-						listeners.get(ii).interrupt(entry);
+						if ((listenerTypes.items[ii] & INTERRUPT) != 0) listeners.get(ii).interrupt(entry);
 					break;
-				case end:
+				case END:
 					if (entry.listener != null) entry.listener.end(entry);
 					for (int ii = 0; ii < listeners.size; ii++)
-						listeners.get(ii).end(entry);
+						if ((listenerTypes.items[ii] & END) != 0) listeners.get(ii).end(entry);
 					// Fall through.
-				case dispose:
+				case DISPOSE:
 					if (entry.listener != null) entry.listener.dispose(entry);
 					for (int ii = 0; ii < listeners.size; ii++)
-						listeners.get(ii).dispose(entry);
+						if ((listenerTypes.items[ii] & DISPOSE) != 0) listeners.get(ii).dispose(entry);
 					trackEntryPool.free(entry);
 					break;
-				case complete:
+				case COMPLETE:
 					if (entry.listener != null) entry.listener.complete(entry);
 					for (int ii = 0; ii < listeners.size; ii++)
-						listeners.get(ii).complete(entry);
+						if ((listenerTypes.items[ii] & COMPLETE) != 0) listeners.get(ii).complete(entry);
 					break;
-				case event:
-					Event event = (Event)objects.get(i++ + 2);
+				case EVENT:
 					if (entry.listener != null) entry.listener.event(entry, event);
-					for (int ii = 0; ii < listeners.size; ii++)
-						listeners.get(ii).event(entry, event);
+					for (int ii = 0; ii < listeners.size; ii++) {
+						if ((listenerTypes.items[ii] & EVENT) == 0) continue;
+						EventData[] events = listenerEvents.get(ii);
+						if (events == null || contains(events, event.getData())) listeners.get(ii).event(entry, event);
+					}
 					break;
 				}
 			}
-			clear();
+			head = 0;
 
 			drainDisabled = false;
 		}
 
+		void drain (NotificationBuffer buffer) {
+			if (drainDisabled) return;
+
+			TrackEntry[] entries = this.entries;
+			Event[] events = this.events;
+			int[] types = this.types;
+			for (int mask = types.length - 1; size > 0; size--) {
+				int index = head;
+				int type = types[index];
+				TrackEntry entry = entries[index];
+				buffer.add(AnimationState.this, type, entry, events[index]);
+				if (type == END) buffer.add(AnimationState.this, DISPOSE, entry, null);
+				if (type == END || type == DISPOSE) buffer.dispose(AnimationState.this, entry);
+				entries[index] = null;
+				events[index] = null;
+				head = (index + 1) & mask;
+			}
+			head = 0;
+		}
+
 		public void clear () {
-			objects.clear();
+			TrackEntry[] entries = this.entries;
+			Event[] events = this.events;
+			for (int i = 0, mask = entries.length - 1; i < size; i++) {
+				int index = (head + i) & mask;
+				entries[index] = null;
+				events[index] = null;
+			}
+			head = 0;
+			size = 0;
 		}
 	}
 
-	static private enum EventType {
-		start, interrupt, end, dispose, complete, event
+	static private boolean contains (EventData[] events, EventData event) {
+		for (int i = 0, n = events.length; i < n; i++)
+			if (events[i] == event) return true;
+		return false;
+	}
+
+	/** Stores listener notifications from many animation states, so they can be processed in a single pass rather than by
+	 * calling listeners for each notification. Once its arrays have grown to the largest number of notifications, the buffer
+	 * does not allocate.
+	 * <p>
+	 * See {@link AnimationState#drainListenerNotifications(NotificationBuffer)}. */
+	static public class NotificationBuffer {
+		AnimationState[] states = new AnimationState[64];
+		int[] types = new int[64];
+		TrackEntry[] entries = new TrackEntry[64];
+		Event[] events = new Event[64];
+		int size, typeMask = ALL;
+		final Array<AnimationState> disposeStates = new Array();
+		final Array<TrackEntry> disposeEntries = new Array();
+
+		void add (AnimationState state, int type, TrackEntry entry, Event event) {
+			if ((typeMask & type) == 0) return;
+			if (size == types.length) {
+				int capacity = size << 1;
+				states = Arrays.copyOf(states, capacity);
+				types = Arrays.copyOf(types, capacity);
+				entries = Arrays.copyOf(entries, capacity);
+				events = Arrays.copyOf(events, capacity);
+			}
+			states[size] = state;
+			types[size] = type;
+			entries[size] = entry;
+			events[size] = event;
+			size++;
+		}
+
+		void dispose (AnimationState state, TrackEntry entry) {
+			disposeStates.add(state);
+			disposeEntries.add(entry);
+		}
+
+		/** Removes all notifications and returns the disposed track entries to their animation state's pool. */
+		public void clear () {
+			Arrays.fill(states, 0, size, null);
+			Arrays.fill(entries, 0, size, null);
+			Arrays.fill(events, 0, size, null);
+			size = 0;
+			Array<AnimationState> disposeStates = this.disposeStates;
+			Array<TrackEntry> disposeEntries = this.disposeEntries;
+			for (int i = 0, n = disposeStates.size; i < n; i++)
+				disposeStates.get(i).trackEntryPool.free(disposeEntries.get(i));
+			disposeStates.clear();
+			disposeEntries.clear();
+		}
+
+		/** The number of notifications in the buffer. */
+		public int getSize () {
+			return size;
+		}
+
+		/** The animation state which queued the notification. */
+		public AnimationState getState (int index) {
+			return states[index];
+		}
+
+		/** The notification type, eg {@link AnimationState#START}. */
+		public int getType (int index) {
+			return types[index];
+		}
+
+		public TrackEntry getEntry (int index) {
+			return entries[index];
+		}
+
+		/** The event for an {@link AnimationState#EVENT} notification, else null. */
+		public Event getEvent (int index) {
+			return events[index];
+		}
+
+		/** A mask of the notification types which are stored. Other notifications are discarded when they are drained into the
+		 * buffer. Defaults to {@link AnimationState#ALL}. */
+		public int getTypes () {
+			return typeMask;
+		}
+
+		public void setTypes (int types) {
+			typeMask = types;
+		}
 	}
 
 	/** The interface which can be implemented to receive TrackEntry events.
@@ -30,12 +30,19 @@
 
 package com.esotericsoftware.spine;
 
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntFloatMap;
 import com.badlogic.gdx.utils.ObjectFloatMap;
 import com.esotericsoftware.spine.AnimationState.TrackEntry;
 
-/** Stores mix (crossfade) durations to be applied when {@link AnimationState} animations are changed. */
+/** Stores mix (crossfade) durations to be applied when {@link AnimationState} animations are changed.
+ * <p>
+ * Mix durations between animations of the skeleton data are stored using the {@link Animation#getIndex() animation indices}, so
+ * looking them up does not hash the animations. Other animations, such as those which have not been indexed or have an index
+ * greater than 65535, are stored using the animation objects. */
 public class AnimationStateData {
 	final SkeletonData skeletonData;
+	final IntFloatMap indexToMixTime = new IntFloatMap();
 	final ObjectFloatMap<Key> animationToMixTime = new ObjectFloatMap();
 	final Key tempKey = new Key();
 	float defaultMix;
@@ -50,15 +57,16 @@ public class AnimationStateData {
 		return skeletonData;
 	}
 
-	/** Sets a mix duration by animation name.
+	/** Sets a mix duration by animation name. The timelines of lazy animations are not read.
 	 * <p>
 	 * See {@link #setMix(Animation, Animation, float)}. */
 	public void setMix (String fromName, String toName, float duration) {
-		Animation from = skeletonData.findAnimation(fromName);
-		if (from == null) throw new IllegalArgumentException("Animation not found: " + fromName);
-		Animation to = skeletonData.findAnimation(toName);
-		if (to == null) throw new IllegalArgumentException("Animation not found: " + toName);
-		setMix(from, to, duration);
+		int fromIndex = skeletonData.findAnimationIndex(fromName);
+		if (fromIndex == -1) throw new IllegalArgumentException("Animation not found: " + fromName);
+		int toIndex = skeletonData.findAnimationIndex(toName);
+		if (toIndex == -1) throw new IllegalArgumentException("Animation not found: " + toName);
+		Array<Animation> animations = skeletonData.animations;
+		setMix(animations.get(fromIndex), animations.get(toIndex), duration);
 	}
 
 	/** Sets the mix duration when changing from the specified animation to the other.
@@ -67,22 +75,62 @@ public class AnimationStateData {
 	public void setMix (Animation from, Animation to, float duration) {
 		if (from == null) throw new IllegalArgumentException("from cannot be null.");
 		if (to == null) throw new IllegalArgumentException("to cannot be null.");
+		int index = index(from, to);
+		if (index != -1) {
+			indexToMixTime.put(index, duration);
+			return;
+		}
 		Key key = new Key();
 		key.a1 = from;
 		key.a2 = to;
 		animationToMixTime.put(key, duration);
 	}
 
+	/** Sets the mix durations between many animations of the skeleton data at once.
+	 * @param durations The mix duration when changing from the animation at index <code>from</code> in
+	 *           {@link SkeletonData#getAnimations()} to the animation at index <code>to</code> is at
+	 *           <code>from * animationCount + to</code>. The length must be the animation count squared. Durations which are NaN
+	 *           are not set. */
+	public void setMixes (float[] durations) {
+		if (durations == null) throw new IllegalArgumentException("durations cannot be null.");
+		Array<Animation> animations = skeletonData.animations;
+		int animationCount = animations.size;
+		long length = (long)animationCount * animationCount;
+		if (durations.length != length)
+			throw new IllegalArgumentException("durations must have length " + length + ": " + durations.length);
+		indexToMixTime.ensureCapacity(durations.length);
+		for (int from = 0, i = 0; from < animationCount; from++) {
+			Animation fromAnimation = animations.get(from);
+			for (int to = 0; to < animationCount; to++, i++) {
+				float duration = durations[i];
+				if (!Float.isNaN(duration)) setMix(fromAnimation, animations.get(to), duration);
+			}
+		}
+	}
+
 	/** Returns the mix duration to use when changing from the specified animation to the other, or the {@link #getDefaultMix()} if
 	 * no mix duration has been set. */
 	public float getMix (Animation from, Animation to) {
 		if (from == null) throw new IllegalArgumentException("from cannot be null.");
 		if (to == null) throw new IllegalArgumentException("to cannot be null.");
+		int index = index(from, to);
+		if (index != -1) return indexToMixTime.get(index, defaultMix);
 		tempKey.a1 = from;
 		tempKey.a2 = to;
 		return animationToMixTime.get(tempKey, defaultMix);
 	}
 
+	/** Returns the key for the mix duration between the animations, or -1 if either animation is not in the skeleton data at its
+	 * index or its index does not fit in the 16 bits the key has for it. */
+	private int index (Animation from, Animation to) {
+		Array<Animation> animations = skeletonData.animations;
+		int fromIndex = from.index, toIndex = to.index;
+		if (fromIndex == -1 || fromIndex >= animations.size || animations.get(fromIndex) != from) return -1;
+		if (toIndex == -1 || toIndex >= animations.size || animations.get(toIndex) != to) return -1;
+		if (fromIndex > 0xffff || toIndex > 0xffff) return -1;
+		return fromIndex << 16 | toIndex;
+	}
+
 	/** The mix duration to use when no mix duration has been defined between two animations. */
 	public float getDefaultMix () {
 		return defaultMix;
@@ -0,0 +1,352 @@
+/******************************************************************************
+ * Spine Runtimes Software License v2.5
+ *
+ * Copyright (c) 2013-2016, Esoteric Software
+ * All rights reserved.
+ *
+ * You are granted a perpetual, non-exclusive, non-sublicensable, and
+ * non-transferable license to use, install, execute, and perform the Spine
+ * Runtimes software and derivative works solely for personal or internal
+ * use. Without the written permission of Esoteric Software (see Section 2 of
+ * the Spine Software License Agreement), you may not (a) modify, translate,
+ * adapt, or develop new applications using the Spine Runtimes or otherwise
+ * create derivative works or improvements of the Spine Runtimes or (b) remove,
+ * delete, alter, or obscure any trademarks or any copyright, trademark, patent,
+ * or other intellectual property or proprietary rights notices on or in the
+ * Software, including any copy thereof. Redistributions in binary or source
+ * form must include this license and terms.
+ *
+ * THIS SOFTWARE IS PROVIDED BY ESOTERIC SOFTWARE "AS IS" AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO
+ * EVENT SHALL ESOTERIC SOFTWARE BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES, BUSINESS INTERRUPTION, OR LOSS OF
+ * USE, DATA, OR PROFITS) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ *****************************************************************************/
+
+package com.esotericsoftware.spine;
+
+import java.io.IOException;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.DataInput;
+import com.badlogic.gdx.utils.DataOutput;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.SerializationException;
+import com.esotericsoftware.spine.attachments.Attachment;
+
+/** An animation sampled by {@link AnimationBaker}. Stores the bone world transforms, slot attachments, slot colors and draw order
+ * for each sample, which are interpolated to pose a skeleton without applying timelines or computing world transforms.
+ * <p>
+ * A baked animation is immutable and can be used by any number of skeletons created from the same skeleton data. */
+public class BakedAnimation {
+	static private final int version = 1;
+
+	final String name, skinName;
+	final int frameCount, boneCount, slotCount;
+	final float frameDuration;
+
+	// Either transforms or quantized and ranges are set. For each frame and bone: a, b, worldX, c, d, worldY.
+	float[] transforms;
+	short[] quantized;
+	float[] ranges; // For each bone value: min, scale.
+
+	Attachment[] attachments;
+	int[] attachmentSlots;
+	String[] attachmentNames;
+	short[] slotAttachments; // For each slot, an index into attachments or -1. For the first or for each frame.
+	int[] colors; // For each slot, RGBA8888. For the first or for each frame.
+	short[] drawOrders; // For each frame, the slot indices in draw order. May be null for the setup pose draw order.
+
+	BakedAnimation (String name, String skinName, int frameCount, float frameDuration, int boneCount, int slotCount) {
+		this.name = name;
+		this.skinName = skinName;
+		this.frameCount = frameCount;
+		this.frameDuration = frameDuration;
+		this.boneCount = boneCount;
+		this.slotCount = slotCount;
+	}
+
+	void setTransforms (float[] transforms, boolean quantize) {
+		if (!quantize) {
+			this.transforms = transforms;
+			return;
+		}
+		int valueCount = boneCount * 6, n = transforms.length;
+		float[] ranges = new float[valueCount << 1];
+		for (int v = 0; v < valueCount; v++) {
+			float min = transforms[v], max = min;
+			for (int i = v + valueCount; i < n; i += valueCount) {
+				min = Math.min(min, transforms[i]);
+				max = Math.max(max, transforms[i]);
+			}
+			ranges[v << 1] = min;
+			ranges[(v << 1) + 1] = (max - min) / 65535;
+		}
+		short[] quantized = new short[n];
+		for (int i = 0; i < n; i++) {
+			int r = (i % valueCount) << 1;
+			float scale = ranges[r + 1];
+			if (scale != 0) quantized[i] = (short)Math.round((transforms[i] - ranges[r]) / scale);
+		}
+		this.quantized = quantized;
+		this.ranges = ranges;
+	}
+
+	void setAttachments (Array<Attachment> attachments, IntArray attachmentSlots, String[] attachmentNames,
+		short[] slotAttachments) {
+		this.attachments = attachments.toArray(Attachment.class);
+		this.attachmentSlots = attachmentSlots.toArray();
+		this.attachmentNames = attachmentNames;
+		this.slotAttachments = slotAttachments;
+	}
+
+	/** Poses the skeleton by interpolating the baked world transforms for the specified time, and sets the slot attachments,
+	 * colors and draw order from the sample at or before the time. This is done instead of applying the animation and calling
+	 * {@link Skeleton#updateWorldTransform()}.
+	 * <p>
+	 * The skeleton's position and flip are applied to the baked world transforms. The bones' local transforms are not changed
+	 * and their applied transforms are marked invalid.
+	 * @param loop If true, the time is wrapped to the animation duration, else it is clamped. */
+	public void apply (Skeleton skeleton, float time, boolean loop) {
+		if (skeleton == null) throw new IllegalArgumentException("skeleton cannot be null.");
+		if (skeleton.bones.size != boneCount || skeleton.slots.size != slotCount)
+			throw new IllegalArgumentException("Skeleton does not match the baked animation: " + skeleton);
+
+		int frame = 0, next = 0;
+		float alpha = 0;
+		if (frameCount > 1) {
+			float duration = getDuration();
+			if (loop) {
+				time %= duration;
+				if (time < 0) time += duration;
+			}
+			float position = time / frameDuration;
+			// Snap to a sample when within rounding error, so a time computed as a sample time uses that sample's slot state.
+			int nearest = Math.round(position);
+			if (Math.abs(position - nearest) < 0.0001f) position = nearest;
+			if (position >= frameCount - 1) {
+				frame = frameCount - 2;
+				alpha = 1;
+			} else if (position > 0) {
+				frame = (int)position;
+				alpha = position - frame;
+			}
+			next = frame + 1;
+		}
+
+		float sx = skeleton.flipX ? -1 : 1, sy = skeleton.flipY ? -1 : 1, x = skeleton.x, y = skeleton.y;
+		Object[] bones = skeleton.bones.items;
+		int boneCount = this.boneCount;
+		if (transforms != null) {
+			float[] t = transforms;
+			for (int i = 0, t1 = frame * boneCount * 6, t2 = next * boneCount * 6; i < boneCount; i++, t1 += 6, t2 += 6) {
+				Bone bone = (Bone)bones[i];
+				bone.a = sx * (t[t1] + (t[t2] - t[t1]) * alpha);
+				bone.b = sx * (t[t1 + 1] + (t[t2 + 1] - t[t1 + 1]) * alpha);
+				bone.worldX = sx * (t[t1 + 2] + (t[t2 + 2] - t[t1 + 2]) * alpha) + x;
+				bone.c = sy * (t[t1 + 3] + (t[t2 + 3] - t[t1 + 3]) * alpha);
+				bone.d = sy * (t[t1 + 4] + (t[t2 + 4] - t[t1 + 4]) * alpha);
+				bone.worldY = sy * (t[t1 + 5] + (t[t2 + 5] - t[t1 + 5]) * alpha) + y;
+				bone.appliedValid = false;
+				bone.worldVersion++;
+			}
+		} else {
+			short[] q = quantized;
+			float[] r = ranges;
+			for (int i = 0, t1 = frame * boneCount * 6, t2 = next * boneCount * 6, ri = 0; i < boneCount; i++) {
+				Bone bone = (Bone)bones[i];
+				bone.a = sx * value(q, r, t1++, t2++, ri, alpha);
+				bone.b = sx * value(q, r, t1++, t2++, ri + 2, alpha);
+				bone.worldX = sx * value(q, r, t1++, t2++, ri + 4, alpha) + x;
+				bone.c = sy * value(q, r, t1++, t2++, ri + 6, alpha);
+				bone.d = sy * value(q, r, t1++, t2++, ri + 8, alpha);
+				bone.worldY = sy * value(q, r, t1++, t2++, ri + 10, alpha) + y;
+				bone.appliedValid = false;
+				bone.worldVersion++;
+				ri += 12;
+			}
+		}
+
+		int sample = alpha == 1 ? next : frame, slotCount = this.slotCount;
+		Object[] slots = skeleton.slots.items;
+		short[] slotAttachments = this.slotAttachments;
+		Attachment[] attachments = this.attachments;
+		int[] colors = this.colors;
+		for (int i = 0, a = slotAttachments.length == slotCount ? 0 : sample * slotCount,
+			c = colors.length == slotCount ? 0 : sample * slotCount; i < slotCount; i++, a++, c++) {
+			Slot slot = (Slot)slots[i];
+			int index = slotAttachments[a];
+			slot.setAttachment(index == -1 ? null : attachments[index]);
+			Color.rgba8888ToColor(slot.color, colors[c]);
+		}
+
+		Object[] drawOrder = skeleton.drawOrder.items;
+		if (drawOrders == null)
+			System.arraycopy(slots, 0, drawOrder, 0, slotCount);
+		else {
+			short[] drawOrders = this.drawOrders;
+			for (int i = 0, d = drawOrders.length == slotCount ? 0 : sample * slotCount; i < slotCount; i++, d++)
+				drawOrder[i] = slots[drawOrders[d]];
+		}
+	}
+
+	static private float value (short[] quantized, float[] ranges, int t1, int t2, int r, float alpha) {
+		float min = ranges[r], scale = ranges[r + 1];
+		float v1 = min + (quantized[t1] & 0xffff) * scale;
+		return v1 + (min + (quantized[t2] & 0xffff) * scale - v1) * alpha;
+	}
+
+	/** Writes the baked animation. Attachments are written by name, so they can be found in the skeleton data when the baked
+	 * animation is read. */
+	public void write (DataOutput output) throws IOException {
+		output.writeInt(version, true);
+		output.writeString(name);
+		output.writeString(skinName);
+		output.writeInt(frameCount, true);
+		output.writeFloat(frameDuration);
+		output.writeInt(boneCount, true);
+		output.writeInt(slotCount, true);
+
+		output.writeBoolean(transforms == null);
+		if (transforms == null) {
+			writeFloats(output, ranges);
+			output.writeInt(quantized.length, true);
+			for (int i = 0, n = quantized.length; i < n; i++)
+				output.writeShort(quantized[i]);
+		} else
+			writeFloats(output, transforms);
+
+		output.writeInt(attachments.length, true);
+		for (int i = 0, n = attachments.length; i < n; i++) {
+			output.writeInt(attachmentSlots[i], true);
+			output.writeString(attachmentNames[i]);
+		}
+		writeShorts(output, slotAttachments);
+
+		output.writeInt(colors.length, true);
+		for (int i = 0, n = colors.length; i < n; i++)
+			output.writeInt(colors[i]);
+
+		if (drawOrders == null)
+			output.writeInt(0, true);
+		else
+			writeShorts(output, drawOrders);
+	}
+
+	/** Reads a baked animation written by {@link #write(DataOutput)}.
+	 * @param data The skeleton data the animation was baked from, used to find the attachments. */
+	static public BakedAnimation read (DataInput input, SkeletonData data) throws IOException {
+		if (data == null) throw new IllegalArgumentException("data cannot be null.");
+		int version = input.readInt(true);
+		if (version != BakedAnimation.version) throw new SerializationException("Unsupported baked animation version: " + version);
+		String name = input.readString(), skinName = input.readString();
+		int frameCount = input.readInt(true);
+		float frameDuration = input.readFloat();
+		int boneCount = input.readInt(true), slotCount = input.readInt(true);
+		if (boneCount != data.bones.size || slotCount != data.slots.size)
+			throw new SerializationException("Baked animation does not match the skeleton data: " + name);
+		BakedAnimation baked = new BakedAnimation(name, skinName, frameCount, frameDuration, boneCount, slotCount);
+
+		if (input.readBoolean()) {
+			baked.ranges = readFloats(input);
+			short[] quantized = new short[input.readInt(true)];
+			for (int i = 0, n = quantized.length; i < n; i++)
+				quantized[i] = input.readShort();
+			baked.quantized = quantized;
+		} else
+			baked.transforms = readFloats(input);
+
+		Skin skin = skinName == null ? null : data.findSkin(skinName);
+		int attachmentCount = input.readInt(true);
+		baked.attachments = new Attachment[attachmentCount];
+		baked.attachmentSlots = new int[attachmentCount];
+		baked.attachmentNames = new String[attachmentCount];
+		for (int i = 0; i < attachmentCount; i++) {
+			int slotIndex = input.readInt(true);
+			String attachmentName = input.readString();
+			Attachment attachment = null;
+			if (skin != null) attachment = skin.getAttachment(slotIndex, attachmentName);
+			if (attachment == null && data.defaultSkin != null) attachment = data.defaultSkin.getAttachment(slotIndex, attachmentName);
+			if (attachment == null) throw new SerializationException("Attachment not found: " + attachmentName);
+			baked.attachments[i] = attachment;
+			baked.attachmentSlots[i] = slotIndex;
+			baked.attachmentNames[i] = attachmentName;
+		}
+		baked.slotAttachments = readShorts(input);
+
+		int[] colors = new int[input.readInt(true)];
+		for (int i = 0, n = colors.length; i < n; i++)
+			colors[i] = input.readInt();
+		baked.colors = colors;
+
+		short[] drawOrders = readShorts(input);
+		baked.drawOrders = drawOrders.length == 0 ? null : drawOrders;
+		return baked;
+	}
+
+	static private void writeFloats (DataOutput output, float[] values) throws IOException {
+		output.writeInt(values.length, true);
+		for (int i = 0, n = values.length; i < n; i++)
+			output.writeFloat(values[i]);
+	}
+
+	static private float[] readFloats (DataInput input) throws IOException {
+		float[] values = new float[input.readInt(true)];
+		for (int i = 0, n = values.length; i < n; i++)
+			values[i] = input.readFloat();
+		return values;
+	}
+
+	static private void writeShorts (DataOutput output, short[] values) throws IOException {
+		output.writeInt(values.length, true);
+		for (int i = 0, n = values.length; i < n; i++)
+			output.writeShort(values[i]);
+	}
+
+	static private short[] readShorts (DataInput input) throws IOException {
+		short[] values = new short[input.readInt(true)];
+		for (int i = 0, n = values.length; i < n; i++)
+			values[i] = input.readShort();
+		return values;
+	}
+
+	/** The name of the animation that was baked. */
+	public String getName () {
+		return name;
+	}
+
+	/** The name of the skin used to bake the animation, or null if the skeleton had no skin. */
+	public String getSkinName () {
+		return skinName;
+	}
+
+	/** The number of samples. */
+	public int getFrameCount () {
+		return frameCount;
+	}
+
+	/** The time between samples, which is at most 1 / {@link AnimationBaker#getFps()}. */
+	public float getFrameDuration () {
+		return frameDuration;
+	}
+
+	/** The duration of the animation that was baked. */
+	public float getDuration () {
+		return frameDuration * (frameCount - 1);
+	}
+
+	/** True if the world transforms are stored using 16 bits per value. */
+	public boolean getQuantized () {
+		return transforms == null;
+	}
+
+	public String toString () {
+		return name;
+	}
+}
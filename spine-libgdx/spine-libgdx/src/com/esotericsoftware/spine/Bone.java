@@ -50,6 +50,7 @@ public class Bone implements Updatable {
 
 	float a, b, worldX;
 	float c, d, worldY;
+	int worldVersion, parentVersion;
 
 	boolean sorted;
 
@@ -80,8 +81,21 @@ public class Bone implements Updatable {
 		shearY = bone.shearY;
 	}
 
-	/** Same as {@link #updateWorldTransform()}. This method exists for Bone to implement {@link Updatable}. */
+	/** Same as {@link #updateWorldTransform()}, except the world transform is not computed when it would not change. This is the
+	 * case when the local transform is the same as the applied transform, the world transform has not been modified directly
+	 * (eg, by a constraint), and the parent's world transform has not changed since this bone's world transform was computed.
+	 * This method exists for Bone to implement {@link Updatable}. */
 	public void update () {
+		if (appliedValid && ax == x && ay == y && arotation == rotation && ascaleX == scaleX && ascaleY == scaleY
+			&& ashearX == shearX && ashearY == shearY) {
+			Bone parent = this.parent;
+			if (parent == null) {
+				Skeleton skeleton = this.skeleton;
+				if (skeleton.rootX == skeleton.x && skeleton.rootY == skeleton.y && skeleton.rootFlipX == skeleton.flipX
+					&& skeleton.rootFlipY == skeleton.flipY) return;
+			} else if (parent.appliedValid && parent.worldVersion == parentVersion) //
+				return;
+		}
 		updateWorldTransform(x, y, rotation, scaleX, scaleY, shearX, shearY);
 	}
 
@@ -105,7 +119,9 @@ public class Bone implements Updatable {
 		ashearX = shearX;
 		ashearY = shearY;
 		appliedValid = true;
+		worldVersion++;
 
+		Skeleton skeleton = this.skeleton;
 		Bone parent = this.parent;
 		if (parent == null) { // Root bone.
 			float rotationY = rotation + 90 + shearY;
@@ -113,7 +129,6 @@ public class Bone implements Updatable {
 			float lb = cosDeg(rotationY) * scaleY;
 			float lc = sinDeg(rotation + shearX) * scaleX;
 			float ld = sinDeg(rotationY) * scaleY;
-			Skeleton skeleton = this.skeleton;
 			if (skeleton.flipX) {
 				x = -x;
 				la = -la;
@@ -130,9 +145,15 @@ public class Bone implements Updatable {
 			d = ld;
 			worldX = x + skeleton.x;
 			worldY = y + skeleton.y;
+			// Stored so update can tell when the skeleton position or flip changes.
+			skeleton.rootX = skeleton.x;
+			skeleton.rootY = skeleton.y;
+			skeleton.rootFlipX = skeleton.flipX;
+			skeleton.rootFlipY = skeleton.flipY;
 			return;
 		}
 
+		parentVersion = parent.worldVersion;
 		float pa = parent.a, pb = parent.b, pc = parent.c, pd = parent.d;
 		worldX = pa * x + pb * y + parent.worldX;
 		worldY = pc * x + pd * y + parent.worldY;
@@ -360,6 +381,12 @@ public class Bone implements Updatable {
 		return worldY;
 	}
 
+	/** A number which changes each time the world transform is computed or modified, so results computed from the world
+	 * transform can be reused when it has not changed. */
+	public int getWorldVersion () {
+		return worldVersion;
+	}
+
 	/** The world rotation for the X axis, calculated using {@link #a} and {@link #c}. */
 	public float getWorldRotationX () {
 		return atan2(c, a) * radDeg;
@@ -401,6 +428,7 @@ public class Bone implements Updatable {
 		c = sin * a + cos * c;
 		d = sin * b + cos * d;
 		appliedValid = false;
+		worldVersion++;
 	}
 
 	/** Computes the individual applied transform values from the world transform. This can be useful to perform processing using
@@ -409,6 +437,7 @@ public class Bone implements Updatable {
 	 * Some information is ambiguous in the world transform, such as -1,-1 scale versus 180 rotation. */
 	void updateAppliedTransform () {
 		appliedValid = true;
+		worldVersion++; // The world transform was modified directly.
 		Bone parent = this.parent;
 		if (parent == null) {
 			ax = worldX;
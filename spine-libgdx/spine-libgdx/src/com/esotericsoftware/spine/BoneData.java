@@ -40,6 +40,7 @@ public class BoneData {
 	float length;
 	float x, y, rotation, scaleX = 1, scaleY = 1, shearX, shearY;
 	TransformMode transformMode = TransformMode.normal;
+	int detail;
 
 	// Nonessential.
 	final Color color = new Color(0.61f, 0.61f, 0.61f, 1);
@@ -68,6 +69,7 @@ public class BoneData {
 		scaleY = bone.scaleY;
 		shearX = bone.shearX;
 		shearY = bone.shearY;
+		detail = bone.detail;
 	}
 
 	/** The index of the bone in {@link Skeleton#getBones()}. */
@@ -176,6 +178,19 @@ public class BoneData {
 		this.transformMode = transformMode;
 	}
 
+	/** The level of detail at which the bone is updated. When {@link Skeleton#getDetail()} is less than this, the bone's world
+	 * transform is not computed unless it is needed by a bone or constraint which is updated, and instead the bone snaps to its
+	 * parent. Defaults to 0.
+	 * <p>
+	 * {@link Skeleton#updateCache()} must be called after this is changed for skeletons which have already been created. */
+	public int getDetail () {
+		return detail;
+	}
+
+	public void setDetail (int detail) {
+		this.detail = detail;
+	}
+
 	/** The color of the bone as it was in Spine. Available only when nonessential data was exported. Bones are not usually
 	 * rendered at runtime. */
 	public Color getColor () {
@@ -37,7 +37,7 @@ import com.badlogic.gdx.utils.Array;
  * See <a href="http://esotericsoftware.com/spine-ik-constraints">IK constraints</a> in the Spine User Guide. */
 public class IkConstraintData {
 	final String name;
-	int order;
+	int order, detail;
 	final Array<BoneData> bones = new Array();
 	BoneData target;
 	int bendDirection = 1;
@@ -62,6 +62,16 @@ public class IkConstraintData {
 		this.order = order;
 	}
 
+	/** The level of detail at which the IK constraint is updated. When {@link Skeleton#getDetail()} is less than this, the
+	 * constraint is not applied. See {@link BoneData#getDetail()}. */
+	public int getDetail () {
+		return detail;
+	}
+
+	public void setDetail (int detail) {
+		this.detail = detail;
+	}
+
 	/** The bones that are constrained by this IK constraint. */
 	public Array<BoneData> getBones () {
 		return bones;
@@ -0,0 +1,86 @@
+/******************************************************************************
+ * Spine Runtimes Software License v2.5
+ *
+ * Copyright (c) 2013-2016, Esoteric Software
+ * All rights reserved.
+ *
+ * You are granted a perpetual, non-exclusive, non-sublicensable, and
+ * non-transferable license to use, install, execute, and perform the Spine
+ * Runtimes software and derivative works solely for personal or internal
+ * use. Without the written permission of Esoteric Software (see Section 2 of
+ * the Spine Software License Agreement), you may not (a) modify, translate,
+ * adapt, or develop new applications using the Spine Runtimes or otherwise
+ * create derivative works or improvements of the Spine Runtimes or (b) remove,
+ * delete, alter, or obscure any trademarks or any copyright, trademark, patent,
+ * or other intellectual property or proprietary rights notices on or in the
+ * Software, including any copy thereof. Redistributions in binary or source
+ * form must include this license and terms.
+ *
+ * THIS SOFTWARE IS PROVIDED BY ESOTERIC SOFTWARE "AS IS" AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO
+ * EVENT SHALL ESOTERIC SOFTWARE BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES, BUSINESS INTERRUPTION, OR LOSS OF
+ * USE, DATA, OR PROFITS) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ *****************************************************************************/
+
+package com.esotericsoftware.spine;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectIntMap;
+
+/** Finds the index of a named item in an array using a hash map from names to indices, instead of comparing each item's name.
+ * The map is built the first time it is needed and is rebuilt when the number of items changes or after {@link #changed()},
+ * which must be called when items are replaced or reordered. Finding is thread safe as long as the array is not modified
+ * concurrently.
+ * <p>
+ * When more than one item has the same name, the first is found, as when comparing each name. */
+abstract class NameIndex<T> {
+	private final Array<T> items;
+	private volatile Names names;
+	private int modCount;
+
+	NameIndex (Array<T> items) {
+		this.items = items;
+	}
+
+	/** Returns the name of the item. */
+	abstract String name (T item);
+
+	/** @return The index of the first item with the name, or -1. */
+	int find (String name) {
+		Names names = this.names;
+		if (names == null || names.size != items.size || names.modCount != modCount) this.names = names = names();
+		return names.indices.get(name, -1);
+	}
+
+	/** Records that items were replaced or reordered, so the map is rebuilt the next time it is needed. */
+	void changed () {
+		modCount++;
+	}
+
+	private Names names () {
+		Array<T> items = this.items;
+		int size = items.size;
+		ObjectIntMap<String> indices = new ObjectIntMap(size);
+		for (int i = size - 1; i >= 0; i--)
+			indices.put(name(items.get(i)), i);
+		return new Names(size, modCount, indices);
+	}
+
+	/** An immutable map from names to indices, so it can be safely published to other threads. */
+	static private class Names {
+		final int size, modCount;
+		final ObjectIntMap<String> indices;
+
+		Names (int size, int modCount, ObjectIntMap<String> indices) {
+			this.size = size;
+			this.modCount = modCount;
+			this.indices = indices;
+		}
+	}
+}
@@ -178,6 +178,7 @@ public class PathConstraint implements Constraint {
 				bone.d = sin * b + cos * d;
 			}
 			bone.appliedValid = false;
+			bone.worldVersion++;
 		}
 	}
 
@@ -37,7 +37,7 @@ import com.badlogic.gdx.utils.Array;
  * See <a href="http://esotericsoftware.com/spine-path-constraints">Path constraints</a> in the Spine User Guide. */
 public class PathConstraintData {
 	final String name;
-	int order;
+	int order, detail;
 	final Array<BoneData> bones = new Array();
 	SlotData target;
 	PositionMode positionMode;
@@ -65,6 +65,16 @@ public class PathConstraintData {
 		this.order = order;
 	}
 
+	/** The level of detail at which the path constraint is updated. When {@link Skeleton#getDetail()} is less than this, the
+	 * constraint is not applied. See {@link BoneData#getDetail()}. */
+	public int getDetail () {
+		return detail;
+	}
+
+	public void setDetail (int detail) {
+		this.detail = detail;
+	}
+
 	/** The bones that will be modified by this path constraint. */
 	public Array<BoneData> getBones () {
 		return bones;
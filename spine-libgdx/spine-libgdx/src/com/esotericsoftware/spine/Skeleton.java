@@ -33,8 +33,10 @@ package com.esotericsoftware.spine;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Array;
-import com.badlogic.gdx.utils.ObjectMap.Entry;
-import com.esotericsoftware.spine.Skin.Key;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IntArray;
+import com.esotericsoftware.spine.Skin.NameIds;
+import com.esotericsoftware.spine.Skin.SlotAttachments;
 import com.esotericsoftware.spine.attachments.Attachment;
 import com.esotericsoftware.spine.attachments.MeshAttachment;
 import com.esotericsoftware.spine.attachments.PathAttachment;
@@ -54,11 +56,16 @@ public class Skeleton {
 	final Array<PathConstraint> pathConstraints;
 	final Array<Updatable> updateCache = new Array();
 	final Array<Bone> updateCacheReset = new Array();
-	Skin skin;
+	final Array<DetailCache> detailCaches = new Array();
+	int detailMax, detail = Integer.MAX_VALUE;
+	Skin skin, overrides;
 	final Color color;
 	float time;
 	boolean flipX, flipY;
 	float x, y;
+	float rootX, rootY; // The position and flip used to compute the root bone's world transform.
+	boolean rootFlipX, rootFlipY;
+	private FloatArray boundsTemp;
 
 	public Skeleton (SkeletonData data) {
 		if (data == null) throw new IllegalArgumentException("data cannot be null.");
@@ -143,18 +150,76 @@ public class Skeleton {
 		for (PathConstraint pathConstraint : skeleton.pathConstraints)
 			pathConstraints.add(new PathConstraint(pathConstraint, this));
 
+		if (skeleton.overrides != null) {
+			overrides = new Skin("overrides");
+			SlotAttachments[] overrideSlots = skeleton.overrides.slots;
+			for (int i = 0, n = overrideSlots.length; i < n; i++) {
+				SlotAttachments overrideSlot = overrideSlots[i];
+				if (overrideSlot == null) continue;
+				Slot slot = slots.get(i);
+				for (int ii = 0, nn = overrideSlot.size; ii < nn; ii++) {
+					Attachment attachment = overrideSlot.attachments[ii], copy = attachment.copy();
+					overrides.addAttachment(i, overrideSlot.names[ii], copy);
+					if (slot.attachment == attachment) slot.attachment = copy;
+				}
+			}
+		}
+
 		skin = skeleton.skin;
 		color = new Color(skeleton.color);
 		time = skeleton.time;
 		flipX = skeleton.flipX;
 		flipY = skeleton.flipY;
+		detail = skeleton.detail;
 
 		updateCache();
 	}
 
 	/** Caches information about bones and constraints. Must be called if bones, constraints, or weighted path attachments are
-	 * added or removed. */
+	 * added or removed, or if the detail level of bones or constraints is changed. */
 	public void updateCache () {
+		// Each detail level except the highest has an update cache with only the bones and constraints at or below that level.
+		Array<DetailCache> detailCaches = this.detailCaches;
+		detailCaches.clear();
+		IntArray levels = detailLevels();
+		Array<Bone> bones = this.bones;
+		for (int i = 0, n = levels.size - 1; i < n; i++) {
+			int level = levels.get(i);
+			sortUpdateCache(level);
+			Array<Bone> snapped = new Array();
+			for (int ii = 0, nn = bones.size; ii < nn; ii++) {
+				Bone bone = bones.get(ii);
+				if (!bone.sorted) snapped.add(bone);
+			}
+			detailCaches.add(new DetailCache(level, new Array(updateCache), new Array(updateCacheReset), snapped));
+		}
+		detailMax = levels.peek();
+
+		sortUpdateCache(Integer.MAX_VALUE);
+	}
+
+	/** Returns the distinct detail levels of the bones and constraints, sorted lowest first. */
+	private IntArray detailLevels () {
+		IntArray levels = new IntArray();
+		for (int i = 0, n = bones.size; i < n; i++)
+			levels.add(bones.get(i).data.detail);
+		for (int i = 0, n = ikConstraints.size; i < n; i++)
+			levels.add(ikConstraints.get(i).data.detail);
+		for (int i = 0, n = transformConstraints.size; i < n; i++)
+			levels.add(transformConstraints.get(i).data.detail);
+		for (int i = 0, n = pathConstraints.size; i < n; i++)
+			levels.add(pathConstraints.get(i).data.detail);
+		if (levels.size == 0) levels.add(0);
+		levels.sort();
+		int count = 1;
+		for (int i = 1, n = levels.size; i < n; i++)
+			if (levels.get(i) != levels.get(count - 1)) levels.set(count++, levels.get(i));
+		levels.size = count;
+		return levels;
+	}
+
+	/** Sorts the bones and constraints at or below the specified detail level, and the bones they need, into the update cache. */
+	private void sortUpdateCache (int detail) {
 		Array<Updatable> updateCache = this.updateCache;
 		updateCache.clear();
 		updateCacheReset.clear();
@@ -173,28 +238,30 @@ public class Skeleton {
 			for (int ii = 0; ii < ikCount; ii++) {
 				IkConstraint constraint = ikConstraints.get(ii);
 				if (constraint.data.order == i) {
-					sortIkConstraint(constraint);
+					if (constraint.data.detail <= detail) sortIkConstraint(constraint);
 					continue outer;
 				}
 			}
 			for (int ii = 0; ii < transformCount; ii++) {
 				TransformConstraint constraint = transformConstraints.get(ii);
 				if (constraint.data.order == i) {
-					sortTransformConstraint(constraint);
+					if (constraint.data.detail <= detail) sortTransformConstraint(constraint);
 					continue outer;
 				}
 			}
 			for (int ii = 0; ii < pathCount; ii++) {
 				PathConstraint constraint = pathConstraints.get(ii);
 				if (constraint.data.order == i) {
-					sortPathConstraint(constraint);
+					if (constraint.data.detail <= detail) sortPathConstraint(constraint);
 					continue outer;
 				}
 			}
 		}
 
-		for (int i = 0, n = bones.size; i < n; i++)
-			sortBone(bones.get(i));
+		for (int i = 0, n = bones.size; i < n; i++) {
+			Bone bone = bones.get(i);
+			if (bone.data.detail <= detail) sortBone(bone);
+		}
 	}
 
 	private void sortIkConstraint (IkConstraint constraint) {
@@ -259,8 +326,12 @@ public class Skeleton {
 	}
 
 	private void sortPathConstraintAttachment (Skin skin, int slotIndex, Bone slotBone) {
-		for (Entry<Key, Attachment> entry : skin.attachments.entries())
-			if (entry.key.slotIndex == slotIndex) sortPathConstraintAttachment(entry.value, slotBone);
+		if (slotIndex >= skin.slots.length) return;
+		SlotAttachments slot = skin.slots[slotIndex];
+		if (slot == null) return;
+		Attachment[] attachments = slot.attachments;
+		for (int i = 0, n = slot.size; i < n; i++)
+			sortPathConstraintAttachment(attachments[i], slotBone);
 	}
 
 	private void sortPathConstraintAttachment (Attachment attachment, Bone slotBone) {
@@ -300,10 +371,12 @@ public class Skeleton {
 	 * See <a href="http://esotericsoftware.com/spine-runtime-skeletons#World-transforms">World transforms</a> in the Spine
 	 * Runtimes Guide. */
 	public void updateWorldTransform () {
+		DetailCache detailCache = detail < detailMax ? detailCache() : null;
+
 		// This partial update avoids computing the world transform for constrained bones when 1) the bone is not updated
 		// before the constraint, 2) the constraint only needs to access the applied local transform, and 3) the constraint calls
 		// updateWorldTransform.
-		Array<Bone> updateCacheReset = this.updateCacheReset;
+		Array<Bone> updateCacheReset = detailCache != null ? detailCache.updateCacheReset : this.updateCacheReset;
 		for (int i = 0, n = updateCacheReset.size; i < n; i++) {
 			Bone bone = updateCacheReset.get(i);
 			bone.ax = bone.x;
@@ -315,9 +388,36 @@ public class Skeleton {
 			bone.ashearY = bone.shearY;
 			bone.appliedValid = true;
 		}
-		Array<Updatable> updateCache = this.updateCache;
+		Array<Updatable> updateCache = detailCache != null ? detailCache.updateCache : this.updateCache;
 		for (int i = 0, n = updateCache.size; i < n; i++)
 			updateCache.get(i).update();
+
+		if (detailCache != null) {
+			// Bones which are not updated snap to their parent, in bone index order so parents are snapped first.
+			Array<Bone> snapped = detailCache.snapped;
+			for (int i = 0, n = snapped.size; i < n; i++) {
+				Bone bone = snapped.get(i), parent = bone.parent;
+				if (parent == null) continue;
+				bone.a = parent.a;
+				bone.b = parent.b;
+				bone.worldX = parent.worldX;
+				bone.c = parent.c;
+				bone.d = parent.d;
+				bone.worldY = parent.worldY;
+				bone.appliedValid = false;
+				bone.worldVersion++;
+			}
+		}
+	}
+
+	/** Returns the update cache for the highest detail level at or below the current detail level. */
+	private DetailCache detailCache () {
+		Array<DetailCache> detailCaches = this.detailCaches;
+		for (int i = detailCaches.size - 1; i > 0; i--) {
+			DetailCache detailCache = detailCaches.get(i);
+			if (detailCache.level <= detail) return detailCache;
+		}
+		return detailCaches.first();
 	}
 
 	/** Sets the bones, constraints, slots, and draw order to their setup pose values. */
@@ -378,6 +478,7 @@ public class Skeleton {
 		return bones;
 	}
 
+	/** The bones and constraints in the order they are updated when all detail levels are updated. */
 	public Array<Updatable> getUpdateCache () {
 		return updateCache;
 	}
@@ -388,17 +489,12 @@ public class Skeleton {
 		return bones.first();
 	}
 
-	/** Finds a bone by comparing each bone's name. It is more efficient to cache the results of this method than to call it
-	 * multiple times.
+	/** Finds a bone by name using {@link SkeletonData#findBoneIndex(String)}. It is more efficient to cache the results of this
+	 * method than to call it multiple times.
 	 * @return May be null. */
 	public Bone findBone (String boneName) {
-		if (boneName == null) throw new IllegalArgumentException("boneName cannot be null.");
-		Array<Bone> bones = this.bones;
-		for (int i = 0, n = bones.size; i < n; i++) {
-			Bone bone = bones.get(i);
-			if (bone.data.name.equals(boneName)) return bone;
-		}
-		return null;
+		int index = data.findBoneIndex(boneName);
+		return index == -1 ? null : bones.get(index);
 	}
 
 	/** The skeleton's slots. */
@@ -406,17 +502,12 @@ public class Skeleton {
 		return slots;
 	}
 
-	/** Finds a slot by comparing each slot's name. It is more efficient to cache the results of this method than to call it
-	 * multiple times.
+	/** Finds a slot by name using {@link SkeletonData#findSlotIndex(String)}. It is more efficient to cache the results of this
+	 * method than to call it multiple times.
 	 * @return May be null. */
 	public Slot findSlot (String slotName) {
-		if (slotName == null) throw new IllegalArgumentException("slotName cannot be null.");
-		Array<Slot> slots = this.slots;
-		for (int i = 0, n = slots.size; i < n; i++) {
-			Slot slot = slots.get(i);
-			if (slot.data.name.equals(slotName)) return slot;
-		}
-		return null;
+		int index = data.findSlotIndex(slotName);
+		return index == -1 ? null : slots.get(index);
 	}
 
 	/** The skeleton's slots in the order they should be drawn. The returned array may be modified to change the draw order. */
@@ -468,6 +559,17 @@ public class Skeleton {
 		skin = newSkin;
 	}
 
+	/** Sets the skin for each skeleton, eg when many skeletons are created at once. Finding the attachments does not hash
+	 * names or allocate.
+	 * <p>
+	 * See {@link #setSkin(Skin)}.
+	 * @param newSkin May be null. */
+	static public void setSkin (Array<Skeleton> skeletons, Skin newSkin) {
+		if (skeletons == null) throw new IllegalArgumentException("skeletons cannot be null.");
+		for (int i = 0, n = skeletons.size; i < n; i++)
+			skeletons.get(i).setSkin(newSkin);
+	}
+
 	/** Finds an attachment by looking in the {@link #skin} and {@link SkeletonData#defaultSkin} using the slot name and attachment
 	 * name.
 	 * <p>
@@ -480,12 +582,17 @@ public class Skeleton {
 	}
 
 	/** Finds an attachment by looking in the {@link #skin} and {@link SkeletonData#defaultSkin} using the slot index and
-	 * attachment name. First the skin is checked and if the attachment was not found, the default skin is checked.
+	 * attachment name. First any {@link #overrideAttachment(int, String) override} is checked, then the skin, and if the
+	 * attachment was not found, the default skin is checked.
 	 * <p>
 	 * See <a href="http://esotericsoftware.com/spine-runtime-skins">Runtime skins</a> in the Spine Runtimes Guide.
 	 * @return May be null. */
 	public Attachment getAttachment (int slotIndex, String attachmentName) {
 		if (attachmentName == null) throw new IllegalArgumentException("attachmentName cannot be null.");
+		if (overrides != null) {
+			Attachment attachment = overrides.getAttachment(slotIndex, attachmentName);
+			if (attachment != null) return attachment;
+		}
 		if (skin != null) {
 			Attachment attachment = skin.getAttachment(slotIndex, attachmentName);
 			if (attachment != null) return attachment;
@@ -494,6 +601,85 @@ public class Skeleton {
 		return null;
 	}
 
+	/** Finds an attachment by looking in the {@link #skin} and {@link SkeletonData#defaultSkin} using the slot index and
+	 * attachment name id, without comparing names for skins sharing name ids with the skeleton data.
+	 * <p>
+	 * See {@link #getAttachment(int, String)}.
+	 * @param attachmentNameId See {@link SkeletonData#findAttachmentNameId(String)}.
+	 * @return May be null. */
+	public Attachment getAttachment (int slotIndex, int attachmentNameId) {
+		if (overrides != null) {
+			Attachment attachment = getAttachment(overrides, slotIndex, attachmentNameId);
+			if (attachment != null) return attachment;
+		}
+		if (skin != null) {
+			Attachment attachment = getAttachment(skin, slotIndex, attachmentNameId);
+			if (attachment != null) return attachment;
+		}
+		if (data.defaultSkin != null) return getAttachment(data.defaultSkin, slotIndex, attachmentNameId);
+		return null;
+	}
+
+	private Attachment getAttachment (Skin skin, int slotIndex, int attachmentNameId) {
+		NameIds nameIds = data.attachmentNameIds;
+		if (skin.nameIds == nameIds) return skin.getAttachment(slotIndex, attachmentNameId);
+		String name = nameIds.getName(attachmentNameId); // The skin has its own name ids.
+		return name == null ? null : skin.getAttachment(slotIndex, name);
+	}
+
+	/** Returns this skeleton's own copy of an attachment, which can be changed (eg its color or region) without affecting other
+	 * skeletons using the same skeleton data. The first time this is called for a slot and attachment name, the attachment found
+	 * by {@link #getAttachment(int, String)} is {@link Attachment#copy() copied}. Afterward the copy is found instead of the
+	 * attachment from the skins, so it is used by attachment timelines and the setup pose. If the slot's current attachment is
+	 * the copied attachment, the slot uses the copy. Deform timelines for the copied attachment are applied to the copy.
+	 * <p>
+	 * Overrides are found before attachments from any skin, so they should be cleared with {@link #clearOverrides()} before
+	 * changing skins if the overridden attachments differ between skins.
+	 * @return May be null if the attachment was not found.
+	 * @throws IllegalArgumentException if the attachment cannot be copied, ie its {@link Attachment#copy()} returns null. The
+	 *            skeleton is not changed. */
+	public Attachment overrideAttachment (int slotIndex, String attachmentName) {
+		Attachment attachment = getAttachment(slotIndex, attachmentName);
+		if (attachment == null) return null;
+		if (overrides != null && overrides.getAttachment(slotIndex, attachmentName) == attachment) return attachment;
+		Attachment copy = attachment.copy();
+		if (copy == null) throw new IllegalArgumentException("Attachment cannot be copied: " + attachment.getClass().getName());
+		if (overrides == null) overrides = new Skin("overrides");
+		overrides.addAttachment(slotIndex, attachmentName, copy);
+		Slot slot = slots.get(slotIndex);
+		if (slot.attachment == attachment) slot.attachment = copy; // Keeps the attachment time and deform vertices.
+		return copy;
+	}
+
+	/** The attachments copied by {@link #overrideAttachment(int, String)}.
+	 * @return May be null. */
+	public Skin getOverrides () {
+		return overrides;
+	}
+
+	/** Removes all attachments copied by {@link #overrideAttachment(int, String)}. Slots using a copy are changed to use the
+	 * attachment from the skins. */
+	public void clearOverrides () {
+		if (overrides == null) return;
+		SlotAttachments[] overrideSlots = overrides.slots;
+		overrides = null;
+		for (int i = 0, n = overrideSlots.length; i < n; i++) {
+			SlotAttachments overrideSlot = overrideSlots[i];
+			if (overrideSlot == null) continue;
+			Slot slot = slots.get(i);
+			for (int ii = 0, nn = overrideSlot.size; ii < nn; ii++) {
+				if (slot.attachment == overrideSlot.attachments[ii]) {
+					Attachment attachment = getAttachment(i, overrideSlot.names[ii]);
+					if (attachment != null)
+						slot.attachment = attachment;
+					else
+						slot.setAttachment(null);
+					break;
+				}
+			}
+		}
+	}
+
 	/** A convenience method to set an attachment by finding the slot with {@link #findSlot(String)}, finding the attachment with
 	 * {@link #getAttachment(int, String)}, then setting the slot's {@link Slot#attachment}.
 	 * @param attachmentName May be null to clear the slot. */
@@ -515,17 +701,12 @@ public class Skeleton {
 		return ikConstraints;
 	}
 
-	/** Finds an IK constraint by comparing each IK constraint's name. It is more efficient to cache the results of this method
-	 * than to call it multiple times.
+	/** Finds an IK constraint by name using {@link SkeletonData#findIkConstraintIndex(String)}. It is more efficient to cache the
+	 * results of this method than to call it multiple times.
 	 * @return May be null. */
 	public IkConstraint findIkConstraint (String constraintName) {
-		if (constraintName == null) throw new IllegalArgumentException("constraintName cannot be null.");
-		Array<IkConstraint> ikConstraints = this.ikConstraints;
-		for (int i = 0, n = ikConstraints.size; i < n; i++) {
-			IkConstraint ikConstraint = ikConstraints.get(i);
-			if (ikConstraint.data.name.equals(constraintName)) return ikConstraint;
-		}
-		return null;
+		int index = data.findIkConstraintIndex(constraintName);
+		return index == -1 ? null : ikConstraints.get(index);
 	}
 
 	/** The skeleton's transform constraints. */
@@ -533,17 +714,12 @@ public class Skeleton {
 		return transformConstraints;
 	}
 
-	/** Finds a transform constraint by comparing each transform constraint's name. It is more efficient to cache the results of
-	 * this method than to call it multiple times.
+	/** Finds a transform constraint by name using {@link SkeletonData#findTransformConstraintIndex(String)}. It is more efficient
+	 * to cache the results of this method than to call it multiple times.
 	 * @return May be null. */
 	public TransformConstraint findTransformConstraint (String constraintName) {
-		if (constraintName == null) throw new IllegalArgumentException("constraintName cannot be null.");
-		Array<TransformConstraint> transformConstraints = this.transformConstraints;
-		for (int i = 0, n = transformConstraints.size; i < n; i++) {
-			TransformConstraint constraint = transformConstraints.get(i);
-			if (constraint.data.name.equals(constraintName)) return constraint;
-		}
-		return null;
+		int index = data.findTransformConstraintIndex(constraintName);
+		return index == -1 ? null : transformConstraints.get(index);
 	}
 
 	/** The skeleton's path constraints. */
@@ -551,37 +727,50 @@ public class Skeleton {
 		return pathConstraints;
 	}
 
-	/** Finds a path constraint by comparing each path constraint's name. It is more efficient to cache the results of this method
-	 * than to call it multiple times.
+	/** Finds a path constraint by name using {@link SkeletonData#findPathConstraintIndex(String)}. It is more efficient to cache
+	 * the results of this method than to call it multiple times.
 	 * @return May be null. */
 	public PathConstraint findPathConstraint (String constraintName) {
-		if (constraintName == null) throw new IllegalArgumentException("constraintName cannot be null.");
-		Array<PathConstraint> pathConstraints = this.pathConstraints;
-		for (int i = 0, n = pathConstraints.size; i < n; i++) {
-			PathConstraint constraint = pathConstraints.get(i);
-			if (constraint.data.name.equals(constraintName)) return constraint;
-		}
-		return null;
+		int index = data.findPathConstraintIndex(constraintName);
+		return index == -1 ? null : pathConstraints.get(index);
+	}
+
+	/** Returns the axis aligned bounding box (AABB) of the region and mesh attachments for the current pose, using a temporary
+	 * buffer owned by this skeleton.
+	 * <p>
+	 * See {@link #getBounds(Vector2, Vector2, FloatArray)}. */
+	public void getBounds (Vector2 offset, Vector2 size) {
+		if (boundsTemp == null) boundsTemp = new FloatArray(32);
+		getBounds(offset, size, boundsTemp);
 	}
 
 	/** Returns the axis aligned bounding box (AABB) of the region and mesh attachments for the current pose.
 	 * @param offset An output value, the distance from the skeleton origin to the bottom left corner of the AABB.
-	 * @param size An output value, the width and height of the AABB. */
-	public void getBounds (Vector2 offset, Vector2 size) {
+	 * @param size An output value, the width and height of the AABB.
+	 * @param temp Working memory used to compute the world vertices of the attachments. */
+	public void getBounds (Vector2 offset, Vector2 size, FloatArray temp) {
 		if (offset == null) throw new IllegalArgumentException("offset cannot be null.");
 		if (size == null) throw new IllegalArgumentException("size cannot be null.");
+		if (temp == null) throw new IllegalArgumentException("temp cannot be null.");
 		Array<Slot> drawOrder = this.drawOrder;
 		float minX = Integer.MAX_VALUE, minY = Integer.MAX_VALUE, maxX = Integer.MIN_VALUE, maxY = Integer.MIN_VALUE;
 		for (int i = 0, n = drawOrder.size; i < n; i++) {
 			Slot slot = drawOrder.get(i);
+			int verticesLength = 0;
 			float[] vertices = null;
 			Attachment attachment = slot.attachment;
-			if (attachment instanceof RegionAttachment)
-				vertices = ((RegionAttachment)attachment).updateWorldVertices(slot, false);
-			else if (attachment instanceof MeshAttachment) //
-				vertices = ((MeshAttachment)attachment).updateWorldVertices(slot, true);
+			if (attachment instanceof RegionAttachment) {
+				verticesLength = 8;
+				vertices = temp.setSize(verticesLength);
+				((RegionAttachment)attachment).computeWorldVertices(slot.getBone(), vertices, 0, 2);
+			} else if (attachment instanceof MeshAttachment) {
+				MeshAttachment mesh = (MeshAttachment)attachment;
+				verticesLength = mesh.getWorldVerticesLength();
+				vertices = temp.setSize(verticesLength);
+				mesh.computeWorldVertices(slot, 0, verticesLength, vertices, 0);
+			}
 			if (vertices != null) {
-				for (int ii = 0, nn = vertices.length; ii < nn; ii += 5) {
+				for (int ii = 0; ii < verticesLength; ii += 2) {
 					float x = vertices[ii], y = vertices[ii + 1];
 					minX = Math.min(minX, x);
 					minY = Math.min(minY, y);
@@ -653,6 +842,20 @@ public class Skeleton {
 		this.y = y;
 	}
 
+	/** The level of detail used by {@link #updateWorldTransform()}. Bones and constraints with a detail level greater than this
+	 * are not updated and bones which are not updated snap to their parent, unless they are needed by bones or constraints
+	 * which are updated. When less than the lowest detail level of the bones and constraints, that level is used. Defaults to
+	 * {@link Integer#MAX_VALUE}, so all bones and constraints are updated.
+	 * <p>
+	 * See {@link BoneData#getDetail()}. */
+	public int getDetail () {
+		return detail;
+	}
+
+	public void setDetail (int detail) {
+		this.detail = detail;
+	}
+
 	/** Returns the skeleton's time. This can be used for tracking, such as with Slot {@link Slot#getAttachmentTime()}.
 	 * <p>
 	 * See {@link #update(float)}. */
@@ -672,4 +875,18 @@ public class Skeleton {
 	public String toString () {
 		return data.name != null ? data.name : super.toString();
 	}
+
+	/** The update cache for a detail level, and the bones which are not updated at that level. */
+	static class DetailCache {
+		final int level;
+		final Array<Updatable> updateCache;
+		final Array<Bone> updateCacheReset, snapped;
+
+		DetailCache (int level, Array<Updatable> updateCache, Array<Bone> updateCacheReset, Array<Bone> snapped) {
+			this.level = level;
+			this.updateCache = updateCache;
+			this.updateCacheReset = updateCacheReset;
+			this.snapped = snapped;
+		}
+	}
 }
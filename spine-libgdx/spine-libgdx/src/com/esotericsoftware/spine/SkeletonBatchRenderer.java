@@ -0,0 +1,259 @@
+/******************************************************************************
+ * Spine Runtimes Software License v2.5
+ *
+ * Copyright (c) 2013-2016, Esoteric Software
+ * All rights reserved.
+ *
+ * You are granted a perpetual, non-exclusive, non-sublicensable, and
+ * non-transferable license to use, install, execute, and perform the Spine
+ * Runtimes software and derivative works solely for personal or internal
+ * use. Without the written permission of Esoteric Software (see Section 2 of
+ * the Spine Software License Agreement), you may not (a) modify, translate,
+ * adapt, or develop new applications using the Spine Runtimes or otherwise
+ * create derivative works or improvements of the Spine Runtimes or (b) remove,
+ * delete, alter, or obscure any trademarks or any copyright, trademark, patent,
+ * or other intellectual property or proprietary rights notices on or in the
+ * Software, including any copy thereof. Redistributions in binary or source
+ * form must include this license and terms.
+ *
+ * THIS SOFTWARE IS PROVIDED BY ESOTERIC SOFTWARE "AS IS" AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO
+ * EVENT SHALL ESOTERIC SOFTWARE BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES, BUSINESS INTERRUPTION, OR LOSS OF
+ * USE, DATA, OR PROFITS) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ *****************************************************************************/
+
+
+package com.esotericsoftware.spine;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.PolygonSpriteBatch;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IntArray;
+import com.esotericsoftware.spine.attachments.Attachment;
+import com.esotericsoftware.spine.attachments.MeshAttachment;
+import com.esotericsoftware.spine.attachments.RegionAttachment;
+import com.esotericsoftware.spine.attachments.SkeletonAttachment;
+
+/** Draws many skeletons using as few texture and blend mode changes as possible. Each {@link #add(Skeleton) added} skeleton's
+ * attachments are put in batches of attachments with the same texture and blend mode, then {@link #draw(PolygonSpriteBatch)}
+ * draws the batches in order, changing the texture and blend mode only between batches.
+ * <p>
+ * An attachment is put in the first batch with its texture and blend mode that is not before the batch of the previous
+ * attachment in the skeleton's draw order, and not before the last batch used by any skeleton added earlier whose bounds
+ * overlap. This keeps the draw order of each skeleton and of overlapping skeletons, while skeletons that don't overlap share
+ * batches.
+ * <p>
+ * The vertices are computed when a skeleton is added, so the skeleton can be changed before the batches are drawn. They are
+ * written once to a buffer shared by all batches, which the batches reference. */
+public class SkeletonBatchRenderer {
+	static private final short[] quadTriangles = {0, 1, 2, 2, 3, 0};
+
+	boolean premultipliedAlpha;
+	private final Array<RenderBatch> batches = new Array();
+	private int batchCount, flushCount, drawnAttachmentCount;
+
+	// The vertices of all added skeletons, referenced by the batches.
+	private final FloatArray vertices = new FloatArray(1024);
+
+	// The bounds and last batch index of each added skeleton.
+	private final FloatArray skeletonBounds = new FloatArray();
+	private final IntArray skeletonBatches = new IntArray();
+
+	// The attachments of the skeleton being added.
+	private final IntArray vertexCounts = new IntArray();
+	private final Array<short[]> triangles = new Array();
+	private final Array<Texture> textures = new Array();
+	private final Array<BlendMode> blendModes = new Array();
+
+	/** Computes the vertices for the skeleton's attachments and puts them in batches. The skeleton's world transforms must be
+	 * current. */
+	public void add (Skeleton skeleton) {
+		if (skeleton == null) throw new IllegalArgumentException("skeleton cannot be null.");
+		int start = vertices.size;
+		collect(skeleton);
+		int count = textures.size;
+		if (count == 0) return;
+
+		float minX = Float.MAX_VALUE, minY = Float.MAX_VALUE, maxX = -Float.MAX_VALUE, maxY = -Float.MAX_VALUE;
+		float[] vertices = this.vertices.items;
+		for (int i = start, n = this.vertices.size; i < n; i += 5) {
+			float x = vertices[i], y = vertices[i + 1];
+			minX = Math.min(minX, x);
+			minY = Math.min(minY, y);
+			maxX = Math.max(maxX, x);
+			maxY = Math.max(maxY, y);
+		}
+
+		int first = 0;
+		float[] bounds = skeletonBounds.items;
+		for (int i = 0, b = 0, n = skeletonBatches.size; i < n; i++, b += 4)
+			if (minX < bounds[b + 2] && maxX > bounds[b] && minY < bounds[b + 3] && maxY > bounds[b + 1])
+				first = Math.max(first, skeletonBatches.get(i));
+
+		int[] vertexCounts = this.vertexCounts.items;
+		for (int i = 0, offset = start; i < count; i++) {
+			first = batch(first, textures.get(i), blendModes.get(i));
+			int vertexCount = vertexCounts[i];
+			batches.get(first).add(offset, vertexCount, triangles.get(i));
+			offset += vertexCount;
+		}
+
+		skeletonBounds.addAll(minX, minY, maxX, maxY);
+		skeletonBatches.add(first);
+
+		this.vertexCounts.clear();
+		triangles.clear();
+		textures.clear();
+		blendModes.clear();
+	}
+	private void collect (Skeleton skeleton) {
+		boolean premultipliedAlpha = this.premultipliedAlpha;
+		FloatArray vertices = this.vertices;
+		Array<Slot> drawOrder = skeleton.drawOrder;
+		for (int i = 0, n = drawOrder.size; i < n; i++) {
+			Slot slot = drawOrder.get(i);
+			Attachment attachment = slot.attachment;
+			if (attachment instanceof RegionAttachment) {
+				RegionAttachment region = (RegionAttachment)attachment;
+				int offset = vertices.size;
+				region.updateWorldVertices(slot, premultipliedAlpha, vertices.setSize(offset + 20), offset);
+				add(20, quadTriangles, region.getRegion().getTexture(), slot.data.blendMode);
+
+			} else if (attachment instanceof MeshAttachment) {
+				MeshAttachment mesh = (MeshAttachment)attachment;
+				int offset = vertices.size, verticesLength = mesh.getRenderVerticesLength();
+				mesh.updateWorldVertices(slot, premultipliedAlpha, vertices.setSize(offset + verticesLength), offset);
+				add(verticesLength, mesh.getTriangles(), mesh.getRegion().getTexture(), slot.data.blendMode);
+
+			} else if (attachment instanceof SkeletonAttachment) {
+				Skeleton attachmentSkeleton = ((SkeletonAttachment)attachment).getSkeleton();
+				if (attachmentSkeleton == null) continue;
+				Bone bone = slot.getBone();
+				Bone rootBone = attachmentSkeleton.getRootBone();
+				float oldScaleX = rootBone.getScaleX();
+				float oldScaleY = rootBone.getScaleY();
+				float oldRotation = rootBone.getRotation();
+				attachmentSkeleton.setPosition(bone.getWorldX(), bone.getWorldY());
+				rootBone.setRotation(oldRotation + bone.getWorldRotationX());
+				attachmentSkeleton.updateWorldTransform();
+
+				collect(attachmentSkeleton);
+
+				attachmentSkeleton.setPosition(0, 0);
+				rootBone.setScaleX(oldScaleX);
+				rootBone.setScaleY(oldScaleY);
+				rootBone.setRotation(oldRotation);
+			}
+		}
+	}
+
+	private void add (int vertexCount, short[] triangles, Texture texture, BlendMode blendMode) {
+		vertexCounts.add(vertexCount);
+		this.triangles.add(triangles);
+		textures.add(texture);
+		blendModes.add(blendMode);
+	}
+
+	/** Returns the index of the first batch at or after the specified index with the texture and blend mode, adding a batch if
+	 * necessary. */
+	private int batch (int first, Texture texture, BlendMode blendMode) {
+		Array<RenderBatch> batches = this.batches;
+		for (int i = first, n = batchCount; i < n; i++) {
+			RenderBatch batch = batches.get(i);
+			if (batch.texture == texture && batch.blendMode == blendMode) return i;
+		}
+		if (batchCount == batches.size) batches.add(new RenderBatch());
+		RenderBatch batch = batches.get(batchCount);
+		batch.texture = texture;
+		batch.blendMode = blendMode;
+		return batchCount++;
+	}
+
+	/** Draws the batches for all skeletons added since the last draw or {@link #clear()}, then clears them. The blend function of
+	 * the batch is set when the blend mode changes and the batch is flushed after the last batch, so
+	 * {@link #getFlushCount()} includes all the flushes needed to draw the skeletons. */
+	public void draw (PolygonSpriteBatch batch) {
+		if (batch == null) throw new IllegalArgumentException("batch cannot be null.");
+		boolean premultipliedAlpha = this.premultipliedAlpha;
+		BlendMode blendMode = null;
+		int renderCalls = batch.totalRenderCalls, attachmentCount = 0;
+		float[] vertices = this.vertices.items;
+		for (int i = 0, n = batchCount; i < n; i++) {
+			RenderBatch renderBatch = batches.get(i);
+			if (renderBatch.blendMode != blendMode) {
+				blendMode = renderBatch.blendMode;
+				batch.setBlendFunction(blendMode.getSource(premultipliedAlpha), blendMode.getDest());
+			}
+			Texture texture = renderBatch.texture;
+			int[] attachments = renderBatch.attachments.items;
+			Object[] triangles = renderBatch.triangles.items;
+			for (int ii = 0, t = 0, nn = renderBatch.attachments.size; ii < nn; ii += 2, t++) {
+				short[] attachmentTriangles = (short[])triangles[t];
+				int trianglesCount = attachmentTriangles.length;
+				batch.draw(texture, vertices, attachments[ii], attachments[ii + 1], attachmentTriangles, 0, trianglesCount);
+			}
+			attachmentCount += renderBatch.triangles.size;
+		}
+		batch.flush();
+		flushCount = batch.totalRenderCalls - renderCalls;
+		drawnAttachmentCount = attachmentCount;
+		clear();
+	}
+
+	/** Removes all added skeletons without drawing them. */
+	public void clear () {
+		for (int i = 0, n = batchCount; i < n; i++)
+			batches.get(i).clear();
+		batchCount = 0;
+		vertices.clear();
+		skeletonBounds.clear();
+		skeletonBatches.clear();
+	}
+
+	/** The number of batches for the skeletons added since the last draw. Each batch requires the batch to be flushed. */
+	public int getBatchCount () {
+		return batchCount;
+	}
+
+	/** The number of times the batch was flushed by the last {@link #draw(PolygonSpriteBatch)}, which is the number of draw calls.
+	 * This is usually {@link #getBatchCount()} at the time of the draw, but is more if the batch's buffers were full. */
+	public int getFlushCount () {
+		return flushCount;
+	}
+
+	/** The number of attachments drawn by the last {@link #draw(PolygonSpriteBatch)}. */
+	public int getDrawnAttachmentCount () {
+		return drawnAttachmentCount;
+	}
+
+	public void setPremultipliedAlpha (boolean premultipliedAlpha) {
+		this.premultipliedAlpha = premultipliedAlpha;
+	}
+
+	/** Attachments with the same texture and blend mode. */
+	static class RenderBatch {
+		Texture texture;
+		BlendMode blendMode;
+		final IntArray attachments = new IntArray(); // Offset and count of the vertices for each attachment.
+		final Array<short[]> triangles = new Array();
+
+		void add (int offset, int vertexCount, short[] triangles) {
+			attachments.add(offset);
+			attachments.add(vertexCount);
+			this.triangles.add(triangles);
+		}
+
+		void clear () {
+			texture = null;
+			attachments.clear();
+			triangles.clear();
+		}
+	}
+}
@@ -32,6 +32,10 @@ package com.esotericsoftware.spine;
 
 import java.io.EOFException;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.Color;
@@ -55,6 +59,7 @@ import com.esotericsoftware.spine.Animation.RotateTimeline;
 import com.esotericsoftware.spine.Animation.ScaleTimeline;
 import com.esotericsoftware.spine.Animation.ShearTimeline;
 import com.esotericsoftware.spine.Animation.Timeline;
+import com.esotericsoftware.spine.Animation.TimelineReader;
 import com.esotericsoftware.spine.Animation.TransformConstraintTimeline;
 import com.esotericsoftware.spine.Animation.TranslateTimeline;
 import com.esotericsoftware.spine.BoneData.TransformMode;
@@ -94,10 +99,11 @@ public class SkeletonBinary {
 	static public final int CURVE_STEPPED = 1;
 	static public final int CURVE_BEZIER = 2;
 
-	static private final Color tempColor = new Color();
-
 	private final AttachmentLoader attachmentLoader;
 	private float scale = 1;
+	private boolean lazyAnimations;
+	private TimelineCompactor timelineCompactor;
+	private int curveResolution;
 	private Array<LinkedMesh> linkedMeshes = new Array();
 
 	public SkeletonBinary (TextureAtlas atlas) {
@@ -121,186 +127,80 @@ public class SkeletonBinary {
 		this.scale = scale;
 	}
 
-	public SkeletonData readSkeletonData (FileHandle file) {
-		if (file == null) throw new IllegalArgumentException("file cannot be null.");
+	/** When true, the bytes for each animation are kept and its timelines are read the first time they are needed, eg by
+	 * {@link SkeletonData#findAnimation(String)}. This reduces the time to load and the memory used when only some of the
+	 * animations are used. Unused animations can be unloaded with
+	 * {@link SkeletonData#unloadAnimations(com.badlogic.gdx.utils.Predicate)}. The timelines are read using the scale, curve
+	 * resolution, and timeline compactor that were set when the skeleton data was read. Default is false.
+	 * <p>
+	 * When reading from a file, the whole file is kept in memory. When reading from a buffer, the buffer's contents must not be
+	 * changed afterward. See {@link Animation#getTimelines()}. */
+	public boolean getLazyAnimations () {
+		return lazyAnimations;
+	}
 
-		float scale = this.scale;
+	public void setLazyAnimations (boolean lazyAnimations) {
+		this.lazyAnimations = lazyAnimations;
+	}
 
-		SkeletonData skeletonData = new SkeletonData();
-		skeletonData.name = file.nameWithoutExtension();
+	/** When not null, the timelines of each animation are compacted as they are read, including lazy animations read later.
+	 * Default is null. */
+	public TimelineCompactor getTimelineCompactor () {
+		return timelineCompactor;
+	}
 
-		DataInput input = new DataInput(file.read(512)) {
-			private char[] chars = new char[32];
+	public void setTimelineCompactor (TimelineCompactor timelineCompactor) {
+		this.timelineCompactor = timelineCompactor;
+	}
 
-			public String readString () throws IOException {
-				int byteCount = readInt(true);
-				switch (byteCount) {
-				case 0:
-					return null;
-				case 1:
-					return "";
-				}
-				byteCount--;
-				if (chars.length < byteCount) chars = new char[byteCount];
-				char[] chars = this.chars;
-				int charCount = 0;
-				for (int i = 0; i < byteCount;) {
-					int b = read();
-					switch (b >> 4) {
-					case -1:
-						throw new EOFException();
-					case 12:
-					case 13:
-						chars[charCount++] = (char)((b & 0x1F) << 6 | read() & 0x3F);
-						i += 2;
-						break;
-					case 14:
-						chars[charCount++] = (char)((b & 0x0F) << 12 | (read() & 0x3F) << 6 | read() & 0x3F);
-						i += 3;
-						break;
-					default:
-						chars[charCount++] = (char)b;
-						i++;
-					}
-				}
-				return new String(chars, 0, charCount);
-			}
-		};
-		try {
-			skeletonData.hash = input.readString();
-			if (skeletonData.hash.isEmpty()) skeletonData.hash = null;
-			skeletonData.version = input.readString();
-			if (skeletonData.version.isEmpty()) skeletonData.version = null;
-			skeletonData.width = input.readFloat();
-			skeletonData.height = input.readFloat();
+	/** When > 0, a lookup table for the Bezier curves of each timeline is computed as the animations are read. Default is 0.
+	 * <p>
+	 * See {@link CurveTimeline#setCurveResolution(int)}. */
+	public int getCurveResolution () {
+		return curveResolution;
+	}
 
-			boolean nonessential = input.readBoolean();
+	public void setCurveResolution (int curveResolution) {
+		if (curveResolution < 0 || (curveResolution > 0 && curveResolution < 10))
+			throw new IllegalArgumentException("curveResolution must be 0 or >= 10: " + curveResolution);
+		this.curveResolution = curveResolution;
+	}
 
-			if (nonessential) {
-				skeletonData.fps = input.readFloat();
-				skeletonData.imagesPath = input.readString();
-				if (skeletonData.imagesPath.isEmpty()) skeletonData.imagesPath = null;
-			}
+	public SkeletonData readSkeletonData (FileHandle file) {
+		if (file == null) throw new IllegalArgumentException("file cannot be null.");
+		BinaryInput input = lazyAnimations ? new BufferInput(ByteBuffer.wrap(file.readBytes())) : new StreamInput(file.read(512));
+		SkeletonData skeletonData = readSkeletonData(input);
+		skeletonData.name = file.nameWithoutExtension();
+		return skeletonData;
+	}
 
-			// Bones.
-			for (int i = 0, n = input.readInt(true); i < n; i++) {
-				String name = input.readString();
-				BoneData parent = i == 0 ? null : skeletonData.bones.get(input.readInt(true));
-				BoneData data = new BoneData(i, name, parent);
-				data.rotation = input.readFloat();
-				data.x = input.readFloat() * scale;
-				data.y = input.readFloat() * scale;
-				data.scaleX = input.readFloat();
-				data.scaleY = input.readFloat();
-				data.shearX = input.readFloat();
-				data.shearY = input.readFloat();
-				data.length = input.readFloat() * scale;
-				data.transformMode = TransformMode.values[input.readInt(true)];
-				if (nonessential) Color.rgba8888ToColor(data.color, input.readInt());
-				skeletonData.bones.add(data);
-			}
-
-			// Slots.
-			for (int i = 0, n = input.readInt(true); i < n; i++) {
-				String slotName = input.readString();
-				BoneData boneData = skeletonData.bones.get(input.readInt(true));
-				SlotData data = new SlotData(i, slotName, boneData);
-				Color.rgba8888ToColor(data.color, input.readInt());
-				data.attachmentName = input.readString();
-				data.blendMode = BlendMode.values[input.readInt(true)];
-				skeletonData.slots.add(data);
-			}
+	/** Reads the skeleton data from the buffer's position to its limit. The buffer's position is not changed. Floats are
+	 * copied in bulk and names that occur more than once share a single string, which is faster than
+	 * {@link #readSkeletonData(FileHandle)} for large skeletons, especially those with many deform keys. The skeleton data's
+	 * name is not set.
+	 * @param buffer May be a direct or memory mapped buffer, see {@link com.esotericsoftware.spine.utils.MappedSkeletonBinary}. */
+	public SkeletonData readSkeletonData (ByteBuffer buffer) {
+		if (buffer == null) throw new IllegalArgumentException("buffer cannot be null.");
+		return readSkeletonData(new BufferInput(buffer));
+	}
 
-			// IK constraints.
-			for (int i = 0, n = input.readInt(true); i < n; i++) {
-				IkConstraintData data = new IkConstraintData(input.readString());
-				data.order = input.readInt(true);
-				for (int ii = 0, nn = input.readInt(true); ii < nn; ii++)
-					data.bones.add(skeletonData.bones.get(input.readInt(true)));
-				data.target = skeletonData.bones.get(input.readInt(true));
-				data.mix = input.readFloat();
-				data.bendDirection = input.readByte();
-				skeletonData.ikConstraints.add(data);
-			}
+	private SkeletonData readSkeletonData (BinaryInput input) {
+		SkeletonData skeletonData = new SkeletonData();
+		try {
+			readSkeletonData(input, skeletonData);
 
-			// Transform constraints.
-			for (int i = 0, n = input.readInt(true); i < n; i++) {
-				TransformConstraintData data = new TransformConstraintData(input.readString());
-				data.order = input.readInt(true);
-				for (int ii = 0, nn = input.readInt(true); ii < nn; ii++)
-					data.bones.add(skeletonData.bones.get(input.readInt(true)));
-				data.target = skeletonData.bones.get(input.readInt(true));
-				data.offsetRotation = input.readFloat();
-				data.offsetX = input.readFloat() * scale;
-				data.offsetY = input.readFloat() * scale;
-				data.offsetScaleX = input.readFloat();
-				data.offsetScaleY = input.readFloat();
-				data.offsetShearY = input.readFloat();
-				data.rotateMix = input.readFloat();
-				data.translateMix = input.readFloat();
-				data.scaleMix = input.readFloat();
-				data.shearMix = input.readFloat();
-				skeletonData.transformConstraints.add(data);
-			}
-
-			// Path constraints.
-			for (int i = 0, n = input.readInt(true); i < n; i++) {
-				PathConstraintData data = new PathConstraintData(input.readString());
-				data.order = input.readInt(true);
-				for (int ii = 0, nn = input.readInt(true); ii < nn; ii++)
-					data.bones.add(skeletonData.bones.get(input.readInt(true)));
-				data.target = skeletonData.slots.get(input.readInt(true));
-				data.positionMode = PositionMode.values[input.readInt(true)];
-				data.spacingMode = SpacingMode.values[input.readInt(true)];
-				data.rotateMode = RotateMode.values[input.readInt(true)];
-				data.offsetRotation = input.readFloat();
-				data.position = input.readFloat();
-				if (data.positionMode == PositionMode.fixed) data.position *= scale;
-				data.spacing = input.readFloat();
-				if (data.spacingMode == SpacingMode.length || data.spacingMode == SpacingMode.fixed) data.spacing *= scale;
-				data.rotateMix = input.readFloat();
-				data.translateMix = input.readFloat();
-				skeletonData.pathConstraints.add(data);
-			}
-
-			// Default skin.
-			Skin defaultSkin = readSkin(input, "default", nonessential);
-			if (defaultSkin != null) {
-				skeletonData.defaultSkin = defaultSkin;
-				skeletonData.skins.add(defaultSkin);
-			}
-
-			// Skins.
-			for (int i = 0, n = input.readInt(true); i < n; i++)
-				skeletonData.skins.add(readSkin(input, input.readString(), nonessential));
-
-			// Linked meshes.
-			for (int i = 0, n = linkedMeshes.size; i < n; i++) {
-				LinkedMesh linkedMesh = linkedMeshes.get(i);
-				Skin skin = linkedMesh.skin == null ? skeletonData.getDefaultSkin() : skeletonData.findSkin(linkedMesh.skin);
-				if (skin == null) throw new SerializationException("Skin not found: " + linkedMesh.skin);
-				Attachment parent = skin.getAttachment(linkedMesh.slotIndex, linkedMesh.parent);
-				if (parent == null) throw new SerializationException("Parent mesh not found: " + linkedMesh.parent);
-				linkedMesh.mesh.setParentMesh((MeshAttachment)parent);
-				linkedMesh.mesh.updateUVs();
-			}
-			linkedMeshes.clear();
-
-			// Events.
+			// Animations.
 			for (int i = 0, n = input.readInt(true); i < n; i++) {
-				EventData data = new EventData(input.readString());
-				data.intValue = input.readInt(false);
-				data.floatValue = input.readFloat();
-				data.stringValue = input.readString();
-				skeletonData.events.add(data);
+				String name = input.readString();
+				if (lazyAnimations)
+					skeletonData.animations.add(newLazyAnimation(name, (BufferInput)input, skeletonData));
+				else
+					skeletonData.animations.add(readAnimation(name, input, skeletonData));
 			}
-
-			// Animations.
-			for (int i = 0, n = input.readInt(true); i < n; i++)
-				readAnimation(input.readString(), input, skeletonData);
-
 		} catch (IOException ex) {
 			throw new SerializationException("Error reading skeleton file.", ex);
+		} catch (BufferUnderflowException ex) {
+			throw new SerializationException("Error reading skeleton file.", new EOFException());
 		} finally {
 			try {
 				input.close();
@@ -308,20 +208,156 @@ public class SkeletonBinary {
 			}
 		}
 
+		skeletonData.animations.shrink();
+		skeletonData.indexAnimations();
+		return skeletonData;
+	}
+
+	/** Reads everything except the animations. The input is left positioned at the animation count. */
+	void readSkeletonData (BinaryInput input, SkeletonData skeletonData) throws IOException {
+		float scale = this.scale;
+
+		skeletonData.hash = input.readString();
+		if (skeletonData.hash.isEmpty()) skeletonData.hash = null;
+		skeletonData.version = input.readString();
+		if (skeletonData.version.isEmpty()) skeletonData.version = null;
+		skeletonData.width = input.readFloat();
+		skeletonData.height = input.readFloat();
+
+		boolean nonessential = input.readBoolean();
+
+		if (nonessential) {
+			skeletonData.fps = input.readFloat();
+			skeletonData.imagesPath = input.readString();
+			if (skeletonData.imagesPath.isEmpty()) skeletonData.imagesPath = null;
+		}
+
+		// Bones.
+		for (int i = 0, n = input.readInt(true); i < n; i++) {
+			String name = input.readString();
+			BoneData parent = i == 0 ? null : skeletonData.bones.get(input.readInt(true));
+			BoneData data = new BoneData(i, name, parent);
+			data.rotation = input.readFloat();
+			data.x = input.readFloat() * scale;
+			data.y = input.readFloat() * scale;
+			data.scaleX = input.readFloat();
+			data.scaleY = input.readFloat();
+			data.shearX = input.readFloat();
+			data.shearY = input.readFloat();
+			data.length = input.readFloat() * scale;
+			data.transformMode = TransformMode.values[input.readInt(true)];
+			if (nonessential) Color.rgba8888ToColor(data.color, input.readInt());
+			skeletonData.bones.add(data);
+		}
+
+		// Slots.
+		for (int i = 0, n = input.readInt(true); i < n; i++) {
+			String slotName = input.readString();
+			BoneData boneData = skeletonData.bones.get(input.readInt(true));
+			SlotData data = new SlotData(i, slotName, boneData);
+			Color.rgba8888ToColor(data.color, input.readInt());
+			data.attachmentName = input.readString();
+			data.blendMode = BlendMode.values[input.readInt(true)];
+			skeletonData.slots.add(data);
+		}
+
+		// IK constraints.
+		for (int i = 0, n = input.readInt(true); i < n; i++) {
+			IkConstraintData data = new IkConstraintData(input.readString());
+			data.order = input.readInt(true);
+			for (int ii = 0, nn = input.readInt(true); ii < nn; ii++)
+				data.bones.add(skeletonData.bones.get(input.readInt(true)));
+			data.target = skeletonData.bones.get(input.readInt(true));
+			data.mix = input.readFloat();
+			data.bendDirection = input.readByte();
+			skeletonData.ikConstraints.add(data);
+		}
+
+		// Transform constraints.
+		for (int i = 0, n = input.readInt(true); i < n; i++) {
+			TransformConstraintData data = new TransformConstraintData(input.readString());
+			data.order = input.readInt(true);
+			for (int ii = 0, nn = input.readInt(true); ii < nn; ii++)
+				data.bones.add(skeletonData.bones.get(input.readInt(true)));
+			data.target = skeletonData.bones.get(input.readInt(true));
+			data.offsetRotation = input.readFloat();
+			data.offsetX = input.readFloat() * scale;
+			data.offsetY = input.readFloat() * scale;
+			data.offsetScaleX = input.readFloat();
+			data.offsetScaleY = input.readFloat();
+			data.offsetShearY = input.readFloat();
+			data.rotateMix = input.readFloat();
+			data.translateMix = input.readFloat();
+			data.scaleMix = input.readFloat();
+			data.shearMix = input.readFloat();
+			skeletonData.transformConstraints.add(data);
+		}
+
+		// Path constraints.
+		for (int i = 0, n = input.readInt(true); i < n; i++) {
+			PathConstraintData data = new PathConstraintData(input.readString());
+			data.order = input.readInt(true);
+			for (int ii = 0, nn = input.readInt(true); ii < nn; ii++)
+				data.bones.add(skeletonData.bones.get(input.readInt(true)));
+			data.target = skeletonData.slots.get(input.readInt(true));
+			data.positionMode = PositionMode.values[input.readInt(true)];
+			data.spacingMode = SpacingMode.values[input.readInt(true)];
+			data.rotateMode = RotateMode.values[input.readInt(true)];
+			data.offsetRotation = input.readFloat();
+			data.position = input.readFloat();
+			if (data.positionMode == PositionMode.fixed) data.position *= scale;
+			data.spacing = input.readFloat();
+			if (data.spacingMode == SpacingMode.length || data.spacingMode == SpacingMode.fixed) data.spacing *= scale;
+			data.rotateMix = input.readFloat();
+			data.translateMix = input.readFloat();
+			skeletonData.pathConstraints.add(data);
+		}
+
+		// Default skin.
+		Skin defaultSkin = readSkin(input, skeletonData, "default", nonessential);
+		if (defaultSkin != null) {
+			skeletonData.defaultSkin = defaultSkin;
+			skeletonData.skins.add(defaultSkin);
+		}
+
+		// Skins.
+		for (int i = 0, n = input.readInt(true); i < n; i++)
+			skeletonData.skins.add(readSkin(input, skeletonData, input.readString(), nonessential));
+
+		// Linked meshes.
+		for (int i = 0, n = linkedMeshes.size; i < n; i++) {
+			LinkedMesh linkedMesh = linkedMeshes.get(i);
+			Skin skin = linkedMesh.skin == null ? skeletonData.getDefaultSkin() : skeletonData.findSkin(linkedMesh.skin);
+			if (skin == null) throw new SerializationException("Skin not found: " + linkedMesh.skin);
+			Attachment parent = skin.getAttachment(linkedMesh.slotIndex, linkedMesh.parent);
+			if (parent == null) throw new SerializationException("Parent mesh not found: " + linkedMesh.parent);
+			linkedMesh.mesh.setParentMesh((MeshAttachment)parent);
+			linkedMesh.mesh.updateUVs();
+		}
+		linkedMeshes.clear();
+
+		// Events.
+		for (int i = 0, n = input.readInt(true); i < n; i++) {
+			EventData data = new EventData(input.readString());
+			data.intValue = input.readInt(false);
+			data.floatValue = input.readFloat();
+			data.stringValue = input.readString();
+			skeletonData.events.add(data);
+		}
+
 		skeletonData.bones.shrink();
 		skeletonData.slots.shrink();
 		skeletonData.skins.shrink();
 		skeletonData.events.shrink();
-		skeletonData.animations.shrink();
 		skeletonData.ikConstraints.shrink();
-		return skeletonData;
 	}
 
 	/** @return May be null. */
-	private Skin readSkin (DataInput input, String skinName, boolean nonessential) throws IOException {
+	private Skin readSkin (BinaryInput input, SkeletonData skeletonData, String skinName, boolean nonessential)
+		throws IOException {
 		int slotCount = input.readInt(true);
 		if (slotCount == 0) return null;
-		Skin skin = new Skin(skinName);
+		Skin skin = new Skin(skinName, skeletonData);
 		for (int i = 0; i < slotCount; i++) {
 			int slotIndex = input.readInt(true);
 			for (int ii = 0, nn = input.readInt(true); ii < nn; ii++) {
@@ -333,7 +369,7 @@ public class SkeletonBinary {
 		return skin;
 	}
 
-	private Attachment readAttachment (DataInput input, Skin skin, int slotIndex, String attachmentName, boolean nonessential)
+	private Attachment readAttachment (BinaryInput input, Skin skin, int slotIndex, String attachmentName, boolean nonessential)
 		throws IOException {
 		float scale = this.scale;
 
@@ -378,6 +414,7 @@ public class SkeletonBinary {
 			box.setWorldVerticesLength(vertexCount << 1);
 			box.setVertices(vertices.vertices);
 			box.setBones(vertices.bones);
+			box.updateBoneInfluences();
 			if (nonessential) Color.rgba8888ToColor(box.getColor(), color);
 			return box;
 		}
@@ -404,6 +441,7 @@ public class SkeletonBinary {
 			Color.rgba8888ToColor(mesh.getColor(), color);
 			mesh.setBones(vertices.bones);
 			mesh.setVertices(vertices.vertices);
+			mesh.updateBoneInfluences();
 			mesh.setWorldVerticesLength(vertexCount << 1);
 			mesh.setTriangles(triangles);
 			mesh.setRegionUVs(uvs);
@@ -446,9 +484,7 @@ public class SkeletonBinary {
 			boolean constantSpeed = input.readBoolean();
 			int vertexCount = input.readInt(true);
 			Vertices vertices = readVertices(input, vertexCount);
-			float[] lengths = new float[vertexCount / 3];
-			for (int i = 0, n = lengths.length; i < n; i++)
-				lengths[i] = input.readFloat() * scale;
+			float[] lengths = readFloatArray(input, vertexCount / 3, scale);
 			int color = nonessential ? input.readInt() : 0;
 
 			PathAttachment path = attachmentLoader.newPathAttachment(skin, name);
@@ -458,6 +494,7 @@ public class SkeletonBinary {
 			path.setWorldVerticesLength(vertexCount << 1);
 			path.setVertices(vertices.vertices);
 			path.setBones(vertices.bones);
+			path.updateBoneInfluences();
 			path.setLengths(lengths);
 			if (nonessential) Color.rgba8888ToColor(path.getColor(), color);
 			return path;
@@ -466,7 +503,7 @@ public class SkeletonBinary {
 		return null;
 	}
 
-	private Vertices readVertices (DataInput input, int vertexCount) throws IOException {
+	private Vertices readVertices (BinaryInput input, int vertexCount) throws IOException {
 		int verticesLength = vertexCount << 1;
 		Vertices vertices = new Vertices();
 		if (!input.readBoolean()) {
@@ -490,29 +527,46 @@ public class SkeletonBinary {
 		return vertices;
 	}
 
-	private float[] readFloatArray (DataInput input, int n, float scale) throws IOException {
+	private float[] readFloatArray (BinaryInput input, int n, float scale) throws IOException {
 		float[] array = new float[n];
-		if (scale == 1) {
-			for (int i = 0; i < n; i++)
-				array[i] = input.readFloat();
-		} else {
-			for (int i = 0; i < n; i++)
-				array[i] = input.readFloat() * scale;
-		}
+		input.readFloats(array, 0, n, scale);
 		return array;
 	}
 
-	private short[] readShortArray (DataInput input) throws IOException {
+	private short[] readShortArray (BinaryInput input) throws IOException {
 		int n = input.readInt(true);
 		short[] array = new short[n];
-		for (int i = 0; i < n; i++)
-			array[i] = input.readShort();
+		input.readShorts(array, 0, n);
 		return array;
 	}
 
-	private void readAnimation (String name, DataInput input, SkeletonData skeletonData) {
+	/** Reads an animation after the rest of the skeleton data has been read. Only reads the skeleton data, so animations can be
+	 * read concurrently using separate inputs. */
+	Animation readAnimation (String name, BinaryInput input, SkeletonData skeletonData) {
+		return readAnimation(name, input, skeletonData, scale, curveResolution, timelineCompactor);
+	}
+
+	/** Creates an animation which keeps its bytes and reads its timelines when they are first needed. The input is moved past the
+	 * animation. The current settings are used, even if they are changed before the timelines are read. */
+	Animation newLazyAnimation (final String name, BufferInput input, final SkeletonData skeletonData) throws IOException {
+		final float scale = this.scale;
+		final int curveResolution = this.curveResolution;
+		final TimelineCompactor timelineCompactor = this.timelineCompactor;
+		int start = input.position();
+		float duration = skipAnimation(input);
+		final int length = input.position() - start;
+		final BufferInput bytes = input.range(start, start + length);
+		return new Animation(name, duration, new TimelineReader() {
+			public Array<Timeline> read (Animation animation) {
+				return readAnimation(name, bytes.range(0, length), skeletonData, scale, curveResolution, timelineCompactor).timelines;
+			}
+		});
+	}
+
+	private Animation readAnimation (String name, BinaryInput input, SkeletonData skeletonData, float scale, int curveResolution,
+		TimelineCompactor timelineCompactor) {
+		Color color = new Color();
 		Array<Timeline> timelines = new Array();
-		float scale = this.scale;
 		float duration = 0;
 
 		try {
@@ -528,8 +582,8 @@ public class SkeletonBinary {
 						timeline.slotIndex = slotIndex;
 						for (int frameIndex = 0; frameIndex < frameCount; frameIndex++) {
 							float time = input.readFloat();
-							Color.rgba8888ToColor(tempColor, input.readInt());
-							timeline.setFrame(frameIndex, time, tempColor.r, tempColor.g, tempColor.b, tempColor.a);
+							Color.rgba8888ToColor(color, input.readInt());
+							timeline.setFrame(frameIndex, time, color.r, color.g, color.b, color.a);
 							if (frameIndex < frameCount - 1) readCurve(input, frameIndex, timeline);
 						}
 						timelines.add(timeline);
@@ -689,15 +743,7 @@ public class SkeletonBinary {
 								deform = weighted ? new float[deformLength] : vertices;
 							else {
 								deform = new float[deformLength];
-								int start = input.readInt(true);
-								end += start;
-								if (scale == 1) {
-									for (int v = start; v < end; v++)
-										deform[v] = input.readFloat();
-								} else {
-									for (int v = start; v < end; v++)
-										deform[v] = input.readFloat() * scale;
-								}
+								input.readFloats(deform, input.readInt(true), end, scale);
 								if (!weighted) {
 									for (int v = 0, vn = deform.length; v < vn; v++)
 										deform[v] += vertices[v];
@@ -767,11 +813,130 @@ public class SkeletonBinary {
 		}
 
 		timelines.shrink();
-		skeletonData.animations.add(new Animation(name, timelines, duration));
+		if (curveResolution > 0) {
+			for (int i = 0, n = timelines.size; i < n; i++) {
+				Timeline timeline = timelines.get(i);
+				if (timeline instanceof CurveTimeline) ((CurveTimeline)timeline).setCurveResolution(curveResolution);
+			}
+		}
+		if (timelineCompactor != null) timelineCompactor.compact(timelines);
+		return new Animation(name, timelines, duration);
+	}
+
+	/** Moves the input past an animation without creating it.
+	 * @return The animation's duration. */
+	static float skipAnimation (BufferInput input) throws IOException {
+		float duration = 0;
+
+		// Slot timelines.
+		for (int i = 0, n = input.readInt(true); i < n; i++) {
+			input.readInt(true);
+			for (int ii = 0, nn = input.readInt(true); ii < nn; ii++) {
+				int timelineType = input.readByte();
+				int frameCount = input.readInt(true);
+				switch (timelineType) {
+				case SLOT_COLOR:
+					duration = Math.max(duration, skipCurveFrames(input, frameCount, 8));
+					break;
+				case SLOT_ATTACHMENT:
+					for (int frameIndex = 0; frameIndex < frameCount; frameIndex++) {
+						duration = Math.max(duration, input.readFloat());
+						input.skipString();
+					}
+					break;
+				}
+			}
+		}
 
+		// Bone timelines.
+		for (int i = 0, n = input.readInt(true); i < n; i++) {
+			input.readInt(true);
+			for (int ii = 0, nn = input.readInt(true); ii < nn; ii++) {
+				int timelineType = input.readByte();
+				int frameCount = input.readInt(true);
+				duration = Math.max(duration, skipCurveFrames(input, frameCount, timelineType == BONE_ROTATE ? 8 : 12));
+			}
+		}
+
+		// IK constraint timelines.
+		for (int i = 0, n = input.readInt(true); i < n; i++) {
+			input.readInt(true);
+			duration = Math.max(duration, skipCurveFrames(input, input.readInt(true), 9));
+		}
+
+		// Transform constraint timelines.
+		for (int i = 0, n = input.readInt(true); i < n; i++) {
+			input.readInt(true);
+			duration = Math.max(duration, skipCurveFrames(input, input.readInt(true), 20));
+		}
+
+		// Path constraint timelines.
+		for (int i = 0, n = input.readInt(true); i < n; i++) {
+			input.readInt(true);
+			for (int ii = 0, nn = input.readInt(true); ii < nn; ii++) {
+				int timelineType = input.readByte();
+				int frameCount = input.readInt(true);
+				duration = Math.max(duration, skipCurveFrames(input, frameCount, timelineType == PATH_MIX ? 12 : 8));
+			}
+		}
+
+		// Deform timelines.
+		for (int i = 0, n = input.readInt(true); i < n; i++) {
+			input.readInt(true);
+			for (int ii = 0, nn = input.readInt(true); ii < nn; ii++) {
+				input.readInt(true);
+				for (int iii = 0, nnn = input.readInt(true); iii < nnn; iii++) {
+					input.skipString();
+					int frameCount = input.readInt(true);
+					for (int frameIndex = 0; frameIndex < frameCount; frameIndex++) {
+						duration = Math.max(duration, input.readFloat());
+						int end = input.readInt(true);
+						if (end != 0) {
+							input.readInt(true);
+							input.skip(end << 2);
+						}
+						if (frameIndex < frameCount - 1) skipCurve(input);
+					}
+				}
+			}
+		}
+
+		// Draw order timeline.
+		for (int i = 0, n = input.readInt(true); i < n; i++) {
+			duration = Math.max(duration, input.readFloat());
+			for (int ii = 0, nn = input.readInt(true); ii < nn; ii++) {
+				input.readInt(true);
+				input.readInt(true);
+			}
+		}
+
+		// Event timeline.
+		for (int i = 0, n = input.readInt(true); i < n; i++) {
+			duration = Math.max(duration, input.readFloat());
+			input.readInt(true);
+			input.readInt(false);
+			input.skip(4);
+			if (input.readBoolean()) input.skipString();
+		}
+		return duration;
+	}
+
+	/** @return The time of the last frame. */
+	static private float skipCurveFrames (BufferInput input, int frameCount, int frameSize) throws IOException {
+		float time = 0;
+		for (int frameIndex = 0; frameIndex < frameCount; frameIndex++) {
+			time = input.readFloat();
+			input.skip(frameSize - 4);
+			if (frameIndex < frameCount - 1) skipCurve(input);
+		}
+		return time;
 	}
 
-	private void readCurve (DataInput input, int frameIndex, CurveTimeline timeline) throws IOException {
+	static private void skipCurve (BufferInput input) throws IOException {
+		if (input.readByte() == CURVE_BEZIER) input.skip(16);
+	}
+
+	private void readCurve (BinaryInput input, int frameIndex, CurveTimeline timeline) throws IOException {
 		switch (input.readByte()) {
 		case CURVE_STEPPED:
 			timeline.setStepped(frameIndex);
@@ -786,6 +951,295 @@ public class SkeletonBinary {
 		timeline.setCurve(frameIndex, cx1, cy1, cx2, cy2);
 	}
 
+	/** Reads the binary format from a stream or a buffer. Integers are big endian, like {@link DataInput}. */
+	static abstract class BinaryInput {
+		abstract public byte readByte () throws IOException;
+
+		abstract public boolean readBoolean () throws IOException;
+
+		abstract public short readShort () throws IOException;
+
+		abstract public int readInt () throws IOException;
+
+		abstract public int readInt (boolean optimizePositive) throws IOException;
+
+		abstract public float readFloat () throws IOException;
+
+		/** @return May be null. */
+		abstract public String readString () throws IOException;
+
+		/** Reads count floats into the array, multiplying each by scale. */
+		public void readFloats (float[] array, int offset, int count, float scale) throws IOException {
+			if (scale == 1) {
+				for (int i = offset, n = offset + count; i < n; i++)
+					array[i] = readFloat();
+			} else {
+				for (int i = offset, n = offset + count; i < n; i++)
+					array[i] = readFloat() * scale;
+			}
+		}
+
+		public void readShorts (short[] array, int offset, int count) throws IOException {
+			for (int i = offset, n = offset + count; i < n; i++)
+				array[i] = readShort();
+		}
+
+		public void close () throws IOException {
+		}
+	}
+
+	static class StreamInput extends BinaryInput {
+		private final DataInput input;
+		private char[] chars = new char[32];
+
+		public StreamInput (InputStream input) {
+			this.input = new DataInput(input);
+		}
+
+		public byte readByte () throws IOException {
+			return input.readByte();
+		}
+
+		public boolean readBoolean () throws IOException {
+			return input.readBoolean();
+		}
+
+		public short readShort () throws IOException {
+			return input.readShort();
+		}
+
+		public int readInt () throws IOException {
+			return input.readInt();
+		}
+
+		public int readInt (boolean optimizePositive) throws IOException {
+			return input.readInt(optimizePositive);
+		}
+
+		public float readFloat () throws IOException {
+			return input.readFloat();
+		}
+
+		public String readString () throws IOException {
+			int byteCount = readInt(true);
+			switch (byteCount) {
+			case 0:
+				return null;
+			case 1:
+				return "";
+			}
+			byteCount--;
+			if (chars.length < byteCount) chars = new char[byteCount];
+			char[] chars = this.chars;
+			int charCount = 0;
+			for (int i = 0; i < byteCount;) {
+				int b = input.read();
+				switch (b >> 4) {
+				case -1:
+					throw new EOFException();
+				case 12:
+				case 13:
+					chars[charCount++] = (char)((b & 0x1F) << 6 | input.read() & 0x3F);
+					i += 2;
+					break;
+				case 14:
+					chars[charCount++] = (char)((b & 0x0F) << 12 | (input.read() & 0x3F) << 6 | input.read() & 0x3F);
+					i += 3;
+					break;
+				default:
+					chars[charCount++] = (char)b;
+					i++;
+				}
+			}
+			return new String(chars, 0, charCount);
+		}
+
+		public void close () throws IOException {
+			input.close();
+		}
+	}
+
+	/** Reads directly from a buffer. Floats are copied in bulk and strings with the same bytes are only created once. */
+	static class BufferInput extends BinaryInput {
+		private final ByteBuffer buffer;
+		private char[] chars = new char[32];
+		private String[] strings = new String[64];
+		private int[] stringPositions = new int[64], stringLengths = new int[64];
+		private int stringCount;
+
+		public BufferInput (ByteBuffer buffer) {
+			this.buffer = buffer.slice().order(ByteOrder.BIG_ENDIAN);
+		}
+
+		public int position () {
+			return buffer.position();
+		}
+
+		public void skip (int count) {
+			buffer.position(buffer.position() + count);
+		}
+
+		public void skipString () {
+			int byteCount = readInt(true);
+			if (byteCount > 1) skip(byteCount - 1);
+		}
+
+		/** Returns a new input for the bytes from start to end, relative to the start of this input. */
+		public BufferInput range (int start, int end) {
+			ByteBuffer buffer = this.buffer.duplicate();
+			buffer.limit(end);
+			buffer.position(start);
+			return new BufferInput(buffer);
+		}
+
+		public byte readByte () {
+			return buffer.get();
+		}
+
+		public boolean readBoolean () {
+			return buffer.get() != 0;
+		}
+
+		public short readShort () {
+			return buffer.getShort();
+		}
+
+		public int readInt () {
+			return buffer.getInt();
+		}
+
+		public int readInt (boolean optimizePositive) {
+			ByteBuffer buffer = this.buffer;
+			int b = buffer.get();
+			int result = b & 0x7F;
+			if ((b & 0x80) != 0) {
+				b = buffer.get();
+				result |= (b & 0x7F) << 7;
+				if ((b & 0x80) != 0) {
+					b = buffer.get();
+					result |= (b & 0x7F) << 14;
+					if ((b & 0x80) != 0) {
+						b = buffer.get();
+						result |= (b & 0x7F) << 21;
+						if ((b & 0x80) != 0) {
+							b = buffer.get();
+							result |= (b & 0x7F) << 28;
+						}
+					}
+				}
+			}
+			return optimizePositive ? result : ((result >>> 1) ^ -(result & 1));
+		}
+
+		public float readFloat () {
+			return buffer.getFloat();
+		}
+
+		public void readFloats (float[] array, int offset, int count, float scale) {
+			ByteBuffer buffer = this.buffer;
+			int position = buffer.position();
+			buffer.asFloatBuffer().get(array, offset, count);
+			buffer.position(position + (count << 2));
+			if (scale != 1) {
+				for (int i = offset, n = offset + count; i < n; i++)
+					array[i] *= scale;
+			}
+		}
+
+		public void readShorts (short[] array, int offset, int count) {
+			ByteBuffer buffer = this.buffer;
+			int position = buffer.position();
+			buffer.asShortBuffer().get(array, offset, count);
+			buffer.position(position + (count << 1));
+		}
+
+		public String readString () throws IOException {
+			int byteCount = readInt(true);
+			switch (byteCount) {
+			case 0:
+				return null;
+			case 1:
+				return "";
+			}
+			byteCount--;
+			ByteBuffer buffer = this.buffer;
+			int position = buffer.position();
+			if (buffer.remaining() < byteCount) throw new EOFException();
+
+			// Find a string previously read with the same bytes.
+			int hash = byteCount;
+			for (int i = position, n = position + byteCount; i < n; i++)
+				hash = 31 * hash + buffer.get(i);
+			int mask = strings.length - 1, index = (hash ^ hash >>> 16) & mask;
+			while (true) {
+				String string = strings[index];
+				if (string == null) break;
+				if (stringLengths[index] == byteCount && equal(stringPositions[index], position, byteCount)) {
+					buffer.position(position + byteCount);
+					return string;
+				}
+				index = (index + 1) & mask;
+			}
+
+			if (chars.length < byteCount) chars = new char[byteCount];
+			char[] chars = this.chars;
+			int charCount = 0;
+			for (int i = 0; i < byteCount;) {
+				int b = buffer.get();
+				switch ((b & 0xFF) >> 4) {
+				case 12:
+				case 13:
+					chars[charCount++] = (char)((b & 0x1F) << 6 | buffer.get() & 0x3F);
+					i += 2;
+					break;
+				case 14:
+					chars[charCount++] = (char)((b & 0x0F) << 12 | (buffer.get() & 0x3F) << 6 | buffer.get() & 0x3F);
+					i += 3;
+					break;
+				default:
+					chars[charCount++] = (char)(b & 0xFF);
+					i++;
+				}
+			}
+			String string = new String(chars, 0, charCount);
+			strings[index] = string;
+			stringPositions[index] = position;
+			stringLengths[index] = byteCount;
+			if (++stringCount > strings.length >> 1) growStrings();
+			return string;
+		}
+
+		private boolean equal (int position1, int position2, int byteCount) {
+			ByteBuffer buffer = this.buffer;
+			for (int i = 0; i < byteCount; i++)
+				if (buffer.get(position1 + i) != buffer.get(position2 + i)) return false;
+			return true;
+		}
+
+		private void growStrings () {
+			String[] oldStrings = strings;
+			int[] oldPositions = stringPositions, oldLengths = stringLengths;
+			int capacity = oldStrings.length << 1, mask = capacity - 1;
+			strings = new String[capacity];
+			stringPositions = new int[capacity];
+			stringLengths = new int[capacity];
+			ByteBuffer buffer = this.buffer;
+			for (int i = 0, n = oldStrings.length; i < n; i++) {
+				if (oldStrings[i] == null) continue;
+				int position = oldPositions[i], byteCount = oldLengths[i];
+				int hash = byteCount;
+				for (int ii = position, nn = position + byteCount; ii < nn; ii++)
+					hash = 31 * hash + buffer.get(ii);
+				int index = (hash ^ hash >>> 16) & mask;
+				while (strings[index] != null)
+					index = (index + 1) & mask;
+				strings[index] = oldStrings[i];
+				stringPositions[index] = position;
+				stringLengths[index] = byteCount;
+			}
+		}
+	}
+
 	static class Vertices {
 		int[] bones;
 		float[] vertices;
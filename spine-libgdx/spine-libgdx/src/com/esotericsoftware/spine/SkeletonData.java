@@ -31,8 +31,14 @@
 package com.esotericsoftware.spine;
 
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Predicate;
+import com.esotericsoftware.spine.Skin.NameIds;
 
 /** Stores the setup pose and all of the stateless data for a skeleton.
+ * <p>
+ * Skeletons do not modify their skeleton data or its attachments, so once loaded the data can be shared by many skeletons,
+ * including skeletons used by other threads. To change an attachment for a single skeleton, see
+ * {@link Skeleton#overrideAttachment(int, String)}.
  * <p>
  * See <a href="http://esotericsoftware.com/spine-runtime-architecture#Data-objects">Data objects</a> in the Spine Runtimes
  * Guide. */
@@ -47,6 +53,7 @@ public class SkeletonData {
 	final Array<IkConstraintData> ikConstraints = new Array();
 	final Array<TransformConstraintData> transformConstraints = new Array();
 	final Array<PathConstraintData> pathConstraints = new Array();
+	final NameIds attachmentNameIds = new NameIds();
 	float width, height;
 	String version, hash;
 
@@ -54,6 +61,61 @@ public class SkeletonData {
 	float fps = 30;
 	String imagesPath;
 
+	private final NameIndex<BoneData> boneNames = new NameIndex<BoneData>(bones) {
+		String name (BoneData item) {
+			return item.name;
+		}
+	};
+	private final NameIndex<SlotData> slotNames = new NameIndex<SlotData>(slots) {
+		String name (SlotData item) {
+			return item.name;
+		}
+	};
+	private final NameIndex<Skin> skinNames = new NameIndex<Skin>(skins) {
+		String name (Skin item) {
+			return item.name;
+		}
+	};
+	private final NameIndex<EventData> eventNames = new NameIndex<EventData>(events) {
+		String name (EventData item) {
+			return item.name;
+		}
+	};
+	private final NameIndex<Animation> animationNames = new NameIndex<Animation>(animations) {
+		String name (Animation item) {
+			return item.name;
+		}
+	};
+	private final NameIndex<IkConstraintData> ikConstraintNames = new NameIndex<IkConstraintData>(ikConstraints) {
+		String name (IkConstraintData item) {
+			return item.name;
+		}
+	};
+	private final NameIndex<TransformConstraintData> transformConstraintNames = new NameIndex<TransformConstraintData>(
+		transformConstraints) {
+		String name (TransformConstraintData item) {
+			return item.name;
+		}
+	};
+	private final NameIndex<PathConstraintData> pathConstraintNames = new NameIndex<PathConstraintData>(pathConstraints) {
+		String name (PathConstraintData item) {
+			return item.name;
+		}
+	};
+
+	/** Rebuilds the hash maps used by the find methods the next time they are needed. This must be called after bones, slots,
+	 * skins, events, animations or constraints are replaced or reordered without changing how many there are. */
+	public void namesChanged () {
+		boneNames.changed();
+		slotNames.changed();
+		skinNames.changed();
+		eventNames.changed();
+		animationNames.changed();
+		ikConstraintNames.changed();
+		transformConstraintNames.changed();
+		pathConstraintNames.changed();
+	}
+
 	// --- Bones.
 
 	/** The skeleton's bones, sorted parent first. The root bone is always the first bone. */
@@ -61,17 +123,20 @@ public class SkeletonData {
 		return bones;
 	}
 
-	/** Finds a bone by comparing each bone's name. It is more efficient to cache the results of this method than to call it
-	 * multiple times.
+	/** Finds a bone by name using a hash map shared by all skeletons using this data. It is more efficient to cache the results
+	 * of this method than to call it multiple times.
 	 * @return May be null. */
 	public BoneData findBone (String boneName) {
+		int index = findBoneIndex(boneName);
+		return index == -1 ? null : bones.get(index);
+	}
+
+	/** Finds a bone's index by name. The index is stable and can be used with {@link Skeleton#getBones()} to find a bone without
+	 * using its name.
+	 * @return -1 if the bone was not found. */
+	public int findBoneIndex (String boneName) {
 		if (boneName == null) throw new IllegalArgumentException("boneName cannot be null.");
-		Array<BoneData> bones = this.bones;
-		for (int i = 0, n = bones.size; i < n; i++) {
-			BoneData bone = bones.get(i);
-			if (bone.name.equals(boneName)) return bone;
-		}
-		return null;
+		return boneNames.find(boneName);
 	}
 
 	// --- Slots.
@@ -81,17 +146,20 @@ public class SkeletonData {
 		return slots;
 	}
 
-	/** Finds a slot by comparing each slot's name. It is more efficient to cache the results of this method than to call it
-	 * multiple times.
+	/** Finds a slot by name using a hash map shared by all skeletons using this data. It is more efficient to cache the results
+	 * of this method than to call it multiple times.
 	 * @return May be null. */
 	public SlotData findSlot (String slotName) {
+		int index = findSlotIndex(slotName);
+		return index == -1 ? null : slots.get(index);
+	}
+
+	/** Finds a slot's index by name. The index is stable and can be used with {@link Skeleton#getSlots()} or
+	 * {@link Skeleton#getAttachment(int, String)} to find a slot without using its name.
+	 * @return -1 if the slot was not found. */
+	public int findSlotIndex (String slotName) {
 		if (slotName == null) throw new IllegalArgumentException("slotName cannot be null.");
-		Array<SlotData> slots = this.slots;
-		for (int i = 0, n = slots.size; i < n; i++) {
-			SlotData slot = slots.get(i);
-			if (slot.name.equals(slotName)) return slot;
-		}
-		return null;
+		return slotNames.find(slotName);
 	}
 
 	// --- Skins.
@@ -109,14 +177,13 @@ public class SkeletonData {
 		this.defaultSkin = defaultSkin;
 	}
 
-	/** Finds a skin by comparing each skin's name. It is more efficient to cache the results of this method than to call it
-	 * multiple times.
+	/** Finds a skin by name using a hash map. It is more efficient to cache the results of this method than to call it multiple
+	 * times.
 	 * @return May be null. */
 	public Skin findSkin (String skinName) {
 		if (skinName == null) throw new IllegalArgumentException("skinName cannot be null.");
-		for (Skin skin : skins)
-			if (skin.name.equals(skinName)) return skin;
-		return null;
+		int index = skinNames.find(skinName);
+		return index == -1 ? null : skins.get(index);
 	}
 
 	/** All skins, including the default skin. */
@@ -124,16 +191,25 @@ public class SkeletonData {
 		return skins;
 	}
 
+	/** Returns the id of the attachment name, which can be used with {@link Skeleton#getAttachment(int, int)} to find attachments
+	 * without comparing names. The id is the same for all skins loaded with this skeleton data or created using
+	 * {@link Skin#Skin(String, SkeletonData)}. It is more efficient to cache the results of this method than to call it multiple
+	 * times.
+	 * @return -1 if no skin sharing name ids with this skeleton data has an attachment with the name. */
+	public int findAttachmentNameId (String attachmentName) {
+		if (attachmentName == null) throw new IllegalArgumentException("attachmentName cannot be null.");
+		return attachmentNameIds.ids.get(attachmentName, -1);
+	}
+
 	// --- Events.
 
-	/** Finds an event by comparing each events's name. It is more efficient to cache the results of this method than to call it
-	 * multiple times.
+	/** Finds an event by name using a hash map. It is more efficient to cache the results of this method than to call it multiple
+	 * times.
 	 * @return May be null. */
 	public EventData findEvent (String eventDataName) {
 		if (eventDataName == null) throw new IllegalArgumentException("eventDataName cannot be null.");
-		for (EventData eventData : events)
-			if (eventData.name.equals(eventDataName)) return eventData;
-		return null;
+		int index = eventNames.find(eventDataName);
+		return index == -1 ? null : events.get(index);
 	}
 
 	/** The skeleton's events. */
@@ -148,17 +224,49 @@ public class SkeletonData {
 		return animations;
 	}
 
-	/** Finds an animation by comparing each animation's name. It is more efficient to cache the results of this method than to
-	 * call it multiple times.
+	/** Sets the {@link Animation#getIndex() index} of each animation to its position in {@link #getAnimations()}, so
+	 * {@link AnimationStateData} can look up mix durations using the indices. This is done when skeleton data is loaded. It
+	 * should be called if animations are added, before mix durations for them are set.
+	 * <p>
+	 * Mix durations which were set before the indices changed are no longer found. */
+	public void indexAnimations () {
+		Array<Animation> animations = this.animations;
+		for (int i = 0, n = animations.size; i < n; i++)
+			animations.get(i).index = i;
+	}
+
+	/** Finds an animation by name using a hash map. It is more efficient to cache the results of this method than to call it
+	 * multiple times. If the animation is lazy, its timelines are read if they are not loaded.
 	 * @return May be null. */
 	public Animation findAnimation (String animationName) {
 		if (animationName == null) throw new IllegalArgumentException("animationName cannot be null.");
+		int index = animationNames.find(animationName);
+		if (index == -1) return null;
+		Animation animation = animations.get(index);
+		animation.getTimelines();
+		return animation;
+	}
+
+	/** Finds the index of an animation in {@link #getAnimations()} by name using a hash map. The timelines of lazy animations are
+	 * not read.
+	 * @return -1 if the animation was not found. */
+	public int findAnimationIndex (String animationName) {
+		if (animationName == null) throw new IllegalArgumentException("animationName cannot be null.");
+		return animationNames.find(animationName);
+	}
+
+	/** Unloads the timelines of lazy animations for which the predicate returns true, eg animations not used by the current
+	 * level. See {@link Animation#unload()}.
+	 * @return The number of animations unloaded. */
+	public int unloadAnimations (Predicate<Animation> predicate) {
+		if (predicate == null) throw new IllegalArgumentException("predicate cannot be null.");
+		int count = 0;
 		Array<Animation> animations = this.animations;
 		for (int i = 0, n = animations.size; i < n; i++) {
 			Animation animation = animations.get(i);
-			if (animation.name.equals(animationName)) return animation;
+			if (animation.isLoaded() && predicate.evaluate(animation) && animation.unload()) count++;
 		}
-		return null;
+		return count;
 	}
 
 	// --- IK constraints
@@ -168,17 +276,20 @@ public class SkeletonData {
 		return ikConstraints;
 	}
 
-	/** Finds an IK constraint by comparing each IK constraint's name. It is more efficient to cache the results of this method
-	 * than to call it multiple times.
+	/** Finds an IK constraint by name using a hash map shared by all skeletons using this data. It is more efficient to cache the
+	 * results of this method than to call it multiple times.
 	 * @return May be null. */
 	public IkConstraintData findIkConstraint (String constraintName) {
+		int index = findIkConstraintIndex(constraintName);
+		return index == -1 ? null : ikConstraints.get(index);
+	}
+
+	/** Finds an IK constraint's index by name. The index is stable and can be used with {@link Skeleton#getIkConstraints()} to
+	 * find the constraint without using its name.
+	 * @return -1 if the constraint was not found. */
+	public int findIkConstraintIndex (String constraintName) {
 		if (constraintName == null) throw new IllegalArgumentException("constraintName cannot be null.");
-		Array<IkConstraintData> ikConstraints = this.ikConstraints;
-		for (int i = 0, n = ikConstraints.size; i < n; i++) {
-			IkConstraintData constraint = ikConstraints.get(i);
-			if (constraint.name.equals(constraintName)) return constraint;
-		}
-		return null;
+		return ikConstraintNames.find(constraintName);
 	}
 
 	// --- Transform constraints
@@ -188,17 +299,20 @@ public class SkeletonData {
 		return transformConstraints;
 	}
 
-	/** Finds a transform constraint by comparing each transform constraint's name. It is more efficient to cache the results of
-	 * this method than to call it multiple times.
+	/** Finds a transform constraint by name using a hash map shared by all skeletons using this data. It is more efficient to
+	 * cache the results of this method than to call it multiple times.
 	 * @return May be null. */
 	public TransformConstraintData findTransformConstraint (String constraintName) {
+		int index = findTransformConstraintIndex(constraintName);
+		return index == -1 ? null : transformConstraints.get(index);
+	}
+
+	/** Finds a transform constraint's index by name. The index is stable and can be used with
+	 * {@link Skeleton#getTransformConstraints()} to find the constraint without using its name.
+	 * @return -1 if the constraint was not found. */
+	public int findTransformConstraintIndex (String constraintName) {
 		if (constraintName == null) throw new IllegalArgumentException("constraintName cannot be null.");
-		Array<TransformConstraintData> transformConstraints = this.transformConstraints;
-		for (int i = 0, n = transformConstraints.size; i < n; i++) {
-			TransformConstraintData constraint = transformConstraints.get(i);
-			if (constraint.name.equals(constraintName)) return constraint;
-		}
-		return null;
+		return transformConstraintNames.find(constraintName);
 	}
 
 	// --- Path constraints
@@ -208,17 +322,20 @@ public class SkeletonData {
 		return pathConstraints;
 	}
 
-	/** Finds a path constraint by comparing each path constraint's name. It is more efficient to cache the results of this method
-	 * than to call it multiple times.
+	/** Finds a path constraint by name using a hash map shared by all skeletons using this data. It is more efficient to cache
+	 * the results of this method than to call it multiple times.
 	 * @return May be null. */
 	public PathConstraintData findPathConstraint (String constraintName) {
+		int index = findPathConstraintIndex(constraintName);
+		return index == -1 ? null : pathConstraints.get(index);
+	}
+
+	/** Finds a path constraint's index by name. The index is stable and can be used with {@link Skeleton#getPathConstraints()} to
+	 * find the constraint without using its name.
+	 * @return -1 if the constraint was not found. */
+	public int findPathConstraintIndex (String constraintName) {
 		if (constraintName == null) throw new IllegalArgumentException("constraintName cannot be null.");
-		Array<PathConstraintData> pathConstraints = this.pathConstraints;
-		for (int i = 0, n = pathConstraints.size; i < n; i++) {
-			PathConstraintData constraint = pathConstraints.get(i);
-			if (constraint.name.equals(constraintName)) return constraint;
-		}
-		return null;
+		return pathConstraintNames.find(constraintName);
 	}
 
 	// ---
@@ -0,0 +1,278 @@
+/******************************************************************************
+ * Spine Runtimes Software License v2.5
+ *
+ * Copyright (c) 2013-2016, Esoteric Software
+ * All rights reserved.
+ *
+ * You are granted a perpetual, non-exclusive, non-sublicensable, and
+ * non-transferable license to use, install, execute, and perform the Spine
+ * Runtimes software and derivative works solely for personal or internal
+ * use. Without the written permission of Esoteric Software (see Section 2 of
+ * the Spine Software License Agreement), you may not (a) modify, translate,
+ * adapt, or develop new applications using the Spine Runtimes or otherwise
+ * create derivative works or improvements of the Spine Runtimes or (b) remove,
+ * delete, alter, or obscure any trademarks or any copyright, trademark, patent,
+ * or other intellectual property or proprietary rights notices on or in the
+ * Software, including any copy thereof. Redistributions in binary or source
+ * form must include this license and terms.
+ *
+ * THIS SOFTWARE IS PROVIDED BY ESOTERIC SOFTWARE "AS IS" AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO
+ * EVENT SHALL ESOTERIC SOFTWARE BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES, BUSINESS INTERRUPTION, OR LOSS OF
+ * USE, DATA, OR PROFITS) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ *****************************************************************************/
+
+package com.esotericsoftware.spine;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.Future;
+import java.util.concurrent.RecursiveTask;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+import com.badlogic.gdx.utils.SerializationException;
+import com.esotericsoftware.spine.SkeletonBinary.BufferInput;
+import com.esotericsoftware.spine.attachments.AtlasAttachmentLoader;
+import com.esotericsoftware.spine.attachments.AttachmentLoader;
+import com.esotericsoftware.spine.utils.MappedSkeletonBinary;
+
+/** Loads skeleton data in the background using a {@link ForkJoinPool}. Many files can be loaded at the same time and, once the
+ * bones, slots, skins and events of a skeleton have been read, its animations are read in parallel.
+ * <p>
+ * Files with the <code>json</code> extension are read like {@link SkeletonJson}, other files like {@link SkeletonBinary} with
+ * the file memory mapped. The resulting skeleton data is the same as when loaded sequentially, with the animations in the
+ * order they are in the file.
+ * <p>
+ * The attachment loader is used by multiple threads at the same time and must be thread safe. {@link AtlasAttachmentLoader}
+ * is thread safe if the atlas is not modified while loading. The pool is provided by the application, which shuts it down
+ * when it is no longer needed, and can be shared with other work, eg <code>ForkJoinPool.commonPool()</code> on Java 8 or
+ * later. Not available on GWT. */
+public class SkeletonDataLoader {
+	private final AttachmentLoader attachmentLoader;
+	private final ForkJoinPool pool;
+	private float scale = 1;
+	private boolean lazyAnimations;
+	private TimelineCompactor timelineCompactor;
+	private int curveResolution;
+
+	public SkeletonDataLoader (TextureAtlas atlas, ForkJoinPool pool) {
+		this(new AtlasAttachmentLoader(atlas), pool);
+	}
+
+	public SkeletonDataLoader (AttachmentLoader attachmentLoader, ForkJoinPool pool) {
+		if (attachmentLoader == null) throw new IllegalArgumentException("attachmentLoader cannot be null.");
+		if (pool == null) throw new IllegalArgumentException("pool cannot be null.");
+		this.attachmentLoader = attachmentLoader;
+		this.pool = pool;
+	}
+
+	/** Starts loading the skeleton data and returns immediately. If loading fails, {@link Future#get()} throws an
+	 * {@link java.util.concurrent.ExecutionException} with the cause. */
+	public Future<SkeletonData> load (FileHandle file) {
+		if (file == null) throw new IllegalArgumentException("file cannot be null.");
+		return pool.submit(new LoadTask(file, scale, lazyAnimations, timelineCompactor, curveResolution));
+	}
+
+	/** Loads the skeleton data for all the files at the same time, blocking until they are loaded. If loading any file fails,
+	 * the exception is rethrown by this method.
+	 * @return The skeleton data, in the same order as the files. */
+	public Array<SkeletonData> loadAll (Array<FileHandle> files) {
+		if (files == null) throw new IllegalArgumentException("files cannot be null.");
+		Array<ForkJoinTask<SkeletonData>> tasks = new Array(files.size);
+		for (int i = 0, n = files.size; i < n; i++) {
+			FileHandle file = files.get(i);
+			if (file == null) throw new IllegalArgumentException("files cannot contain null.");
+			tasks.add(pool.submit(new LoadTask(file, scale, lazyAnimations, timelineCompactor, curveResolution)));
+		}
+		Array<SkeletonData> skeletonData = new Array(tasks.size);
+		for (int i = 0, n = tasks.size; i < n; i++)
+			skeletonData.add(tasks.get(i).join());
+		return skeletonData;
+	}
+
+	/** Scales bone positions, image sizes, and translations as they are loaded. The scale is captured when loading starts.
+	 * <p>
+	 * See {@link SkeletonJson#getScale()}. */
+	public float getScale () {
+		return scale;
+	}
+
+	public void setScale (float scale) {
+		this.scale = scale;
+	}
+
+	/** When true, animations are not read when loading but the first time they are needed. The setting is captured when loading
+	 * starts.
+	 * <p>
+	 * See {@link SkeletonJson#setLazyAnimations(boolean)}. */
+	public boolean getLazyAnimations () {
+		return lazyAnimations;
+	}
+
+	public void setLazyAnimations (boolean lazyAnimations) {
+		this.lazyAnimations = lazyAnimations;
+	}
+
+	/** When not null, the timelines of each animation are compacted as they are read. The compactor is captured when loading
+	 * starts.
+	 * <p>
+	 * See {@link SkeletonJson#setTimelineCompactor(TimelineCompactor)}. */
+	public TimelineCompactor getTimelineCompactor () {
+		return timelineCompactor;
+	}
+
+	public void setTimelineCompactor (TimelineCompactor timelineCompactor) {
+		this.timelineCompactor = timelineCompactor;
+	}
+
+	/** When > 0, a lookup table for the Bezier curves of each timeline is computed as the animations are read. The resolution is
+	 * captured when loading starts.
+	 * <p>
+	 * See {@link SkeletonJson#setCurveResolution(int)}. */
+	public int getCurveResolution () {
+		return curveResolution;
+	}
+
+	public void setCurveResolution (int curveResolution) {
+		if (curveResolution < 0 || (curveResolution > 0 && curveResolution < 10))
+			throw new IllegalArgumentException("curveResolution must be 0 or >= 10: " + curveResolution);
+		this.curveResolution = curveResolution;
+	}
+
+	public ForkJoinPool getPool () {
+		return pool;
+	}
+
+	SkeletonData readJson (FileHandle file, float scale, boolean lazyAnimations, TimelineCompactor timelineCompactor,
+		int curveResolution) {
+		SkeletonJson json = new SkeletonJson(attachmentLoader);
+		json.setScale(scale);
+		json.setLazyAnimations(lazyAnimations);
+		json.setTimelineCompactor(timelineCompactor);
+		json.setCurveResolution(curveResolution);
+
+		SkeletonData skeletonData = new SkeletonData();
+		skeletonData.name = file.nameWithoutExtension();
+		JsonValue root = new JsonReader().parse(file);
+		json.readSkeletonData(root, skeletonData);
+
+		Array<AnimationTask> tasks = new Array();
+		for (JsonValue animationMap = root.getChild("animations"), next; animationMap != null; animationMap = next) {
+			next = animationMap.next;
+			if (lazyAnimations) {
+				skeletonData.animations.add(json.newLazyAnimation(animationMap, skeletonData));
+				continue;
+			}
+			AnimationTask task = new AnimationTask(skeletonData);
+			task.json = json;
+			task.map = animationMap;
+			tasks.add(task);
+			task.fork();
+		}
+		join(tasks, skeletonData);
+		return skeletonData;
+	}
+
+	SkeletonData readBinary (FileHandle file, float scale, boolean lazyAnimations, TimelineCompactor timelineCompactor,
+		int curveResolution) {
+		SkeletonBinary binary = new SkeletonBinary(attachmentLoader);
+		binary.setScale(scale);
+		binary.setLazyAnimations(lazyAnimations);
+		binary.setTimelineCompactor(timelineCompactor);
+		binary.setCurveResolution(curveResolution);
+
+		SkeletonData skeletonData = new SkeletonData();
+		skeletonData.name = file.nameWithoutExtension();
+		BufferInput input = new BufferInput(MappedSkeletonBinary.map(file));
+		Array<AnimationTask> tasks = new Array();
+		try {
+			binary.readSkeletonData(input, skeletonData);
+
+			// Find the bytes for each animation, reading them while the next is found.
+			for (int i = 0, n = input.readInt(true); i < n; i++) {
+				if (lazyAnimations) {
+					skeletonData.animations.add(binary.newLazyAnimation(input.readString(), input, skeletonData));
+					continue;
+				}
+				AnimationTask task = new AnimationTask(skeletonData);
+				task.binary = binary;
+				task.name = input.readString();
+				int start = input.position();
+				SkeletonBinary.skipAnimation(input);
+				task.input = input.range(start, input.position());
+				tasks.add(task);
+				task.fork();
+			}
+		} catch (IOException ex) {
+			throw new SerializationException("Error reading skeleton file: " + file, ex);
+		} catch (BufferUnderflowException ex) {
+			throw new SerializationException("Error reading skeleton file: " + file, ex);
+		}
+		join(tasks, skeletonData);
+		return skeletonData;
+	}
+
+	private void join (Array<AnimationTask> tasks, SkeletonData skeletonData) {
+		Array<Animation> animations = skeletonData.animations;
+		for (int i = 0, n = tasks.size; i < n; i++)
+			animations.add(tasks.get(i).join());
+		animations.shrink();
+		skeletonData.indexAnimations();
+	}
+
+	class LoadTask extends RecursiveTask<SkeletonData> {
+		private final FileHandle file;
+		private final float scale;
+		private final boolean lazyAnimations;
+		private final TimelineCompactor timelineCompactor;
+		private final int curveResolution;
+
+		LoadTask (FileHandle file, float scale, boolean lazyAnimations, TimelineCompactor timelineCompactor, int curveResolution) {
+			this.file = file;
+			this.scale = scale;
+			this.lazyAnimations = lazyAnimations;
+			this.timelineCompactor = timelineCompactor;
+			this.curveResolution = curveResolution;
+		}
+
+		protected SkeletonData compute () {
+			if (file.extension().equalsIgnoreCase("json"))
+				return readJson(file, scale, lazyAnimations, timelineCompactor, curveResolution);
+			return readBinary(file, scale, lazyAnimations, timelineCompactor, curveResolution);
+		}
+	}
+
+	static class AnimationTask extends RecursiveTask<Animation> {
+		final SkeletonData skeletonData;
+		SkeletonJson json;
+		JsonValue map;
+		SkeletonBinary binary;
+		String name;
+		BufferInput input;
+
+		AnimationTask (SkeletonData skeletonData) {
+			this.skeletonData = skeletonData;
+		}
+
+		protected Animation compute () {
+			if (json != null) return json.readAnimation(map, skeletonData);
+			try {
+				return binary.readAnimation(name, input, skeletonData);
+			} catch (BufferUnderflowException ex) {
+				throw new SerializationException("Error reading animation: " + name, ex);
+			}
+		}
+	}
+}
@@ -53,6 +53,7 @@ import com.esotericsoftware.spine.Animation.RotateTimeline;
 import com.esotericsoftware.spine.Animation.ScaleTimeline;
 import com.esotericsoftware.spine.Animation.ShearTimeline;
 import com.esotericsoftware.spine.Animation.Timeline;
+import com.esotericsoftware.spine.Animation.TimelineReader;
 import com.esotericsoftware.spine.Animation.TransformConstraintTimeline;
 import com.esotericsoftware.spine.Animation.TranslateTimeline;
 import com.esotericsoftware.spine.BoneData.TransformMode;
@@ -77,6 +78,9 @@ import com.esotericsoftware.spine.attachments.VertexAttachment;
 public class SkeletonJson {
 	private final AttachmentLoader attachmentLoader;
 	private float scale = 1;
+	private boolean lazyAnimations;
+	private TimelineCompactor timelineCompactor;
+	private int curveResolution;
 	private Array<LinkedMesh> linkedMeshes = new Array();
 
 	public SkeletonJson (TextureAtlas atlas) {
@@ -100,15 +104,70 @@ public class SkeletonJson {
 		this.scale = scale;
 	}
 
+	/** When true, the JSON for each animation is kept and its timelines are read the first time they are needed, eg by
+	 * {@link SkeletonData#findAnimation(String)}. This reduces the time to load and the memory used when only some of the
+	 * animations are used. Unused animations can be unloaded with
+	 * {@link SkeletonData#unloadAnimations(com.badlogic.gdx.utils.Predicate)}. The timelines are read using the scale, curve
+	 * resolution, and timeline compactor that were set when the skeleton data was read. Default is false.
+	 * <p>
+	 * See {@link Animation#getTimelines()}. */
+	public boolean getLazyAnimations () {
+		return lazyAnimations;
+	}
+
+	public void setLazyAnimations (boolean lazyAnimations) {
+		this.lazyAnimations = lazyAnimations;
+	}
+
+	/** When not null, the timelines of each animation are compacted as they are read, including lazy animations read later.
+	 * Default is null. */
+	public TimelineCompactor getTimelineCompactor () {
+		return timelineCompactor;
+	}
+
+	public void setTimelineCompactor (TimelineCompactor timelineCompactor) {
+		this.timelineCompactor = timelineCompactor;
+	}
+
+	/** When > 0, a lookup table for the Bezier curves of each timeline is computed as the animations are read. Default is 0.
+	 * <p>
+	 * See {@link CurveTimeline#setCurveResolution(int)}. */
+	public int getCurveResolution () {
+		return curveResolution;
+	}
+
+	public void setCurveResolution (int curveResolution) {
+		if (curveResolution < 0 || (curveResolution > 0 && curveResolution < 10))
+			throw new IllegalArgumentException("curveResolution must be 0 or >= 10: " + curveResolution);
+		this.curveResolution = curveResolution;
+	}
+
 	public SkeletonData readSkeletonData (FileHandle file) {
 		if (file == null) throw new IllegalArgumentException("file cannot be null.");
 
-		float scale = this.scale;
-
 		SkeletonData skeletonData = new SkeletonData();
 		skeletonData.name = file.nameWithoutExtension();
 
 		JsonValue root = new JsonReader().parse(file);
+		readSkeletonData(root, skeletonData);
+
+		// Animations.
+		for (JsonValue animationMap = root.getChild("animations"), next; animationMap != null; animationMap = next) {
+			next = animationMap.next;
+			if (lazyAnimations)
+				skeletonData.animations.add(newLazyAnimation(animationMap, skeletonData));
+			else
+				skeletonData.animations.add(readAnimation(animationMap, skeletonData));
+		}
+
+		skeletonData.animations.shrink();
+		skeletonData.indexAnimations();
+		return skeletonData;
+	}
+
+	/** Reads everything except the animations. */
+	void readSkeletonData (JsonValue root, SkeletonData skeletonData) {
+		float scale = this.scale;
 
 		// Skeleton.
 		JsonValue skeletonMap = root.get("skeleton");
@@ -247,7 +306,7 @@ public class SkeletonJson {
 
 		// Skins.
 		for (JsonValue skinMap = root.getChild("skins"); skinMap != null; skinMap = skinMap.next) {
-			Skin skin = new Skin(skinMap.name);
+			Skin skin = new Skin(skinMap.name, skeletonData);
 			for (JsonValue slotEntry = skinMap.child; slotEntry != null; slotEntry = slotEntry.next) {
 				SlotData slot = skeletonData.findSlot(slotEntry.name);
 				if (slot == null) throw new SerializationException("Slot not found: " + slotEntry.name);
@@ -285,22 +344,11 @@ public class SkeletonJson {
 			skeletonData.events.add(data);
 		}
 
-		// Animations.
-		for (JsonValue animationMap = root.getChild("animations"); animationMap != null; animationMap = animationMap.next) {
-			try {
-				readAnimation(animationMap, animationMap.name, skeletonData);
-			} catch (Exception ex) {
-				throw new SerializationException("Error reading animation: " + animationMap.name, ex);
-			}
-		}
-
 		skeletonData.bones.shrink();
 		skeletonData.slots.shrink();
 		skeletonData.skins.shrink();
 		skeletonData.events.shrink();
-		skeletonData.animations.shrink();
 		skeletonData.ikConstraints.shrink();
-		return skeletonData;
 	}
 
 	private Attachment readAttachment (JsonValue map, Skin skin, int slotIndex, String name) {
@@ -416,10 +464,55 @@ public class SkeletonJson {
 		}
 		attachment.setBones(bones.toArray());
 		attachment.setVertices(weights.toArray());
+		attachment.updateBoneInfluences();
 	}
 
-	private void readAnimation (JsonValue map, String name, SkeletonData skeletonData) {
-		float scale = this.scale;
+	/** Reads an animation after the rest of the skeleton data has been read. Only reads the skeleton data, so animations can be
+	 * read concurrently. */
+	Animation readAnimation (JsonValue map, SkeletonData skeletonData) {
+		return readAnimation(map, skeletonData, scale, curveResolution, timelineCompactor);
+	}
+
+	private Animation readAnimation (JsonValue map, SkeletonData skeletonData, float scale, int curveResolution,
+		TimelineCompactor timelineCompactor) {
+		try {
+			return readAnimation(map, map.name, skeletonData, scale, curveResolution, timelineCompactor);
+		} catch (Exception ex) {
+			throw new SerializationException("Error reading animation: " + map.name, ex);
+		}
+	}
+
+	/** Creates an animation which keeps its JSON and reads its timelines when they are first needed. The JSON is detached from
+	 * the rest of the document so the rest can be garbage collected. The current settings are used, even if they are changed
+	 * before the timelines are read. */
+	Animation newLazyAnimation (final JsonValue map, final SkeletonData skeletonData) {
+		final float scale = this.scale;
+		final int curveResolution = this.curveResolution;
+		final TimelineCompactor timelineCompactor = this.timelineCompactor;
+		map.parent = null;
+		map.prev = null;
+		map.next = null;
+		return new Animation(map.name, readDuration(map), new TimelineReader() {
+			public Array<Timeline> read (Animation animation) {
+				return readAnimation(map, skeletonData, scale, curveResolution, timelineCompactor).timelines;
+			}
+		});
+	}
+
+	/** Returns the highest time of the last key in each timeline, without reading the timelines. */
+	static private float readDuration (JsonValue map) {
+		float duration = 0;
+		for (JsonValue child = map.child; child != null; child = child.next) {
+			if (child.isArray()) {
+				if (child.size > 0) duration = Math.max(duration, child.get(child.size - 1).getFloat("time", 0));
+			} else if (child.isObject())
+				duration = Math.max(duration, readDuration(child));
+		}
+		return duration;
+	}
+
+	private Animation readAnimation (JsonValue map, String name, SkeletonData skeletonData, float scale, int curveResolution,
+		TimelineCompactor timelineCompactor) {
 		Array<Timeline> timelines = new Array();
 		float duration = 0;
 
@@ -686,7 +779,14 @@ public class SkeletonJson {
 		}
 
 		timelines.shrink();
-		skeletonData.animations.add(new Animation(name, timelines, duration));
+		if (curveResolution > 0) {
+			for (int i = 0, n = timelines.size; i < n; i++) {
+				Timeline timeline = timelines.get(i);
+				if (timeline instanceof CurveTimeline) ((CurveTimeline)timeline).setCurveResolution(curveResolution);
+			}
+		}
+		if (timelineCompactor != null) timelineCompactor.compact(timelines);
+		return new Animation(name, timelines, duration);
 	}
 
 	void readCurve (JsonValue map, CurveTimeline timeline, int frameIndex) {
@@ -33,6 +33,7 @@ package com.esotericsoftware.spine;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.PolygonSpriteBatch;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
 import com.esotericsoftware.spine.attachments.Attachment;
 import com.esotericsoftware.spine.attachments.RegionAttachment;
 import com.esotericsoftware.spine.attachments.SkeletonAttachment;
@@ -41,12 +42,15 @@ import com.esotericsoftware.spine.attachments.MeshAttachment;
 public class SkeletonMeshRenderer extends SkeletonRenderer<PolygonSpriteBatch> {
 	static private final short[] quadTriangles = {0, 1, 2, 2, 3, 0};
 
+	private final FloatArray vertices = new FloatArray(32);
+
 	@SuppressWarnings("null")
 	public void draw (PolygonSpriteBatch batch, Skeleton skeleton) {
 		boolean premultipliedAlpha = this.premultipliedAlpha;
 		BlendMode blendMode = null;
 
 		float[] vertices = null;
+		int verticesLength = 0;
 		short[] triangles = null;
 		Array<Slot> drawOrder = skeleton.drawOrder;
 		for (int i = 0, n = drawOrder.size; i < n; i++) {
@@ -55,37 +59,23 @@ public class SkeletonMeshRenderer extends SkeletonRenderer<PolygonSpriteBatch> {
 			Texture texture = null;
 			if (attachment instanceof RegionAttachment) {
 				RegionAttachment region = (RegionAttachment)attachment;
-				vertices = region.updateWorldVertices(slot, premultipliedAlpha);
+				verticesLength = 20;
+				vertices = this.vertices.setSize(verticesLength);
+				region.updateWorldVertices(slot, premultipliedAlpha, vertices, 0);
 				triangles = quadTriangles;
 				texture = region.getRegion().getTexture();
 
 			} else if (attachment instanceof MeshAttachment) {
 				MeshAttachment mesh = (MeshAttachment)attachment;
-				vertices = mesh.updateWorldVertices(slot, premultipliedAlpha);
+				verticesLength = mesh.getRenderVerticesLength();
+				vertices = this.vertices.setSize(verticesLength);
+				mesh.updateWorldVertices(slot, premultipliedAlpha, vertices, 0);
 				triangles = mesh.getTriangles();
 				texture = mesh.getRegion().getTexture();
 
 			} else if (attachment instanceof SkeletonAttachment) {
-				Skeleton attachmentSkeleton = ((SkeletonAttachment)attachment).getSkeleton();
-				if (attachmentSkeleton == null) continue;
-				Bone bone = slot.getBone();
-				Bone rootBone = attachmentSkeleton.getRootBone();
-				float oldScaleX = rootBone.getScaleX();
-				float oldScaleY = rootBone.getScaleY();
-				float oldRotation = rootBone.getRotation();
-				attachmentSkeleton.setPosition(bone.getWorldX(), bone.getWorldY());
-				// rootBone.setScaleX(1 + bone.getWorldScaleX() - oldScaleX);
-				// rootBone.setScaleY(1 + bone.getWorldScaleY() - oldScaleY);
-				// Set shear.
-				rootBone.setRotation(oldRotation + bone.getWorldRotationX());
-				attachmentSkeleton.updateWorldTransform();
-
-				draw(batch, attachmentSkeleton);
-
-				attachmentSkeleton.setPosition(0, 0);
-				rootBone.setScaleX(oldScaleX);
-				rootBone.setScaleY(oldScaleY);
-				rootBone.setRotation(oldRotation);
+				drawSkeletonAttachment(batch, slot, (SkeletonAttachment)attachment);
+				blendMode = null; // The attachment's skeleton may have changed the blend function.
 			}
 
 			if (texture != null) {
@@ -94,8 +84,47 @@ public class SkeletonMeshRenderer extends SkeletonRenderer<PolygonSpriteBatch> {
 					blendMode = slotBlendMode;
 					batch.setBlendFunction(blendMode.getSource(premultipliedAlpha), blendMode.getDest());
 				}
-				batch.draw(texture, vertices, 0, vertices.length, triangles, 0, triangles.length);
+				batch.draw(texture, vertices, 0, verticesLength, triangles, 0, triangles.length);
+			}
+		}
+	}
+
+	public void draw (PolygonSpriteBatch batch, SkeletonVertexCache cache) {
+		cache.setPremultipliedAlpha(premultipliedAlpha);
+		cache.update();
+		boolean premultipliedAlpha = this.premultipliedAlpha;
+		BlendMode blendMode = null;
+
+		Array<Slot> drawOrder = cache.skeleton.drawOrder;
+		for (int i = 0, n = drawOrder.size; i < n; i++) {
+			Slot slot = drawOrder.get(i);
+			Attachment attachment = slot.attachment;
+			Texture texture;
+			short[] triangles;
+			if (attachment instanceof RegionAttachment) {
+				texture = ((RegionAttachment)attachment).getRegion().getTexture();
+				triangles = quadTriangles;
+
+			} else if (attachment instanceof MeshAttachment) {
+				MeshAttachment mesh = (MeshAttachment)attachment;
+				texture = mesh.getRegion().getTexture();
+				triangles = mesh.getTriangles();
+
+			} else {
+				if (attachment instanceof SkeletonAttachment) {
+					drawSkeletonAttachment(batch, slot, (SkeletonAttachment)attachment);
+					blendMode = null; // The attachment's skeleton may have changed the blend function.
+				}
+				continue;
+			}
+
+			BlendMode slotBlendMode = slot.data.getBlendMode();
+			if (slotBlendMode != blendMode) {
+				blendMode = slotBlendMode;
+				batch.setBlendFunction(blendMode.getSource(premultipliedAlpha), blendMode.getDest());
 			}
+			int slotIndex = slot.data.index;
+			batch.draw(texture, cache.getVertices(slotIndex), 0, cache.getVerticesLength(slotIndex), triangles, 0, triangles.length);
 		}
 	}
 }
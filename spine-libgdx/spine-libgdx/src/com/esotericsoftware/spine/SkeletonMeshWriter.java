@@ -0,0 +1,191 @@
+/******************************************************************************
+ * Spine Runtimes Software License v2.5
+ *
+ * Copyright (c) 2013-2016, Esoteric Software
+ * All rights reserved.
+ *
+ * You are granted a perpetual, non-exclusive, non-sublicensable, and
+ * non-transferable license to use, install, execute, and perform the Spine
+ * Runtimes software and derivative works solely for personal or internal
+ * use. Without the written permission of Esoteric Software (see Section 2 of
+ * the Spine Software License Agreement), you may not (a) modify, translate,
+ * adapt, or develop new applications using the Spine Runtimes or otherwise
+ * create derivative works or improvements of the Spine Runtimes or (b) remove,
+ * delete, alter, or obscure any trademarks or any copyright, trademark, patent,
+ * or other intellectual property or proprietary rights notices on or in the
+ * Software, including any copy thereof. Redistributions in binary or source
+ * form must include this license and terms.
+ *
+ * THIS SOFTWARE IS PROVIDED BY ESOTERIC SOFTWARE "AS IS" AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO
+ * EVENT SHALL ESOTERIC SOFTWARE BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES, BUSINESS INTERRUPTION, OR LOSS OF
+ * USE, DATA, OR PROFITS) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ *****************************************************************************/
+
+
+package com.esotericsoftware.spine;
+
+import java.nio.FloatBuffer;
+import java.nio.ShortBuffer;
+
+import com.badlogic.gdx.graphics.Mesh;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.utils.Array;
+import com.esotericsoftware.spine.attachments.Attachment;
+import com.esotericsoftware.spine.attachments.MeshAttachment;
+import com.esotericsoftware.spine.attachments.RegionAttachment;
+import com.esotericsoftware.spine.attachments.SkeletonAttachment;
+
+/** Writes the vertices and triangle indices of skeletons to buffers, eg the direct buffers of a {@link Mesh}, so many skeletons
+ * can be drawn with one buffer upload and draw call for each texture and blend mode, without copying the vertices to a batch.
+ * <p>
+ * Each vertex is written as the <code>x,y</code> world position, the packed color, and the <code>u,v</code> texture
+ * coordinates, matching a mesh with position (2 components), packed color, and texture coordinates attributes. The indices refer
+ * to the vertices written since the last flush. When an attachment has a different texture or blend mode than the attachments
+ * written before it, or when the buffers are full, the written vertices and indices are passed to the
+ * {@link FlushListener}, then the buffers are cleared. Call {@link #flush()} after writing all skeletons.
+ * <p>
+ * When writing to a mesh's buffers, {@link Mesh#getVerticesBuffer()} and {@link Mesh#getIndicesBuffer()} should be called in
+ * {@link FlushListener#flush(Texture, BlendMode, int, int)} before rendering the mesh, so the buffers are uploaded again. */
+public class SkeletonMeshWriter {
+	static private final short[] quadTriangles = {0, 1, 2, 2, 3, 0};
+
+	private final FloatBuffer vertices;
+	private final ShortBuffer indices;
+	private final FlushListener listener;
+	boolean premultipliedAlpha;
+	private Texture texture;
+	private BlendMode blendMode;
+	private int vertexCount, indexCount;
+	private float[] worldVertices = new float[32];
+
+	/** @param vertices Must have a capacity that is a multiple of 5 and at most 5 * 65536 so the vertices can be indexed by
+	 *           unsigned short indices.
+	 * @param listener Called with the written vertices and indices when they need to be drawn. */
+	public SkeletonMeshWriter (FloatBuffer vertices, ShortBuffer indices, FlushListener listener) {
+		if (vertices == null) throw new IllegalArgumentException("vertices cannot be null.");
+		if (indices == null) throw new IllegalArgumentException("indices cannot be null.");
+		if (listener == null) throw new IllegalArgumentException("listener cannot be null.");
+		if (vertices.capacity() % 5 != 0) throw new IllegalArgumentException("vertices capacity must be a multiple of 5.");
+		if (vertices.capacity() / 5 > 65536) throw new IllegalArgumentException("vertices capacity must be <= 5 * 65536.");
+		this.vertices = vertices;
+		this.indices = indices;
+		this.listener = listener;
+		vertices.clear();
+		indices.clear();
+	}
+
+	/** Writes the skeleton's attachments in draw order. The skeleton's world transforms must be current. */
+	public void write (Skeleton skeleton) {
+		if (skeleton == null) throw new IllegalArgumentException("skeleton cannot be null.");
+		boolean premultipliedAlpha = this.premultipliedAlpha;
+		Array<Slot> drawOrder = skeleton.drawOrder;
+		for (int i = 0, n = drawOrder.size; i < n; i++) {
+			Slot slot = drawOrder.get(i);
+			Attachment attachment = slot.attachment;
+			if (attachment instanceof RegionAttachment) {
+				RegionAttachment region = (RegionAttachment)attachment;
+				prepare(region.getRegion().getTexture(), slot.data.blendMode, 4, 6);
+				float[] worldVertices = this.worldVertices;
+				region.updateWorldVertices(slot, premultipliedAlpha, worldVertices, 0);
+				write(worldVertices, 20, quadTriangles);
+
+			} else if (attachment instanceof MeshAttachment) {
+				MeshAttachment mesh = (MeshAttachment)attachment;
+				int verticesLength = mesh.getRenderVerticesLength();
+				short[] triangles = mesh.getTriangles();
+				prepare(mesh.getRegion().getTexture(), slot.data.blendMode, verticesLength / 5, triangles.length);
+				float[] worldVertices = this.worldVertices;
+				if (worldVertices.length < verticesLength) this.worldVertices = worldVertices = new float[verticesLength];
+				mesh.updateWorldVertices(slot, premultipliedAlpha, worldVertices, 0);
+				write(worldVertices, verticesLength, triangles);
+
+			} else if (attachment instanceof SkeletonAttachment) {
+				Skeleton attachmentSkeleton = ((SkeletonAttachment)attachment).getSkeleton();
+				if (attachmentSkeleton == null) continue;
+				Bone bone = slot.getBone();
+				Bone rootBone = attachmentSkeleton.getRootBone();
+				float oldScaleX = rootBone.getScaleX();
+				float oldScaleY = rootBone.getScaleY();
+				float oldRotation = rootBone.getRotation();
+				attachmentSkeleton.setPosition(bone.getWorldX(), bone.getWorldY());
+				rootBone.setRotation(oldRotation + bone.getWorldRotationX());
+				attachmentSkeleton.updateWorldTransform();
+
+				write(attachmentSkeleton);
+
+				attachmentSkeleton.setPosition(0, 0);
+				rootBone.setScaleX(oldScaleX);
+				rootBone.setScaleY(oldScaleY);
+				rootBone.setRotation(oldRotation);
+			}
+		}
+	}
+
+	/** Flushes if the texture or blend mode changes or the buffers don't have room for the attachment. */
+	private void prepare (Texture texture, BlendMode blendMode, int attachmentVertexCount, int attachmentIndexCount) {
+		if (attachmentVertexCount * 5 > vertices.capacity() || attachmentIndexCount > indices.capacity())
+			throw new IllegalStateException("Attachment is too large for the buffers: " + attachmentVertexCount + " vertices, "
+				+ attachmentIndexCount + " indices");
+		if (texture != this.texture || blendMode != this.blendMode || (vertexCount + attachmentVertexCount) * 5 > vertices.capacity()
+			|| indexCount + attachmentIndexCount > indices.capacity()) {
+			flush();
+			this.texture = texture;
+			this.blendMode = blendMode;
+		}
+	}
+
+	private void write (float[] worldVertices, int verticesLength, short[] triangles) {
+		vertices.put(worldVertices, 0, verticesLength);
+		ShortBuffer indices = this.indices;
+		int vertexCount = this.vertexCount;
+		for (int i = 0, n = triangles.length; i < n; i++)
+			indices.put((short)(triangles[i] + vertexCount));
+		this.vertexCount = vertexCount + verticesLength / 5;
+		indexCount += triangles.length;
+	}
+
+	/** If any vertices have been written, passes them to the {@link FlushListener} and clears the buffers. The buffer positions
+	 * are 0 and the limits are the number of values written when the listener is called. */
+	public void flush () {
+		if (indexCount > 0) {
+			vertices.flip();
+			indices.flip();
+			listener.flush(texture, blendMode, vertexCount, indexCount);
+		}
+		vertices.clear();
+		indices.clear();
+		vertexCount = 0;
+		indexCount = 0;
+	}
+
+	/** The number of vertices written since the last flush. */
+	public int getVertexCount () {
+		return vertexCount;
+	}
+
+	/** The number of indices written since the last flush. */
+	public int getIndexCount () {
+		return indexCount;
+	}
+
+	public void setPremultipliedAlpha (boolean premultipliedAlpha) {
+		this.premultipliedAlpha = premultipliedAlpha;
+	}
+
+	/** Receives the vertices and indices written by a {@link SkeletonMeshWriter}. */
+	static public interface FlushListener {
+		/** Called when the written vertices and indices need to be drawn, eg by binding the texture, setting the blend function, and
+		 * rendering a mesh using the buffers. The buffers are cleared after this method returns.
+		 * @param texture May be null if the attachments' regions have no texture.
+		 * @param vertexCount The number of vertices written, 5 values each.
+		 * @param indexCount The number of indices written, 3 for each triangle. */
+		public void flush (Texture texture, BlendMode blendMode, int vertexCount, int indexCount);
+	}
+}
@@ -39,9 +39,11 @@ import com.esotericsoftware.spine.attachments.MeshAttachment;
 
 public class SkeletonRenderer<T extends Batch> {
 	boolean premultipliedAlpha;
+	private final float[] vertices = new float[20];
 
 	public void draw (T batch, Skeleton skeleton) {
 		boolean premultipliedAlpha = this.premultipliedAlpha;
+		BlendMode blendMode = null;
 
 		Array<Slot> drawOrder = skeleton.drawOrder;
 		for (int i = 0, n = drawOrder.size; i < n; i++) {
@@ -49,40 +51,79 @@ public class SkeletonRenderer<T extends Batch> {
 			Attachment attachment = slot.attachment;
 			if (attachment instanceof RegionAttachment) {
 				RegionAttachment regionAttachment = (RegionAttachment)attachment;
-				float[] vertices = regionAttachment.updateWorldVertices(slot, premultipliedAlpha);
-				BlendMode blendMode = slot.data.getBlendMode();
-				batch.setBlendFunction(blendMode.getSource(premultipliedAlpha), blendMode.getDest());
+				float[] vertices = this.vertices;
+				regionAttachment.updateWorldVertices(slot, premultipliedAlpha, vertices, 0);
+				BlendMode slotBlendMode = slot.data.getBlendMode();
+				if (slotBlendMode != blendMode) {
+					blendMode = slotBlendMode;
+					batch.setBlendFunction(blendMode.getSource(premultipliedAlpha), blendMode.getDest());
+				}
 				batch.draw(regionAttachment.getRegion().getTexture(), vertices, 0, 20);
 
 			} else if (attachment instanceof MeshAttachment) {
 				throw new RuntimeException("SkeletonMeshRenderer is required to render meshes.");
 
 			} else if (attachment instanceof SkeletonAttachment) {
-				Skeleton attachmentSkeleton = ((SkeletonAttachment)attachment).getSkeleton();
-				if (attachmentSkeleton == null) continue;
-				Bone bone = slot.getBone();
-				Bone rootBone = attachmentSkeleton.getRootBone();
-				float oldScaleX = rootBone.getScaleX();
-				float oldScaleY = rootBone.getScaleY();
-				float oldRotation = rootBone.getRotation();
-				attachmentSkeleton.setPosition(bone.getWorldX(), bone.getWorldY());
-				// rootBone.setScaleX(1 + bone.getWorldScaleX() - oldScaleX);
-				// rootBone.setScaleY(1 + bone.getWorldScaleY() - oldScaleY);
-				// Set shear.
-				rootBone.setRotation(oldRotation + bone.getWorldRotationX());
-				attachmentSkeleton.updateWorldTransform();
+				drawSkeletonAttachment(batch, slot, (SkeletonAttachment)attachment);
+				blendMode = null; // The attachment's skeleton may have changed the blend function.
+			}
+		}
+	}
+
+	/** Draws the skeleton using the vertices stored in the cache, after {@link SkeletonVertexCache#update() updating} it, so
+	 * vertices are only computed for slots which have changed. */
+	public void draw (T batch, SkeletonVertexCache cache) {
+		cache.setPremultipliedAlpha(premultipliedAlpha);
+		cache.update();
+		boolean premultipliedAlpha = this.premultipliedAlpha;
+		BlendMode blendMode = null;
 
-				draw(batch, attachmentSkeleton);
+		Array<Slot> drawOrder = cache.skeleton.drawOrder;
+		for (int i = 0, n = drawOrder.size; i < n; i++) {
+			Slot slot = drawOrder.get(i);
+			Attachment attachment = slot.attachment;
+			if (attachment instanceof RegionAttachment) {
+				BlendMode slotBlendMode = slot.data.getBlendMode();
+				if (slotBlendMode != blendMode) {
+					blendMode = slotBlendMode;
+					batch.setBlendFunction(blendMode.getSource(premultipliedAlpha), blendMode.getDest());
+				}
+				batch.draw(((RegionAttachment)attachment).getRegion().getTexture(), cache.getVertices(slot.data.index), 0, 20);
 
-				attachmentSkeleton.setX(0);
-				attachmentSkeleton.setY(0);
-				rootBone.setScaleX(oldScaleX);
-				rootBone.setScaleY(oldScaleY);
-				rootBone.setRotation(oldRotation);
+			} else if (attachment instanceof MeshAttachment) {
+				throw new RuntimeException("SkeletonMeshRenderer is required to render meshes.");
+
+			} else if (attachment instanceof SkeletonAttachment) {
+				drawSkeletonAttachment(batch, slot, (SkeletonAttachment)attachment);
+				blendMode = null; // The attachment's skeleton may have changed the blend function.
 			}
 		}
 	}
 
+	/** Draws the attachment's skeleton positioned and rotated using the slot's bone. */
+	void drawSkeletonAttachment (T batch, Slot slot, SkeletonAttachment attachment) {
+		Skeleton attachmentSkeleton = attachment.getSkeleton();
+		if (attachmentSkeleton == null) return;
+		Bone bone = slot.getBone();
+		Bone rootBone = attachmentSkeleton.getRootBone();
+		float oldScaleX = rootBone.getScaleX();
+		float oldScaleY = rootBone.getScaleY();
+		float oldRotation = rootBone.getRotation();
+		attachmentSkeleton.setPosition(bone.getWorldX(), bone.getWorldY());
+		// rootBone.setScaleX(1 + bone.getWorldScaleX() - oldScaleX);
+		// rootBone.setScaleY(1 + bone.getWorldScaleY() - oldScaleY);
+		// Set shear.
+		rootBone.setRotation(oldRotation + bone.getWorldRotationX());
+		attachmentSkeleton.updateWorldTransform();
+
+		draw(batch, attachmentSkeleton);
+
+		attachmentSkeleton.setPosition(0, 0);
+		rootBone.setScaleX(oldScaleX);
+		rootBone.setScaleY(oldScaleY);
+		rootBone.setRotation(oldRotation);
+	}
+
 	public void setPremultipliedAlpha (boolean premultipliedAlpha) {
 		this.premultipliedAlpha = premultipliedAlpha;
 	}
@@ -30,8 +30,6 @@
 
 package com.esotericsoftware.spine;
 
-import static com.badlogic.gdx.graphics.g2d.Batch.*;
-
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
@@ -107,11 +105,12 @@ public class SkeletonRendererDebug {
 				Attachment attachment = slot.attachment;
 				if (attachment instanceof RegionAttachment) {
 					RegionAttachment regionAttachment = (RegionAttachment)attachment;
-					float[] vertices = regionAttachment.updateWorldVertices(slot, false);
-					shapes.line(vertices[X1], vertices[Y1], vertices[X2], vertices[Y2]);
-					shapes.line(vertices[X2], vertices[Y2], vertices[X3], vertices[Y3]);
-					shapes.line(vertices[X3], vertices[Y3], vertices[X4], vertices[Y4]);
-					shapes.line(vertices[X4], vertices[Y4], vertices[X1], vertices[Y1]);
+					float[] vertices = temp.setSize(8);
+					regionAttachment.computeWorldVertices(slot.getBone(), vertices, 0, 2);
+					shapes.line(vertices[0], vertices[1], vertices[2], vertices[3]);
+					shapes.line(vertices[2], vertices[3], vertices[4], vertices[5]);
+					shapes.line(vertices[4], vertices[5], vertices[6], vertices[7]);
+					shapes.line(vertices[6], vertices[7], vertices[0], vertices[1]);
 				}
 			}
 		}
@@ -123,14 +122,14 @@ public class SkeletonRendererDebug {
 				Attachment attachment = slot.attachment;
 				if (!(attachment instanceof MeshAttachment)) continue;
 				MeshAttachment mesh = (MeshAttachment)attachment;
-				mesh.updateWorldVertices(slot, false);
-				float[] vertices = mesh.getWorldVertices();
+				float[] vertices = temp.setSize(mesh.getWorldVerticesLength());
+				mesh.computeWorldVertices(slot, vertices);
 				short[] triangles = mesh.getTriangles();
 				int hullLength = mesh.getHullLength();
 				if (drawMeshTriangles) {
 					shapes.setColor(triangleLineColor);
 					for (int ii = 0, nn = triangles.length; ii < nn; ii += 3) {
-						int v1 = triangles[ii] * 5, v2 = triangles[ii + 1] * 5, v3 = triangles[ii + 2] * 5;
+						int v1 = triangles[ii] * 2, v2 = triangles[ii + 1] * 2, v3 = triangles[ii + 2] * 2;
 						shapes.triangle(vertices[v1], vertices[v1 + 1], //
 							vertices[v2], vertices[v2 + 1], //
 							vertices[v3], vertices[v3 + 1] //
@@ -139,9 +138,8 @@ public class SkeletonRendererDebug {
 				}
 				if (drawMeshHull && hullLength > 0) {
 					shapes.setColor(attachmentLineColor);
-					hullLength = (hullLength >> 1) * 5;
-					float lastX = vertices[hullLength - 5], lastY = vertices[hullLength - 4];
-					for (int ii = 0, nn = hullLength; ii < nn; ii += 5) {
+					float lastX = vertices[hullLength - 2], lastY = vertices[hullLength - 1];
+					for (int ii = 0, nn = hullLength; ii < nn; ii += 2) {
 						float x = vertices[ii], y = vertices[ii + 1];
 						shapes.line(x, y, lastX, lastY);
 						lastX = x;
@@ -0,0 +1,259 @@
+/******************************************************************************
+ * Spine Runtimes Software License v2.5
+ *
+ * Copyright (c) 2013-2016, Esoteric Software
+ * All rights reserved.
+ *
+ * You are granted a perpetual, non-exclusive, non-sublicensable, and
+ * non-transferable license to use, install, execute, and perform the Spine
+ * Runtimes software and derivative works solely for personal or internal
+ * use. Without the written permission of Esoteric Software (see Section 2 of
+ * the Spine Software License Agreement), you may not (a) modify, translate,
+ * adapt, or develop new applications using the Spine Runtimes or otherwise
+ * create derivative works or improvements of the Spine Runtimes or (b) remove,
+ * delete, alter, or obscure any trademarks or any copyright, trademark, patent,
+ * or other intellectual property or proprietary rights notices on or in the
+ * Software, including any copy thereof. Redistributions in binary or source
+ * form must include this license and terms.
+ *
+ * THIS SOFTWARE IS PROVIDED BY ESOTERIC SOFTWARE "AS IS" AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO
+ * EVENT SHALL ESOTERIC SOFTWARE BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES, BUSINESS INTERRUPTION, OR LOSS OF
+ * USE, DATA, OR PROFITS) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ *****************************************************************************/
+
+
+package com.esotericsoftware.spine;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.esotericsoftware.spine.attachments.Attachment;
+import com.esotericsoftware.spine.attachments.MeshAttachment;
+import com.esotericsoftware.spine.attachments.RegionAttachment;
+import com.esotericsoftware.spine.attachments.RegionSequenceAttachment;
+
+/** Stores the vertices computed for rendering each slot of a skeleton and recomputes them only when they may have changed, so
+ * skeletons which are not animating, or only partially animating, can be drawn without computing all their vertices each frame.
+ * <p>
+ * A slot's vertices are recomputed when its attachment, the combined skeleton, slot, and attachment color, or its
+ * {@link Slot#getDeformVersion() deform version} changes, or when the {@link Bone#getWorldVersion() world version} of its bone
+ * changes. For weighted meshes, the vertices are recomputed when the world version of any bone changes. Changes to attachments
+ * themselves, such as their region or offset, are not detected and require {@link #invalidate()}. The frame of a
+ * {@link RegionSequenceAttachment} depends on the slot's attachment time, so its vertices are recomputed every update.
+ * <p>
+ * See {@link SkeletonRenderer#draw(com.badlogic.gdx.graphics.g2d.Batch, SkeletonVertexCache)}. */
+public class SkeletonVertexCache {
+	final Skeleton skeleton;
+	final SlotVertices[] slots;
+	boolean premultipliedAlpha;
+	final int[] changed, changedEnds;
+	int changedCount;
+	private boolean boundsValid;
+	private float minX, minY, maxX, maxY;
+	private int updatedCount;
+
+	public SkeletonVertexCache (Skeleton skeleton) {
+		if (skeleton == null) throw new IllegalArgumentException("skeleton cannot be null.");
+		this.skeleton = skeleton;
+		slots = new SlotVertices[skeleton.slots.size];
+		for (int i = 0, n = slots.length; i < n; i++)
+			slots[i] = new SlotVertices();
+		changed = new int[slots.length];
+		changedEnds = new int[slots.length];
+	}
+
+	/** Recomputes the vertices for each slot whose vertices may have changed. The skeleton's world transforms must be current.
+	 * <p>
+	 * See {@link SkeletonVertexCacheUpdater} to compute the vertices using many threads.
+	 * @return The number of slots whose vertices were recomputed. */
+	public int update () {
+		int updatedCount = findChanged();
+		compute(0, changedCount);
+		return updatedCount;
+	}
+
+	/** Finds the slots whose vertices must be recomputed and stores them in {@link #changed}, without computing the vertices.
+	 * @return The number of slots whose vertices were recomputed or cleared. */
+	int findChanged () {
+		Skeleton skeleton = this.skeleton;
+		Object[] bones = skeleton.bones.items;
+		int boneVersion = 0;
+		for (int i = 0, n = skeleton.bones.size; i < n; i++)
+			boneVersion += ((Bone)bones[i]).worldVersion;
+
+		Color skeletonColor = skeleton.color;
+		Object[] slots = skeleton.slots.items;
+		SlotVertices[] cache = this.slots;
+		int[] changed = this.changed, changedEnds = this.changedEnds;
+		int updatedCount = 0, changedCount = 0, changedLength = 0;
+		for (int i = 0, n = cache.length; i < n; i++) {
+			Slot slot = (Slot)slots[i];
+			SlotVertices cached = cache[i];
+			Attachment attachment = slot.attachment;
+			Color slotColor = slot.color;
+			if (attachment instanceof RegionAttachment) {
+				RegionAttachment region = (RegionAttachment)attachment;
+				int version = slot.bone.worldVersion;
+				boolean sameColor = cached.sameColor(skeletonColor, slotColor, region.getColor());
+				if (sameColor && cached.attachment == attachment && cached.version == version
+					&& !(attachment instanceof RegionSequenceAttachment)) continue;
+				cached.vertices(20);
+				cached.set(attachment, version, slot.deformVersion, 20);
+				changed[changedCount] = i;
+				changedEnds[changedCount++] = changedLength += 20;
+
+			} else if (attachment instanceof MeshAttachment) {
+				MeshAttachment mesh = (MeshAttachment)attachment;
+				int version = mesh.getBones() == null ? slot.bone.worldVersion : boneVersion;
+				boolean sameColor = cached.sameColor(skeletonColor, slotColor, mesh.getColor());
+				if (sameColor && cached.attachment == attachment && cached.version == version
+					&& cached.deformVersion == slot.deformVersion) continue;
+				int verticesLength = mesh.getRenderVerticesLength();
+				cached.vertices(verticesLength);
+				cached.set(attachment, version, slot.deformVersion, verticesLength);
+				changed[changedCount] = i;
+				changedEnds[changedCount++] = changedLength += verticesLength;
+
+			} else {
+				if (cached.attachment == null) continue;
+				cached.attachment = null;
+				cached.length = 0;
+			}
+			updatedCount++;
+		}
+		this.changedCount = changedCount;
+		if (updatedCount > 0) boundsValid = false;
+		this.updatedCount = updatedCount;
+		return updatedCount;
+	}
+
+	/** Computes the vertices for the changed slots from <code>start</code> to <code>end</code>. */
+	void compute (int start, int end) {
+		boolean premultipliedAlpha = this.premultipliedAlpha;
+		Object[] slots = skeleton.slots.items;
+		SlotVertices[] cache = this.slots;
+		int[] changed = this.changed;
+		for (int i = start; i < end; i++) {
+			int slotIndex = changed[i];
+			SlotVertices cached = cache[slotIndex];
+			Attachment attachment = cached.attachment;
+			if (attachment instanceof RegionAttachment)
+				((RegionAttachment)attachment).updateWorldVertices((Slot)slots[slotIndex], premultipliedAlpha, cached.vertices, 0);
+			else
+				((MeshAttachment)attachment).updateWorldVertices((Slot)slots[slotIndex], premultipliedAlpha, cached.vertices, 0);
+		}
+	}
+
+	/** Causes the vertices for all slots to be recomputed by the next {@link #update()}. */
+	public void invalidate () {
+		for (int i = 0, n = slots.length; i < n; i++)
+			slots[i].attachment = null;
+		boundsValid = false;
+	}
+
+	/** The vertices computed for the slot's region or mesh attachment. For each vertex, the <code>x,y</code> position, the packed
+	 * color, and the <code>u,v</code> texture coordinates.
+	 * <p>
+	 * See {@link #getVerticesLength(int)}. */
+	public float[] getVertices (int slotIndex) {
+		return slots[slotIndex].vertices;
+	}
+
+	/** The number of values in {@link #getVertices(int)} for the slot, or 0 if the slot has no region or mesh attachment. */
+	public int getVerticesLength (int slotIndex) {
+		return slots[slotIndex].length;
+	}
+
+	/** Returns the axis aligned bounding box (AABB) of the vertices computed by the last {@link #update()}. The bounds are only
+	 * computed again when vertices have changed.
+	 * <p>
+	 * See {@link Skeleton#getBounds(Vector2, Vector2)}.
+	 * @param offset An output value, the distance from the skeleton origin to the bottom left corner of the AABB.
+	 * @param size An output value, the width and height of the AABB. */
+	public void getBounds (Vector2 offset, Vector2 size) {
+		if (offset == null) throw new IllegalArgumentException("offset cannot be null.");
+		if (size == null) throw new IllegalArgumentException("size cannot be null.");
+		if (!boundsValid) {
+			float minX = Integer.MAX_VALUE, minY = Integer.MAX_VALUE, maxX = Integer.MIN_VALUE, maxY = Integer.MIN_VALUE;
+			SlotVertices[] slots = this.slots;
+			for (int i = 0, n = slots.length; i < n; i++) {
+				SlotVertices cached = slots[i];
+				float[] vertices = cached.vertices;
+				for (int ii = 0, nn = cached.length; ii < nn; ii += 5) {
+					float x = vertices[ii], y = vertices[ii + 1];
+					minX = Math.min(minX, x);
+					minY = Math.min(minY, y);
+					maxX = Math.max(maxX, x);
+					maxY = Math.max(maxY, y);
+				}
+			}
+			this.minX = minX;
+			this.minY = minY;
+			this.maxX = maxX;
+			this.maxY = maxY;
+			boundsValid = true;
+		}
+		offset.set(minX, minY);
+		size.set(maxX - minX, maxY - minY);
+	}
+
+	/** The number of slots whose vertices were recomputed by the last {@link #update()}. */
+	public int getUpdatedCount () {
+		return updatedCount;
+	}
+
+	public Skeleton getSkeleton () {
+		return skeleton;
+	}
+
+	/** If the premultiplied alpha setting is changed, all vertices are recomputed by the next {@link #update()}. */
+	public void setPremultipliedAlpha (boolean premultipliedAlpha) {
+		if (this.premultipliedAlpha == premultipliedAlpha) return;
+		this.premultipliedAlpha = premultipliedAlpha;
+		invalidate();
+	}
+
+	public boolean getPremultipliedAlpha () {
+		return premultipliedAlpha;
+	}
+
+	/** The vertices for a slot and the state they were computed from. */
+	static class SlotVertices {
+		Attachment attachment;
+		int version, deformVersion;
+		float r, g, b, a;
+		float[] vertices = new float[20];
+		int length;
+
+		float[] vertices (int length) {
+			if (vertices.length < length) vertices = new float[length];
+			return vertices;
+		}
+
+		void set (Attachment attachment, int version, int deformVersion, int length) {
+			this.attachment = attachment;
+			this.version = version;
+			this.deformVersion = deformVersion;
+			this.length = length;
+		}
+
+		/** Returns true if the combined color is the same as when the vertices were computed, else stores the combined color. */
+		boolean sameColor (Color skeletonColor, Color slotColor, Color attachmentColor) {
+			float r = skeletonColor.r * slotColor.r * attachmentColor.r, g = skeletonColor.g * slotColor.g * attachmentColor.g;
+			float b = skeletonColor.b * slotColor.b * attachmentColor.b, a = skeletonColor.a * slotColor.a * attachmentColor.a;
+			if (r == this.r && g == this.g && b == this.b && a == this.a) return true;
+			this.r = r;
+			this.g = g;
+			this.b = b;
+			this.a = a;
+			return false;
+		}
+	}
+}
@@ -0,0 +1,107 @@
+/******************************************************************************
+ * Spine Runtimes Software License v2.5
+ *
+ * Copyright (c) 2013-2016, Esoteric Software
+ * All rights reserved.
+ *
+ * You are granted a perpetual, non-exclusive, non-sublicensable, and
+ * non-transferable license to use, install, execute, and perform the Spine
+ * Runtimes software and derivative works solely for personal or internal
+ * use. Without the written permission of Esoteric Software (see Section 2 of
+ * the Spine Software License Agreement), you may not (a) modify, translate,
+ * adapt, or develop new applications using the Spine Runtimes or otherwise
+ * create derivative works or improvements of the Spine Runtimes or (b) remove,
+ * delete, alter, or obscure any trademarks or any copyright, trademark, patent,
+ * or other intellectual property or proprietary rights notices on or in the
+ * Software, including any copy thereof. Redistributions in binary or source
+ * form must include this license and terms.
+ *
+ * THIS SOFTWARE IS PROVIDED BY ESOTERIC SOFTWARE "AS IS" AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO
+ * EVENT SHALL ESOTERIC SOFTWARE BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES, BUSINESS INTERRUPTION, OR LOSS OF
+ * USE, DATA, OR PROFITS) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ *****************************************************************************/
+
+package com.esotericsoftware.spine;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/** Updates a {@link SkeletonVertexCache} like {@link SkeletonVertexCache#update()}, but computes the vertices of the changed
+ * slots in parallel using a {@link ForkJoinPool}. This is worthwhile for skeletons with large weighted meshes.
+ * <p>
+ * Each slot's vertices are computed by a single thread. The skeleton and cache must not be used by other threads during
+ * {@link #update(SkeletonVertexCache)}. The skeleton data and attachments may be shared. */
+public class SkeletonVertexCacheUpdater {
+	private final ForkJoinPool pool;
+	int parallelThreshold = 4096;
+
+	/** Creates an updater which uses a new pool with parallelism equal to the number of available processors. */
+	public SkeletonVertexCacheUpdater () {
+		this(new ForkJoinPool());
+	}
+
+	public SkeletonVertexCacheUpdater (ForkJoinPool pool) {
+		if (pool == null) throw new IllegalArgumentException("pool cannot be null.");
+		this.pool = pool;
+	}
+
+	/** Recomputes the vertices for each slot whose vertices may have changed. If the changed slots have fewer than
+	 * {@link #getParallelThreshold()} vertex values, they are computed on the calling thread. Blocks until all vertices have been
+	 * computed.
+	 * @return The number of slots whose vertices were recomputed. */
+	public int update (SkeletonVertexCache cache) {
+		if (cache == null) throw new IllegalArgumentException("cache cannot be null.");
+		int updatedCount = cache.findChanged(), changedCount = cache.changedCount;
+		if (changedCount > 1 && cache.changedEnds[changedCount - 1] >= parallelThreshold)
+			pool.invoke(new ComputeTask(cache, 0, changedCount));
+		else
+			cache.compute(0, changedCount);
+		return updatedCount;
+	}
+
+	/** The minimum number of vertex values to compute before the pool's threads are used. Also the minimum number of vertex values
+	 * computed by each task. Defaults to 4096. */
+	public int getParallelThreshold () {
+		return parallelThreshold;
+	}
+
+	public void setParallelThreshold (int parallelThreshold) {
+		if (parallelThreshold < 1) throw new IllegalArgumentException("parallelThreshold must be > 0: " + parallelThreshold);
+		this.parallelThreshold = parallelThreshold;
+	}
+
+	public ForkJoinPool getPool () {
+		return pool;
+	}
+
+	/** Computes the vertices for a range of changed slots, splitting the range while it has more than twice the
+	 * {@link #parallelThreshold} vertex values. */
+	class ComputeTask extends RecursiveAction {
+		private final SkeletonVertexCache cache;
+		private final int start, end;
+
+		ComputeTask (SkeletonVertexCache cache, int start, int end) {
+			this.cache = cache;
+			this.start = start;
+			this.end = end;
+		}
+
+		protected void compute () {
+			int[] changedEnds = cache.changedEnds;
+			int length = changedEnds[end - 1] - (start == 0 ? 0 : changedEnds[start - 1]);
+			if (end - start == 1 || length < parallelThreshold << 1)
+				cache.compute(start, end);
+			else {
+				int middle = (start + end) >>> 1;
+				invokeAll(new ComputeTask(cache, start, middle), new ComputeTask(cache, middle, end));
+			}
+		}
+	}
+}
@@ -31,65 +31,101 @@
 package com.esotericsoftware.spine;
 
 import com.badlogic.gdx.utils.Array;
-import com.badlogic.gdx.utils.ObjectMap;
-import com.badlogic.gdx.utils.ObjectMap.Entry;
-import com.badlogic.gdx.utils.Pool;
+import com.badlogic.gdx.utils.ObjectIntMap;
 import com.esotericsoftware.spine.attachments.Attachment;
 
 /** Stores attachments by slot index and attachment name.
+ * <p>
+ * Attachments are stored in a table for each slot, so finding an attachment only compares the names of the attachments for the
+ * slot and does not hash the name. Attachments can also be found using a name id from {@link #findNameId(String)}. Skins
+ * created for the same skeleton data, including the skins loaded with it, share name ids, see
+ * {@link SkeletonData#findAttachmentNameId(String)}.
  * <p>
  * See SkeletonData {@link SkeletonData#defaultSkin}, Skeleton {@link Skeleton#skin}, and
  * <a href="http://esotericsoftware.com/spine-runtime-skins">Runtime skins</a> in the Spine Runtimes Guide. */
 public class Skin {
-	static private final Key lookup = new Key();
-
 	final String name;
-	final ObjectMap<Key, Attachment> attachments = new ObjectMap();
-	final Pool<Key> keyPool = new Pool(64) {
-		protected Object newObject () {
-			return new Key();
-		}
-	};
+	final NameIds nameIds;
+	SlotAttachments[] slots = new SlotAttachments[0];
 
+	/** Creates a skin with its own name ids. */
 	public Skin (String name) {
 		if (name == null) throw new IllegalArgumentException("name cannot be null.");
 		this.name = name;
+		nameIds = new NameIds();
 	}
 
-	/** Adds an attachment to the skin for the specified slot index and name. */
+	/** Creates a skin which shares name ids with the skeleton data's skins. Adding attachments with names new to the skeleton
+	 * data adds name ids to it, so this skin must not be modified while the skeleton data is used by other threads. */
+	public Skin (String name, SkeletonData skeletonData) {
+		if (name == null) throw new IllegalArgumentException("name cannot be null.");
+		if (skeletonData == null) throw new IllegalArgumentException("skeletonData cannot be null.");
+		this.name = name;
+		nameIds = skeletonData.attachmentNameIds;
+	}
+
+	/** Adds an attachment to the skin for the specified slot index and name, replacing any attachment with the same slot index and
+	 * name. */
 	public void addAttachment (int slotIndex, String name, Attachment attachment) {
 		if (attachment == null) throw new IllegalArgumentException("attachment cannot be null.");
 		if (slotIndex < 0) throw new IllegalArgumentException("slotIndex must be >= 0.");
-		Key key = keyPool.obtain();
-		key.set(slotIndex, name);
-		attachments.put(key, attachment);
+		if (name == null) throw new IllegalArgumentException("name cannot be null.");
+		if (slotIndex >= slots.length) {
+			SlotAttachments[] newSlots = new SlotAttachments[slotIndex + 1];
+			System.arraycopy(slots, 0, newSlots, 0, slots.length);
+			slots = newSlots;
+		}
+		SlotAttachments slot = slots[slotIndex];
+		if (slot == null) slots[slotIndex] = slot = new SlotAttachments();
+		slot.put(name, nameIds.add(name), attachment);
 	}
 
-	/** Returns the attachment for the specified slot index and name, or null. */
+	/** Returns the attachment for the specified slot index and name, or null. This method is thread safe, as long as the skin is
+	 * not being modified. */
 	public Attachment getAttachment (int slotIndex, String name) {
 		if (slotIndex < 0) throw new IllegalArgumentException("slotIndex must be >= 0.");
-		lookup.set(slotIndex, name);
-		return attachments.get(lookup);
+		if (name == null) throw new IllegalArgumentException("name cannot be null.");
+		if (slotIndex >= slots.length) return null;
+		SlotAttachments slot = slots[slotIndex];
+		if (slot == null) return null;
+		String[] names = slot.names;
+		for (int i = 0, n = slot.size; i < n; i++)
+			if (names[i].equals(name)) return slot.attachments[i];
+		return null;
+	}
+
+	/** Returns the attachment for the specified slot index and name id, or null. This method is thread safe, as long as the skin
+	 * is not being modified.
+	 * @param nameId See {@link #findNameId(String)}. */
+	public Attachment getAttachment (int slotIndex, int nameId) {
+		if (slotIndex < 0) throw new IllegalArgumentException("slotIndex must be >= 0.");
+		if (slotIndex >= slots.length) return null;
+		SlotAttachments slot = slots[slotIndex];
+		if (slot == null) return null;
+		int[] ids = slot.ids;
+		for (int i = 0, n = slot.size; i < n; i++)
+			if (ids[i] == nameId) return slot.attachments[i];
+		return null;
 	}
 
 	public void findNamesForSlot (int slotIndex, Array<String> names) {
 		if (names == null) throw new IllegalArgumentException("names cannot be null.");
 		if (slotIndex < 0) throw new IllegalArgumentException("slotIndex must be >= 0.");
-		for (Key key : attachments.keys())
-			if (key.slotIndex == slotIndex) names.add(key.name);
+		if (slotIndex >= slots.length) return;
+		SlotAttachments slot = slots[slotIndex];
+		if (slot != null) names.addAll(slot.names, 0, slot.size);
 	}
 
 	public void findAttachmentsForSlot (int slotIndex, Array<Attachment> attachments) {
 		if (attachments == null) throw new IllegalArgumentException("attachments cannot be null.");
 		if (slotIndex < 0) throw new IllegalArgumentException("slotIndex must be >= 0.");
-		for (Entry<Key, Attachment> entry : this.attachments.entries())
-			if (entry.key.slotIndex == slotIndex) attachments.add(entry.value);
+		if (slotIndex >= slots.length) return;
+		SlotAttachments slot = slots[slotIndex];
+		if (slot != null) attachments.addAll(slot.attachments, 0, slot.size);
 	}
 
 	public void clear () {
-		for (Key key : attachments.keys())
-			keyPool.free(key);
-		attachments.clear();
+		slots = new SlotAttachments[0];
 	}
 
 	/** The skin's name, which is unique within the skeleton. */
@@ -103,42 +139,85 @@ public class Skin {
 
 	/** Attach each attachment in this skin if the corresponding attachment in the old skin is currently attached. */
 	void attachAll (Skeleton skeleton, Skin oldSkin) {
-		for (Entry<Key, Attachment> entry : oldSkin.attachments.entries()) {
-			int slotIndex = entry.key.slotIndex;
-			Slot slot = skeleton.slots.get(slotIndex);
-			if (slot.attachment == entry.value) {
-				Attachment attachment = getAttachment(slotIndex, entry.key.name);
-				if (attachment != null) slot.setAttachment(attachment);
+		Array<Slot> slots = skeleton.slots;
+		SlotAttachments[] oldSlots = oldSkin.slots;
+		for (int i = 0, n = Math.min(slots.size, oldSlots.length); i < n; i++) {
+			SlotAttachments oldSlot = oldSlots[i];
+			if (oldSlot == null) continue;
+			Slot slot = slots.get(i);
+			Attachment[] oldAttachments = oldSlot.attachments;
+			for (int ii = 0, nn = oldSlot.size; ii < nn; ii++) {
+				if (oldAttachments[ii] == slot.attachment) {
+					Attachment attachment = oldSkin.nameIds == nameIds ? getAttachment(i, oldSlot.ids[ii])
+						: getAttachment(i, oldSlot.names[ii]);
+					if (attachment != null) slot.setAttachment(attachment);
+					break;
+				}
 			}
 		}
 	}
 
-	static class Key {
-		int slotIndex;
-		String name;
-		int hashCode;
-
-		public void set (int slotIndex, String name) {
-			if (name == null) throw new IllegalArgumentException("name cannot be null.");
-			this.slotIndex = slotIndex;
-			this.name = name;
-			hashCode = 31 * (31 + name.hashCode()) + slotIndex;
-		}
+	/** Returns the id of the attachment name, which can be used with {@link #getAttachment(int, int)} to find attachments without
+	 * comparing names. The id is the same for all skins sharing name ids with this skin. It is more efficient to cache the results
+	 * of this method than to call it multiple times. This method is thread safe, as long as no skin sharing name ids with this
+	 * skin is being modified.
+	 * @return -1 if no skin sharing name ids with this skin has an attachment with the name. */
+	public int findNameId (String name) {
+		if (name == null) throw new IllegalArgumentException("name cannot be null.");
+		return nameIds.ids.get(name, -1);
+	}
 
-		public int hashCode () {
-			return hashCode;
+	/** Assigns ids to attachment names, in the order the names are added. */
+	static class NameIds {
+		final ObjectIntMap<String> ids = new ObjectIntMap();
+		final Array<String> names = new Array();
+
+		int add (String name) {
+			int id = ids.get(name, -1);
+			if (id == -1) {
+				id = names.size;
+				ids.put(name, id);
+				names.add(name);
+			}
+			return id;
 		}
 
-		public boolean equals (Object object) {
-			if (object == null) return false;
-			Key other = (Key)object;
-			if (slotIndex != other.slotIndex) return false;
-			if (!name.equals(other.name)) return false;
-			return true;
+		/** @return May be null. */
+		String getName (int id) {
+			return id >= 0 && id < names.size ? names.get(id) : null;
 		}
+	}
 
-		public String toString () {
-			return slotIndex + ":" + name;
+	/** The attachments for a slot, stored in parallel arrays. */
+	static class SlotAttachments {
+		String[] names = new String[2];
+		int[] ids = new int[2];
+		Attachment[] attachments = new Attachment[2];
+		int size;
+
+		void put (String name, int id, Attachment attachment) {
+			int[] ids = this.ids;
+			for (int i = 0; i < size; i++) {
+				if (ids[i] == id) {
+					attachments[i] = attachment;
+					return;
+				}
+			}
+			if (size == ids.length) {
+				int capacity = size << 1;
+				String[] newNames = new String[capacity];
+				int[] newIds = new int[capacity];
+				Attachment[] newAttachments = new Attachment[capacity];
+				System.arraycopy(names, 0, newNames, 0, size);
+				System.arraycopy(ids, 0, newIds, 0, size);
+				System.arraycopy(attachments, 0, newAttachments, 0, size);
+				names = newNames;
+				this.ids = newIds;
+				attachments = newAttachments;
+			}
+			names[size] = name;
+			this.ids[size] = id;
+			attachments[size++] = attachment;
 		}
 	}
 }
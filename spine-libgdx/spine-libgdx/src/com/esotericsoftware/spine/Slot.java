@@ -46,6 +46,7 @@ public class Slot {
 	Attachment attachment;
 	private float attachmentTime;
 	private FloatArray attachmentVertices = new FloatArray();
+	int deformVersion;
 
 	public Slot (SlotData data, Bone bone) {
 		if (data == null) throw new IllegalArgumentException("data cannot be null.");
@@ -100,6 +101,7 @@ public class Slot {
 		this.attachment = attachment;
 		attachmentTime = bone.skeleton.time;
 		attachmentVertices.clear();
+		deformVersion++;
 	}
 
 	/** The time that has elapsed since the last time the attachment was set or cleared. Relies on Skeleton
@@ -123,6 +125,21 @@ public class Slot {
 	public void setAttachmentVertices (FloatArray attachmentVertices) {
 		if (attachmentVertices == null) throw new IllegalArgumentException("attachmentVertices cannot be null.");
 		this.attachmentVertices = attachmentVertices;
+		deformVersion++;
+	}
+
+	/** A number which changes when the {@link #attachmentVertices} may have changed, so computed vertices can be reused when it has
+	 * not changed. {@link DeformTimeline} changes it only when it changes the vertices, and setting the attachment changes it.
+	 * Code which modifies the attachment vertices directly must call {@link #deformChanged()}.
+	 * <p>
+	 * See {@link SkeletonVertexCache}. */
+	public int getDeformVersion () {
+		return deformVersion;
+	}
+
+	/** Changes the {@link #getDeformVersion() deform version}, indicating the {@link #attachmentVertices} were modified. */
+	public void deformChanged () {
+		deformVersion++;
 	}
 
 	/** Sets this slot to the setup pose. */
@@ -0,0 +1,172 @@
+/******************************************************************************
+ * Spine Runtimes Software License v2.5
+ *
+ * Copyright (c) 2013-2016, Esoteric Software
+ * All rights reserved.
+ *
+ * You are granted a perpetual, non-exclusive, non-sublicensable, and
+ * non-transferable license to use, install, execute, and perform the Spine
+ * Runtimes software and derivative works solely for personal or internal
+ * use. Without the written permission of Esoteric Software (see Section 2 of
+ * the Spine Software License Agreement), you may not (a) modify, translate,
+ * adapt, or develop new applications using the Spine Runtimes or otherwise
+ * create derivative works or improvements of the Spine Runtimes or (b) remove,
+ * delete, alter, or obscure any trademarks or any copyright, trademark, patent,
+ * or other intellectual property or proprietary rights notices on or in the
+ * Software, including any copy thereof. Redistributions in binary or source
+ * form must include this license and terms.
+ *
+ * THIS SOFTWARE IS PROVIDED BY ESOTERIC SOFTWARE "AS IS" AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO
+ * EVENT SHALL ESOTERIC SOFTWARE BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES, BUSINESS INTERRUPTION, OR LOSS OF
+ * USE, DATA, OR PROFITS) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ *****************************************************************************/
+
+
+package com.esotericsoftware.spine;
+
+import com.badlogic.gdx.utils.Array;
+import com.esotericsoftware.spine.Animation.ColorTimeline;
+import com.esotericsoftware.spine.Animation.CurveTimeline;
+import com.esotericsoftware.spine.Animation.RotateTimeline;
+import com.esotericsoftware.spine.Animation.ScaleTimeline;
+import com.esotericsoftware.spine.Animation.ShearTimeline;
+import com.esotericsoftware.spine.Animation.Timeline;
+import com.esotericsoftware.spine.Animation.TranslateTimeline;
+
+/** Reduces the memory used by animation timelines.
+ * <p>
+ * The Bezier curves of each {@link CurveTimeline} are moved to a table shared by all timelines compacted by this compactor.
+ * Linear and stepped key frames then use no curve storage, and identical curves, which are common because most keys use the
+ * same few curves, are stored once. When {@link #setQuantize(boolean) quantize} is true, rotate, translate, scale, shear, and
+ * color timelines also store each key frame's values in 16 bits.
+ * <p>
+ * Timelines are compacted in place and are applied the same way as before. Their curves cannot be changed afterward, and
+ * setting a frame of a quantized timeline first restores its full precision storage. Animations are usually
+ * compacted after loading, or when they are read by setting {@link SkeletonJson#setTimelineCompactor(TimelineCompactor)}.
+ * Animations must not be applied while they are being compacted. This class is thread safe. */
+public class TimelineCompactor {
+	static private final int CURVE_SIZE = CurveTimeline.CURVE_SIZE, MAX_CURVES = 65535 - 2;
+
+	float[] curves = new float[CURVE_SIZE * 16]; // x, y, ... for each curve.
+	private int curveCount;
+	private int[] table = new int[32]; // Curve index + 1, 0 when empty.
+	private volatile boolean quantize;
+
+	/** Compacts the timelines of each animation which is loaded. See {@link Animation#isLoaded()}. */
+	public void compact (SkeletonData skeletonData) {
+		if (skeletonData == null) throw new IllegalArgumentException("skeletonData cannot be null.");
+		Array<Animation> animations = skeletonData.animations;
+		for (int i = 0, n = animations.size; i < n; i++) {
+			Animation animation = animations.get(i);
+			if (animation.isLoaded()) compact(animation.timelines);
+		}
+	}
+
+	/** Compacts the timelines of the animation, reading them if the animation is not loaded. */
+	public void compact (Animation animation) {
+		if (animation == null) throw new IllegalArgumentException("animation cannot be null.");
+		compact(animation.getTimelines());
+	}
+
+	/** Compacts each timeline. */
+	public void compact (Array<Timeline> timelines) {
+		if (timelines == null) throw new IllegalArgumentException("timelines cannot be null.");
+		Object[] items = timelines.items;
+		for (int i = 0, n = timelines.size; i < n; i++)
+			compact((Timeline)items[i]);
+	}
+
+	/** Stores the curves of a {@link CurveTimeline} in the shared curve table and, if {@link #getQuantize()} is true, quantizes
+	 * the key frame values of rotate, translate, scale, shear, and color timelines. Other timelines are not changed. */
+	public void compact (Timeline timeline) {
+		if (timeline == null) throw new IllegalArgumentException("timeline cannot be null.");
+		if (!(timeline instanceof CurveTimeline)) return;
+		((CurveTimeline)timeline).compactCurves(this);
+		if (!quantize) return;
+		Class type = timeline.getClass();
+		if (type == RotateTimeline.class)
+			((RotateTimeline)timeline).quantize();
+		else if (type == TranslateTimeline.class || type == ScaleTimeline.class || type == ShearTimeline.class)
+			((TranslateTimeline)timeline).quantize();
+		else if (type == ColorTimeline.class) //
+			((ColorTimeline)timeline).quantize();
+	}
+
+	/** Returns the index of the curve in {@link #curves}, adding it if needed, or -1 if the table is full. */
+	synchronized int addCurve (float[] values, int offset) {
+		int hash = hash(values, offset);
+		int[] table = this.table;
+		int mask = table.length - 1;
+		for (int slot = hash & mask;; slot = (slot + 1) & mask) {
+			int entry = table[slot];
+			if (entry == 0) break;
+			if (equals(values, offset, (entry - 1) * CURVE_SIZE)) return entry - 1;
+		}
+
+		if (curveCount == MAX_CURVES) return -1;
+		int index = curveCount++;
+		if (curves.length < curveCount * CURVE_SIZE) {
+			// Timelines keep referencing the old array, which has the same values for the curves they use.
+			float[] newCurves = new float[curves.length << 1];
+			System.arraycopy(curves, 0, newCurves, 0, index * CURVE_SIZE);
+			curves = newCurves;
+		}
+		System.arraycopy(values, offset, curves, index * CURVE_SIZE, CURVE_SIZE);
+		if (curveCount << 1 > table.length) rehash(table.length << 1);
+		insert(hash, index);
+		return index;
+	}
+
+	private boolean equals (float[] values, int offset, int curveOffset) {
+		float[] curves = this.curves;
+		for (int i = 0; i < CURVE_SIZE; i++)
+			if (Float.floatToIntBits(values[offset + i]) != Float.floatToIntBits(curves[curveOffset + i])) return false;
+		return true;
+	}
+
+	private void insert (int hash, int index) {
+		int[] table = this.table;
+		int mask = table.length - 1;
+		int slot = hash & mask;
+		while (table[slot] != 0)
+			slot = (slot + 1) & mask;
+		table[slot] = index + 1;
+	}
+
+	private void rehash (int size) {
+		table = new int[size];
+		float[] curves = this.curves;
+		for (int index = 0, n = curveCount - 1; index < n; index++)
+			insert(hash(curves, index * CURVE_SIZE), index);
+	}
+
+	static private int hash (float[] values, int offset) {
+		int hash = 0;
+		for (int i = offset, n = offset + CURVE_SIZE; i < n; i++)
+			hash = hash * 31 + Float.floatToIntBits(values[i]);
+		return hash ^ hash >>> 16;
+	}
+
+	/** The number of distinct Bezier curves stored by this compactor. */
+	public synchronized int getCurveCount () {
+		return curveCount;
+	}
+
+	/** When true, the values of rotate, translate, scale, shear, and color timelines are quantized to 16 bits relative to the
+	 * range of each value in the timeline. The error for each key frame's value is at most 1/131070th of the difference between
+	 * the timeline's lowest and highest value, eg 0.003 degrees for a timeline rotating 360 degrees. Default is false. */
+	public boolean getQuantize () {
+		return quantize;
+	}
+
+	public void setQuantize (boolean quantize) {
+		this.quantize = quantize;
+	}
+}
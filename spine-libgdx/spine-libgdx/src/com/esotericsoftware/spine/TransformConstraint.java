@@ -142,7 +142,10 @@ public class TransformConstraint implements Constraint {
 				modified = true;
 			}
 
-			if (modified) bone.appliedValid = false;
+			if (modified) {
+				bone.appliedValid = false;
+				bone.worldVersion++;
+			}
 		}
 	}
 
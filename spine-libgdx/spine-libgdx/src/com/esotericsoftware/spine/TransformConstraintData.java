@@ -37,7 +37,7 @@ import com.badlogic.gdx.utils.Array;
  * See <a href="http://esotericsoftware.com/spine-transform-constraints">Transform constraints</a> in the Spine User Guide. */
 public class TransformConstraintData {
 	final String name;
-	int order;
+	int order, detail;
 	final Array<BoneData> bones = new Array();
 	BoneData target;
 	float rotateMix, translateMix, scaleMix, shearMix;
@@ -62,6 +62,16 @@ public class TransformConstraintData {
 		this.order = order;
 	}
 
+	/** The level of detail at which the transform constraint is updated. When {@link Skeleton#getDetail()} is less than this, the
+	 * constraint is not applied. See {@link BoneData#getDetail()}. */
+	public int getDetail () {
+		return detail;
+	}
+
+	public void setDetail (int detail) {
+		this.detail = detail;
+	}
+
 	/** The bones that will be modified by this transform constraint. */
 	public Array<BoneData> getBones () {
 		return bones;
@@ -30,6 +30,8 @@
 
 package com.esotericsoftware.spine.attachments;
 
+import com.esotericsoftware.spine.Skeleton;
+
 /** The base class for all attachments. */
 abstract public class Attachment {
 	String name;
@@ -44,6 +46,16 @@ abstract public class Attachment {
 		return name;
 	}
 
+	/** Returns a copy of the attachment which can be changed without affecting this attachment. Data that is not changed after
+	 * loading, such as vertices and triangles, is shared with the copy.
+	 * <p>
+	 * See {@link Skeleton#overrideAttachment(int, String)}.
+	 * @return May be null if this type of attachment cannot be copied. Subclasses that can be copied must override this
+	 *         method. */
+	public Attachment copy () {
+		return null;
+	}
+
 	public String toString () {
 		return getName();
 	}
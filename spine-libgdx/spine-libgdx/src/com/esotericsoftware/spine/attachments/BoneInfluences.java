@@ -0,0 +1,213 @@
+/******************************************************************************
+ * Spine Runtimes Software License v2.5
+ *
+ * Copyright (c) 2013-2016, Esoteric Software
+ * All rights reserved.
+ *
+ * You are granted a perpetual, non-exclusive, non-sublicensable, and
+ * non-transferable license to use, install, execute, and perform the Spine
+ * Runtimes software and derivative works solely for personal or internal
+ * use. Without the written permission of Esoteric Software (see Section 2 of
+ * the Spine Software License Agreement), you may not (a) modify, translate,
+ * adapt, or develop new applications using the Spine Runtimes or otherwise
+ * create derivative works or improvements of the Spine Runtimes or (b) remove,
+ * delete, alter, or obscure any trademarks or any copyright, trademark, patent,
+ * or other intellectual property or proprietary rights notices on or in the
+ * Software, including any copy thereof. Redistributions in binary or source
+ * form must include this license and terms.
+ *
+ * THIS SOFTWARE IS PROVIDED BY ESOTERIC SOFTWARE "AS IS" AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO
+ * EVENT SHALL ESOTERIC SOFTWARE BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES, BUSINESS INTERRUPTION, OR LOSS OF
+ * USE, DATA, OR PROFITS) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ *****************************************************************************/
+
+package com.esotericsoftware.spine.attachments;
+
+import com.badlogic.gdx.utils.reflect.ClassReflection;
+import com.esotericsoftware.spine.Bone;
+import com.esotericsoftware.spine.Skeleton;
+import com.esotericsoftware.spine.Slot;
+
+/** The bones and weights of a weighted {@link VertexAttachment}, stored with the same number of influences for each vertex so
+ * the vertices can be transformed without decoding the variable length {@link VertexAttachment#getBones()}. Vertices with fewer
+ * influences are padded with a weight of 0, which does not change the computed world vertices.
+ * <p>
+ * Each array has {@link #getWidth()} rows of {@link #getVertexCount()} entries: the entry for influence <code>i</code> of vertex
+ * <code>v</code> is at <code>i * vertexCount + v</code>, so the same influence of consecutive vertices is contiguous. The arrays
+ * are not modified after construction, so an instance can be shared by attachment copies and linked meshes and used by many
+ * threads.
+ * <p>
+ * The world vertices are computed by the {@link #getBackend() backend}, if any, else by
+ * {@link #computeWorldVertices(Object[], float[], int, int, float[], int, int)}. */
+public class BoneInfluences {
+	/** The maximum number of bones affecting a vertex. Attachments with more influences for any vertex use the variable length
+	 * layout. */
+	static public final int maxWidth = 4;
+
+	/** The class name of the Java Vector API backend in the optional spine-libgdx-vector project, which can be enabled using
+	 * <code>setBackend(loadBackend(vectorBackend))</code>. */
+	static public final String vectorBackend = "com.esotericsoftware.spine.vector.VectorSkinningBackend";
+
+	static private SkinningBackend backend;
+
+	final int width, vertexCount;
+	final int[] bones, deform;
+	final float[] x, y, weights;
+
+	private BoneInfluences (int width, int vertexCount) {
+		this.width = width;
+		this.vertexCount = vertexCount;
+		int length = width * vertexCount;
+		bones = new int[length];
+		deform = new int[length];
+		x = new float[length];
+		y = new float[length];
+		weights = new float[length];
+	}
+
+	/** Returns the fixed width layout for the specified bones and weighted vertices, or null if the vertices are not weighted or
+	 * any vertex is affected by more than {@link #maxWidth} bones. */
+	static BoneInfluences create (int[] bones, float[] vertices) {
+		if (bones == null || vertices == null) return null;
+		int width = 0, vertexCount = 0;
+		for (int v = 0, n = bones.length; v < n; v += bones[v] + 1, vertexCount++)
+			width = Math.max(width, bones[v]);
+		if (width == 0 || width > maxWidth) return null;
+
+		BoneInfluences influences = new BoneInfluences(width, vertexCount);
+		for (int v = 0, vertex = 0, e = 0, n = bones.length; v < n; vertex++) {
+			int count = bones[v++], bone = 0, f = 0;
+			for (int i = 0; i < count; i++, v++, e++) {
+				int ii = i * vertexCount + vertex;
+				bone = bones[v];
+				f = e << 1;
+				influences.bones[ii] = bone;
+				influences.deform[ii] = f;
+				influences.x[ii] = vertices[e * 3];
+				influences.y[ii] = vertices[e * 3 + 1];
+				influences.weights[ii] = vertices[e * 3 + 2];
+			}
+			// Padding uses the last bone and deform index of the vertex, with a weight of 0.
+			for (int i = count; i < width; i++) {
+				int ii = i * vertexCount + vertex;
+				influences.bones[ii] = bone;
+				influences.deform[ii] = f;
+			}
+		}
+		return influences;
+	}
+
+	/** Computes world vertices using the backend, if any. */
+	void computeWorldVertices (Slot slot, float[] deform, int start, int end, float[] worldVertices, int offset, int stride) {
+		SkinningBackend backend = BoneInfluences.backend;
+		if (backend != null)
+			backend.computeWorldVertices(slot, this, deform, start, end, worldVertices, offset, stride);
+		else
+			computeWorldVertices(slot.getSkeleton().getBones().items, deform, start, end, worldVertices, offset, stride);
+	}
+
+	/** Computes world vertices the same as {@link VertexAttachment#computeWorldVertices(Slot, int, int, float[], int, int)},
+	 * summing the influences of each vertex in the same order so the results are identical. Backends may use this method for
+	 * vertices they do not process.
+	 * @param skeletonBones The {@link Skeleton#getBones()} items.
+	 * @param deform The slot's {@link Slot#getAttachmentVertices()} items, or null if the slot has none.
+	 * @param start The index of the first vertex to transform.
+	 * @param end The index after the last vertex to transform.
+	 * @param offset The <code>worldVertices</code> index to write the first vertex.
+	 * @param stride The number of <code>worldVertices</code> entries between the value pairs written. */
+	public void computeWorldVertices (Object[] skeletonBones, float[] deform, int start, int end, float[] worldVertices,
+		int offset, int stride) {
+		int vertexCount = this.vertexCount, length = width * vertexCount;
+		int[] bones = this.bones;
+		float[] x = this.x, y = this.y, weights = this.weights;
+		if (deform == null) {
+			for (int v = start, w = offset; v < end; v++, w += stride) {
+				float wx = 0, wy = 0;
+				for (int i = v, n = v + length; i < n; i += vertexCount) {
+					Bone bone = (Bone)skeletonBones[bones[i]];
+					float vx = x[i], vy = y[i], weight = weights[i];
+					wx += (vx * bone.getA() + vy * bone.getB() + bone.getWorldX()) * weight;
+					wy += (vx * bone.getC() + vy * bone.getD() + bone.getWorldY()) * weight;
+				}
+				worldVertices[w] = wx;
+				worldVertices[w + 1] = wy;
+			}
+		} else {
+			int[] deformIndices = this.deform;
+			for (int v = start, w = offset; v < end; v++, w += stride) {
+				float wx = 0, wy = 0;
+				for (int i = v, n = v + length; i < n; i += vertexCount) {
+					Bone bone = (Bone)skeletonBones[bones[i]];
+					int f = deformIndices[i];
+					float vx = x[i] + deform[f], vy = y[i] + deform[f + 1], weight = weights[i];
+					wx += (vx * bone.getA() + vy * bone.getB() + bone.getWorldX()) * weight;
+					wy += (vx * bone.getC() + vy * bone.getD() + bone.getWorldY()) * weight;
+				}
+				worldVertices[w] = wx;
+				worldVertices[w + 1] = wy;
+			}
+		}
+	}
+
+	/** The number of influences stored for each vertex, from 1 to {@link #maxWidth}. */
+	public int getWidth () {
+		return width;
+	}
+
+	public int getVertexCount () {
+		return vertexCount;
+	}
+
+	/** For each influence, the index of the bone in {@link Skeleton#getBones()}. */
+	public int[] getBones () {
+		return bones;
+	}
+
+	/** For each influence, the index of the x value in the slot's {@link Slot#getAttachmentVertices()}. The y value follows it. */
+	public int[] getDeform () {
+		return deform;
+	}
+
+	/** For each influence, the x position in the bone's coordinate system. */
+	public float[] getX () {
+		return x;
+	}
+
+	/** For each influence, the y position in the bone's coordinate system. */
+	public float[] getY () {
+		return y;
+	}
+
+	/** For each influence, the weight. Padding has a weight of 0. */
+	public float[] getWeights () {
+		return weights;
+	}
+
+	/** Returns a new instance of the specified backend class, or null if the class is not found or cannot be used, eg because
+	 * a module it requires is not available. */
+	static public SkinningBackend loadBackend (String className) {
+		try {
+			return (SkinningBackend)ClassReflection.newInstance(ClassReflection.forName(className));
+		} catch (Throwable ignored) {
+			return null;
+		}
+	}
+
+	/** The backend used to compute world vertices for all attachments with bone influences, or null to use
+	 * {@link #computeWorldVertices(Object[], float[], int, int, float[], int, int)}. Defaults to null. */
+	static public SkinningBackend getBackend () {
+		return backend;
+	}
+
+	/** @param backend May be null. */
+	static public void setBackend (SkinningBackend backend) {
+		BoneInfluences.backend = backend;
+	}
+}
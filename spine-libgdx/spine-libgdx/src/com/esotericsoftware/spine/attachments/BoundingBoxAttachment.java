@@ -51,4 +51,11 @@ public class BoundingBoxAttachment extends VertexAttachment {
 	public Color getColor () {
 		return color;
 	}
+
+	public Attachment copy () {
+		BoundingBoxAttachment copy = new BoundingBoxAttachment(name);
+		copyTo(copy);
+		copy.color.set(color);
+		return copy;
+	}
 }
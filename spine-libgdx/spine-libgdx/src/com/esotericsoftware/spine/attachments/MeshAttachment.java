@@ -33,10 +33,8 @@ package com.esotericsoftware.spine.attachments;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas.AtlasRegion;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.utils.FloatArray;
 import com.badlogic.gdx.utils.NumberUtils;
 import com.esotericsoftware.spine.Animation.DeformTimeline;
-import com.esotericsoftware.spine.Bone;
 import com.esotericsoftware.spine.Skeleton;
 import com.esotericsoftware.spine.Slot;
 
@@ -47,7 +45,7 @@ import com.esotericsoftware.spine.Slot;
 public class MeshAttachment extends VertexAttachment {
 	private TextureRegion region;
 	private String path;
-	private float[] regionUVs, worldVertices;
+	private float[] regionUVs, uvs, worldVertices;
 	private short[] triangles;
 	private final Color color = new Color(1, 1, 1, 1);
 	private int hullLength;
@@ -72,13 +70,15 @@ public class MeshAttachment extends VertexAttachment {
 		return region;
 	}
 
-	/** Calculates {@link #worldVertices} UVs using {@link #regionUVs} and the {@link #region}. Must be called after changing the
-	 * region UVs or region. */
+	/** Calculates {@link #uvs} using {@link #regionUVs} and the {@link #region}. Must be called after changing the region UVs or
+	 * region. */
 	public void updateUVs () {
 		float[] regionUVs = this.regionUVs;
 		int verticesLength = regionUVs.length;
-		int worldVerticesLength = (verticesLength >> 1) * 5;
-		if (worldVertices == null || worldVertices.length != worldVerticesLength) worldVertices = new float[worldVerticesLength];
+		if (uvs == null || uvs.length != verticesLength) uvs = new float[verticesLength];
+		int renderVerticesLength = (verticesLength >> 1) * 5;
+		if (worldVertices == null || worldVertices.length != renderVerticesLength) worldVertices = new float[renderVerticesLength];
+		float[] uvs = this.uvs;
 
 		float u, v, width, height;
 		if (region == null) {
@@ -91,20 +91,35 @@ public class MeshAttachment extends VertexAttachment {
 			height = region.getV2() - v;
 		}
 		if (region instanceof AtlasRegion && ((AtlasRegion)region).rotate) {
-			for (int i = 0, w = 3; i < verticesLength; i += 2, w += 5) {
-				worldVertices[w] = u + regionUVs[i + 1] * width;
-				worldVertices[w + 1] = v + height - regionUVs[i] * height;
+			for (int i = 0; i < verticesLength; i += 2) {
+				uvs[i] = u + regionUVs[i + 1] * width;
+				uvs[i + 1] = v + height - regionUVs[i] * height;
 			}
 		} else {
-			for (int i = 0, w = 3; i < verticesLength; i += 2, w += 5) {
-				worldVertices[w] = u + regionUVs[i] * width;
-				worldVertices[w + 1] = v + regionUVs[i + 1] * height;
+			for (int i = 0; i < verticesLength; i += 2) {
+				uvs[i] = u + regionUVs[i] * width;
+				uvs[i + 1] = v + regionUVs[i + 1] * height;
 			}
 		}
 	}
 
-	/** @return The updated world vertices. */
+	/** Computes the world vertices using a buffer owned by this attachment. The buffer is shared by all skeletons using this
+	 * attachment, so this method is not thread safe and the returned vertices are only valid until the next call.
+	 * <p>
+	 * See {@link #updateWorldVertices(Slot, boolean, float[], int)}.
+	 * @return The updated world vertices. */
 	public float[] updateWorldVertices (Slot slot, boolean premultipliedAlpha) {
+		updateWorldVertices(slot, premultipliedAlpha, worldVertices, 0);
+		return worldVertices;
+	}
+
+	/** Computes the world vertices for rendering the mesh. The attachment is not modified, so this method can be called for many
+	 * skeletons using this attachment at the same time.
+	 * @param worldVertices The output world vertices. For each vertex, the <code>x,y</code> position, the packed color, and the
+	 *           <code>u,v</code> texture coordinates. Must have a length >= <code>offset</code> +
+	 *           {@link #getRenderVerticesLength()}.
+	 * @param offset The <code>worldVertices</code> index to begin writing values. */
+	public void updateWorldVertices (Slot slot, boolean premultipliedAlpha, float[] worldVertices, int offset) {
 		Skeleton skeleton = slot.getSkeleton();
 		Color skeletonColor = skeleton.getColor(), slotColor = slot.getColor(), meshColor = color;
 		float alpha = skeletonColor.a * slotColor.a * meshColor.a * 255;
@@ -115,67 +130,59 @@ public class MeshAttachment extends VertexAttachment {
 				| ((int)(skeletonColor.g * slotColor.g * meshColor.g * multiplier) << 8) //
 				| (int)(skeletonColor.r * slotColor.r * meshColor.r * multiplier));
 
-		FloatArray deformArray = slot.getAttachmentVertices();
-		float[] vertices = this.vertices, worldVertices = this.worldVertices;
-		int[] bones = this.bones;
-		if (bones == null) {
-			int verticesLength = vertices.length;
-			if (deformArray.size > 0) vertices = deformArray.items;
-			Bone bone = slot.getBone();
-			float x = bone.getWorldX(), y = bone.getWorldY();
-			float a = bone.getA(), b = bone.getB(), c = bone.getC(), d = bone.getD();
-			for (int v = 0, w = 0; v < verticesLength; v += 2, w += 5) {
-				float vx = vertices[v], vy = vertices[v + 1];
-				worldVertices[w] = vx * a + vy * b + x;
-				worldVertices[w + 1] = vx * c + vy * d + y;
-				worldVertices[w + 2] = color;
-			}
-			return worldVertices;
-		}
-		Object[] skeletonBones = skeleton.getBones().items;
-		if (deformArray.size == 0) {
-			for (int w = 0, v = 0, b = 0, n = bones.length; v < n; w += 5) {
-				float wx = 0, wy = 0;
-				int nn = bones[v++] + v;
-				for (; v < nn; v++, b += 3) {
-					Bone bone = (Bone)skeletonBones[bones[v]];
-					float vx = vertices[b], vy = vertices[b + 1], weight = vertices[b + 2];
-					wx += (vx * bone.getA() + vy * bone.getB() + bone.getWorldX()) * weight;
-					wy += (vx * bone.getC() + vy * bone.getD() + bone.getWorldY()) * weight;
-				}
-				worldVertices[w] = wx;
-				worldVertices[w + 1] = wy;
-				worldVertices[w + 2] = color;
-			}
-		} else {
-			float[] deform = deformArray.items;
-			for (int w = 0, v = 0, b = 0, f = 0, n = bones.length; v < n; w += 5) {
-				float wx = 0, wy = 0;
-				int nn = bones[v++] + v;
-				for (; v < nn; v++, b += 3, f += 2) {
-					Bone bone = (Bone)skeletonBones[bones[v]];
-					float vx = vertices[b] + deform[f], vy = vertices[b + 1] + deform[f + 1], weight = vertices[b + 2];
-					wx += (vx * bone.getA() + vy * bone.getB() + bone.getWorldX()) * weight;
-					wy += (vx * bone.getC() + vy * bone.getD() + bone.getWorldY()) * weight;
-				}
-				worldVertices[w] = wx;
-				worldVertices[w + 1] = wy;
-				worldVertices[w + 2] = color;
-			}
+		computeWorldVertices(slot, 0, worldVerticesLength, worldVertices, offset, 5);
+
+		float[] uvs = this.uvs;
+		for (int i = 0, w = offset + 2, n = uvs.length; i < n; i += 2, w += 5) {
+			worldVertices[w] = color;
+			worldVertices[w + 1] = uvs[i];
+			worldVertices[w + 2] = uvs[i + 1];
 		}
-		return worldVertices;
 	}
 
-	/** Returns true if the <code>sourceAttachment</code> is this mesh, else returns true if {@link #inheritDeform} is true and the
-	 * the <code>sourceAttachment</code> is the {@link #parentMesh}. */
+	/** The number of values written by {@link #updateWorldVertices(Slot, boolean, float[], int)}, 5 for each vertex. */
+	public int getRenderVerticesLength () {
+		return (regionUVs.length >> 1) * 5;
+	}
+
+	/** Returns true if the <code>sourceAttachment</code> is this mesh or the mesh this mesh was copied from, else returns true if
+	 * {@link #inheritDeform} is true and the the <code>sourceAttachment</code> is the {@link #parentMesh}. */
 	public boolean applyDeform (VertexAttachment sourceAttachment) {
-		return this == sourceAttachment || (inheritDeform && parentMesh == sourceAttachment);
+		return super.applyDeform(sourceAttachment) || (inheritDeform && parentMesh == sourceAttachment);
 	}
 
+	public Attachment copy () {
+		MeshAttachment copy = new MeshAttachment(name);
+		copyTo(copy);
+		copy.region = region;
+		copy.path = path;
+		copy.regionUVs = regionUVs;
+		if (uvs != null) {
+			copy.uvs = uvs.clone();
+			copy.worldVertices = new float[worldVertices.length];
+		}
+		copy.triangles = triangles;
+		copy.color.set(color);
+		copy.hullLength = hullLength;
+		copy.parentMesh = parentMesh;
+		copy.inheritDeform = inheritDeform;
+		copy.edges = edges;
+		copy.width = width;
+		copy.height = height;
+		return copy;
+	}
+
+	/** Returns the vertices computed by the last call to {@link #updateWorldVertices(Slot, boolean)}. The array is allocated by
+	 * {@link #updateUVs()}. */
 	public float[] getWorldVertices () {
 		return worldVertices;
 	}
 
+	/** The <code>u,v</code> texture coordinates for each vertex, computed by {@link #updateUVs()}. */
+	public float[] getUVs () {
+		return uvs;
+	}
+
 	/** Triplets of vertex indices which describe the mesh's triangulation. */
 	public short[] getTriangles () {
 		return triangles;
@@ -262,6 +269,7 @@ public class MeshAttachment extends VertexAttachment {
 			triangles = parentMesh.triangles;
 			hullLength = parentMesh.hullLength;
 			worldVerticesLength = parentMesh.worldVerticesLength;
+			influences = parentMesh.influences;
 			edges = parentMesh.edges;
 			width = parentMesh.width;
 			height = parentMesh.height;
@@ -80,4 +80,14 @@ public class PathAttachment extends VertexAttachment {
 	public Color getColor () {
 		return color;
 	}
+
+	public Attachment copy () {
+		PathAttachment copy = new PathAttachment(name);
+		copyTo(copy);
+		copy.lengths = lengths;
+		copy.closed = closed;
+		copy.constantSpeed = constantSpeed;
+		copy.color.set(color);
+		return copy;
+	}
 }
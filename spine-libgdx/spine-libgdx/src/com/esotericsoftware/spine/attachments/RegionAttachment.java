@@ -33,6 +33,7 @@ package com.esotericsoftware.spine.attachments;
 import static com.badlogic.gdx.graphics.g2d.Batch.*;
 
 import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas.AtlasRegion;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.MathUtils;
@@ -57,8 +58,9 @@ public class RegionAttachment extends Attachment {
 	private TextureRegion region;
 	private String path;
 	private float x, y, scaleX = 1, scaleY = 1, rotation, width, height;
-	private final float[] vertices = new float[20];
+	private final float[] uvs = new float[8];
 	private final float[] offset = new float[8];
+	private final float[] worldVertices = new float[20];
 	private final Color color = new Color(1, 1, 1, 1);
 
 	public RegionAttachment (String name) {
@@ -120,25 +122,30 @@ public class RegionAttachment extends Attachment {
 	public void setRegion (TextureRegion region) {
 		if (region == null) throw new IllegalArgumentException("region cannot be null.");
 		this.region = region;
-		float[] vertices = this.vertices;
+		setUVs(region, uvs, 0);
+	}
+
+	/** Stores the region's 4 pairs of <code>u,v</code> texture coordinates, in the order bottom right, bottom left, upper left,
+	 * upper right. */
+	static void setUVs (TextureRegion region, float[] uvs, int offset) {
 		if (region instanceof AtlasRegion && ((AtlasRegion)region).rotate) {
-			vertices[U3] = region.getU();
-			vertices[V3] = region.getV2();
-			vertices[U4] = region.getU();
-			vertices[V4] = region.getV();
-			vertices[U1] = region.getU2();
-			vertices[V1] = region.getV();
-			vertices[U2] = region.getU2();
-			vertices[V2] = region.getV2();
+			uvs[offset + 4] = region.getU();
+			uvs[offset + 5] = region.getV2();
+			uvs[offset + 6] = region.getU();
+			uvs[offset + 7] = region.getV();
+			uvs[offset] = region.getU2();
+			uvs[offset + 1] = region.getV();
+			uvs[offset + 2] = region.getU2();
+			uvs[offset + 3] = region.getV2();
 		} else {
-			vertices[U2] = region.getU();
-			vertices[V2] = region.getV2();
-			vertices[U3] = region.getU();
-			vertices[V3] = region.getV();
-			vertices[U4] = region.getU2();
-			vertices[V4] = region.getV();
-			vertices[U1] = region.getU2();
-			vertices[V1] = region.getV2();
+			uvs[offset + 2] = region.getU();
+			uvs[offset + 3] = region.getV2();
+			uvs[offset + 4] = region.getU();
+			uvs[offset + 5] = region.getV();
+			uvs[offset + 6] = region.getU2();
+			uvs[offset + 7] = region.getV();
+			uvs[offset] = region.getU2();
+			uvs[offset + 1] = region.getV2();
 		}
 	}
 
@@ -147,8 +154,44 @@ public class RegionAttachment extends Attachment {
 		return region;
 	}
 
-	/** @return The updated world vertices. */
+	public Attachment copy () {
+		RegionAttachment copy = new RegionAttachment(name);
+		copyTo(copy);
+		return copy;
+	}
+
+	/** Copies this attachment's settings, region, UVs, and offset to the specified attachment. */
+	void copyTo (RegionAttachment attachment) {
+		attachment.region = region;
+		attachment.path = path;
+		attachment.x = x;
+		attachment.y = y;
+		attachment.scaleX = scaleX;
+		attachment.scaleY = scaleY;
+		attachment.rotation = rotation;
+		attachment.width = width;
+		attachment.height = height;
+		System.arraycopy(uvs, 0, attachment.uvs, 0, 8);
+		System.arraycopy(offset, 0, attachment.offset, 0, 8);
+		attachment.color.set(color);
+	}
+
+	/** Computes the world vertices using a buffer owned by this attachment. The buffer is shared by all skeletons using this
+	 * attachment, so this method is not thread safe and the returned vertices are only valid until the next call.
+	 * <p>
+	 * See {@link #updateWorldVertices(Slot, boolean, float[], int)}.
+	 * @return The updated world vertices. */
 	public float[] updateWorldVertices (Slot slot, boolean premultipliedAlpha) {
+		updateWorldVertices(slot, premultipliedAlpha, worldVertices, 0);
+		return worldVertices;
+	}
+
+	/** Computes the world vertices for rendering the region with a {@link Batch}. The attachment is not modified, so this method
+	 * can be called for many skeletons using this attachment at the same time.
+	 * @param worldVertices The output world vertices, 20 values: for each of the 4 vertices, the <code>x,y</code> position, the
+	 *           packed color, and the <code>u,v</code> texture coordinates. Must have a length >= <code>offset</code> + 20.
+	 * @param offset The <code>worldVertices</code> index to begin writing values. */
+	public void updateWorldVertices (Slot slot, boolean premultipliedAlpha, float[] worldVertices, int offset) {
 		Skeleton skeleton = slot.getSkeleton();
 		Color skeletonColor = skeleton.getColor();
 		Color slotColor = slot.getColor();
@@ -161,41 +204,72 @@ public class RegionAttachment extends Attachment {
 				| ((int)(skeletonColor.g * slotColor.g * regionColor.g * multiplier) << 8) //
 				| (int)(skeletonColor.r * slotColor.r * regionColor.r * multiplier));
 
-		float[] vertices = this.vertices;
-		float[] offset = this.offset;
-		Bone bone = slot.getBone();
+		computeWorldVertices(slot.getBone(), worldVertices, offset, 5);
+
+		float[] uvs = this.uvs;
+		worldVertices[offset + C1] = color;
+		worldVertices[offset + U1] = uvs[0];
+		worldVertices[offset + V1] = uvs[1];
+		worldVertices[offset + C2] = color;
+		worldVertices[offset + U2] = uvs[2];
+		worldVertices[offset + V2] = uvs[3];
+		worldVertices[offset + C3] = color;
+		worldVertices[offset + U3] = uvs[4];
+		worldVertices[offset + V3] = uvs[5];
+		worldVertices[offset + C4] = color;
+		worldVertices[offset + U4] = uvs[6];
+		worldVertices[offset + V4] = uvs[7];
+	}
+
+	/** Transforms the attachment's four vertices to world coordinates. The vertices are written in the order bottom right, bottom
+	 * left, upper left, upper right.
+	 * <p>
+	 * See <a href="http://esotericsoftware.com/spine-runtime-skeletons#World-transforms">World transforms</a> in the Spine
+	 * Runtimes Guide.
+	 * @param worldVertices The output world vertices. Must have a length >= <code>offset</code> + 4 * <code>stride</code>.
+	 * @param offset The <code>worldVertices</code> index to begin writing values.
+	 * @param stride The number of <code>worldVertices</code> entries between the value pairs written. */
+	public void computeWorldVertices (Bone bone, float[] worldVertices, int offset, int stride) {
+		float[] vertexOffset = this.offset;
 		float x = bone.getWorldX(), y = bone.getWorldY();
 		float a = bone.getA(), b = bone.getB(), c = bone.getC(), d = bone.getD();
 		float offsetX, offsetY;
 
-		offsetX = offset[BRX];
-		offsetY = offset[BRY];
-		vertices[X1] = offsetX * a + offsetY * b + x; // br
-		vertices[Y1] = offsetX * c + offsetY * d + y;
-		vertices[C1] = color;
-
-		offsetX = offset[BLX];
-		offsetY = offset[BLY];
-		vertices[X2] = offsetX * a + offsetY * b + x; // bl
-		vertices[Y2] = offsetX * c + offsetY * d + y;
-		vertices[C2] = color;
-
-		offsetX = offset[ULX];
-		offsetY = offset[ULY];
-		vertices[X3] = offsetX * a + offsetY * b + x; // ul
-		vertices[Y3] = offsetX * c + offsetY * d + y;
-		vertices[C3] = color;
-
-		offsetX = offset[URX];
-		offsetY = offset[URY];
-		vertices[X4] = offsetX * a + offsetY * b + x; // ur
-		vertices[Y4] = offsetX * c + offsetY * d + y;
-		vertices[C4] = color;
-		return vertices;
+		offsetX = vertexOffset[BRX];
+		offsetY = vertexOffset[BRY];
+		worldVertices[offset] = offsetX * a + offsetY * b + x; // br
+		worldVertices[offset + 1] = offsetX * c + offsetY * d + y;
+		offset += stride;
+
+		offsetX = vertexOffset[BLX];
+		offsetY = vertexOffset[BLY];
+		worldVertices[offset] = offsetX * a + offsetY * b + x; // bl
+		worldVertices[offset + 1] = offsetX * c + offsetY * d + y;
+		offset += stride;
+
+		offsetX = vertexOffset[ULX];
+		offsetY = vertexOffset[ULY];
+		worldVertices[offset] = offsetX * a + offsetY * b + x; // ul
+		worldVertices[offset + 1] = offsetX * c + offsetY * d + y;
+		offset += stride;
+
+		offsetX = vertexOffset[URX];
+		offsetY = vertexOffset[URY];
+		worldVertices[offset] = offsetX * a + offsetY * b + x; // ur
+		worldVertices[offset + 1] = offsetX * c + offsetY * d + y;
 	}
 
+	/** Returns the vertices computed by the last call to {@link #updateWorldVertices(Slot, boolean)}. */
 	public float[] getWorldVertices () {
-		return vertices;
+		return worldVertices;
+	}
+
+	/** For each of the 4 vertices, a pair of <code>u,v</code> texture coordinates, in the order bottom right, bottom left, upper
+	 * left, upper right.
+	 * <p>
+	 * See {@link #setRegion(TextureRegion)}. */
+	public float[] getUVs () {
+		return uvs;
 	}
 
 	/** For each of the 4 vertices, a pair of <code>x,y</code> values that is the local position of the vertex.
@@ -30,25 +30,46 @@
 
 package com.esotericsoftware.spine.attachments;
 
+import static com.badlogic.gdx.graphics.g2d.Batch.*;
+
 import com.esotericsoftware.spine.Slot;
 
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.MathUtils;
 
-/** Attachment that displays various texture regions over time. */
+/** Attachment that displays various texture regions over time. The frame is chosen using the slot's
+ * {@link Slot#getAttachmentTime() attachment time} and only its texture coordinates are written to the world vertices, so the
+ * regions must be on the same texture as the attachment's {@link #getRegion() region}, which is used to draw it. */
 public class RegionSequenceAttachment extends RegionAttachment {
 	private Mode mode;
 	private float frameTime;
 	private TextureRegion[] regions;
+	private float[] frameUVs;
 
 	public RegionSequenceAttachment (String name) {
 		super(name);
 	}
 
-	public float[] updateWorldVertices (Slot slot, boolean premultipliedAlpha) {
+	/** Computes the world vertices using the texture coordinates of the frame for the slot's attachment time. The attachment is
+	 * not modified, so this method can be called for many skeletons using this attachment at the same time. */
+	public void updateWorldVertices (Slot slot, boolean premultipliedAlpha, float[] worldVertices, int offset) {
 		if (regions == null) throw new IllegalStateException("Regions have not been set: " + this);
+		super.updateWorldVertices(slot, premultipliedAlpha, worldVertices, offset);
+
+		float[] uvs = frameUVs;
+		int i = getFrameIndex(slot.getAttachmentTime()) << 3;
+		worldVertices[offset + U1] = uvs[i];
+		worldVertices[offset + V1] = uvs[i + 1];
+		worldVertices[offset + U2] = uvs[i + 2];
+		worldVertices[offset + V2] = uvs[i + 3];
+		worldVertices[offset + U3] = uvs[i + 4];
+		worldVertices[offset + V3] = uvs[i + 5];
+		worldVertices[offset + U4] = uvs[i + 6];
+		worldVertices[offset + V4] = uvs[i + 7];
+	}
 
-		int frameIndex = (int)(slot.getAttachmentTime() / frameTime);
+	private int getFrameIndex (float time) {
+		int frameIndex = (int)(time / frameTime);
 		switch (mode) {
 		case forward:
 			frameIndex = Math.min(regions.length - 1, frameIndex);
@@ -71,9 +92,17 @@ public class RegionSequenceAttachment extends RegionAttachment {
 			frameIndex = regions.length - frameIndex - 1;
 			break;
 		}
-		setRegion(regions[frameIndex]);
+		return frameIndex;
+	}
 
-		return super.updateWorldVertices(slot, premultipliedAlpha);
+	public Attachment copy () {
+		RegionSequenceAttachment copy = new RegionSequenceAttachment(name);
+		copyTo(copy);
+		copy.mode = mode;
+		copy.frameTime = frameTime;
+		copy.regions = regions;
+		copy.frameUVs = frameUVs;
+		return copy;
 	}
 
 	public TextureRegion[] getRegions () {
@@ -81,8 +110,17 @@ public class RegionSequenceAttachment extends RegionAttachment {
 		return regions;
 	}
 
+	/** Sets the frames and computes their texture coordinates. Must be called again after changing the regions. */
 	public void setRegions (TextureRegion[] regions) {
 		this.regions = regions;
+		if (regions == null) {
+			frameUVs = null;
+			return;
+		}
+		float[] frameUVs = new float[regions.length << 3];
+		for (int i = 0, n = regions.length; i < n; i++)
+			setUVs(regions[i], frameUVs, i << 3);
+		this.frameUVs = frameUVs;
 	}
 
 	/** Sets the time in seconds each frame is shown. */
@@ -49,4 +49,11 @@ public class SkeletonAttachment extends Attachment {
 	public void setSkeleton (Skeleton skeleton) {
 		this.skeleton = skeleton;
 	}
+
+	/** Returns a copy which uses the same skeleton. */
+	public Attachment copy () {
+		SkeletonAttachment copy = new SkeletonAttachment(name);
+		copy.skeleton = skeleton;
+		return copy;
+	}
 }
@@ -33,6 +33,8 @@ package com.esotericsoftware.spine.attachments;
 import com.badlogic.gdx.utils.FloatArray;
 import com.esotericsoftware.spine.Bone;
 import com.esotericsoftware.spine.Skeleton;
+import com.esotericsoftware.spine.SkeletonBinary;
+import com.esotericsoftware.spine.SkeletonJson;
 import com.esotericsoftware.spine.Slot;
 
 /** Base class for an attachment with vertices that are transformed by one or more bones and can be deformed by a slot's
@@ -41,6 +43,8 @@ public class VertexAttachment extends Attachment {
 	int[] bones;
 	float[] vertices;
 	int worldVerticesLength;
+	VertexAttachment copyOf;
+	BoneInfluences influences;
 
 	public VertexAttachment (String name) {
 		super(name);
@@ -49,11 +53,18 @@ public class VertexAttachment extends Attachment {
 	/** Transforms the attachment's local {@link #getVertices()} to world coordinates, using 0 for <code>start</code> and
 	 * <code>offset</code>.
 	 * <p>
-	 * See {@link #computeWorldVertices(Slot, int, int, float[], int)}. */
+	 * See {@link #computeWorldVertices(Slot, int, int, float[], int, int)}. */
 	public void computeWorldVertices (Slot slot, float[] worldVertices) {
 		computeWorldVertices(slot, 0, worldVerticesLength, worldVertices, 0);
 	}
 
+	/** Transforms the attachment's local {@link #getVertices()} to world coordinates, using 2 for the <code>stride</code>.
+	 * <p>
+	 * See {@link #computeWorldVertices(Slot, int, int, float[], int, int)}. */
+	public void computeWorldVertices (Slot slot, int start, int count, float[] worldVertices, int offset) {
+		computeWorldVertices(slot, start, count, worldVertices, offset, 2);
+	}
+
 	/** Transforms the attachment's local {@link #getVertices()} to world coordinates. If the slot has
 	 * {@link Slot#getAttachmentVertices()}, they are used to deform the vertices.
 	 * <p>
@@ -61,10 +72,12 @@ public class VertexAttachment extends Attachment {
 	 * Runtimes Guide.
 	 * @param start The index of the first {@link #getVertices()} value to transform. Each vertex has 2 values, x and y.
 	 * @param count The number of world vertex values to output. Must be <= {@link #getWorldVerticesLength()} - <code>start</code>.
-	 * @param worldVertices The output world vertices. Must have a length >= <code>offset</code> + <code>count</code>.
-	 * @param offset The <code>worldVertices</code> index to begin writing values. */
-	public void computeWorldVertices (Slot slot, int start, int count, float[] worldVertices, int offset) {
-		count += offset;
+	 * @param worldVertices The output world vertices. Must have a length >= <code>offset</code> + <code>count</code> *
+	 *           <code>stride</code> / 2.
+	 * @param offset The <code>worldVertices</code> index to begin writing values.
+	 * @param stride The number of <code>worldVertices</code> entries between the value pairs written. */
+	public void computeWorldVertices (Slot slot, int start, int count, float[] worldVertices, int offset, int stride) {
+		count = offset + (count >> 1) * stride;
 		Skeleton skeleton = slot.getSkeleton();
 		FloatArray deformArray = slot.getAttachmentVertices();
 		float[] vertices = this.vertices;
@@ -74,13 +87,20 @@ public class VertexAttachment extends Attachment {
 			Bone bone = slot.getBone();
 			float x = bone.getWorldX(), y = bone.getWorldY();
 			float a = bone.getA(), b = bone.getB(), c = bone.getC(), d = bone.getD();
-			for (int v = start, w = offset; w < count; v += 2, w += 2) {
+			for (int v = start, w = offset; w < count; v += 2, w += stride) {
 				float vx = vertices[v], vy = vertices[v + 1];
 				worldVertices[w] = vx * a + vy * b + x;
 				worldVertices[w + 1] = vx * c + vy * d + y;
 			}
 			return;
 		}
+		BoneInfluences influences = this.influences;
+		if (influences != null) {
+			int vertex = start >> 1;
+			influences.computeWorldVertices(slot, deformArray.size > 0 ? deformArray.items : null, vertex,
+				vertex + ((count - offset) / stride), worldVertices, offset, stride);
+			return;
+		}
 		int v = 0, skip = 0;
 		for (int i = 0; i < start; i += 2) {
 			int n = bones[v];
@@ -89,7 +109,7 @@ public class VertexAttachment extends Attachment {
 		}
 		Object[] skeletonBones = skeleton.getBones().items;
 		if (deformArray.size == 0) {
-			for (int w = offset, b = skip * 3; w < count; w += 2) {
+			for (int w = offset, b = skip * 3; w < count; w += stride) {
 				float wx = 0, wy = 0;
 				int n = bones[v++];
 				n += v;
@@ -104,7 +124,7 @@ public class VertexAttachment extends Attachment {
 			}
 		} else {
 			float[] deform = deformArray.items;
-			for (int w = offset, b = skip * 3, f = skip << 1; w < count; w += 2) {
+			for (int w = offset, b = skip * 3, f = skip << 1; w < count; w += stride) {
 				float wx = 0, wy = 0;
 				int n = bones[v++];
 				n += v;
@@ -121,9 +141,34 @@ public class VertexAttachment extends Attachment {
 	}
 
 	/** Returns true if a deform originally applied to the specified attachment should be applied to this attachment. The default
-	 * implementation returns true only when <code>sourceAttachment</code> is this attachment. */
+	 * implementation returns true when <code>sourceAttachment</code> is this attachment or, if this attachment is a
+	 * {@link #copy()}, when the deform should be applied to the attachment that was copied. */
 	public boolean applyDeform (VertexAttachment sourceAttachment) {
-		return this == sourceAttachment;
+		return this == sourceAttachment || (copyOf != null && copyOf.applyDeform(sourceAttachment));
+	}
+
+	/** Copies this attachment's data to the specified attachment. The vertices and bones are shared. */
+	void copyTo (VertexAttachment attachment) {
+		attachment.bones = bones;
+		attachment.vertices = vertices;
+		attachment.worldVerticesLength = worldVerticesLength;
+		attachment.copyOf = this;
+		attachment.influences = influences;
+	}
+
+	/** Computes a layout of the {@link #getBones()} and weighted {@link #getVertices()} with the same number of bones for each
+	 * vertex, which {@link #computeWorldVertices(Slot, int, int, float[], int, int)} uses to transform the vertices faster. The
+	 * result is the same with or without the layout. The layout is not used if any vertex is affected by more than 4 bones.
+	 * <p>
+	 * Must be called after setting the bones and vertices, and again if the arrays are modified. {@link SkeletonJson} and
+	 * {@link SkeletonBinary} call this method when loading. */
+	public void updateBoneInfluences () {
+		influences = BoneInfluences.create(bones, vertices);
+	}
+
+	/** Returns true if {@link #updateBoneInfluences()} has computed a fixed width layout for the weighted vertices. */
+	public boolean hasBoneInfluences () {
+		return influences != null;
 	}
 
 	/** The bones which affect the {@link #getVertices()}. The array entries are, for each vertex, the number of bones affecting
@@ -133,9 +178,11 @@ public class VertexAttachment extends Attachment {
 		return bones;
 	}
 
-	/** @param bones May be null if this attachment has no weights. */
+	/** Clears the layout computed by {@link #updateBoneInfluences()}.
+	 * @param bones May be null if this attachment has no weights. */
 	public void setBones (int[] bones) {
 		this.bones = bones;
+		influences = null;
 	}
 
 	/** The vertex positions in the bone's coordinate system. For a non-weighted attachment, the values are <code>x,y</code>
@@ -145,8 +192,10 @@ public class VertexAttachment extends Attachment {
 		return vertices;
 	}
 
+	/** Clears the layout computed by {@link #updateBoneInfluences()}. */
 	public void setVertices (float[] vertices) {
 		this.vertices = vertices;
+		influences = null;
 	}
 
 	/** The maximum length required of the <code>worldVertices</code> passed to
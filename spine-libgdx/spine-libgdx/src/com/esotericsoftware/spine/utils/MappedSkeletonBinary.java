@@ -0,0 +1,80 @@
+/******************************************************************************
+ * Spine Runtimes Software License v2.5
+ *
+ * Copyright (c) 2013-2016, Esoteric Software
+ * All rights reserved.
+ *
+ * You are granted a perpetual, non-exclusive, non-sublicensable, and
+ * non-transferable license to use, install, execute, and perform the Spine
+ * Runtimes software and derivative works solely for personal or internal
+ * use. Without the written permission of Esoteric Software (see Section 2 of
+ * the Spine Software License Agreement), you may not (a) modify, translate,
+ * adapt, or develop new applications using the Spine Runtimes or otherwise
+ * create derivative works or improvements of the Spine Runtimes or (b) remove,
+ * delete, alter, or obscure any trademarks or any copyright, trademark, patent,
+ * or other intellectual property or proprietary rights notices on or in the
+ * Software, including any copy thereof. Redistributions in binary or source
+ * form must include this license and terms.
+ *
+ * THIS SOFTWARE IS PROVIDED BY ESOTERIC SOFTWARE "AS IS" AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO
+ * EVENT SHALL ESOTERIC SOFTWARE BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES, BUSINESS INTERRUPTION, OR LOSS OF
+ * USE, DATA, OR PROFITS) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ *****************************************************************************/
+
+package com.esotericsoftware.spine.utils;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+
+import com.badlogic.gdx.Files.FileType;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.esotericsoftware.spine.SkeletonBinary;
+import com.esotericsoftware.spine.SkeletonData;
+
+/** Loads skeleton data by memory mapping the file and reading it with {@link SkeletonBinary#readSkeletonData(ByteBuffer)}, so
+ * the file is not copied through a stream. Not available on GWT. */
+public class MappedSkeletonBinary {
+	/** Reads the skeleton data from the memory mapped file and sets its name to the file name without extension. */
+	static public SkeletonData readSkeletonData (SkeletonBinary binary, FileHandle file) {
+		if (binary == null) throw new IllegalArgumentException("binary cannot be null.");
+		SkeletonData skeletonData = binary.readSkeletonData(map(file));
+		skeletonData.setName(file.nameWithoutExtension());
+		return skeletonData;
+	}
+
+	/** Returns a read only buffer for the file's contents. Files which are not on the file system, eg classpath files or Android
+	 * internal files, are read into a heap buffer instead. */
+	static public ByteBuffer map (FileHandle file) {
+		if (file == null) throw new IllegalArgumentException("file cannot be null.");
+		File javaFile = file.type() == FileType.Classpath ? null : file.file();
+		if (javaFile == null || !javaFile.isFile()) return ByteBuffer.wrap(file.readBytes());
+		RandomAccessFile randomAccessFile = null;
+		try {
+			randomAccessFile = new RandomAccessFile(javaFile, "r");
+			FileChannel channel = randomAccessFile.getChannel();
+			// The mapping remains valid after the channel is closed.
+			return channel.map(MapMode.READ_ONLY, 0, channel.size());
+		} catch (IOException ex) {
+			throw new GdxRuntimeException("Error memory mapping file: " + file, ex);
+		} finally {
+			if (randomAccessFile != null) {
+				try {
+					randomAccessFile.close();
+				} catch (IOException ignored) {
+				}
+			}
+		}
+	}
+}
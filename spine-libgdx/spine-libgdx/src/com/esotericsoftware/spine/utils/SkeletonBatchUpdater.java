@@ -0,0 +1,167 @@
+/******************************************************************************
+ * Spine Runtimes Software License v2.5
+ *
+ * Copyright (c) 2013-2016, Esoteric Software
+ * All rights reserved.
+ *
+ * You are granted a perpetual, non-exclusive, non-sublicensable, and
+ * non-transferable license to use, install, execute, and perform the Spine
+ * Runtimes software and derivative works solely for personal or internal
+ * use. Without the written permission of Esoteric Software (see Section 2 of
+ * the Spine Software License Agreement), you may not (a) modify, translate,
+ * adapt, or develop new applications using the Spine Runtimes or otherwise
+ * create derivative works or improvements of the Spine Runtimes or (b) remove,
+ * delete, alter, or obscure any trademarks or any copyright, trademark, patent,
+ * or other intellectual property or proprietary rights notices on or in the
+ * Software, including any copy thereof. Redistributions in binary or source
+ * form must include this license and terms.
+ *
+ * THIS SOFTWARE IS PROVIDED BY ESOTERIC SOFTWARE "AS IS" AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO
+ * EVENT SHALL ESOTERIC SOFTWARE BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES, BUSINESS INTERRUPTION, OR LOSS OF
+ * USE, DATA, OR PROFITS) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ *****************************************************************************/
+
+package com.esotericsoftware.spine.utils;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import com.badlogic.gdx.utils.Array;
+import com.esotericsoftware.spine.AnimationState;
+import com.esotericsoftware.spine.AnimationState.AnimationStateListener;
+import com.esotericsoftware.spine.Skeleton;
+
+/** Updates many skeletons and their animation states in parallel using a {@link ForkJoinPool}. For each pair, the skeleton and
+ * animation state are updated, the animation state is applied, and the skeleton's world transforms are updated.
+ * <p>
+ * {@link AnimationStateListener} notifications are deferred while the animation states are updated on the worker threads (see
+ * {@link AnimationState#setDeferListenerNotifications(boolean)}). They are delivered on the thread calling
+ * {@link #update(float)} after all pairs have been updated, in the order the pairs were added and then in the order the
+ * notifications were queued, so the order is the same as if the pairs were updated sequentially.
+ * <p>
+ * Each animation state and skeleton must belong to only one pair and must not be used by other threads during
+ * {@link #update(float)}. The skeleton data, animation state data, skins and attachments may be shared. */
+public class SkeletonBatchUpdater {
+	private final ForkJoinPool pool;
+	final Array<AnimationState> states = new Array();
+	final Array<Skeleton> skeletons = new Array();
+	int batchSize = 16;
+
+	/** Creates an updater which uses a new pool with parallelism equal to the number of available processors. */
+	public SkeletonBatchUpdater () {
+		this(new ForkJoinPool());
+	}
+
+	public SkeletonBatchUpdater (ForkJoinPool pool) {
+		if (pool == null) throw new IllegalArgumentException("pool cannot be null.");
+		this.pool = pool;
+	}
+
+	/** Adds a pair to be updated. Listener notifications for the animation state are deferred until it is removed. */
+	public void add (AnimationState state, Skeleton skeleton) {
+		if (state == null) throw new IllegalArgumentException("state cannot be null.");
+		if (skeleton == null) throw new IllegalArgumentException("skeleton cannot be null.");
+		state.setDeferListenerNotifications(true);
+		states.add(state);
+		skeletons.add(skeleton);
+	}
+
+	/** Removes the pair for the specified skeleton. Any queued listener notifications for the animation state are delivered.
+	 * @return True if the skeleton was found. */
+	public boolean remove (Skeleton skeleton) {
+		int index = skeletons.indexOf(skeleton, true);
+		if (index == -1) return false;
+		skeletons.removeIndex(index);
+		AnimationState state = states.removeIndex(index);
+		state.setDeferListenerNotifications(false);
+		state.drainListenerNotifications();
+		return true;
+	}
+
+	/** Removes all pairs. Any queued listener notifications are delivered. */
+	public void clear () {
+		Array<AnimationState> states = this.states;
+		for (int i = 0, n = states.size; i < n; i++) {
+			AnimationState state = states.get(i);
+			state.setDeferListenerNotifications(false);
+			state.drainListenerNotifications();
+		}
+		states.clear();
+		skeletons.clear();
+	}
+
+	/** Updates all pairs using the pool, then delivers the listener notifications on the calling thread. Blocks until all pairs
+	 * have been updated. If updating a pair throws an exception, it is rethrown by this method and no notifications are
+	 * delivered. */
+	public void update (float delta) {
+		int n = states.size;
+		if (n == 0) return;
+		pool.invoke(new UpdateTask(0, n, delta));
+
+		Array<AnimationState> states = this.states;
+		for (int i = 0; i < n; i++)
+			states.get(i).drainListenerNotifications();
+	}
+
+	void update (int index, float delta) {
+		AnimationState state = states.get(index);
+		Skeleton skeleton = skeletons.get(index);
+		skeleton.update(delta);
+		state.update(delta);
+		state.apply(skeleton);
+		skeleton.updateWorldTransform();
+	}
+
+	/** The maximum number of pairs updated by a single task. Smaller values balance the work across threads better, larger
+	 * values have less overhead. Defaults to 16. */
+	public int getBatchSize () {
+		return batchSize;
+	}
+
+	public void setBatchSize (int batchSize) {
+		if (batchSize < 1) throw new IllegalArgumentException("batchSize must be > 0: " + batchSize);
+		this.batchSize = batchSize;
+	}
+
+	public ForkJoinPool getPool () {
+		return pool;
+	}
+
+	/** The animation states, in the order they were added. */
+	public Array<AnimationState> getStates () {
+		return states;
+	}
+
+	/** The skeletons, in the same order as {@link #getStates()}. */
+	public Array<Skeleton> getSkeletons () {
+		return skeletons;
+	}
+
+	class UpdateTask extends RecursiveAction {
+		private final int start, end;
+		private final float delta;
+
+		UpdateTask (int start, int end, float delta) {
+			this.start = start;
+			this.end = end;
+			this.delta = delta;
+		}
+
+		protected void compute () {
+			if (end - start <= batchSize) {
+				for (int i = start; i < end; i++)
+					update(i, delta);
+			} else {
+				int middle = (start + end) >>> 1;
+				invokeAll(new UpdateTask(start, middle, delta), new UpdateTask(middle, end, delta));
+			}
+		}
+	}
+}
@@ -0,0 +1,242 @@
+/******************************************************************************
+ * Spine Runtimes Software License v2.5
+ *
+ * Copyright (c) 2013-2016, Esoteric Software
+ * All rights reserved.
+ *
+ * You are granted a perpetual, non-exclusive, non-sublicensable, and
+ * non-transferable license to use, install, execute, and perform the Spine
+ * Runtimes software and derivative works solely for personal or internal
+ * use. Without the written permission of Esoteric Software (see Section 2 of
+ * the Spine Software License Agreement), you may not (a) modify, translate,
+ * adapt, or develop new applications using the Spine Runtimes or otherwise
+ * create derivative works or improvements of the Spine Runtimes or (b) remove,
+ * delete, alter, or obscure any trademarks or any copyright, trademark, patent,
+ * or other intellectual property or proprietary rights notices on or in the
+ * Software, including any copy thereof. Redistributions in binary or source
+ * form must include this license and terms.
+ *
+ * THIS SOFTWARE IS PROVIDED BY ESOTERIC SOFTWARE "AS IS" AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO
+ * EVENT SHALL ESOTERIC SOFTWARE BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES, BUSINESS INTERRUPTION, OR LOSS OF
+ * USE, DATA, OR PROFITS) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ *****************************************************************************/
+
+
+package com.esotericsoftware.spine.utils;
+
+import com.badlogic.gdx.graphics.Camera;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IntArray;
+import com.esotericsoftware.spine.AnimationState;
+import com.esotericsoftware.spine.AnimationState.AnimationStateListener;
+import com.esotericsoftware.spine.Skeleton;
+
+/** Updates many skeletons and their animation states, choosing how much work to do for each pair based on whether its bounds
+ * are visible to a camera and how large they appear on screen. See {@link UpdateMode}.
+ * <p>
+ * The bounds of each skeleton are computed using {@link Skeleton#getBounds(Vector2, Vector2, FloatArray)} each time the
+ * skeleton is posed and are stored relative to the skeleton's position, so they follow the skeleton when it is moved while it
+ * is not being posed. Animations which move a skeleton's attachments far from where they were when it was last posed may need
+ * {@link #setBoundsPadding(float)} so they are not culled while they should be visible.
+ * <p>
+ * In every mode, {@link AnimationStateListener} notifications for events, completes and the other track entry changes are
+ * delivered the same as when the pair is fully updated each frame, though at a reduced rate they are delivered on the frame
+ * the pair is updated. */
+public class SkeletonLodController {
+	final Array<AnimationState> states = new Array();
+	final Array<Skeleton> skeletons = new Array();
+	final Array<UpdateMode> modes = new Array();
+	final FloatArray bounds = new FloatArray(); // x, y, width, height relative to the skeleton position. Width < 0 if unknown.
+	final FloatArray deltas = new FloatArray();
+	final IntArray frames = new IntArray();
+	float reducedSize = 0.1f, boundsPadding;
+	int reducedRate = 3;
+
+	private final Vector2 offset = new Vector2(), size = new Vector2();
+	private final Vector3 corner1 = new Vector3(), corner2 = new Vector3();
+	private final FloatArray temp = new FloatArray(32);
+
+	/** Adds a pair to be updated. Its skeleton is fully updated the first time {@link #update(float, Camera)} is called, so its
+	 * bounds are known. */
+	public void add (AnimationState state, Skeleton skeleton) {
+		if (state == null) throw new IllegalArgumentException("state cannot be null.");
+		if (skeleton == null) throw new IllegalArgumentException("skeleton cannot be null.");
+		frames.add(states.size % reducedRate); // Stagger reduced rate updates across frames.
+		states.add(state);
+		skeletons.add(skeleton);
+		modes.add(UpdateMode.full);
+		bounds.addAll(0, 0, -1, 0);
+		deltas.add(0);
+	}
+
+	/** Removes the pair for the specified skeleton. Any time accumulated for a reduced rate update is discarded.
+	 * @return True if the skeleton was found. */
+	public boolean remove (Skeleton skeleton) {
+		int index = skeletons.indexOf(skeleton, true);
+		if (index == -1) return false;
+		states.removeIndex(index);
+		skeletons.removeIndex(index);
+		modes.removeIndex(index);
+		bounds.removeRange(index << 2, (index << 2) + 3);
+		deltas.removeIndex(index);
+		frames.removeIndex(index);
+		return true;
+	}
+
+	/** Removes all pairs. */
+	public void clear () {
+		states.clear();
+		skeletons.clear();
+		modes.clear();
+		bounds.clear();
+		deltas.clear();
+		frames.clear();
+	}
+
+	/** Chooses the {@link UpdateMode} for each pair, then updates it using that mode.
+	 * @param camera Determines the visibility and screen size of each skeleton. {@link Camera#update()} must have been called
+	 *           after the camera was last changed. */
+	public void update (float delta, Camera camera) {
+		if (camera == null) throw new IllegalArgumentException("camera cannot be null.");
+		float[] deltas = this.deltas.items;
+		int[] frames = this.frames.items;
+		for (int i = 0, n = states.size; i < n; i++) {
+			UpdateMode mode = getMode(i, camera);
+			modes.set(i, mode);
+			float accumulated = deltas[i] + delta;
+			switch (mode) {
+			case full:
+				pose(i, accumulated);
+				break;
+			case reduced:
+				if (++frames[i] < reducedRate) {
+					deltas[i] = accumulated;
+					continue;
+				}
+				pose(i, accumulated);
+				break;
+			case eventsOnly:
+				AnimationState state = states.get(i);
+				skeletons.get(i).update(accumulated);
+				state.update(accumulated);
+				state.applyEvents();
+			}
+			deltas[i] = 0;
+			frames[i] = 0;
+		}
+	}
+
+	private UpdateMode getMode (int index, Camera camera) {
+		float[] bounds = this.bounds.items;
+		int b = index << 2;
+		float width = bounds[b + 2];
+		if (width < 0) return UpdateMode.full; // Pose the skeleton to compute its bounds.
+
+		Skeleton skeleton = skeletons.get(index);
+		float padding = boundsPadding;
+		float x = skeleton.getX() + bounds[b] - padding, y = skeleton.getY() + bounds[b + 1] - padding;
+		float halfWidth = width / 2 + padding, halfHeight = bounds[b + 3] / 2 + padding;
+		if (!camera.frustum.boundsInFrustum(x + halfWidth, y + halfHeight, 0, halfWidth, halfHeight, 0))
+			return UpdateMode.eventsOnly;
+
+		if (reducedSize > 0) {
+			// Normalized device coordinates are -1 to 1, so the size as a fraction of the viewport is half the projected size.
+			Matrix4 combined = camera.combined;
+			Vector3 corner1 = this.corner1.set(x, y, 0).prj(combined);
+			Vector3 corner2 = this.corner2.set(x + halfWidth * 2, y + halfHeight * 2, 0).prj(combined);
+			float size = Math.max(Math.abs(corner2.x - corner1.x), Math.abs(corner2.y - corner1.y)) / 2;
+			if (size < reducedSize) return UpdateMode.reduced;
+		}
+		return UpdateMode.full;
+	}
+
+	private void pose (int index, float delta) {
+		AnimationState state = states.get(index);
+		Skeleton skeleton = skeletons.get(index);
+		skeleton.update(delta);
+		state.update(delta);
+		state.apply(skeleton);
+		skeleton.updateWorldTransform();
+
+		Vector2 offset = this.offset, size = this.size;
+		skeleton.getBounds(offset, size, temp);
+		if (size.x < 0) { // No attachments.
+			offset.set(skeleton.getX(), skeleton.getY());
+			size.set(0, 0);
+		}
+		float[] bounds = this.bounds.items;
+		int b = index << 2;
+		bounds[b] = offset.x - skeleton.getX();
+		bounds[b + 1] = offset.y - skeleton.getY();
+		bounds[b + 2] = size.x;
+		bounds[b + 3] = size.y;
+	}
+
+	/** The size, as a fraction of the viewport's width or height, below which a visible skeleton is updated at a reduced rate. 0
+	 * disables reduced rate updates. Defaults to 0.1. */
+	public float getReducedSize () {
+		return reducedSize;
+	}
+
+	public void setReducedSize (float reducedSize) {
+		this.reducedSize = reducedSize;
+	}
+
+	/** The number of frames per update for skeletons updated at a reduced rate. Defaults to 3. */
+	public int getReducedRate () {
+		return reducedRate;
+	}
+
+	public void setReducedRate (int reducedRate) {
+		if (reducedRate < 1) throw new IllegalArgumentException("reducedRate must be > 0: " + reducedRate);
+		this.reducedRate = reducedRate;
+	}
+
+	/** The distance the bounds of each skeleton are expanded on every side before testing visibility. Defaults to 0. */
+	public float getBoundsPadding () {
+		return boundsPadding;
+	}
+
+	public void setBoundsPadding (float boundsPadding) {
+		this.boundsPadding = boundsPadding;
+	}
+
+	/** The animation states, in the order they were added. */
+	public Array<AnimationState> getStates () {
+		return states;
+	}
+
+	/** The skeletons, in the same order as {@link #getStates()}. */
+	public Array<Skeleton> getSkeletons () {
+		return skeletons;
+	}
+
+	/** The mode each pair was updated with by the last call to {@link #update(float, Camera)}, in the same order as
+	 * {@link #getStates()}. */
+	public Array<UpdateMode> getModes () {
+		return modes;
+	}
+
+	/** Determines how a pair is updated. */
+	static public enum UpdateMode {
+		/** The skeleton is visible and large enough that it is updated and posed every frame. */
+		full,
+		/** The skeleton is visible but small, so the time for each frame is accumulated and it is updated and posed only every
+		 * {@link SkeletonLodController#getReducedRate()} frames. */
+		reduced,
+		/** The skeleton is not visible. Time is advanced every frame and events are fired using
+		 * {@link AnimationState#applyEvents()}, but the skeleton is not posed. */
+		eventsOnly
+	}
+}